@@ -0,0 +1,69 @@
+// Copyright (c) 2022 WSO2 Inc. (//www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// //www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+//
+
+import ballerina/log;
+import ballerina/test;
+import ballerina/http;
+
+http:ClientConfiguration conf08 = {
+    circuitBreaker: {
+        rollingWindow: {
+            timeWindow: 60,
+            bucketSize: 20,
+            requestVolumeThreshold: 0
+        },
+        failureThreshold: 0.3,
+        resetTime: 60,
+        statusCodes: [501, 502, 503]
+    },
+    timeout: 2
+};
+
+final http:Client submitClientEP08 = check new("http://localhost:8096", conf08);
+
+service /hello08 on new http:Listener(8096) {
+
+    resource function 'default .(http:Caller caller, http:Request req) {
+        http:Response res = new;
+        res.statusCode = http:STATUS_SERVICE_UNAVAILABLE;
+        res.setPayload("Service unavailable.");
+        error? responseToCaller = caller->respond(res);
+        if responseToCaller is error {
+            log:printError("Error sending response from mock service", 'error = responseToCaller);
+        }
+    }
+}
+
+//Test for the circuit breaker health updated by the submit operation
+@test:Config{}
+function testCBSubmitOpensCircuitOnFailure() returns error? {
+    http:CircuitBreakerClient cbClient = <http:CircuitBreakerClient>submitClientEP08.httpClient;
+    // The failure is recorded by submit and opens the circuit on the next request
+    _ = check submitClientEP08->submit("GET", "/hello08", new http:Request());
+    http:HttpFuture|error rejected = submitClientEP08->submit("GET", "/hello08", new http:Request());
+    if rejected is error {
+        test:assertTrue(rejected.message().startsWith(UPSTREAM_UNAVAILABLE_MESSAGE), msg = "Found unexpected output");
+    } else {
+        test:assertFail(msg = "Found unexpected output type: http:HttpFuture");
+    }
+    test:assertEquals(cbClient.getCurrentState(), http:CB_OPEN_STATE, msg = "Found unexpected circuit state");
+    test:assertEquals(cbClient.getOpenTransitions(), 1, msg = "Found unexpected open transitions");
+    test:assertEquals(cbClient.getHalfOpenTransitions(), 0, msg = "Found unexpected half open transitions");
+
+    cbClient.forceClose();
+    test:assertEquals(cbClient.getCloseTransitions(), 1, msg = "Found unexpected close transitions");
+}
@@ -62,12 +62,15 @@ public annotation HttpServiceConfig ServiceConfig on service;
 # + cors - The cross origin resource sharing configurations for the resource. If not set, the resource will inherit the CORS behaviour of the enclosing service.
 # + transactionInfectable - Allow to participate in the distributed transactions if value is true
 # + auth - Resource auth configurations
+# + compressionLevel - The compression level of the responses of the resource. If not set, the level configured in
+#                      the `responseCompression` of the listener is used
 public type HttpResourceConfig record {|
     string[] consumes = [];
     string[] produces = [];
     CorsConfig cors = {};
     boolean transactionInfectable = true;
     ListenerAuthConfig[]|Scopes auth?;
+    CompressionLevel compressionLevel?;
 |};
 
 # The annotation which is used to configure an HTTP resource.
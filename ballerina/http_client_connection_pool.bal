@@ -20,6 +20,8 @@ configurable int maxActiveConnections = -1;
 configurable int maxIdleConnections = 100;
 configurable decimal waitTime = 30;
 configurable int maxActiveStreamsPerConnection = 50;
+configurable int maxPendingAcquisitions = -1;
+configurable float targetStreamUtilization = 0.75;
 
 # Configurations for managing HTTP client connection pool.
 #
@@ -27,11 +29,17 @@ configurable int maxActiveStreamsPerConnection = 50;
 # + maxIdleConnections - Maximum number of idle connections allowed per pool.
 # + waitTime - Maximum amount of time (in seconds), the client should wait for an idle connection before it sends an error when the pool is exhausted
 # + maxActiveStreamsPerConnection - Maximum active streams per connection. This only applies to HTTP/2.
+# + maxPendingAcquisitions - Maximum number of requests per route(host:port) that can wait for a connection when the pool
+#                            is exhausted. Default value is -1 which indicates unlimited.
+# + targetStreamUtilization - Stream utilization of the least loaded connection of a route above which a new connection is
+#                             opened. The value must be greater than 0 and at most 1. This only applies to HTTP/2.
 public type PoolConfiguration record {|
     int maxActiveConnections = maxActiveConnections;
     int maxIdleConnections = maxIdleConnections;
     decimal waitTime = waitTime;
     int maxActiveStreamsPerConnection = maxActiveStreamsPerConnection;
+    int maxPendingAcquisitions = maxPendingAcquisitions;
+    float targetStreamUtilization = targetStreamUtilization;
 |};
 //This is a hack to get the global map initialized, without involving locking.
 class ConnectionManager {
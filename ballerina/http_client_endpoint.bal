@@ -18,7 +18,6 @@ import ballerina/crypto;
 import ballerina/jballerina.java;
 import ballerina/mime;
 import ballerina/observe;
-import ballerina/time;
 import ballerina/log;
 
 # The HTTP client provides the capability for initiating contact with a remote HTTP service. The API it
@@ -417,7 +416,9 @@ public type RetryConfig record {|
 # + cert - Configurations associated with `crypto:TrustStore` or single certificate file that the client trusts
 # + key - Configurations associated with `crypto:KeyStore` or combination of certificate and private key of the client
 # + protocol - SSL/TLS protocol related options
-# + certValidation - Certificate validation against OCSP_CRL, OCSP_STAPLING related options
+# + certValidation - Certificate validation against OCSP_CRL, OCSP_STAPLING related options. `staleIfError` is the
+#                    time in seconds for which a cached OCSP response or CRL is still used after its next update
+#                    time when it cannot be refreshed
 # + ciphers - List of ciphers to be used
 #             eg: TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256, TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA
 # + verifyHostName - Enable/disable host name verification
@@ -436,6 +437,7 @@ public type ClientSecureSocket record {|
         CertValidationType 'type = OCSP_STAPLING;
         int cacheSize;
         int cacheValidityPeriod;
+        decimal staleIfError = 0;
     |} certValidation?;
     string[] ciphers?;
     boolean verifyHostName = true;
@@ -550,14 +552,7 @@ isolated function createCircuitBreakerClient(string uri, ClientConfiguration con
             }
         }
 
-        time:Utc circuitStartTime = time:utcNow();
         int numberOfBuckets = <int> (cbConfig.rollingWindow.timeWindow / cbConfig.rollingWindow.bucketSize);
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while bucketIndex < numberOfBuckets {
-            bucketArray[bucketIndex] = {};
-            bucketIndex = bucketIndex + 1;
-        }
 
         CircuitBreakerInferredConfig circuitBreakerInferredConfig = {
             failureThreshold: cbConfig.failureThreshold,
@@ -566,14 +561,7 @@ isolated function createCircuitBreakerClient(string uri, ClientConfiguration con
             noOfBuckets: numberOfBuckets,
             rollingWindow: cbConfig.rollingWindow
         };
-        CircuitHealth circuitHealth = {
-            startTime: circuitStartTime,
-            lastRequestTime: circuitStartTime,
-            lastErrorTime: circuitStartTime,
-            lastForcedOpenTime: circuitStartTime,
-            totalBuckets: bucketArray
-        };
-        return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient, circuitHealth);
+        return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient);
     } else {
         return createCookieClient(uri, configuration, cookieStore);
     }
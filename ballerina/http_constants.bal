@@ -114,6 +114,51 @@ public const COMPRESSION_ALWAYS = "ALWAYS";
 # Never set accept-encoding/content-encoding header in outbound request/response.
 public const COMPRESSION_NEVER = "NEVER";
 
+# Options to trade compression speed against compression ratio when compressing responses.
+#
+# `FASTEST`: Compress as fast as possible
+# `DEFAULT`: Balance the speed and the ratio of compression
+# `BEST`: Compress as small as possible
+public type CompressionLevel COMPRESSION_LEVEL_FASTEST|COMPRESSION_LEVEL_DEFAULT|COMPRESSION_LEVEL_BEST;
+
+# Compress as fast as possible.
+public const COMPRESSION_LEVEL_FASTEST = "FASTEST";
+
+# Balance the speed and the ratio of compression.
+public const COMPRESSION_LEVEL_DEFAULT = "DEFAULT";
+
+# Compress as small as possible.
+public const COMPRESSION_LEVEL_BEST = "BEST";
+
+# Defines what an access log entry does when the access log buffer is full.
+public type AccessLogOverflowPolicy ACCESS_LOG_OVERFLOW_DROP|ACCESS_LOG_OVERFLOW_BLOCK;
+
+# Drops the entry and counts it as dropped.
+public const ACCESS_LOG_OVERFLOW_DROP = "DROP";
+
+# Waits until the access log writer frees up space in the buffer.
+public const ACCESS_LOG_OVERFLOW_BLOCK = "BLOCK";
+
+# Options to select the socket transport of listeners and clients.
+#
+# `AUTO`: Use the native epoll transport when it is available and fall back to NIO otherwise
+# `NIO`: Use the Java NIO transport
+# `EPOLL`: Use the native epoll transport, falling back to NIO when it is not available
+# `IO_URING`: Use the native io_uring transport, falling back to epoll or NIO when it is not available
+public type Transport TRANSPORT_AUTO|TRANSPORT_NIO|TRANSPORT_EPOLL|TRANSPORT_IO_URING;
+
+# Use the native epoll transport when it is available and fall back to NIO otherwise.
+public const TRANSPORT_AUTO = "AUTO";
+
+# Use the Java NIO transport.
+public const TRANSPORT_NIO = "NIO";
+
+# Use the native epoll transport, falling back to NIO when it is not available.
+public const TRANSPORT_EPOLL = "EPOLL";
+
+# Use the native io_uring transport, falling back to epoll or NIO when it is not available.
+public const TRANSPORT_IO_URING = "IO_URING";
+
 # Constant for telemetry tag http.url
 const HTTP_URL = "http.url";
 
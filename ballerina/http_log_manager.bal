@@ -25,20 +25,32 @@ configurable boolean traceLogConsole = false;
 # + path - Optional file path to store trace logs
 # + host - Optional socket hostname to publish the trace logs
 # + port - Optional socket port to publish the trace logs
+# + sampleRate - The fraction of requests, between 0 and 1, of which the messages are logged
+# + samplingHeader - Optional request header, which has the messages of a request logged regardless of the sample rate
+# + maxPayloadSize - The number of payload bytes logged for each message, or -1 to log complete payloads
+# + headersOnly - Boolean value to log only the headers and the payload sizes of the messages
 public type TraceLogAdvancedConfiguration record {|
     boolean console = false;
     string path?;
     string host?;
     int port?;
+    float sampleRate = 1.0;
+    string samplingHeader?;
+    int maxPayloadSize = -1;
+    boolean headersOnly = false;
 |};
 
 # Represents HTTP access log configuration.
 #
 # + console - Boolean value to enable or disable console access logs
 # + path - Optional file path to store access logs
+# + bufferSize - The number of access log entries that each listener thread buffers for the access log writer
+# + overflowPolicy - Whether an entry is dropped or waits for space when the buffer is full
 public type AccessLogConfiguration record {|
     boolean console = false;
     string path?;
+    int bufferSize = 8192;
+    AccessLogOverflowPolicy overflowPolicy = ACCESS_LOG_OVERFLOW_DROP;
 |};
 
 configurable TraceLogAdvancedConfiguration traceLogAdvancedConfig = {};
@@ -159,6 +159,12 @@ public type Local record {|
 # + server - The server name which should appear as a response header
 # + requestLimits - Configurations associated with inbound request size limits
 # + interceptors - An array of interceptor services
+# + transport - The socket transport used by the listener
+# + acceptors - Number of sockets bound to the listener port, each accepting connections on its own thread. More
+#               than one acceptor requires a transport that supports `SO_REUSEPORT` such as `TRANSPORT_EPOLL`
+# + flushConsolidation - Coalesces the socket flushes of the responses written within an event loop iteration.
+#                        Flushes are passed on as they are requested when this is not set
+# + responseCompression - Configurations of how the listener compresses the responses
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
     ListenerHttp1Settings http1Settings = {};
@@ -168,6 +174,10 @@ public type ListenerConfiguration record {|
     string? server = ();
     RequestLimitConfigs requestLimits = {};
     Interceptor[] interceptors?;
+    Transport transport = TRANSPORT_NIO;
+    int acceptors = 1;
+    FlushConsolidationConfig? flushConsolidation = ();
+    ResponseCompressionConfig responseCompression = {};
 |};
 
 # Provides a set of cloneable configurations for HTTP listener.
@@ -203,6 +213,37 @@ public type ListenerHttp1Settings record {|
     int maxPipelinedRequests = MAX_PIPELINED_REQUESTS;
 |};
 
+# Provides settings for coalescing the socket flushes of the responses written by a listener, which reduces the
+# number of system calls when many small responses are written on the same connection.
+#
+# + maxPendingFlushes - Maximum number of flushes coalesced into a single socket flush
+# + maxPendingBytes - Number of bytes written since the last socket flush beyond which the pending flushes are passed
+#                     on right away
+public type FlushConsolidationConfig record {|
+    int maxPendingFlushes = 256;
+    int maxPendingBytes = 65536;
+|};
+
+# Provides settings for the compression of the responses written by a listener.
+#
+# + encodings - Content codings offered to the clients in the order of preference. Supported codings are `gzip`,
+#               `deflate`, `br` and `zstd`
+# + level - The compression level used unless a resource sets its own
+# + minResponseSize - Responses smaller than this number of bytes are not compressed. Responses of unknown length
+#                     are always compressed
+# + contentTypes - Content types of the responses which are compressed. All responses are compressed when empty
+# + precompressedCacheSize - Maximum number of compressed bodies of `200 OK` responses with a strong `etag` which are
+#                            kept and reused. Compressed bodies are not cached when set to 0
+# + maxPrecompressedBodySize - Maximum size in bytes of a response body whose compressed form is cached
+public type ResponseCompressionConfig record {|
+    string[] encodings = ["gzip", "deflate"];
+    CompressionLevel level = COMPRESSION_LEVEL_DEFAULT;
+    int minResponseSize = 0;
+    string[] contentTypes = [];
+    int precompressedCacheSize = 0;
+    int maxPrecompressedBodySize = 262144;
+|};
+
 # Provides inbound request URI, total header and entity body size threshold configurations.
 #
 # + maxUriLength - Maximum allowed length for a URI. Exceeding this limit will result in a `414 - URI Too Long`
@@ -223,7 +264,9 @@ public type RequestLimitConfigs record {|
 # + key - Configurations associated with `crypto:KeyStore` or combination of certificate and (PKCS8) private key of the server
 # + mutualSsl - Configures associated with mutual SSL operations
 # + protocol - SSL/TLS protocol related options
-# + certValidation - Certificate validation against OCSP_CRL, OCSP_STAPLING related options
+# + certValidation - Certificate validation against OCSP_CRL, OCSP_STAPLING related options. `staleIfError` is the
+#                    time in seconds for which a cached OCSP response or CRL is still used after its next update
+#                    time when it cannot be refreshed
 # + ciphers - List of ciphers to be used
 #             eg: TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256, TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA
 # + shareSession - Enable/Disable new SSL session creation
@@ -243,6 +286,7 @@ public type ListenerSecureSocket record {|
         CertValidationType 'type = OCSP_STAPLING;
         int cacheSize;
         int cacheValidityPeriod;
+        decimal staleIfError = 0;
     |} certValidation?;
     string[] ciphers = ["TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA256",
                         "TLS_DHE_RSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA",
@@ -98,6 +98,8 @@ public type CommonClientConfiguration record {|
     CookieConfig? cookieConfig = ();
     # Configurations associated with inbound response size limits
     ResponseLimitConfigs responseLimits = {};
+    # The socket transport used by the client connections
+    Transport transport = TRANSPORT_NIO;
 |};
 
 # Represents a server-provided hyperlink
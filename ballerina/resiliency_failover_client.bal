@@ -588,7 +588,8 @@ isolated function createClientEPConfigFromFailoverEPConfig(FailoverClientConfigu
         compression:foConfig.compression,
         auth:foConfig.auth,
         cookieConfig:foConfig.cookieConfig,
-        responseLimits:foConfig.responseLimits
+        responseLimits:foConfig.responseLimits,
+        transport:foConfig.transport
     };
     return clientEPConfig;
 }
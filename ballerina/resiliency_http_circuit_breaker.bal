@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/time;
 
@@ -116,14 +117,12 @@ public type CircuitBreakerInferredConfig record {|
 # + url - The URL of the target service
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + httpClient - The underlying `HttpActions` instance which will be making the actual network calls
-# + circuitHealth - The circuit health monitor
-# + currentCircuitState - The current state the circuit is in
+# + circuitBreakerEngine - The native engine, which keeps the circuit health and the current state of the circuit
 public client isolated class CircuitBreakerClient {
 
     private string url;
     private final CircuitBreakerInferredConfig & readonly circuitBreakerInferredConfig;
-    private final CircuitHealth circuitHealth;
-    private CircuitState currentCircuitState = CB_CLOSED_STATE;
+    private final handle circuitBreakerEngine;
     public final HttpClient httpClient;
 
     # A Circuit Breaker implementation which can be used to gracefully handle network failures.
@@ -132,10 +131,9 @@ public client isolated class CircuitBreakerClient {
     # + config - The configurations of the client endpoint associated with this `CircuitBreaker` instance
     # + circuitBreakerInferredConfig - Configurations derived from the `http:CircuitBreakerConfig`
     # + httpClient - The underlying `HttpActions` instance, which will be making the actual network calls
-    # + circuitHealth - The circuit health monitor
     # + return - The `client` or an `http:ClientError` if the initialization failed
     isolated function init(string url, ClientConfiguration config, CircuitBreakerInferredConfig
-        circuitBreakerInferredConfig, HttpClient httpClient, CircuitHealth circuitHealth) returns ClientError? {
+        circuitBreakerInferredConfig, HttpClient httpClient) returns ClientError? {
         RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
         if rollingWindow.timeWindow < rollingWindow.bucketSize {
             return error GenericClientError("Circuit breaker 'timeWindow' value should be greater" +
@@ -144,7 +142,9 @@ public client isolated class CircuitBreakerClient {
         self.url = url;
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig.cloneReadOnly();
         self.httpClient = httpClient;
-        self.circuitHealth = circuitHealth.clone();
+        self.circuitBreakerEngine = externCreateCircuitBreakerEngine(circuitBreakerInferredConfig.noOfBuckets,
+            rollingWindow.bucketSize, rollingWindow.requestVolumeThreshold,
+            circuitBreakerInferredConfig.failureThreshold, circuitBreakerInferredConfig.resetTime);
         return;
     }
 
@@ -155,8 +155,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function post(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -172,8 +171,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function head(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -189,8 +187,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function put(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -207,8 +204,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -224,8 +220,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function patch(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -241,8 +236,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function delete(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -258,8 +252,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function get(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -275,8 +268,7 @@ public client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function options(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -292,8 +284,7 @@ public client isolated class CircuitBreakerClient {
     # + request - A Request struct
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function forward(string path, Request request) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -312,8 +303,7 @@ public client isolated class CircuitBreakerClient {
     # + return - An `http:HttpFuture` that represents an asynchronous service invocation or else an `http:ClientError` if the submission
     #            fails
     remote isolated function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -325,7 +315,7 @@ public client isolated class CircuitBreakerClient {
                     log:printDebug("Error receiving response for circuit breaker submit operation: " + result.message());
                 }
             } else {
-                self.updateCircuitHealthFailure();
+                externRecordCircuitFailure(self.circuitBreakerEngine);
             }
             return serviceFuture;
         }
@@ -377,83 +367,54 @@ public client isolated class CircuitBreakerClient {
     # until the failure threshold exceeds.
     public isolated function forceClose() {
         log:printInfo("Circuit forcefully switched to CLOSE state.");
-        self.setCurrentState(CB_CLOSED_STATE);
-        lock {
-            self.reInitializeBuckets(self.circuitHealth);
-        }
+        externForceCloseCircuit(self.circuitBreakerEngine);
     }
 
     # Force the circuit into a open state in which it will suspend all requests
     # until `resetTime` interval exceeds.
     public isolated function forceOpen() {
-        lock {
-            self.currentCircuitState = CB_OPEN_STATE;
-            self.circuitHealth.lastForcedOpenTime = time:utcNow();
-        }
+        externForceOpenCircuit(self.circuitBreakerEngine);
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
     #
     # + return - The current `http:CircuitState` of the circuit breaker
     public isolated function getCurrentState() returns CircuitState {
-        lock {
-            return self.currentCircuitState;
-        }
+        return externGetCircuitState(self.circuitBreakerEngine);
+    }
+
+    # Provides the number of times the circuit was opened.
+    #
+    # + return - The number of transitions to the `http:CB_OPEN_STATE`
+    public isolated function getOpenTransitions() returns int {
+        return externGetCircuitOpenTransitions(self.circuitBreakerEngine);
+    }
+
+    # Provides the number of times the circuit was half opened.
+    #
+    # + return - The number of transitions to the `http:CB_HALF_OPEN_STATE`
+    public isolated function getHalfOpenTransitions() returns int {
+        return externGetCircuitHalfOpenTransitions(self.circuitBreakerEngine);
+    }
+
+    # Provides the number of times the circuit was closed.
+    #
+    # + return - The number of transitions to the `http:CB_CLOSED_STATE`
+    public isolated function getCloseTransitions() returns int {
+        return externGetCircuitCloseTransitions(self.circuitBreakerEngine);
     }
 
-    # Updates the circuit state.
+    # Updates the circuit state and counts the request in the `RollingWindow`.
     #
     # + return - State of the circuit
     isolated function updateCircuitState() returns CircuitState {
-        lock {
-            CircuitState currentState = self.currentCircuitState;
-            self.prepareRollingWindow(self.circuitHealth, self.circuitBreakerInferredConfig);
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            self.circuitHealth.lastRequestTime = time:utcNow();
-            int totalRequestsCount = self.getTotalRequestsCount(self.circuitHealth);
-            self.circuitHealth.totalRequestCount = totalRequestsCount;
-            if totalRequestsCount >= self.circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold {
-                if currentState == CB_OPEN_STATE {
-                    currentState = self.switchCircuitStateOpenToHalfOpenOnResetTime(self.circuitBreakerInferredConfig,
-                                                                                    self.circuitHealth, currentState);
-                } else if currentState == CB_HALF_OPEN_STATE {
-                    if !self.circuitHealth.lastRequestSuccess {
-                        // If the trial run has failed, trip the circuit again
-                        currentState = CB_OPEN_STATE;
-                        log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                        ;
-                    } else {
-                        // If the trial run was successful reset the circuit
-                        currentState = CB_CLOSED_STATE;
-                        log:printInfo(
-                            "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                    }
-                } else {
-                    float currentFailureRate = self.getCurrentFailureRatio(self.circuitHealth);
-
-                    if currentFailureRate > self.circuitBreakerInferredConfig.failureThreshold {
-                        currentState = CB_OPEN_STATE;
-                        log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                        );
-                    }
-                }
-            } else {
-                currentState = self.switchCircuitStateOpenToHalfOpenOnResetTime(self.circuitBreakerInferredConfig,
-                                                                                self.circuitHealth, currentState);
-            }
-            Bucket bucket = <Bucket> self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.totalCount += 1;
-            return currentState;
-        }
+        return externUpdateCircuitState(self.circuitBreakerEngine);
     }
 
     // Handles open circuit state.
     isolated function handleOpenCircuit() returns ClientError {
-        time:Utc effectiveErrorTime = self.getEffectiveErrorTime();
-        time:Seconds timeDif = time:utcDiffSeconds(time:utcNow(), effectiveErrorTime);
-        int timeRemaining = <int> (self.circuitBreakerInferredConfig.resetTime - <decimal> timeDif);
-        self.updateRejectedRequestCount();
+        int timeRemaining = externGetCircuitResetTimeRemaining(self.circuitBreakerEngine);
+        externRecordCircuitRejection(self.circuitBreakerEngine);
         string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
             + timeRemaining.toString() + " seconds.";
         return error UpstreamServiceUnavailableError(errorMessage);
@@ -462,230 +423,16 @@ public client isolated class CircuitBreakerClient {
     isolated function updateCircuitHealthAndRespond(Response|ClientError serviceResponse) returns Response|ClientError {
         if serviceResponse is Response {
             if self.circuitBreakerInferredConfig.statusCodes.indexOf(serviceResponse.statusCode) is int {
-                self.updateCircuitHealthFailure();
+                externRecordCircuitFailure(self.circuitBreakerEngine);
             } else {
-                self.updateCircuitHealthSuccess();
+                externRecordCircuitSuccess(self.circuitBreakerEngine);
             }
             return serviceResponse;
         } else {
-            self.updateCircuitHealthFailure();
+            externRecordCircuitFailure(self.circuitBreakerEngine);
             return serviceResponse;
         }
     }
-
-    isolated function updateCircuitHealthFailure() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.circuitHealth.lastRequestSuccess = false;
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            Bucket bucket = <Bucket> self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.failureCount += 1;
-            time:Utc lastUpdated = time:utcNow();
-            self.circuitHealth.lastErrorTime = lastUpdated;
-            Bucket?[] buckets = self.circuitHealth.totalBuckets;
-            if buckets is Bucket[] {
-                //TODO:Get this verified
-                time:Utc? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-                if lastUpdatedTime is time:Utc {
-                    lastUpdatedTime = lastUpdated;
-                }
-            }
-        }
-    }
-
-    isolated function updateCircuitHealthSuccess() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            time:Utc lastUpdated = time:utcNow();
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            self.circuitHealth.lastRequestSuccess = true;
-            Bucket?[] buckets = self.circuitHealth.totalBuckets;
-            if buckets is Bucket[] {
-                //TODO:Get this verified
-                time:Utc? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-                if lastUpdatedTime is time:Utc {
-                    lastUpdatedTime = lastUpdated;
-                }
-            }
-        }
-    }
-
-    # Calculates a failure at a given point.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Current failure ratio
-    isolated function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-        int totalCount = 0;
-        int totalFailures = 0;
-
-        foreach var optBucket in circuitHealth.totalBuckets {
-            var bucket = <Bucket>optBucket;
-            totalCount =  totalCount + bucket.failureCount +
-                                            (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-            totalFailures = totalFailures + bucket.failureCount;
-        }
-        float ratio = 0.0;
-        if totalCount > 0 {
-            ratio = <float> totalFailures / <float> totalCount;
-        }
-        return ratio;
-    }
-
-    # Calculates the total requests count within a `RollingWindow`.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Total requests count
-    isolated function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-        int totalCount = 0;
-        foreach var bucket in circuitHealth.totalBuckets {
-            Bucket temp = <Bucket>bucket;
-            totalCount  =  totalCount + temp.totalCount;
-        }
-        return totalCount;
-    }
-
-    # Calculates the current bucket ID.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Current bucket id
-    isolated function getCurrentBucketId(CircuitHealth circuitHealth) returns int {
-        decimal elapsedTime = time:utcDiffSeconds(time:utcNow(), circuitHealth.startTime) %
-            (self.circuitBreakerInferredConfig.rollingWindow.timeWindow);
-        int currentBucketId = <int> (((elapsedTime / self.circuitBreakerInferredConfig.rollingWindow.bucketSize) + 1d)
-            % <decimal> self.circuitBreakerInferredConfig.noOfBuckets);
-        return currentBucketId;
-    }
-
-    # Updates the rejected requests count.
-    isolated function updateRejectedRequestCount() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            Bucket bucket = <Bucket>self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.rejectedCount += 1;
-        }
-    }
-
-    # Resets the bucket values to the default ones.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + bucketId - - Id of the bucket should reset.
-    isolated function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-        circuitHealth.totalBuckets[bucketId] = {};
-    }
-
-    isolated function getEffectiveErrorTime() returns time:Utc {
-        time:Utc? lastErrorTime;
-        time:Utc? lastForcedOpenTime;
-        lock {
-            lastErrorTime = self.circuitHealth?.lastErrorTime;
-            lastForcedOpenTime = self.circuitHealth?.lastForcedOpenTime;
-        }
-        if lastErrorTime is time:Utc && lastForcedOpenTime is time:Utc {
-            return (time:utcDiffSeconds(lastErrorTime, lastForcedOpenTime) > 0d) ? lastErrorTime : lastForcedOpenTime;
-        }
-        //TODO:What to send?
-        return time:utcNow();
-    }
-
-    # Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-    isolated function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-        time:Utc currentTime = time:utcNow();
-        time:Utc? lastRequestTime = circuitHealth?.lastRequestTime;
-        //TODO:Get this logic verified
-        decimal idleTime = 0;
-        if lastRequestTime is time:Utc {
-            idleTime = time:utcDiffSeconds(currentTime, lastRequestTime);
-        }
-        RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-        // If the time duration between two requests greater than timeWindow values, reset the buckets to default.
-        if idleTime > rollingWindow.timeWindow {
-            self.reInitializeBuckets(circuitHealth);
-        } else {
-            int currentBucketId = self.getCurrentBucketId(circuitHealth);
-            int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-            // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-            // than bucketSize means subsequent calls are received time exceeding the rolling window. if we need to
-            // reset the buckets to default.
-            if currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSize {
-                self.reInitializeBuckets(circuitHealth);
-            // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-            // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-            } else if currentBucketId < lastUsedBucketId {
-                int index = currentBucketId;
-                while (index >= 0) {
-                    self.resetBucketStats(circuitHealth, index);
-                    index -= 1;
-                }
-                int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-                while (lastIndex > lastUsedBucketId) {
-                    self.resetBucketStats(circuitHealth, lastIndex);
-                    lastIndex -= 1;
-                }
-            } else {
-                // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-                // last used bucket needs to be reset without resetting last used bucket stat.
-                while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSize) {
-                    self.resetBucketStats(circuitHealth, currentBucketId);
-                    currentBucketId -= 1;
-                }
-            }
-        }
-    }
-
-    # Reinitializes the Buckets to the default state.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    isolated function reInitializeBuckets(CircuitHealth circuitHealth) {
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while (bucketIndex < circuitHealth.totalBuckets.length()) {
-            bucketArray[bucketIndex] = {};
-            bucketIndex += 1;
-        }
-        circuitHealth.totalBuckets = bucketArray;
-    }
-
-    # Updates the `lastUsedBucketId` in `CircuitHealth`.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + bucketId - Position of the currently used bucket
-    isolated function updateLastUsedBucketId(CircuitHealth circuitHealth, int bucketId) {
-        if bucketId != circuitHealth.lastUsedBucketId {
-            self.resetBucketStats(circuitHealth, bucketId);
-            circuitHealth.lastUsedBucketId = bucketId;
-        }
-    }
-
-    # Switches circuit state from open to half open state when reset time exceeded.
-    #
-    # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-    # + circuitHealth - Circuit Breaker health status
-    # + currentState - current state of the circuit
-    # + return - Calculated state value of the circuit
-    isolated function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                            CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-        CircuitState currentCircuitState = currentState;
-        if currentState == CB_OPEN_STATE {
-            time:Utc effectiveErrorTime = self.getEffectiveErrorTime();
-            time:Seconds elapsedTime = time:utcDiffSeconds(time:utcNow(), effectiveErrorTime);
-            if elapsedTime > circuitBreakerInferredConfig.resetTime {
-                currentCircuitState = CB_HALF_OPEN_STATE;
-                log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-            }
-        }
-        return currentCircuitState;
-    }
-
-    isolated function setCurrentState(CircuitState currentCircuitState) {
-        lock {
-            self.currentCircuitState = currentCircuitState;
-        }
-    }
 }
 
 // Validates the struct configurations passed to create circuit breaker.
@@ -697,3 +444,64 @@ isolated function validateCircuitBreakerConfiguration(CircuitBreakerConfig circu
         panic error CircuitBreakerConfigError(errorMessage);
     }
 }
+
+isolated function externCreateCircuitBreakerEngine(int noOfBuckets, decimal bucketSize, int requestVolumeThreshold,
+        float failureThreshold, decimal resetTime) returns handle = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "createEngine"
+} external;
+
+isolated function externUpdateCircuitState(handle engine) returns CircuitState = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "updateState"
+} external;
+
+isolated function externGetCircuitState(handle engine) returns CircuitState = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getState"
+} external;
+
+isolated function externGetCircuitResetTimeRemaining(handle engine) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getResetTimeRemaining"
+} external;
+
+isolated function externRecordCircuitSuccess(handle engine) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "recordSuccess"
+} external;
+
+isolated function externRecordCircuitFailure(handle engine) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "recordFailure"
+} external;
+
+isolated function externRecordCircuitRejection(handle engine) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "recordRejection"
+} external;
+
+isolated function externForceOpenCircuit(handle engine) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "forceOpen"
+} external;
+
+isolated function externForceCloseCircuit(handle engine) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "forceClose"
+} external;
+
+isolated function externGetCircuitOpenTransitions(handle engine) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getOpenTransitions"
+} external;
+
+isolated function externGetCircuitHalfOpenTransitions(handle engine) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getHalfOpenTransitions"
+} external;
+
+isolated function externGetCircuitCloseTransitions(handle engine) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getCloseTransitions"
+} external;
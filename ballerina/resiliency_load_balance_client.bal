@@ -413,7 +413,8 @@ isolated function createClientEPConfigFromLoalBalanceEPConfig(LoadBalanceClientC
         compression:lbConfig.compression,
         auth:lbConfig.auth,
         cookieConfig:lbConfig.cookieConfig,
-        responseLimits:lbConfig.responseLimits
+        responseLimits:lbConfig.responseLimits,
+        transport:lbConfig.transport
     };
     return clientEPConfig;
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package io.ballerina.stdlib.http.benchmarks;
+
+import io.ballerina.stdlib.http.api.client.caching.CacheControlDirective;
+import io.ballerina.stdlib.http.api.client.caching.CacheControlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the parsing of Cache-Control headers as done by the HTTP caching client for every cached response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheControlParserBenchmark {
+
+    @Param({
+            "no-cache",
+            "public, max-age=3600",
+            "private, no-store, max-age=0, must-revalidate, proxy-revalidate, s-maxage=0, no-transform",
+            "max-age=604800, stale-while-revalidate=86400, stale-if-error=259200, private=\"Set-Cookie, Authorization\""
+    })
+    public String cacheControlHeader;
+
+    @Benchmark
+    public Map<CacheControlDirective, String> parse() {
+        return CacheControlParser.parse(cacheControlHeader);
+    }
+}
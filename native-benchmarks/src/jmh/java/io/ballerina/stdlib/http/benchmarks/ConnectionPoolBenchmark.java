@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package io.ballerina.stdlib.http.benchmarks;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportsConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.ballerina.stdlib.http.transport.message.HttpConnectorUtil;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks borrowing a connection from the client connection pool and returning it. The pool is filled up front
+ * with connections to an in-process Netty backend, so the benchmark measures the pool rather than connecting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectionPoolBenchmark {
+
+    private static final int POOL_SIZE = 16;
+
+    private EventLoopGroup backendGroup;
+    private EventLoopGroup clientGroup;
+    private Channel backendChannel;
+    private ConnectionManager connectionManager;
+    private HttpRoute httpRoute;
+    private SenderConfiguration senderConfiguration;
+    private BootstrapConfiguration bootstrapConfiguration;
+
+    @Setup
+    public void setup() throws Exception {
+        backendGroup = new NioEventLoopGroup(1);
+        backendChannel = new ServerBootstrap().group(backendGroup).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel socketChannel) {
+                        // Connections are only held open, nothing is sent over them
+                    }
+                }).bind(0).sync().channel();
+        int port = ((InetSocketAddress) backendChannel.localAddress()).getPort();
+
+        clientGroup = new NioEventLoopGroup(2);
+        PoolConfiguration poolConfiguration = new PoolConfiguration();
+        poolConfiguration.setMaxActivePerPool(POOL_SIZE);
+        poolConfiguration.setMaxIdlePerPool(POOL_SIZE);
+        connectionManager = new ConnectionManager(poolConfiguration);
+        httpRoute = new HttpRoute(Constants.HTTP_SCHEME, "localhost", port, 0);
+        senderConfiguration = HttpConnectorUtil.getSenderConfiguration(new TransportsConfiguration(),
+                                                                       Constants.HTTP_SCHEME);
+        bootstrapConfiguration = new BootstrapConfiguration(new HashMap<>());
+
+        List<TargetChannel> targetChannels = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            TargetChannel targetChannel = borrow();
+            // The client connector sets the channel once the connection is up, which the pool expects on return
+            targetChannel.setChannel(targetChannel.getChannelFuture().sync().channel());
+            targetChannels.add(targetChannel);
+        }
+        for (TargetChannel targetChannel : targetChannels) {
+            connectionManager.returnChannel(targetChannel);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        clientGroup.shutdownGracefully().sync();
+        backendChannel.close().sync();
+        backendGroup.shutdownGracefully().sync();
+    }
+
+    @Benchmark
+    public TargetChannel borrowAndReturn() throws Exception {
+        TargetChannel targetChannel = borrow();
+        connectionManager.returnChannel(targetChannel);
+        return targetChannel;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public TargetChannel borrowAndReturnContended() throws Exception {
+        return borrowAndReturn();
+    }
+
+    private TargetChannel borrow() throws Exception {
+        return connectionManager.acquireTargetChannel(httpRoute, null, null, senderConfiguration,
+                                                      bootstrapConfiguration, clientGroup).get();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package io.ballerina.stdlib.http.benchmarks;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the entity streaming of {@link HttpMessageDataStreamer}. The write benchmark follows the way payloads
+ * are serialized into outbound messages, and the read benchmarks follow the way inbound payloads are built once the
+ * full message has arrived in 8 KB chunks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityStreamingBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final int SERIALIZER_BUFFER_SIZE = 4096;
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private byte[] payload;
+    private ByteBuf receivedPayload;
+    private byte[] readBuffer;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder(payloadSize + 64).append('[');
+        for (int i = 0; json.length() < payloadSize; i++) {
+            json.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\",\"inStock\":true},");
+        }
+        payload = json.substring(0, payloadSize).getBytes(StandardCharsets.UTF_8);
+        receivedPayload = allocator.directBuffer(payloadSize).writeBytes(payload);
+        readBuffer = new byte[SERIALIZER_BUFFER_SIZE];
+    }
+
+    @TearDown
+    public void tearDown() {
+        receivedPayload.release();
+    }
+
+    @Benchmark
+    public int writeEntity() throws IOException {
+        HttpCarbonMessage message = newMessage();
+        OutputStream outputStream = new HttpMessageDataStreamer(message, allocator).getOutputStream();
+        for (int offset = 0; offset < payload.length; offset += SERIALIZER_BUFFER_SIZE) {
+            outputStream.write(payload, offset, Math.min(SERIALIZER_BUFFER_SIZE, payload.length - offset));
+        }
+        outputStream.close();
+        return drain(message);
+    }
+
+    @Benchmark
+    public long readEntity() throws IOException {
+        InputStream inputStream = new HttpMessageDataStreamer(receivedMessage()).getInputStream();
+        long checksum = 0;
+        int read;
+        while ((read = inputStream.read(readBuffer, 0, readBuffer.length)) != -1) {
+            checksum += readBuffer[read - 1];
+        }
+        inputStream.close();
+        return checksum;
+    }
+
+    @Benchmark
+    public int readCompositeEntity() {
+        CompositeByteBuf content = new HttpMessageDataStreamer(receivedMessage(), allocator).getCompositeContent();
+        int length = content.readableBytes();
+        content.release();
+        return length;
+    }
+
+    private HttpCarbonMessage receivedMessage() {
+        HttpCarbonMessage message = newMessage();
+        for (int offset = 0; offset < payloadSize; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, payloadSize - offset);
+            ByteBuf chunk = receivedPayload.retainedSlice(offset, length);
+            message.addHttpContent(offset + length < payloadSize ? new DefaultHttpContent(chunk)
+                                           : new DefaultLastHttpContent(chunk));
+        }
+        return message;
+    }
+
+    private static HttpCarbonMessage newMessage() {
+        return new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/orders"));
+    }
+
+    private static int drain(HttpCarbonMessage message) {
+        int length = 0;
+        HttpContent httpContent;
+        do {
+            httpContent = message.getHttpContent();
+            length += httpContent.content().readableBytes();
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        return length;
+    }
+}
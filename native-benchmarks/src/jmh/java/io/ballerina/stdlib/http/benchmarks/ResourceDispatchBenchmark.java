@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package io.ballerina.stdlib.http.benchmarks;
+
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.BasePathTrie;
+import io.ballerina.stdlib.http.uri.URITemplate;
+import io.ballerina.stdlib.http.uri.URITemplateException;
+import io.ballerina.stdlib.http.uri.parser.DataElement;
+import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
+import io.ballerina.stdlib.http.uri.parser.Literal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the two lookups of the request dispatching: finding the service by its base path and finding the
+ * resource of that service with the uri template. The resource tree resembles a typical REST API, with literal,
+ * path param and rest param segments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceDispatchBenchmark {
+
+    private static final String[] BASE_PATHS = {
+            "/", "/api/v1/orders", "/api/v1/customers", "/api/v1/products", "/api/v1/inventory", "/api/v2/orders",
+            "/api/v2/customers", "/health", "/metrics", "/admin", "/admin/users", "/auth", "/auth/oauth2",
+            "/files", "/search", "/graphql", "/webhooks/github", "/webhooks/stripe", "/static", "/docs"
+    };
+
+    private static final String[] RESOURCE_TEMPLATES = {
+            "/", "/*", "/{orderId}", "/{orderId}/items", "/{orderId}/items/{itemId}", "/{orderId}/items/{itemId}/notes",
+            "/{orderId}/status", "/{orderId}/payments", "/{orderId}/payments/{paymentId}", "/{orderId}/shipments",
+            "/{orderId}/shipments/{shipmentId}/tracking", "/search", "/search/by-customer/{customerId}",
+            "/search/by-date/{from}/{to}", "/reports/daily", "/reports/monthly", "/reports/{year}/{month}",
+            "/bulk", "/bulk/{jobId}", "/bulk/{jobId}/results", "/export/*", "/archive/{year}/*"
+    };
+
+    private static final String[] REQUEST_PATHS = {
+            "/api/v1/orders/1001/items/7", "/api/v1/orders/search/by-customer/cust-42", "/api/v1/orders/1001",
+            "/api/v1/orders/reports/2022/03", "/api/v1/orders/export/csv/2022/03", "/api/v1/orders/unknown/a/b/c",
+            "/api/v1/orders/1001/shipments/s-9/tracking", "/API/V1/ORDERS/1001/status", "/health",
+            "/admin/users/42", "/webhooks/github/push"
+    };
+
+    private static final String[] RESOURCE_PATHS = {
+            "/1001/items/7", "/search/by-customer/cust-42", "/1001", "/reports/2022/03", "/export/csv/2022/03",
+            "/unknown/a/b/c", "/1001/shipments/s-9/tracking", "/1001/status", "/bulk/job-1/results", "/",
+            "/archive/2021/q4/summary"
+    };
+
+    private BasePathTrie basePathTrie;
+    private URITemplate<String, Object> uriTemplate;
+    private int basePathIndex;
+    private int resourcePathIndex;
+
+    @Setup
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        List<String> basePaths = new ArrayList<>(List.of(BASE_PATHS));
+        basePaths.sort(Comparator.comparingInt(String::length).reversed());
+        basePathTrie = new BasePathTrie(basePaths);
+
+        uriTemplate = new URITemplate<>(new Literal<>(new ResourceElement(), "/"));
+        for (String template : RESOURCE_TEMPLATES) {
+            uriTemplate.parse(template, template, ResourceElement::new);
+        }
+    }
+
+    @Benchmark
+    public String findServiceBasePath() {
+        String requestPath = REQUEST_PATHS[basePathIndex++ % REQUEST_PATHS.length];
+        return basePathTrie.findTheMostSpecificBasePath(requestPath);
+    }
+
+    @Benchmark
+    public String matchResource() {
+        String resourcePath = RESOURCE_PATHS[resourcePathIndex++ % RESOURCE_PATHS.length];
+        return uriTemplate.matches(resourcePath, new HttpResourceArguments(), null);
+    }
+
+    private static class ResourceElement implements DataElement<String, Object> {
+
+        private String resource;
+
+        @Override
+        public void setData(String resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
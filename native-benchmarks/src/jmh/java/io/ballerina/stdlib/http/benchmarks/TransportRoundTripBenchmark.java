@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package io.ballerina.stdlib.http.benchmarks;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportsConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.message.FullHttpMessageListener;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.ballerina.stdlib.http.transport.message.HttpConnectorUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a request round trip through the transport client and server connectors over the loopback interface.
+ * With HTTP/2 the client connects with prior knowledge, so the round trip covers the HTTP/2 frame handling of both
+ * connectors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransportRoundTripBenchmark {
+
+    private static final String HOST = "localhost";
+
+    @Param({"1.1", "2.0"})
+    public String httpVersion;
+
+    @Param({"128", "16384"})
+    public int payloadSize;
+
+    private HttpWsConnectorFactory connectorFactory;
+    private ServerConnector serverConnector;
+    private HttpClientConnector clientConnector;
+    private ByteBuf payload;
+    private int port;
+
+    @Setup
+    public void setup() throws IOException, InterruptedException {
+        payload = Unpooled.unreleasableBuffer(Unpooled.directBuffer(payloadSize).writeZero(payloadSize));
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        connectorFactory = new DefaultHttpWsConnectorFactory();
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setHost(HOST);
+        listenerConfiguration.setPort(port);
+        listenerConfiguration.setScheme(Constants.HTTP_SCHEME);
+        listenerConfiguration.setVersion(httpVersion);
+        serverConnector = connectorFactory.createServerConnector(new ServerBootstrapConfiguration(new HashMap<>()),
+                                                                 listenerConfiguration);
+        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+        serverConnectorFuture.setHttpConnectorListener(new EchoListener());
+        serverConnectorFuture.sync();
+
+        TransportsConfiguration transportsConfiguration = new TransportsConfiguration();
+        SenderConfiguration senderConfiguration = HttpConnectorUtil.getSenderConfiguration(transportsConfiguration,
+                                                                                           Constants.HTTP_SCHEME);
+        senderConfiguration.setHttpVersion(httpVersion);
+        senderConfiguration.setForceHttp2(Constants.HTTP_2_0.equals(httpVersion));
+        clientConnector = connectorFactory.createHttpClientConnector(
+                HttpConnectorUtil.getTransportProperties(transportsConfiguration), senderConfiguration);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        clientConnector.close();
+        serverConnector.stop();
+        connectorFactory.shutdown();
+    }
+
+    @Benchmark
+    public int roundTrip() throws Exception {
+        HttpCarbonMessage request = new HttpCarbonRequest(new DefaultHttpRequest(
+                HttpVersion.HTTP_1_1, HttpMethod.POST, Constants.HTTP_SCHEME + HOST + ":" + port + "/echo"));
+        request.setHttpMethod(HttpMethod.POST.name());
+        request.setProperty(Constants.HTTP_HOST, HOST);
+        request.setProperty(Constants.HTTP_PORT, port);
+        request.setHeader(HttpHeaderNames.HOST.toString(), HOST + ":" + port);
+        request.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(), String.valueOf(payloadSize));
+        request.addHttpContent(new DefaultLastHttpContent(payload.duplicate()));
+
+        CompletableFuture<HttpCarbonMessage> responseFuture = new CompletableFuture<>();
+        clientConnector.send(request).setHttpConnectorListener(new HttpConnectorListener() {
+            @Override
+            public void onMessage(HttpCarbonMessage response) {
+                responseFuture.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                responseFuture.completeExceptionally(throwable);
+            }
+        });
+        return drain(responseFuture.get(30, TimeUnit.SECONDS));
+    }
+
+    private static int drain(HttpCarbonMessage message) {
+        int length = 0;
+        HttpContent httpContent;
+        do {
+            httpContent = message.getHttpContent();
+            length += httpContent.content().readableBytes();
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        return length;
+    }
+
+    /**
+     * Responds with the request payload once the full request has been received.
+     */
+    private static class EchoListener implements HttpConnectorListener {
+
+        @Override
+        public void onMessage(HttpCarbonMessage request) {
+            request.getFullHttpCarbonMessage().addListener(new FullHttpMessageListener() {
+                @Override
+                public void onComplete(HttpCarbonMessage fullRequest) {
+                    HttpCarbonMessage response = new HttpCarbonResponse(
+                            new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+                    response.setHttpStatusCode(HttpResponseStatus.OK.code());
+                    response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), Constants.TEXT_PLAIN);
+                    ByteBuf content = Unpooled.buffer();
+                    HttpContent httpContent;
+                    do {
+                        httpContent = fullRequest.getHttpContent();
+                        content.writeBytes(httpContent.content());
+                        httpContent.release();
+                    } while (!(httpContent instanceof LastHttpContent));
+                    response.addHttpContent(new DefaultLastHttpContent(content));
+                    try {
+                        fullRequest.respond(response);
+                    } catch (ServerConnectorException e) {
+                        onError(e);
+                    }
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    throw new IllegalStateException("Couldn't echo the request", error);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // Connection errors are reported by the client side of the benchmark
+        }
+    }
+}
@@ -22,11 +22,11 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.uri.BasePathTrie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -79,6 +79,16 @@ public class HTTPInterceptorServicesRegistry {
         return servicesMapByHost.get(hostName).sortedServiceURIs;
     }
 
+    /**
+     * Get the base path trie for given host name.
+     *
+     * @param hostName of the service
+     * @return the base path trie if exists else null
+     */
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathTrie;
+    }
+
     /**
      * Register a service into the map.
      *
@@ -114,21 +124,14 @@ public class HTTPInterceptorServicesRegistry {
         //basePath will get cached after registering service
         sortedServiceURIs.add(basePath);
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapByHost.get(hostName).updateBasePathTrie();
     }
 
     public String findTheMostSpecificBasePath(String requestURIPath, Map<String, InterceptorService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase(Locale.getDefault()).contains(
-                    key.toString().toLowerCase(Locale.getDefault()))) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+                                              BasePathTrie basePathTrie) {
+        String basePath = basePathTrie.findTheMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
@@ -158,11 +161,17 @@ public class HTTPInterceptorServicesRegistry {
     protected static class ServicesMapHolder {
         private Map<String, InterceptorService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, InterceptorService> servicesByBasePath,
                                                                                     List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            updateBasePathTrie();
+        }
+
+        private void updateBasePathTrie() {
+            this.basePathTrie = new BasePathTrie(sortedServiceURIs);
         }
     }
 }
@@ -23,11 +23,11 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.uri.BasePathTrie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -89,6 +89,16 @@ public class HTTPServicesRegistry {
         return servicesMapByHost.get(hostName).sortedServiceURIs;
     }
 
+    /**
+     * Get the base path trie for given host name.
+     *
+     * @param hostName of the service
+     * @return the base path trie if exists else null
+     */
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathTrie;
+    }
+
     /**
      * Register a service into the map.
      *
@@ -123,21 +133,14 @@ public class HTTPServicesRegistry {
         //basePath will get cached after registering service
         sortedServiceURIs.add(basePath);
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapByHost.get(hostName).updateBasePathTrie();
     }
 
     public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase(Locale.getDefault()).contains(
-                    key.toString().toLowerCase(Locale.getDefault()))) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+                                              BasePathTrie basePathTrie) {
+        String basePath = basePathTrie.findTheMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
@@ -163,10 +166,16 @@ public class HTTPServicesRegistry {
     protected static class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            updateBasePathTrie();
+        }
+
+        private void updateBasePathTrie() {
+            this.basePathTrie = new BasePathTrie(sortedServiceURIs);
         }
 
         public Map<String, HttpService> getServicesByBasePath() {
@@ -205,5 +214,6 @@ public class HTTPServicesRegistry {
             logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(), basePath));
         }
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapHolder.updateBasePathTrie();
     }
 }
@@ -44,7 +44,7 @@ public class HttpConstants {
     public static final Integer EXTRA_PATH_INDEX = 0;
     public static final String RAW_URI = "RAW_URI";
     public static final String RESOURCE_ARGS = "RESOURCE_ARGS";
-    public static final String MATRIX_PARAMS = "MATRIX_PARAMS";
+    public static final String REQUEST_TARGET = "REQUEST_TARGET";
     public static final String QUERY_STR = "QUERY_STR";
     public static final String RAW_QUERY_STR = "RAW_QUERY_STR";
 
@@ -169,6 +169,7 @@ public class HttpConstants {
     public static final String EXPOSE_HEADERS = "exposeHeaders";
     public static final String PREFLIGHT_RESOURCES = "PREFLIGHT_RESOURCES";
     public static final String RESOURCES_CORS = "RESOURCES_CORS";
+    public static final String RESOURCE_COMPRESSION_LEVEL = "RESOURCE_COMPRESSION_LEVEL";
     public static final String LISTENER_INTERFACE_ID = "listener.interface.id";
     public static final String PACKAGE_BALLERINA_BUILTIN = "ballerina/builtin";
 
@@ -311,6 +312,12 @@ public class HttpConstants {
     public static final BString HTTP_LOG_FILE_PATH = StringUtils.fromString("path");
     public static final BString HTTP_TRACE_LOG_HOST = StringUtils.fromString("host");
     public static final BString HTTP_TRACE_LOG_PORT = StringUtils.fromString("port");
+    public static final BString HTTP_TRACE_LOG_SAMPLE_RATE = StringUtils.fromString("sampleRate");
+    public static final BString HTTP_TRACE_LOG_SAMPLING_HEADER = StringUtils.fromString("samplingHeader");
+    public static final BString HTTP_TRACE_LOG_MAX_PAYLOAD_SIZE = StringUtils.fromString("maxPayloadSize");
+    public static final BString HTTP_TRACE_LOG_HEADERS_ONLY = StringUtils.fromString("headersOnly");
+    public static final BString HTTP_ACCESS_LOG_BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    public static final BString HTTP_ACCESS_LOG_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
     public static final BString HTTP_LOGGING_PROTOCOL = StringUtils.fromString("HTTP");
 
     // ResponseCacheControl struct field names
@@ -388,6 +395,20 @@ public class HttpConstants {
     public static final BString ENDPOINT_CONFIG_TIMEOUT = StringUtils.fromString("timeout");
     public static final String ENDPOINT_CONFIG_CHUNKING = "chunking";
     public static final BString ENDPOINT_CONFIG_VERSION = StringUtils.fromString("httpVersion");
+    public static final BString ENDPOINT_CONFIG_TRANSPORT = StringUtils.fromString("transport");
+    public static final BString ENDPOINT_CONFIG_ACCEPTORS = StringUtils.fromString("acceptors");
+    public static final BString ENDPOINT_CONFIG_FLUSH_CONSOLIDATION = StringUtils.fromString("flushConsolidation");
+    public static final BString FLUSH_CONSOLIDATION_MAX_PENDING_FLUSHES = StringUtils.fromString("maxPendingFlushes");
+    public static final BString FLUSH_CONSOLIDATION_MAX_PENDING_BYTES = StringUtils.fromString("maxPendingBytes");
+    public static final BString ENDPOINT_CONFIG_RESPONSE_COMPRESSION = StringUtils.fromString("responseCompression");
+    public static final BString RESPONSE_COMPRESSION_ENCODINGS = StringUtils.fromString("encodings");
+    public static final BString RESPONSE_COMPRESSION_LEVEL = StringUtils.fromString("level");
+    public static final BString RESPONSE_COMPRESSION_MIN_SIZE = StringUtils.fromString("minResponseSize");
+    public static final BString RESPONSE_COMPRESSION_CONTENT_TYPES = StringUtils.fromString("contentTypes");
+    public static final BString RESPONSE_COMPRESSION_PRECOMPRESSED_CACHE_SIZE =
+            StringUtils.fromString("precompressedCacheSize");
+    public static final BString RESPONSE_COMPRESSION_MAX_PRECOMPRESSED_BODY_SIZE =
+            StringUtils.fromString("maxPrecompressedBodySize");
     public static final String ENDPOINT_REQUEST_LIMITS = "requestLimits";
 
     public static final BString MAX_URI_LENGTH = StringUtils.fromString("maxUriLength");
@@ -418,6 +439,8 @@ public class HttpConstants {
     public static final BString SECURESOCKET_CONFIG_CERT_VALIDATION_CACHE_SIZE = StringUtils.fromString("cacheSize");
     public static final BString SECURESOCKET_CONFIG_CERT_VALIDATION_CACHE_VALIDITY_PERIOD =
             StringUtils.fromString("cacheValidityPeriod");
+    public static final BString SECURESOCKET_CONFIG_CERT_VALIDATION_STALE_IF_ERROR =
+            StringUtils.fromString("staleIfError");
     public static final BString SECURESOCKET_CONFIG_CIPHERS = StringUtils.fromString("ciphers");
     public static final BString SECURESOCKET_CONFIG_HOST_NAME_VERIFICATION_ENABLED =
             StringUtils.fromString("verifyHostName");
@@ -433,6 +456,7 @@ public class HttpConstants {
     //Client Endpoint (CallerActions)
     public static final String CLIENT_ENDPOINT_SERVICE_URI = "url";
     public static final String CLIENT_ENDPOINT_CONFIG = "config";
+    public static final String CLIENT_REQUEST_TEMPLATE = "requestTemplate";
     public static final int CLIENT_ENDPOINT_CONFIG_INDEX = 0;
     public static final int CLIENT_ENDPOINT_URL_INDEX = 0;
     public static final int CLIENT_GLOBAL_POOL_INDEX = 1;
@@ -465,6 +489,10 @@ public class HttpConstants {
     public static final BString CONNECTION_POOLING_WAIT_TIME = StringUtils.fromString("waitTime");
     public static final BString CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION = StringUtils.fromString(
             "maxActiveStreamsPerConnection");
+    public static final BString CONNECTION_POOLING_MAX_PENDING_ACQUISITIONS = StringUtils.fromString(
+            "maxPendingAcquisitions");
+    public static final BString CONNECTION_POOLING_TARGET_STREAM_UTILIZATION = StringUtils.fromString(
+            "targetStreamUtilization");
     public static final String HTTP_CLIENT_CONNECTION_POOL = "PoolConfiguration";
     public static final String CONNECTION_MANAGER = "ConnectionManager";
     public static final int POOL_CONFIG_INDEX = 1;
@@ -35,16 +35,15 @@ import io.ballerina.stdlib.http.api.service.signature.Parameter;
 import io.ballerina.stdlib.http.api.service.signature.PayloadParam;
 import io.ballerina.stdlib.http.api.service.signature.RemoteMethodParamHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.BasePathTrie;
+import io.ballerina.stdlib.http.uri.RequestTarget;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.netty.handler.codec.http.HttpHeaderNames;
 
 import java.io.UnsupportedEncodingException;
-import java.net.URI;
 import java.net.URLDecoder;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.api.TypeTags.ARRAY_TAG;
@@ -64,15 +63,15 @@ public class HttpDispatcher {
                                           boolean forInterceptors) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -80,26 +79,23 @@ public class HttpDispatcher {
             }
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
-            Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            RequestTarget requestTarget = RequestTarget.parse(rawUri);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
-
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                                                                           servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(requestTarget.getRawPath(),
+                                                                           servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 throw new BallerinaConnectorException("no matching service found for path : " +
-                                                              validatedUri.getRawPath());
+                                                              requestTarget.getRawPath());
             }
 
             HttpService service = servicesOnInterface.get(basePath);
             if (!forInterceptors) {
-                setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+                setInboundReqProperties(inboundReqMsg, requestTarget, basePath);
                 inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-                inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-                inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+                inboundReqMsg.setProperty(HttpConstants.TO, requestTarget.getTarget());
+                inboundReqMsg.setProperty(HttpConstants.REQUEST_TARGET, requestTarget);
             }
             return service;
         } catch (Exception e) {
@@ -111,15 +107,15 @@ public class HttpDispatcher {
                                                             HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, InterceptorService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -128,48 +124,36 @@ public class HttpDispatcher {
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
             inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-            Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
-
-            inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+            RequestTarget requestTarget = RequestTarget.parse(rawUri);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+            inboundReqMsg.setProperty(HttpConstants.TO, requestTarget.getTarget());
+            inboundReqMsg.setProperty(HttpConstants.REQUEST_TARGET, requestTarget);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                                                                           servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(requestTarget.getRawPath(),
+                                                                           servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 throw new BallerinaConnectorException("no matching service found for path : " +
-                                                              validatedUri.getRawPath());
+                                                              requestTarget.getRawPath());
             }
 
             InterceptorService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            setInboundReqProperties(inboundReqMsg, requestTarget, basePath);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
+    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, RequestTarget requestTarget,
+                                                String basePath) {
+        String subPath = URIUtil.getSubPath(requestTarget.getRawPath(), basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestTarget.getQuery());
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
-    }
-
-    public static URI getValidatedURI(String uriStr) {
-        URI requestUri;
-        try {
-            requestUri = URI.create(uriStr);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaConnectorException(e.getMessage());
-        }
-        return requestUri;
+        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestTarget.getRawQuery());
     }
 
     /**
@@ -27,6 +27,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.api.service.signature.ParamHandler;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,7 @@ public class HttpResource implements Resource {
     private static final BString PRODUCES_FIELD = StringUtils.fromString("produces");
     private static final BString CORS_FIELD = StringUtils.fromString("cors");
     private static final BString TRANSACTION_INFECTABLE_FIELD = StringUtils.fromString("transactionInfectable");
+    private static final BString COMPRESSION_LEVEL_FIELD = StringUtils.fromString("compressionLevel");
     private static final BString HTTP_RESOURCE_CONFIG =
             StringUtils.fromString(ModuleUtils.getHttpPackageIdentifier() + ":" + ANN_NAME_RESOURCE_CONFIG);
     private static final String RETURN_ANNOT_PREFIX = "$returns$";
@@ -76,6 +78,7 @@ public class HttpResource implements Resource {
     private String returnMediaType;
     private BMap cacheConfig;
     private boolean treatNilableAsOptional;
+    private CompressionLevel compressionLevel;
 
     protected HttpResource(MethodType resource, HttpService parentService) {
         this.balResource = resource;
@@ -213,6 +216,14 @@ public class HttpResource implements Resource {
         this.transactionInfectable = transactionInfectable;
     }
 
+    public CompressionLevel getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(CompressionLevel compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
     public void setTreatNilableAsOptional(boolean treatNilableAsOptional) {
         this.treatNilableAsOptional = treatNilableAsOptional;
     }
@@ -234,6 +245,10 @@ public class HttpResource implements Resource {
             httpResource.setCorsHeaders(CorsHeaders.buildCorsHeaders(resourceConfigAnnotation.getMapValue(CORS_FIELD)));
             httpResource
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
+            BString compressionLevel = resourceConfigAnnotation.getStringValue(COMPRESSION_LEVEL_FIELD);
+            if (compressionLevel != null) {
+                httpResource.setCompressionLevel(CompressionLevel.valueOf(compressionLevel.getValue()));
+            }
         }
         processResourceCors(httpResource, httpService);
         httpResource.prepareAndValidateSignatureParams();
@@ -49,6 +49,9 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.ballerina.stdlib.http.transport.contract.config.FlushConsolidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
@@ -57,12 +60,14 @@ import io.ballerina.stdlib.http.transport.contract.config.Parameter;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConnectionTimedOutException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.EndpointTimeOutException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.PromiseRejectedException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.SslException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.ContentCoding;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
@@ -372,6 +377,7 @@ public class HttpUtil {
         Service httpService = (Service) connectionObj.getNativeData(HttpConstants.HTTP_SERVICE);
         if (httpService != null) {
             HttpUtil.setCompressionHeaders(httpService.getCompressionConfig(), inboundRequestMsg, outboundResponseMsg);
+            HttpUtil.setCompressionLevel(inboundRequestMsg, outboundResponseMsg);
             HttpUtil.setChunkingHeader(httpService.getChunkingConfig(), outboundResponseMsg);
             if (httpService.getMediaTypeSubtypePrefix() != null) {
                 HttpUtil.setMediaTypeSubtypePrefix(httpService.getMediaTypeSubtypePrefix(), outboundResponseMsg);
@@ -941,6 +947,13 @@ public class HttpUtil {
         return (entityObj != null && EntityBodyHandler.getMessageDataSource(entityObj) != null);
     }
 
+    private static void setCompressionLevel(HttpCarbonMessage requestMsg, HttpCarbonMessage outboundResponseMsg) {
+        Object compressionLevel = requestMsg.getProperty(HttpConstants.RESOURCE_COMPRESSION_LEVEL);
+        if (compressionLevel != null) {
+            outboundResponseMsg.setProperty(Constants.COMPRESSION_LEVEL, compressionLevel);
+        }
+    }
+
     private static void setCompressionHeaders(BMap<BString, Object> compressionConfig, HttpCarbonMessage requestMsg,
                                               HttpCarbonMessage outboundResponseMsg) {
         if (!checkConfigAnnotationAvailability(compressionConfig)) {
@@ -1048,6 +1061,14 @@ public class HttpUtil {
         return forwardedConfig;
     }
 
+    public static TransportType getTransportType(String transport) {
+        try {
+            return TransportType.valueOf(transport);
+        } catch (IllegalArgumentException e) {
+            throw new BallerinaConnectorException("Invalid configuration found for transport : " + transport);
+        }
+    }
+
     public static HttpCarbonMessage createHttpCarbonMessage(boolean isRequest) {
         HttpCarbonMessage httpCarbonMessage;
         if (isRequest) {
@@ -1247,6 +1268,10 @@ public class HttpUtil {
         }
         String forwardedExtension = clientEndpointConfig.getStringValue(HttpConstants.CLIENT_EP_FORWARDED).getValue();
         senderConfiguration.setForwardedExtensionConfig(HttpUtil.getForwardedExtensionConfig(forwardedExtension));
+        BString transport = clientEndpointConfig.getStringValue(HttpConstants.ENDPOINT_CONFIG_TRANSPORT);
+        if (transport != null) {
+            senderConfiguration.setTransportType(getTransportType(transport.getValue()));
+        }
     }
 
     public static ConnectionManager getConnectionManager(BMap poolStruct) {
@@ -1283,6 +1308,61 @@ public class HttpUtil {
                 maxActiveStreamsPerConnection == -1 ? Integer.MAX_VALUE : validateConfig(
                         maxActiveStreamsPerConnection,
                         HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION.getValue()));
+
+        long maxPendingAcquisitions = poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_MAX_PENDING_ACQUISITIONS);
+        poolConfiguration.setMaxPendingAcquiresPerPool(
+                maxPendingAcquisitions < 0 ? -1 : validateConfig(
+                        maxPendingAcquisitions, HttpConstants.CONNECTION_POOLING_MAX_PENDING_ACQUISITIONS.getValue()));
+
+        double targetStreamUtilization =
+                poolRecord.getFloatValue(HttpConstants.CONNECTION_POOLING_TARGET_STREAM_UTILIZATION);
+        if (!(targetStreamUtilization > 0 && targetStreamUtilization <= 1)) {
+            throw new BallerinaConnectorException("The " + HttpConstants.CONNECTION_POOLING_TARGET_STREAM_UTILIZATION
+                    + " of the connection pool must be greater than 0 and at most 1");
+        }
+        poolConfiguration.setHttp2TargetStreamUtilization(targetStreamUtilization);
+    }
+
+    private static CompressionConfig getResponseCompressionConfig(BMap<BString, Object> responseCompression) {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        List<String> encodings = getAsStringList(
+                responseCompression.getArrayValue(HttpConstants.RESPONSE_COMPRESSION_ENCODINGS).getStringArray());
+        for (String encoding : encodings) {
+            if (ContentCoding.of(encoding) == null) {
+                throw new BallerinaConnectorException("Unsupported response compression encoding: " + encoding);
+            }
+        }
+        compressionConfig.setEncodings(encodings);
+        compressionConfig.setLevel(CompressionLevel.valueOf(
+                responseCompression.getStringValue(HttpConstants.RESPONSE_COMPRESSION_LEVEL).getValue()));
+        long minResponseSize = responseCompression.getIntValue(HttpConstants.RESPONSE_COMPRESSION_MIN_SIZE);
+        long cacheSize = responseCompression.getIntValue(HttpConstants.RESPONSE_COMPRESSION_PRECOMPRESSED_CACHE_SIZE);
+        long maxPrecompressedBodySize =
+                responseCompression.getIntValue(HttpConstants.RESPONSE_COMPRESSION_MAX_PRECOMPRESSED_BODY_SIZE);
+        if (minResponseSize < 0 || cacheSize < 0 || maxPrecompressedBodySize < 0) {
+            throw new BallerinaConnectorException("Response compression limits must not be negative");
+        }
+        compressionConfig.setMinResponseSize(minResponseSize);
+        compressionConfig.setContentTypes(getAsStringList(
+                responseCompression.getArrayValue(HttpConstants.RESPONSE_COMPRESSION_CONTENT_TYPES).getStringArray()));
+        compressionConfig.setPrecompressedCacheSize(
+                validateConfig(cacheSize, HttpConstants.RESPONSE_COMPRESSION_PRECOMPRESSED_CACHE_SIZE.getValue()));
+        compressionConfig.setMaxPrecompressedBodySize(validateConfig(
+                maxPrecompressedBodySize, HttpConstants.RESPONSE_COMPRESSION_MAX_PRECOMPRESSED_BODY_SIZE.getValue()));
+        return compressionConfig;
+    }
+
+    private static FlushConsolidationConfig getFlushConsolidationConfig(BMap<BString, Object> flushConsolidation) {
+        long maxPendingFlushes = flushConsolidation.getIntValue(HttpConstants.FLUSH_CONSOLIDATION_MAX_PENDING_FLUSHES);
+        long maxPendingBytes = flushConsolidation.getIntValue(HttpConstants.FLUSH_CONSOLIDATION_MAX_PENDING_BYTES);
+        if (maxPendingFlushes < 1 || maxPendingBytes < 1) {
+            throw new BallerinaConnectorException("Flush consolidation limits must be at least 1");
+        }
+        FlushConsolidationConfig flushConsolidationConfig = new FlushConsolidationConfig();
+        flushConsolidationConfig.setMaxPendingFlushes(
+                validateConfig(maxPendingFlushes, HttpConstants.FLUSH_CONSOLIDATION_MAX_PENDING_FLUSHES.getValue()));
+        flushConsolidationConfig.setMaxPendingBytes(maxPendingBytes);
+        return flushConsolidationConfig;
     }
 
     private static int validateConfig(long value, String configName) {
@@ -1474,6 +1554,28 @@ public class HttpUtil {
         BString serverName = endpointConfig.getStringValue(HttpConstants.SERVER_NAME);
         listenerConfiguration.setServerHeader(serverName != null ? serverName.getValue() : getServerName());
 
+        BString transport = endpointConfig.getStringValue(HttpConstants.ENDPOINT_CONFIG_TRANSPORT);
+        if (transport != null) {
+            listenerConfiguration.setTransportType(getTransportType(transport.getValue()));
+        }
+        Long acceptors = endpointConfig.getIntValue(HttpConstants.ENDPOINT_CONFIG_ACCEPTORS);
+        if (acceptors != null) {
+            if (acceptors < 1) {
+                throw new BallerinaConnectorException("Listener acceptors must be at least 1");
+            }
+            listenerConfiguration.setAcceptorCount(Math.toIntExact(acceptors));
+        }
+        BMap<BString, Object> flushConsolidation =
+                endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_FLUSH_CONSOLIDATION);
+        if (flushConsolidation != null) {
+            listenerConfiguration.setFlushConsolidationConfig(getFlushConsolidationConfig(flushConsolidation));
+        }
+        BMap<BString, Object> responseCompression =
+                endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_RESPONSE_COMPRESSION);
+        if (responseCompression != null) {
+            listenerConfiguration.setCompressionConfig(getResponseCompressionConfig(responseCompression));
+        }
+
         if (sslConfig != null) {
             return setSslConfig(sslConfig, listenerConfiguration);
         }
@@ -1713,6 +1815,11 @@ public class HttpUtil {
         if (cacheSize != 0) {
             sslConfiguration.setCacheSize(Math.toIntExact(cacheSize));
         }
+        BDecimal staleIfError = (BDecimal) certValidation.get(
+                HttpConstants.SECURESOCKET_CONFIG_CERT_VALIDATION_STALE_IF_ERROR);
+        if (staleIfError != null) {
+            sslConfiguration.setRevocationStaleIfErrorMillis((long) (staleIfError.floatValue() * 1000));
+        }
     }
 
     private static void evaluateCiphersField(BArray ciphers, List<Parameter> paramList) {
@@ -47,6 +47,10 @@ public class ResourceDispatcher {
             if (resource != null) {
                 inboundRequest.setProperty(HttpConstants.RESOURCE_ARGS, resourceArgumentValues);
                 inboundRequest.setProperty(HttpConstants.RESOURCES_CORS, resource.getCorsHeaders());
+                if (resource instanceof HttpResource && ((HttpResource) resource).getCompressionLevel() != null) {
+                    inboundRequest.setProperty(HttpConstants.RESOURCE_COMPRESSION_LEVEL,
+                                               ((HttpResource) resource).getCompressionLevel());
+                }
                 return resource;
             } else {
                 if (method.equals(HttpConstants.HTTP_METHOD_OPTIONS)) {
@@ -70,6 +70,7 @@ import java.util.Objects;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_VERSION;
 import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION;
+import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static io.ballerina.stdlib.http.api.HttpUtil.extractEntity;
 import static io.ballerina.stdlib.http.api.HttpUtil.getCompressionState;
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
@@ -83,18 +84,19 @@ public abstract class AbstractHTTPAction {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractHTTPAction.class);
 
-    private static final String CACHE_BALLERINA_VERSION;
+    private static final String USER_AGENT;
     private static final String WHITESPACE = " ";
     static {
-        CACHE_BALLERINA_VERSION = System.getProperty(BALLERINA_VERSION);
+        String ballerinaVersion = System.getProperty(BALLERINA_VERSION);
+        USER_AGENT = ballerinaVersion != null ? "ballerina/" + ballerinaVersion : "ballerina";
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(String serviceUri, BMap config, String path,
-                                                                BObject request) {
+    protected static HttpCarbonMessage createOutboundRequestMsg(ClientRequestTemplate template, BMap config,
+                                                                String path, BObject request) {
         HttpCarbonMessage requestMsg = HttpUtil.getCarbonMsg(request, HttpUtil.createHttpCarbonMessage(true));
         HttpUtil.checkEntityAvailability(request);
         HttpUtil.enrichOutboundMessage(requestMsg, request);
-        prepareOutboundRequest(serviceUri, path, requestMsg, isNoEntityBodyRequest(request));
+        prepareOutboundRequest(template, path, requestMsg, isNoEntityBodyRequest(request));
         handleAcceptEncodingHeader(requestMsg, getCompressionConfigFromEndpointConfig(config));
         return requestMsg;
     }
@@ -115,8 +117,16 @@ public abstract class AbstractHTTPAction {
         }
     }
 
-    static void prepareOutboundRequest(String serviceUri, String path, HttpCarbonMessage outboundRequest,
-                                       Boolean nonEntityBodyReq) {
+    static ClientRequestTemplate getRequestTemplate(BObject httpClient) {
+        Object template = httpClient.getNativeData(HttpConstants.CLIENT_REQUEST_TEMPLATE);
+        if (template != null) {
+            return (ClientRequestTemplate) template;
+        }
+        return ClientRequestTemplate.create((String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI));
+    }
+
+    static void prepareOutboundRequest(ClientRequestTemplate template, String path,
+                                       HttpCarbonMessage outboundRequest, Boolean nonEntityBodyReq) {
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
         if (trxResourceManager.isInTransaction()) {
             TransactionLocalContext transactionLocalContext = trxResourceManager.getCurrentTransactionContext();
@@ -125,15 +135,24 @@ public abstract class AbstractHTTPAction {
             outboundRequest.setHeader(HttpConstants.HEADER_X_INFO_RECORD,
                     getTrxInfoRecordJson(transactionLocalContext.getInfoRecord()));
         }
+        String outboundReqPath = template.resolveTarget(path);
+        if (outboundReqPath != null) {
+            // The base URL was parsed when the client was initialized, only the path needs to be appended
+            setOutboundReqProperties(outboundRequest, template.getProtocol(), outboundReqPath, template.getPort(),
+                                     template.getHost(), nonEntityBodyReq);
+            setOutboundReqHeaders(outboundRequest, template.getHostHeader());
+            return;
+        }
         try {
-            String uri = getServiceUri(serviceUri) + path;
+            String uri = getServiceUri(template.getServiceUri()) + path;
             URL url = new URL(encodeWhitespacesInUri(uri));
 
-            int port = getOutboundReqPort(url);
+            int port = ClientRequestTemplate.getPort(url);
             String host = url.getHost();
 
-            setOutboundReqProperties(outboundRequest, url, port, host, nonEntityBodyReq);
-            setOutboundReqHeaders(outboundRequest, port, host);
+            setOutboundReqProperties(outboundRequest, url.getProtocol(), getOutboundReqPath(url), port, host,
+                                     nonEntityBodyReq);
+            setOutboundReqHeaders(outboundRequest, getHostHeader(host, port));
 
         } catch (MalformedURLException e) {
             throw HttpUtil.createHttpError("malformed URL specified. " + e.getMessage(),
@@ -145,7 +164,7 @@ public abstract class AbstractHTTPAction {
     }
 
     private static String getServiceUri(String serviceUri) {
-        if (serviceUri.isEmpty()) {
+        if (serviceUri == null || serviceUri.isEmpty()) {
             throw HttpUtil.createHttpError("service URI is not defined correctly.", HttpErrorType.GENERIC_CLIENT_ERROR);
         }
         return serviceUri;
@@ -156,25 +175,23 @@ public abstract class AbstractHTTPAction {
             return uri;
         }
         // Uses Percent-Encoding as defined in spec(https://tools.ietf.org/html/rfc3986#section-2.1)
-        return uri.trim().replaceAll(WHITESPACE, "%20");
+        return uri.trim().replace(WHITESPACE, "%20");
     }
 
-    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, int port, String host) {
+    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, String hostHeader) {
         HttpHeaders headers = outboundRequest.getHeaders();
-        setHostHeader(host, port, headers);
+        headers.set(HttpHeaderNames.HOST, hostHeader);
         setOutboundUserAgent(headers);
         removeConnectionHeader(headers);
     }
 
-    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, URL url, int port, String host,
+    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, String protocol,
+                                                 String outboundReqPath, int port, String host,
                                                  Boolean nonEntityBodyReq) {
         outboundRequest.setProperty(Constants.HTTP_HOST, host);
         outboundRequest.setProperty(Constants.HTTP_PORT, port);
-
-        String outboundReqPath = getOutboundReqPath(url);
         outboundRequest.setProperty(HttpConstants.TO, outboundReqPath);
-
-        outboundRequest.setProperty(HttpConstants.PROTOCOL, url.getProtocol());
+        outboundRequest.setProperty(HttpConstants.PROTOCOL, protocol);
         outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
     }
 
@@ -213,12 +230,11 @@ public abstract class AbstractHTTPAction {
         return 0;
     }
 
-    private static void setHostHeader(String host, int port, HttpHeaders headers) {
+    private static String getHostHeader(String host, int port) {
         if (port == 80 || port == 443) {
-            headers.set(HttpHeaderNames.HOST, host);
-        } else {
-            headers.set(HttpHeaderNames.HOST, host + ":" + port);
+            return host;
         }
+        return host + ":" + port;
     }
 
     private static void removeConnectionHeader(HttpHeaders headers) {
@@ -229,15 +245,8 @@ public abstract class AbstractHTTPAction {
     }
 
     private static void setOutboundUserAgent(HttpHeaders headers) {
-        String userAgent;
-        if (CACHE_BALLERINA_VERSION != null) {
-            userAgent = "ballerina/" + CACHE_BALLERINA_VERSION;
-        } else {
-            userAgent = "ballerina";
-        }
-
         if (!headers.contains(HttpHeaderNames.USER_AGENT)) { // If User-Agent is not already set from program
-            headers.set(HttpHeaderNames.USER_AGENT, userAgent);
+            headers.set(HttpHeaderNames.USER_AGENT, USER_AGENT);
         }
     }
 
@@ -250,16 +259,6 @@ public abstract class AbstractHTTPAction {
         return toPath;
     }
 
-    private static int getOutboundReqPort(URL url) {
-        int port = 80;
-        if (url.getPort() != -1) {
-            port = url.getPort();
-        } else if (url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS)) {
-            port = 443;
-        }
-        return port;
-    }
-
     protected static void executeNonBlockingAction(DataContext dataContext, boolean async) {
         HttpCarbonMessage outboundRequestMsg = dataContext.getOutboundRequest();
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.actions;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Holds the parts of an outbound request that only depend on the client's base URL, so that they are computed once
+ * when the client is initialized rather than on every call.
+ */
+public final class ClientRequestTemplate {
+
+    private static final int DEFAULT_HTTP_PORT = 80;
+    private static final int DEFAULT_HTTPS_PORT = 443;
+
+    private final String serviceUri;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String basePath;
+    private final String hostHeader;
+
+    private ClientRequestTemplate(String serviceUri, String protocol, String host, int port, String basePath) {
+        this.serviceUri = serviceUri;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.basePath = basePath;
+        this.hostHeader = host == null || port == DEFAULT_HTTP_PORT || port == DEFAULT_HTTPS_PORT ? host :
+                host + ":" + port;
+    }
+
+    /**
+     * Pre-parses the given client base URL. Base URLs which cannot be safely combined with a path by plain
+     * concatenation (empty, containing whitespace, a query or a fragment, or malformed) produce a template that is
+     * not pre-parsed, in which case the full URL has to be parsed per request.
+     *
+     * @param serviceUri the base URL of the client
+     * @return the request template
+     */
+    public static ClientRequestTemplate create(String serviceUri) {
+        if (serviceUri == null || serviceUri.isEmpty() || !isPlain(serviceUri) || serviceUri.indexOf('?') >= 0) {
+            return new ClientRequestTemplate(serviceUri, null, null, -1, null);
+        }
+        URL url;
+        try {
+            url = new URL(serviceUri);
+        } catch (MalformedURLException e) {
+            return new ClientRequestTemplate(serviceUri, null, null, -1, null);
+        }
+        return new ClientRequestTemplate(serviceUri, url.getProtocol(), url.getHost(), getPort(url), url.getPath());
+    }
+
+    /**
+     * Returns the port of the given URL, falling back to the default port of its protocol.
+     *
+     * @param url the URL
+     * @return the port
+     */
+    static int getPort(URL url) {
+        if (url.getPort() != -1) {
+            return url.getPort();
+        }
+        return url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS) ? DEFAULT_HTTPS_PORT :
+                DEFAULT_HTTP_PORT;
+    }
+
+    /**
+     * Resolves the request target (path and query) of a call to the given path. This only appends the path to the
+     * pre-parsed base path, and gives the same result as parsing the concatenated URL would.
+     *
+     * @param path the path given to the client action
+     * @return the request target, or {@code null} if the template or the path needs the full URL to be parsed
+     */
+    String resolveTarget(String path) {
+        if (basePath == null || !path.isEmpty() && path.charAt(0) != '/' && path.charAt(0) != '?' ||
+                !isPlain(path)) {
+            return null;
+        }
+        return basePath.isEmpty() ? path : basePath.concat(path);
+    }
+
+    private static boolean isPlain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == '#' || c == '\u007f') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isPreParsed() {
+        return basePath != null;
+    }
+
+    public String getServiceUri() {
+        return serviceUri;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getHostHeader() {
+        return hostHeader;
+    }
+}
@@ -30,7 +30,6 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import java.util.Locale;
 
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static io.ballerina.stdlib.http.api.HttpUtil.checkRequestBodySizeHeadersAvailability;
 
 /**
@@ -39,15 +38,16 @@ import static io.ballerina.stdlib.http.api.HttpUtil.checkRequestBodySizeHeadersA
 public class Forward extends AbstractHTTPAction {
     @SuppressWarnings("unchecked")
     public static Object forward(Environment env, BObject httpClient, BString path, BObject requestObj) {
-        String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(url, path.getValue(), requestObj);
+        ClientRequestTemplate template = getRequestTemplate(httpClient);
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(template, path.getValue(), requestObj);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
         executeNonBlockingAction(dataContext, false);
         return null;
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(String serviceUri, String path, BObject requestObj) {
+    protected static HttpCarbonMessage createOutboundRequestMsg(ClientRequestTemplate template, String path,
+                                                                BObject requestObj) {
         if (requestObj.getNativeData(HttpConstants.REQUEST) == null &&
                 !HttpUtil.isEntityDataSourceAvailable(requestObj)) {
             throw HttpUtil.createHttpError("invalid inbound request parameter",
@@ -58,11 +58,11 @@ public class Forward extends AbstractHTTPAction {
 
         if (HttpUtil.isEntityDataSourceAvailable(requestObj)) {
             HttpUtil.enrichOutboundMessage(outboundRequestMsg, requestObj);
-            prepareOutboundRequest(serviceUri, path, outboundRequestMsg,
+            prepareOutboundRequest(template, path, outboundRequestMsg,
                                    !checkRequestBodySizeHeadersAvailability(outboundRequestMsg));
             outboundRequestMsg.setHttpMethod(requestObj.get(HttpConstants.HTTP_REQUEST_METHOD).toString());
         } else {
-            prepareOutboundRequest(serviceUri, path, outboundRequestMsg,
+            prepareOutboundRequest(template, path, outboundRequestMsg,
                                    !checkRequestBodySizeHeadersAvailability(outboundRequestMsg));
             String httpVerb = outboundRequestMsg.getHttpMethod();
             outboundRequestMsg.setHttpMethod(httpVerb.trim().toUpperCase(Locale.getDefault()));
@@ -38,10 +38,10 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_OBSERVER_CONTEXT;
 import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_CONFIG;
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static io.ballerina.stdlib.http.api.HttpConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY;
 import static io.ballerina.stdlib.http.api.HttpConstants.MAIN_STRAND;
 import static io.ballerina.stdlib.http.api.HttpConstants.ORIGIN_HOST;
@@ -56,19 +56,29 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SRC_HANDLER;
  */
 public class HttpClientAction extends AbstractHTTPAction {
 
+    private static final Pattern DOUBLE_SLASHES = Pattern.compile(HttpConstants.REGEX);
+
     public static Object executeClientAction(Environment env, BObject httpClient, BString path,
                                              BObject requestObj, BString httpMethod) {
-        String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
+        ClientRequestTemplate template = getRequestTemplate(httpClient);
         BMap<BString, Object> config = (BMap<BString, Object>) httpClient.getNativeData(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(url, config, path.getValue().
-                replaceAll(HttpConstants.REGEX, HttpConstants.SINGLE_SLASH), requestObj);
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(template, config,
+                                                                        removeDoubleSlashes(path.getValue()),
+                                                                        requestObj);
         outboundRequestMsg.setHttpMethod(httpMethod.getValue());
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
         executeNonBlockingAction(dataContext, false);
         return null;
     }
 
+    private static String removeDoubleSlashes(String path) {
+        if (!path.contains(HttpConstants.DOUBLE_SLASH)) {
+            return path;
+        }
+        return DOUBLE_SLASHES.matcher(path).replaceAll(HttpConstants.SINGLE_SLASH);
+    }
+
     public static void rejectPromise(BObject clientObj, BObject pushPromiseObj) {
         Http2PushPromise http2PushPromise = HttpUtil.getPushPromise(pushPromiseObj, null);
         if (http2PushPromise == null) {
@@ -26,7 +26,6 @@ import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_CONFIG;
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 
 /**
  * {@code Submit} action can be used to invoke a http call with any httpVerb in asynchronous manner.
@@ -35,10 +34,10 @@ public class Submit extends Execute {
     @SuppressWarnings("unchecked")
     public static Object submit(Environment env, BObject httpClient, BString httpVerb, BString path,
                                 BObject requestObj) {
-        String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
+        ClientRequestTemplate template = getRequestTemplate(httpClient);
         BMap<BString, Object> config = (BMap<BString, Object>) httpClient.getNativeData(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(url, config, path.getValue(), requestObj);
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(template, config, path.getValue(), requestObj);
         outboundRequestMsg.setHttpMethod(httpVerb.getValue());
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
         executeNonBlockingAction(dataContext, true);
@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.api.HttpConnectionManager;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.actions.ClientRequestTemplate;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
@@ -120,6 +121,7 @@ public class CreateSimpleHttpClient {
             httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_SERVICE_URI, urlString);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
+            httpClient.addNativeData(HttpConstants.CLIENT_REQUEST_TEMPLATE, ClientRequestTemplate.create(urlString));
             return null;
         } catch (Exception ex) {
             return HttpUtil.createHttpError(ex.getMessage(), HttpErrorType.GENERIC_CLIENT_ERROR);
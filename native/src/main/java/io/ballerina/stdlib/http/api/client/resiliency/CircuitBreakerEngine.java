@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the rolling window statistics and the state of a circuit breaker client without locking.
+ * <p>
+ * Requests, failures and rejections are counted in striped counters of the bucket of the current sub-window. A bucket
+ * is rotated by swapping in a new one once its sub-window has passed, so buckets of sub-windows in which no request
+ * was received never add to the statistics. The state of the circuit moves through compare-and-set transitions.
+ */
+public class CircuitBreakerEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerEngine.class);
+
+    /**
+     * The states of a circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int noOfBuckets;
+    private final long bucketSizeNanos;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final long resetTimeNanos;
+    private final LongSupplier clock;
+    private final long startTime;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    private final LongAdder openTransitions = new LongAdder();
+    private final LongAdder halfOpenTransitions = new LongAdder();
+    private final LongAdder closeTransitions = new LongAdder();
+
+    /**
+     * Creates a circuit breaker engine.
+     *
+     * @param noOfBuckets            the number of buckets the time window is divided into
+     * @param bucketSizeNanos        the length of the sub-window of a bucket in nanoseconds
+     * @param requestVolumeThreshold the number of requests in the time window needed to trip the circuit
+     * @param failureThreshold       the failure ratio above which the circuit trips
+     * @param resetTimeNanos         the time in nanoseconds to wait before a trial request is let through
+     */
+    public CircuitBreakerEngine(int noOfBuckets, long bucketSizeNanos, long requestVolumeThreshold,
+                                double failureThreshold, long resetTimeNanos) {
+        this(noOfBuckets, bucketSizeNanos, requestVolumeThreshold, failureThreshold, resetTimeNanos,
+             System::nanoTime);
+    }
+
+    CircuitBreakerEngine(int noOfBuckets, long bucketSizeNanos, long requestVolumeThreshold,
+                         double failureThreshold, long resetTimeNanos, LongSupplier clock) {
+        this.noOfBuckets = Math.max(1, noOfBuckets);
+        this.bucketSizeNanos = Math.max(1, bucketSizeNanos);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeNanos = resetTimeNanos;
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+        this.buckets = new AtomicReferenceArray<>(this.noOfBuckets);
+        clearBuckets();
+    }
+
+    /**
+     * Updates the state of the circuit for a new request and counts the request in the current bucket.
+     *
+     * @return the state of the circuit the request is handled in
+     */
+    public State onRequest() {
+        long now = clock.getAsLong();
+        long epoch = epochOf(now);
+        Bucket bucket = bucketOf(epoch);
+        while (true) {
+            State current = state.get();
+            State next = nextState(current, epoch, now);
+            if (next == current || state.compareAndSet(current, next)) {
+                if (next != current) {
+                    onTransition(next);
+                    logTransition(current, next);
+                }
+                bucket.total.increment();
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Records a successful response of the upstream service.
+     */
+    public void onSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    /**
+     * Records a failed request to the upstream service.
+     */
+    public void onFailure() {
+        long now = clock.getAsLong();
+        lastRequestSuccess = false;
+        lastErrorTime = now;
+        bucketOf(epochOf(now)).failures.increment();
+    }
+
+    /**
+     * Records a request rejected because the circuit is open.
+     */
+    public void onRejection() {
+        bucketOf(epochOf(clock.getAsLong())).rejections.increment();
+    }
+
+    /**
+     * Opens the circuit until the reset time passes.
+     */
+    public void forceOpen() {
+        lastForcedOpenTime = clock.getAsLong();
+        State previous = state.getAndSet(State.OPEN);
+        if (previous != State.OPEN) {
+            onTransition(State.OPEN);
+        }
+    }
+
+    /**
+     * Closes the circuit and clears the statistics of the time window.
+     */
+    public void forceClose() {
+        State previous = state.getAndSet(State.CLOSED);
+        clearBuckets();
+        if (previous != State.CLOSED) {
+            onTransition(State.CLOSED);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns the number of seconds, rounded half to even, until the circuit lets a trial request through.
+     *
+     * @return the remaining reset time in seconds
+     */
+    public long getResetTimeRemaining() {
+        long remaining = resetTimeNanos - (clock.getAsLong() - getEffectiveErrorTime());
+        return BigDecimal.valueOf(remaining, 9).setScale(0, RoundingMode.HALF_EVEN).longValue();
+    }
+
+    /**
+     * @return the number of times the circuit was opened
+     */
+    public long getOpenTransitions() {
+        return openTransitions.sum();
+    }
+
+    /**
+     * @return the number of times the circuit was half opened
+     */
+    public long getHalfOpenTransitions() {
+        return halfOpenTransitions.sum();
+    }
+
+    /**
+     * @return the number of times the circuit was closed
+     */
+    public long getCloseTransitions() {
+        return closeTransitions.sum();
+    }
+
+    private State nextState(State current, long epoch, long now) {
+        switch (current) {
+            case OPEN:
+                return now - getEffectiveErrorTime() > resetTimeNanos ? State.HALF_OPEN : State.OPEN;
+            case HALF_OPEN:
+                if (getTotalRequests(epoch) < requestVolumeThreshold) {
+                    return State.HALF_OPEN;
+                }
+                return lastRequestSuccess ? State.CLOSED : State.OPEN;
+            default:
+                if (getTotalRequests(epoch) < requestVolumeThreshold) {
+                    return State.CLOSED;
+                }
+                return getFailureRatio(epoch) > failureThreshold ? State.OPEN : State.CLOSED;
+        }
+    }
+
+    private void onTransition(State to) {
+        switch (to) {
+            case OPEN:
+                openTransitions.increment();
+                break;
+            case HALF_OPEN:
+                halfOpenTransitions.increment();
+                break;
+            default:
+                closeTransitions.increment();
+        }
+    }
+
+    private static void logTransition(State from, State to) {
+        if (to == State.HALF_OPEN) {
+            log.info("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+        } else if (from == State.HALF_OPEN) {
+            if (to == State.OPEN) {
+                log.info("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
+            } else {
+                log.info("CircuitBreaker trial run was successful. Circuit switched from HALF_OPEN to CLOSE state.");
+            }
+        } else {
+            log.info("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+        }
+    }
+
+    private long getEffectiveErrorTime() {
+        long errorTime = lastErrorTime;
+        long forcedOpenTime = lastForcedOpenTime;
+        return errorTime - forcedOpenTime > 0 ? errorTime : forcedOpenTime;
+    }
+
+    private long getTotalRequests(long epoch) {
+        long total = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.isWithinWindow(epoch)) {
+                total += bucket.total.sum();
+            }
+        }
+        return total;
+    }
+
+    private double getFailureRatio(long epoch) {
+        long total = 0;
+        long failures = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.isWithinWindow(epoch)) {
+                total += bucket.total.sum() - bucket.rejections.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return total > 0 ? (double) failures / total : 0.0;
+    }
+
+    private long epochOf(long time) {
+        return Math.max(0, time - startTime) / bucketSizeNanos;
+    }
+
+    private Bucket bucketOf(long epoch) {
+        int index = (int) (epoch % noOfBuckets);
+        Bucket bucket = buckets.get(index);
+        // A caller that read the clock just before a rotation counts into the newer bucket rather than a lost one
+        while (bucket.epoch < epoch) {
+            Bucket rotated = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, rotated)) {
+                return rotated;
+            }
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private void clearBuckets() {
+        for (int i = 0; i < noOfBuckets; i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE));
+        }
+    }
+
+    /**
+     * The counters of a sub-window of the time window.
+     */
+    private final class Bucket {
+
+        private final long epoch;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private boolean isWithinWindow(long currentEpoch) {
+            return epoch <= currentEpoch && epoch > currentEpoch - noOfBuckets;
+        }
+    }
+}
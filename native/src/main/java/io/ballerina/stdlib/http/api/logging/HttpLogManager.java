@@ -23,10 +23,20 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpAccessLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpTraceLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.JsonLogFormatter;
+import io.ballerina.stdlib.http.transport.contract.config.TraceLogConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogOverflowPolicy;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogSink;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogWriter;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.FileAccessLogSink;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.LoggerAccessLogSink;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -35,13 +45,19 @@ import java.util.logging.Logger;
 import java.util.logging.SocketHandler;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_ENABLED;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_OVERFLOW_POLICY;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_CONSOLE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FILE_PATH;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_ENABLED;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_HEADERS_ONLY;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_HOST;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_MAX_PAYLOAD_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_PORT;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_SAMPLE_RATE;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_SAMPLING_HEADER;
 
 /**
  * Java util logging manager for ballerina which overrides the readConfiguration method to replace placeholders
@@ -61,8 +77,11 @@ public class HttpLogManager extends LogManager {
         }
     }
 
+    private static final int MAX_ACCESS_LOG_BUFFER_SIZE = 1 << 20;
+
     protected Logger httpTraceLogger;
     protected Logger httpAccessLogger;
+    protected AccessLogWriter accessLogWriter;
     private String protocol;
 
     public HttpLogManager(boolean traceLogConsole, BMap traceLogAdvancedConfig, BMap accessLogConfig,
@@ -120,6 +139,7 @@ public class HttpLogManager extends LogManager {
         }
 
         if (traceLogsEnabled) {
+            HttpTraceLoggingHandler.setTraceLogConfig(getTraceLogConfig(traceLogAdvancedConfig));
             httpTraceLogger.setLevel(Level.FINEST);
             System.setProperty(HTTP_TRACE_LOG_ENABLED, "true");
             stdErr.println("ballerina: " + protocol + " trace log enabled");
@@ -127,7 +147,8 @@ public class HttpLogManager extends LogManager {
     }
 
     /**
-     * Initializes the HTTP access logger.
+     * Initializes the HTTP access logger. Access logs are written by a background {@link AccessLogWriter}, so the
+     * console handler is invoked and the log file is written off the event loops.
      */
     public void setHttpAccessLogHandler(BMap accessLogConfig) {
         if (httpAccessLogger == null) {
@@ -136,6 +157,7 @@ public class HttpLogManager extends LogManager {
         }
         PrintStream stdErr = System.err;
         boolean accessLogsEnabled = false;
+        List<AccessLogSink> sinks = new ArrayList<>();
 
         Boolean consoleLogEnabled = accessLogConfig.getBooleanValue(HTTP_LOG_CONSOLE);
         if (consoleLogEnabled) {
@@ -144,16 +166,14 @@ public class HttpLogManager extends LogManager {
             consoleHandler.setLevel(Level.INFO);
             httpAccessLogger.addHandler(consoleHandler);
             httpAccessLogger.setLevel(Level.INFO);
+            sinks.add(new LoggerAccessLogSink(HTTP_ACCESS_LOG));
             accessLogsEnabled = true;
         }
 
         BString filePath = accessLogConfig.getStringValue(HTTP_LOG_FILE_PATH);
         if (filePath != null && !filePath.getValue().trim().isEmpty()) {
             try {
-                FileHandler fileHandler = new FileHandler(filePath.getValue(), true);
-                fileHandler.setFormatter(new HttpAccessLogFormatter());
-                fileHandler.setLevel(Level.INFO);
-                httpAccessLogger.addHandler(fileHandler);
+                sinks.add(new FileAccessLogSink(Paths.get(filePath.getValue())));
                 httpAccessLogger.setLevel(Level.INFO);
                 accessLogsEnabled = true;
             } catch (IOException e) {
@@ -162,9 +182,50 @@ public class HttpLogManager extends LogManager {
         }
 
         if (accessLogsEnabled) {
+            accessLogWriter = new AccessLogWriter(sinks, getAccessLogBufferSize(accessLogConfig),
+                                                  getAccessLogOverflowPolicy(accessLogConfig));
+            AccessLogWriter.setDefault(accessLogWriter);
             System.setProperty(HTTP_ACCESS_LOG_ENABLED, "true");
             stdErr.println("ballerina: " + protocol + " access log enabled");
         }
     }
 
+    private static TraceLogConfig getTraceLogConfig(BMap traceLogAdvancedConfig) {
+        TraceLogConfig traceLogConfig = new TraceLogConfig();
+        Double sampleRate = traceLogAdvancedConfig.getFloatValue(HTTP_TRACE_LOG_SAMPLE_RATE);
+        if (sampleRate != null) {
+            if (sampleRate < 0 || sampleRate > 1) {
+                throw new RuntimeException("invalid HTTP trace log sample rate: " + sampleRate +
+                                                   ", expected a value between 0 and 1");
+            }
+            traceLogConfig.setSampleRate(sampleRate);
+        }
+        BString samplingHeader = traceLogAdvancedConfig.getStringValue(HTTP_TRACE_LOG_SAMPLING_HEADER);
+        if (samplingHeader != null && !samplingHeader.getValue().trim().isEmpty()) {
+            traceLogConfig.setSamplingHeader(samplingHeader.getValue().trim());
+        }
+        Long maxPayloadSize = traceLogAdvancedConfig.getIntValue(HTTP_TRACE_LOG_MAX_PAYLOAD_SIZE);
+        if (maxPayloadSize != null) {
+            traceLogConfig.setMaxPayloadSize((int) Math.max(-1, Math.min(maxPayloadSize, Integer.MAX_VALUE)));
+        }
+        Boolean headersOnly = traceLogAdvancedConfig.getBooleanValue(HTTP_TRACE_LOG_HEADERS_ONLY);
+        traceLogConfig.setHeadersOnly(headersOnly != null && headersOnly);
+        return traceLogConfig;
+    }
+
+    private static int getAccessLogBufferSize(BMap accessLogConfig) {
+        Long bufferSize = accessLogConfig.getIntValue(HTTP_ACCESS_LOG_BUFFER_SIZE);
+        if (bufferSize == null || bufferSize <= 0) {
+            return AccessLogWriter.DEFAULT_BUFFER_SIZE;
+        }
+        return (int) Math.min(bufferSize, MAX_ACCESS_LOG_BUFFER_SIZE);
+    }
+
+    private static AccessLogOverflowPolicy getAccessLogOverflowPolicy(BMap accessLogConfig) {
+        BString overflowPolicy = accessLogConfig.getStringValue(HTTP_ACCESS_LOG_OVERFLOW_POLICY);
+        if (overflowPolicy == null) {
+            return AccessLogOverflowPolicy.DROP;
+        }
+        return AccessLogOverflowPolicy.valueOf(overflowPolicy.getValue());
+    }
 }
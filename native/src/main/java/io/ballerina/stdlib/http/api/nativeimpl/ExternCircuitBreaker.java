@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.client.resiliency.CircuitBreakerEngine;
+
+import java.math.BigDecimal;
+
+/**
+ * Utilities related to the state of the circuit breaker client.
+ */
+public class ExternCircuitBreaker {
+
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    public static CircuitBreakerEngine createEngine(long noOfBuckets, BDecimal bucketSize,
+                                                    long requestVolumeThreshold, double failureThreshold,
+                                                    BDecimal resetTime) {
+        return new CircuitBreakerEngine((int) noOfBuckets, toNanos(bucketSize), requestVolumeThreshold,
+                                        failureThreshold, toNanos(resetTime));
+    }
+
+    public static BString updateState(CircuitBreakerEngine engine) {
+        return StringUtils.fromString(engine.onRequest().name());
+    }
+
+    public static BString getState(CircuitBreakerEngine engine) {
+        return StringUtils.fromString(engine.getState().name());
+    }
+
+    public static void recordSuccess(CircuitBreakerEngine engine) {
+        engine.onSuccess();
+    }
+
+    public static void recordFailure(CircuitBreakerEngine engine) {
+        engine.onFailure();
+    }
+
+    public static void recordRejection(CircuitBreakerEngine engine) {
+        engine.onRejection();
+    }
+
+    public static long getResetTimeRemaining(CircuitBreakerEngine engine) {
+        return engine.getResetTimeRemaining();
+    }
+
+    public static void forceOpen(CircuitBreakerEngine engine) {
+        engine.forceOpen();
+    }
+
+    public static void forceClose(CircuitBreakerEngine engine) {
+        engine.forceClose();
+    }
+
+    public static long getOpenTransitions(CircuitBreakerEngine engine) {
+        return engine.getOpenTransitions();
+    }
+
+    public static long getHalfOpenTransitions(CircuitBreakerEngine engine) {
+        return engine.getHalfOpenTransitions();
+    }
+
+    public static long getCloseTransitions(CircuitBreakerEngine engine) {
+        return engine.getCloseTransitions();
+    }
+
+    private static long toNanos(BDecimal seconds) {
+        return seconds.decimalValue().multiply(NANOS_PER_SECOND).longValue();
+    }
+
+    private ExternCircuitBreaker() {}
+}
@@ -20,6 +20,8 @@ package io.ballerina.stdlib.http.api.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.http.api.HttpUtil;
@@ -32,6 +34,8 @@ import io.ballerina.stdlib.mime.util.EntityBodyChannel;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 import io.ballerina.stdlib.mime.util.EntityWrapper;
 import io.ballerina.stdlib.mime.util.MimeUtil;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -190,7 +194,8 @@ public class ExternHttpDataSourceBuilder extends MimeDataSourceBuilder {
                             dataSource = constructXmlDataSource(entity, inputStream);
                             break;
                         case BLOB:
-                            dataSource = constructBlobDataSource(inputStream);
+                            dataSource = dataStreamer.isContentDecoded() ? constructBlobDataSource(inputStream) :
+                                    constructRawBlobDataSource(dataStreamer);
                             break;
                     }
                     updateDataSourceAndNotify(balFuture, entity, dataSource);
@@ -214,6 +219,16 @@ public class ExternHttpDataSourceBuilder extends MimeDataSourceBuilder {
         });
     }
 
+    private static BArray constructRawBlobDataSource(HttpMessageDataStreamer dataStreamer) {
+        // The full message has arrived, so the received buffers are combined and copied once into the byte array
+        CompositeByteBuf content = dataStreamer.getCompositeContent();
+        try {
+            return ValueCreator.createArrayValue(ByteBufUtil.getBytes(content));
+        } finally {
+            content.release();
+        }
+    }
+
     private static Object notifyError(Future balFuture, Exception exception, String type) {
         BError error = (BError) createError(exception, type);
         if (balFuture != null) {
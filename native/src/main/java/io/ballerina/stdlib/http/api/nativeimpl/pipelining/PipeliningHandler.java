@@ -23,14 +23,13 @@ import io.ballerina.stdlib.http.api.nativeimpl.connection.ResponseWriter;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipelinedResponseBuffer;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpPipeliningFuture;
 import io.netty.channel.ChannelHandlerContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Queue;
-
 import static io.ballerina.stdlib.http.api.HttpUtil.sendOutboundResponse;
 
 /**
@@ -69,7 +68,8 @@ public class PipeliningHandler {
     }
 
     /**
-     * Executes pipelining logic.
+     * Executes pipelining logic. The given response is handed over to the response buffer of the channel without
+     * locking, and the response that is next in line is written if it is available.
      *
      * @param sourceContext     Represents channel handler context
      * @param pipelinedResponse Represents pipelined response
@@ -77,42 +77,37 @@ public class PipeliningHandler {
      */
     public static HttpResponseFuture executePipeliningLogic(ChannelHandlerContext sourceContext,
                                                             PipelinedResponse pipelinedResponse) {
-        HttpResponseFuture responseFuture = null;
+        @SuppressWarnings("unchecked")
+        PipelinedResponseBuffer<PipelinedResponse> responseBuffer = (PipelinedResponseBuffer<PipelinedResponse>)
+                sourceContext.channel().attr(Constants.PIPELINED_RESPONSE_BUFFER).get();
+        if (pipelinedResponse != null && !responseBuffer.offer(pipelinedResponse.getSequenceId(),
+                                                               pipelinedResponse)) {
+            // Queuing up indefinitely might cause out of memory issues, hence close the connection.
+            sourceContext.channel().close();
+            log.warn("Threshold {} for pipelined response queue reached hence closing the connection.",
+                     responseBuffer.getMaxQueuedResponses());
+            return null;
+        }
 
-        synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-            Queue<PipelinedResponse> responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-            if (thresholdReached(sourceContext, responseQueue)) {
-                return null;
-            }
-            if (pipelinedResponse != null) {
-                responseQueue.add(pipelinedResponse);
-            }
-            while (!responseQueue.isEmpty()) {
-                long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                final PipelinedResponse queuedPipelinedResponse = responseQueue.peek();
-                long currentSequenceNumber = queuedPipelinedResponse.getSequenceId();
-                if (currentSequenceNumber != nextSequenceNumber) {
-                    break;
-                }
-                responseQueue.remove();
-                //IMPORTANT: Do not increment the nextSequenceNumber after 'sendOutboundResponseRobust()' or
-                //'sendOutboundResponse()' under any circumstance.  nextSequenceNumber should be updated only
-                //when the last http content of this message has been written to the socket because in case if
-                //one response has delayed http contents, there's a good chance that the contents of another
-                //response will be sent out before its turn.
-                if (queuedPipelinedResponse.getDataContext() != null &&
-                        queuedPipelinedResponse.getOutboundResponseObj() != null) {
-                    ResponseWriter.sendResponseRobust(queuedPipelinedResponse.getDataContext(),
-                                                      queuedPipelinedResponse.getInboundRequestMsg(),
-                                                      queuedPipelinedResponse.getOutboundResponseObj(),
-                                                      queuedPipelinedResponse.getOutboundResponseMsg());
-                } else {
-                    responseFuture = sendOutboundResponse(queuedPipelinedResponse.getInboundRequestMsg(),
-                            queuedPipelinedResponse.getOutboundResponseMsg());
-                }
+        HttpResponseFuture responseFuture = null;
+        PipelinedResponse queuedPipelinedResponse;
+        while ((queuedPipelinedResponse = responseBuffer.pollNext()) != null) {
+            //IMPORTANT: Do not advance the next sequence number after 'sendOutboundResponseRobust()' or
+            //'sendOutboundResponse()' under any circumstance. It should be advanced only when the last http content
+            //of this message has been written to the socket because in case if one response has delayed http
+            //contents, there's a good chance that the contents of another response will be sent out before its turn.
+            if (queuedPipelinedResponse.getDataContext() != null &&
+                    queuedPipelinedResponse.getOutboundResponseObj() != null) {
+                ResponseWriter.sendResponseRobust(queuedPipelinedResponse.getDataContext(),
+                                                  queuedPipelinedResponse.getInboundRequestMsg(),
+                                                  queuedPipelinedResponse.getOutboundResponseObj(),
+                                                  queuedPipelinedResponse.getOutboundResponseMsg());
+            } else {
+                responseFuture = sendOutboundResponse(queuedPipelinedResponse.getInboundRequestMsg(),
+                        queuedPipelinedResponse.getOutboundResponseMsg());
             }
-            return responseFuture;
         }
+        return responseFuture;
     }
 
     /**
@@ -127,31 +122,6 @@ public class PipeliningHandler {
                 Constants.HTTP_1_1_VERSION.equalsIgnoreCase(httpVersion);
     }
 
-    /**
-     * When the maximum queued response count reached, close the connection because queuing up indefinitely might cause
-     * out of memory issues.
-     *
-     * @param sourceContext Represents channel handler context
-     * @param responseQueue Represents pipelined response queue
-     * @return a boolean indicating whether the maximum queued response count is reached
-     */
-    private static boolean thresholdReached(ChannelHandlerContext sourceContext,
-                                            Queue<PipelinedResponse> responseQueue) {
-        long maxQueuedResponses = sourceContext.channel()
-                .attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).get();
-        if (Constants.UNBOUNDED_RESPONSE_QUEUE == maxQueuedResponses) {
-            return false;
-        }
-
-        if (responseQueue.size() > maxQueuedResponses) {
-            sourceContext.channel().close();
-            log.warn("Threshold {} for pipelined response queue reached hence closing the connection.",
-                    maxQueuedResponses);
-            return true;
-        }
-        return false;
-    }
-
     /**
      * Set pipelining listener to outbound response.
      *
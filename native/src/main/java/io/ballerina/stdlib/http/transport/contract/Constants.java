@@ -15,13 +15,14 @@
 
 package io.ballerina.stdlib.http.transport.contract;
 
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpClientConnector;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipelinedResponseBuffer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.EventExecutorGroup;
 
-import java.util.Queue;
 
 /**
  * Common Constants used by gate way.
@@ -119,6 +120,8 @@ public final class Constants {
 
     public static final String ENCODING_GZIP = "gzip";
     public static final String ENCODING_DEFLATE = "deflate";
+    public static final String ENCODING_BROTLI = "br";
+    public static final String ENCODING_ZSTD = "zstd";
     public static final String HTTP_TRANSFER_ENCODING_IDENTITY = "identity";
 
     // TODO: Move string constants for HTTP headers and header values to their own class
@@ -247,6 +250,7 @@ public final class Constants {
     public static final String TARGET_HANDLER = "targetHandler";
     public static final String HTTP2_TIMEOUT_HANDLER = "Http2TimeoutHandler";
     public static final String BACK_PRESSURE_HANDLER = "BackPressureHandler";
+    public static final String FLUSH_CONSOLIDATION_HANDLER = "flushConsolidationHandler";
     public static final String HTTP2_UPGRADE_HANDLER = "Http2UpgradeHandler";
     public static final String HTTP2_TO_HTTP_FALLBACK_HANDLER = "Http2ToHttpFallbackHandler";
     public static final String DECOMPRESSOR_HANDLER = "deCompressor";
@@ -276,20 +280,20 @@ public final class Constants {
     public static final int REDIRECT_SEE_OTHER_303 = 303;
 
     //HTTP 1.1 pipelining related properties
-    public static final AttributeKey<Long> MAX_RESPONSES_ALLOWED_TO_BE_QUEUED = AttributeKey
-            .valueOf("MAX_RESPONSES_ALLOWED_TO_BE_QUEUED");
-    public static final AttributeKey<Queue> RESPONSE_QUEUE = AttributeKey.valueOf("RESPONSE_QUEUE");
-    public static final AttributeKey<Long> NEXT_SEQUENCE_NUMBER = AttributeKey.valueOf("NEXT_SEQUENCE_NUMBER");
+    public static final AttributeKey<PipelinedResponseBuffer<?>> PIPELINED_RESPONSE_BUFFER = AttributeKey
+            .valueOf("PIPELINED_RESPONSE_BUFFER");
     public static final AttributeKey<EventExecutorGroup> PIPELINING_EXECUTOR = AttributeKey
             .valueOf("PIPELINING_EXECUTOR");
 
+    public static final AttributeKey<CompressionLevel> RESPONSE_COMPRESSION_LEVEL = AttributeKey
+            .valueOf("RESPONSE_COMPRESSION_LEVEL");
+
     public static final AttributeKey<String> MUTUAL_SSL_RESULT_ATTRIBUTE = AttributeKey
             .valueOf(MUTUAL_SSL_HANDSHAKE_RESULT);
     public static final AttributeKey<String> BASE_64_ENCODED_CERT_ATTRIBUTE = AttributeKey
             .valueOf(END_USER_CERT);
 
     public static final long EXPECTED_SEQUENCE_NUMBER = 1L;
-    public static final int NUMBER_OF_INITIAL_EVENTS_HELD = 3;
     public static final int MEANINGFULLY_EQUAL = 0;
     public static final int UNBOUNDED_RESPONSE_QUEUE = -1;
     public static final String PIPELINING_THREAD_POOL_NAME = "pipelining-thread-pool";
@@ -305,6 +309,7 @@ public final class Constants {
     public static final String ENDPOINT_TIMEOUT_MSG = "Endpoint timed out";
     public static final String CHUNKED = "chunked";
     public static final String CHUNKING_CONFIG = "chunking_config";
+    public static final String COMPRESSION_LEVEL = "compression_level";
 
     // Trace Logger related parameters
     public static final String TRACE_LOG_UPSTREAM = "http.tracelog.upstream";
@@ -312,8 +317,6 @@ public final class Constants {
 
     // Access Logger related parameters
     public static final String ACCESS_LOG = "http.accesslog";
-    public static final String ACCESS_LOG_FORMAT =
-            "%1$s - - [%2$td/%2$tb/%2$tY:%2$tT %2$tz] \"%3$s %4$s %5$s\" %6$d %7$d \"%8$s\" \"%9$s\"";
 
     public static final String LISTENER_PORT = "LISTENER_PORT";
 
@@ -416,8 +419,6 @@ public final class Constants {
 
     public static final String SSL_CONNECTION_ERROR = "SSL connection failed";
 
-    public static final int HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE = 64;
-
     public static final String INBOUND_REQUEST = "INBOUND_REQUEST";
     public static final String INBOUND_RESPONSE = "INBOUND_RESPONSE";
     public static final int ZERO_READABLE_BYTES = 0;
@@ -19,6 +19,13 @@
 
 package io.ballerina.stdlib.http.transport.contract;
 
+import io.ballerina.stdlib.http.transport.contractimpl.listener.AcceptorMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.FlushConsolidationMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.OCSPStapleCache;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipeliningMetrics;
+
+import java.util.List;
+
 /**
  * Inlet of inbound messages.
  */
@@ -40,4 +47,28 @@ public interface ServerConnector {
      * @return the id.
      */
     String getConnectorID();
+
+    /**
+     * Returns the accept metrics of each server socket bound by the server-connector.
+     * @return the metrics of the acceptors, empty until the connector is started.
+     */
+    List<AcceptorMetrics> getAcceptorMetrics();
+
+    /**
+     * Returns the metrics of the pipelined responses of the connections accepted by the server-connector.
+     * @return the pipelining metrics.
+     */
+    PipeliningMetrics getPipeliningMetrics();
+
+    /**
+     * Returns the cache of the OCSP responses stapled by the server-connector, which holds the stapling metrics.
+     * @return the staple cache, or null if OCSP stapling is not enabled.
+     */
+    OCSPStapleCache getOcspStapleCache();
+
+    /**
+     * Returns the flush consolidation metrics of the connections accepted by the server-connector.
+     * @return the metrics, or null if the flushes of the connector are not consolidated.
+     */
+    FlushConsolidationMetrics getFlushConsolidationMetrics();
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration for compressing the responses written by a listener.
+ */
+public class CompressionConfig {
+
+    private List<String> encodings = Arrays.asList(Constants.ENCODING_GZIP, Constants.ENCODING_DEFLATE);
+    private CompressionLevel level = CompressionLevel.DEFAULT;
+    private long minResponseSize = 0;
+    private List<String> contentTypes = Collections.emptyList();
+    private int precompressedCacheSize = 0;
+    private int maxPrecompressedBodySize = 256 * 1024;
+
+    /**
+     * The content codings that may be applied, in order of preference.
+     */
+    public List<String> getEncodings() {
+        return encodings;
+    }
+
+    public void setEncodings(List<String> encodings) {
+        this.encodings = encodings;
+    }
+
+    /**
+     * The compression level applied to responses of resources that do not set their own.
+     */
+    public CompressionLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(CompressionLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Responses with a smaller content-length are not compressed.
+     */
+    public long getMinResponseSize() {
+        return minResponseSize;
+    }
+
+    public void setMinResponseSize(long minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+
+    /**
+     * The content types that are compressed, or an empty list to compress every content type.
+     */
+    public List<String> getContentTypes() {
+        return contentTypes;
+    }
+
+    public void setContentTypes(List<String> contentTypes) {
+        this.contentTypes = contentTypes;
+    }
+
+    /**
+     * The number of compressed bodies kept for reuse by responses with the same strong ETag, or 0 to disable caching.
+     */
+    public int getPrecompressedCacheSize() {
+        return precompressedCacheSize;
+    }
+
+    public void setPrecompressedCacheSize(int precompressedCacheSize) {
+        this.precompressedCacheSize = precompressedCacheSize;
+    }
+
+    /**
+     * The largest response body, in bytes, of which the compressed form is cached.
+     */
+    public int getMaxPrecompressedBodySize() {
+        return maxPrecompressedBodySize;
+    }
+
+    public void setMaxPrecompressedBodySize(int maxPrecompressedBodySize) {
+        this.maxPrecompressedBodySize = maxPrecompressedBodySize;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Contains values for selecting how hard responses are compressed, mapped to the level of each content coding.
+ */
+public enum CompressionLevel {
+    FASTEST(1, 1, 1),
+    DEFAULT(6, 4, 3),
+    BEST(9, 11, 19);
+
+    private final int zlibLevel;
+    private final int brotliQuality;
+    private final int zstdLevel;
+
+    CompressionLevel(int zlibLevel, int brotliQuality, int zstdLevel) {
+        this.zlibLevel = zlibLevel;
+        this.brotliQuality = brotliQuality;
+        this.zstdLevel = zstdLevel;
+    }
+
+    /**
+     * The level used by the gzip and deflate codings.
+     */
+    public int getZlibLevel() {
+        return zlibLevel;
+    }
+
+    public int getBrotliQuality() {
+        return brotliQuality;
+    }
+
+    public int getZstdLevel() {
+        return zstdLevel;
+    }
+}
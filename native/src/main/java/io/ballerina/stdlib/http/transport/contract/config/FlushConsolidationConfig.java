@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Configuration for coalescing the socket flushes of the responses written by a listener within an event loop
+ * iteration.
+ */
+public class FlushConsolidationConfig {
+
+    private int maxPendingFlushes = 256;
+    private long maxPendingBytes = 64 * 1024L;
+
+    /**
+     * The maximum number of flushes coalesced into a single socket flush.
+     */
+    public int getMaxPendingFlushes() {
+        return maxPendingFlushes;
+    }
+
+    public void setMaxPendingFlushes(int maxPendingFlushes) {
+        this.maxPendingFlushes = maxPendingFlushes;
+    }
+
+    /**
+     * The number of written bytes beyond which pending flushes are passed on to the socket right away.
+     */
+    public long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    public void setMaxPendingBytes(long maxPendingBytes) {
+        this.maxPendingBytes = maxPendingBytes;
+    }
+}
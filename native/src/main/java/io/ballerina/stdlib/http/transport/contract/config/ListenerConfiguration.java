@@ -55,6 +55,10 @@ public class ListenerConfiguration extends SslConfiguration {
     private boolean pipeliningEnabled;
     private boolean webSocketCompressionEnabled;
     private long pipeliningLimit;
+    private TransportType transportType = TransportType.NIO;
+    private int acceptorCount = 1;
+    private FlushConsolidationConfig flushConsolidationConfig;
+    private CompressionConfig compressionConfig = new CompressionConfig();
 
     public ListenerConfiguration() {
     }
@@ -201,4 +205,46 @@ public class ListenerConfiguration extends SslConfiguration {
     public void setWebSocketCompressionEnabled(boolean webSocketCompressionEnabled) {
         this.webSocketCompressionEnabled = webSocketCompressionEnabled;
     }
+
+    public TransportType getTransportType() {
+        return transportType;
+    }
+
+    public void setTransportType(TransportType transportType) {
+        this.transportType = transportType;
+    }
+
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
+
+    public void setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+    }
+
+    /**
+     * Gets the flush consolidation configuration of the listener.
+     *
+     * @return the flush consolidation configuration, or null if flushes are not consolidated
+     */
+    public FlushConsolidationConfig getFlushConsolidationConfig() {
+        return flushConsolidationConfig;
+    }
+
+    public void setFlushConsolidationConfig(FlushConsolidationConfig flushConsolidationConfig) {
+        this.flushConsolidationConfig = flushConsolidationConfig;
+    }
+
+    /**
+     * Gets the configuration of the response compression of the listener.
+     *
+     * @return the compression configuration
+     */
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
 }
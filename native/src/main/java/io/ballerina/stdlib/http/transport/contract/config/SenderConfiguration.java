@@ -49,6 +49,7 @@ public class SenderConfiguration extends SslConfiguration {
     private PoolConfiguration poolConfiguration;
     private InboundMsgSizeValidationConfig responseSizeValidationConfig = new InboundMsgSizeValidationConfig();
     private ForwardedExtensionConfig forwardedExtensionConfig = ForwardedExtensionConfig.DISABLE;
+    private TransportType transportType = TransportType.NIO;
 
     public SenderConfiguration() {
         this.poolConfiguration = new PoolConfiguration();
@@ -151,4 +152,12 @@ public class SenderConfiguration extends SslConfiguration {
     public void setMsgSizeValidationConfig(InboundMsgSizeValidationConfig responseSizeValidationConfig) {
         this.responseSizeValidationConfig = responseSizeValidationConfig;
     }
+
+    public TransportType getTransportType() {
+        return transportType;
+    }
+
+    public void setTransportType(TransportType transportType) {
+        this.transportType = transportType;
+    }
 }
@@ -117,6 +117,10 @@ public class SslConfiguration {
         sslConfig.setCacheSize(cacheSize);
     }
 
+    public void setRevocationStaleIfErrorMillis(long revocationStaleIfErrorMillis) {
+        sslConfig.setRevocationStaleIfErrorMillis(revocationStaleIfErrorMillis);
+    }
+
     public void setOcspStaplingEnabled(boolean ocspStaplingEnabled) {
         sslConfig.setOcspStaplingEnabled(ocspStaplingEnabled);
     }
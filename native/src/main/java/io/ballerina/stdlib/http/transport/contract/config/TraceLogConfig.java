@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Configuration for limiting the HTTP trace logs to a sample of the requests and to a part of their payloads.
+ */
+public class TraceLogConfig {
+
+    private double sampleRate = 1.0;
+    private String samplingHeader;
+    private int maxPayloadSize = -1;
+    private boolean headersOnly;
+    private int bufferSize = 4096;
+
+    /**
+     * The fraction of requests, between 0 and 1, of which the messages are logged.
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * The request header which has the messages of a request logged regardless of the sample rate, or null.
+     */
+    public String getSamplingHeader() {
+        return samplingHeader;
+    }
+
+    public void setSamplingHeader(String samplingHeader) {
+        this.samplingHeader = samplingHeader;
+    }
+
+    /**
+     * The number of payload bytes logged for each message, or -1 to log complete payloads.
+     */
+    public int getMaxPayloadSize() {
+        return maxPayloadSize;
+    }
+
+    public void setMaxPayloadSize(int maxPayloadSize) {
+        this.maxPayloadSize = maxPayloadSize;
+    }
+
+    /**
+     * Whether only the headers and the payload sizes of the messages are logged.
+     */
+    public boolean isHeadersOnly() {
+        return headersOnly;
+    }
+
+    public void setHeadersOnly(boolean headersOnly) {
+        this.headersOnly = headersOnly;
+    }
+
+    /**
+     * Whether the trace logs are limited to a sample of the requests or to a part of their payloads. Only then are
+     * the entries formatted off the event loop, where they are dropped once the buffer is full. Otherwise every
+     * entry is logged as it happens.
+     */
+    public boolean isLimited() {
+        return sampleRate < 1 || maxPayloadSize >= 0 || headersOnly;
+    }
+
+    /**
+     * The number of log entries waiting to be formatted, beyond which new entries are dropped. Only applies when the
+     * trace logs are {@link #isLimited() limited}.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
@@ -21,6 +21,7 @@ package io.ballerina.stdlib.http.transport.contract.websocket;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 
@@ -39,6 +40,7 @@ public class WebSocketClientConnectorConfig extends SslConfiguration {
     private final HttpHeaders headers;
     private int maxFrameSize = 65536;
     private boolean webSocketCompressionEnabled;
+    private TransportType transportType = TransportType.NIO;
 
     public WebSocketClientConnectorConfig(String remoteAddress) {
         this.remoteAddress = remoteAddress;
@@ -161,4 +163,12 @@ public class WebSocketClientConnectorConfig extends SslConfiguration {
     public void setWebSocketCompressionEnabled(boolean webSocketCompressionEnabled) {
         this.webSocketCompressionEnabled = webSocketCompressionEnabled;
     }
+
+    public TransportType getTransportType() {
+        return transportType;
+    }
+
+    public void setTransportType(TransportType transportType) {
+        this.transportType = transportType;
+    }
 }
@@ -27,6 +27,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConf
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRespStateManager;
@@ -36,6 +37,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabi
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.TargetChannelPool;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
@@ -49,6 +51,7 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.ResponseHandle;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http2.Http2CodecUtil;
@@ -58,6 +61,10 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST;
 
@@ -80,11 +87,14 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
     private EventLoopGroup clientEventGroup;
     private BootstrapConfiguration bootstrapConfig;
     private int configHashCode;
+    private volatile HttpRoute lastRoute;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public DefaultHttpClientConnector(ConnectionManager connectionManager, SenderConfiguration senderConfiguration,
                                       BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
                                       int configHashCode) {
         this.connectionManager = connectionManager;
+        connectionManager.retain();
         this.http2ConnectionManager = connectionManager.getHttp2ConnectionManager();
         this.senderConfiguration = senderConfiguration;
         initTargetChannelProperties(senderConfiguration);
@@ -138,6 +148,13 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
 
     @Override
     public boolean close() {
+        // The pools are closed by the connection manager once none of the clients sharing it is left
+        if (!closed.getAndSet(true)) {
+            connectionManager.release();
+        }
+        if (sslConfig != null) {
+            sslConfig.getClientSslContextCache().release();
+        }
         return false;
     }
 
@@ -197,121 +214,185 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
             }
 
             // Look for the connection from http connection manager
-            TargetChannel targetChannel = connectionManager.borrowTargetChannel(route, srcHandler, http2SourceHandler,
-                                                                                senderConfiguration,
-                                                                                bootstrapConfig, clientEventGroup);
-            Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
-            outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
+            CompletableFuture<TargetChannel> targetChannelFuture = connectionManager.acquireTargetChannel(
+                    route, srcHandler, http2SourceHandler, senderConfiguration, bootstrapConfig, clientEventGroup);
+            if (!targetChannelFuture.isDone()) {
+                // The pool of the route is exhausted. The request is sent once a channel is handed over to this
+                // acquisition, without holding the calling thread until then.
+                HttpResponseFuture pendingResponseFuture = outboundMsgHolder.getResponseFuture();
+                targetChannelFuture.whenComplete((targetChannel, throwable) -> {
+                    if (throwable != null) {
+                        pendingResponseFuture.notifyHttpListener(getConnectionAcquisitionError(throwable));
+                        return;
+                    }
+                    // The channel is handed over by the thread which released it, possibly while that thread is
+                    // still processing the channel's last response. Hence continue once that has completed.
+                    targetChannel.getChannelFuture().channel().eventLoop().execute(() -> {
+                        try {
+                            sendThroughTargetChannel(targetChannel, route, outboundMsgHolder, httpOutboundRequest,
+                                                     http1xSrcHandlder, http2SrcHandler);
+                        } catch (Exception failedCause) {
+                            pendingResponseFuture.notifyHttpListener(failedCause);
+                        }
+                    });
+                });
+                return pendingResponseFuture;
+            }
+            sendThroughTargetChannel(targetChannelFuture.join(), route, outboundMsgHolder, httpOutboundRequest,
+                                     http1xSrcHandlder, http2SrcHandler);
             httpResponseFuture = outboundMsgHolder.getResponseFuture();
+        } catch (CompletionException failedCause) {
+            return notifyListenerAndGetErrorResponseFuture(getConnectionAcquisitionError(failedCause));
+        } catch (Exception failedCause) {
+            return notifyListenerAndGetErrorResponseFuture(failedCause);
+        }
+        return httpResponseFuture;
+    }
 
-            targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
-                @Override
-                public void onSuccess(String protocol, ChannelFuture channelFuture) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Created the connection to address: {}",
-                                  route.toString() + " " + "Original Channel ID is : " + channelFuture.channel().id());
-                    }
+    private void sendThroughTargetChannel(TargetChannel targetChannel, HttpRoute route,
+                                          OutboundMsgHolder outboundMsgHolder,
+                                          HttpCarbonMessage httpOutboundRequest,
+                                          SourceHandler http1xSrcHandlder, Http2SourceHandler http2SrcHandler) {
+        Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
+        outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
+        final HttpResponseFuture httpResponseFuture = outboundMsgHolder.getResponseFuture();
+
+        targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
+            @Override
+            public void onSuccess(String protocol, ChannelFuture channelFuture) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Created the connection to address: {}",
+                              route.toString() + " " + "Original Channel ID is : " + channelFuture.channel().id());
+                }
 
-                    if (Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandlder != null) {
-                        channelFuture.channel().deregister().addListener(future ->
-                                                                             http1xSrcHandlder.getEventLoop()
-                                                                                 .register(channelFuture.channel())
-                                                                                 .addListener(
-                                                                                     future1 ->
-                                                                                         startExecutingOutboundRequest(
-                                                                                         protocol, channelFuture)));
-                    } else if (Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null) {
-                        channelFuture.channel().deregister().addListener(future ->
-                                                                             http2SrcHandler.getChannelHandlerContext()
-                                                                                 .channel().eventLoop()
-                                                                                 .register(channelFuture.channel())
-                                                                                 .addListener(future1 ->
-                                                                                         startExecutingOutboundRequest(
-                                                                                         protocol, channelFuture)));
-                    } else {
-                        startExecutingOutboundRequest(protocol, channelFuture);
-                    }
+                if (Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandlder != null) {
+                    startExecutingOnEventLoop(http1xSrcHandlder.getEventLoop(), protocol, channelFuture);
+                } else if (Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null) {
+                    startExecutingOnEventLoop(http2SrcHandler.getChannelHandlerContext().channel().eventLoop(),
+                                              protocol, channelFuture);
+                } else {
+                    startExecutingOutboundRequest(protocol, channelFuture);
                 }
+            }
 
-                private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
-                    if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
-                            || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
-                        prepareTargetChannelForHttp2();
-                    } else {
-                        // Response for the upgrade request will arrive in stream 1,
-                        // so use 1 as the stream id.
-                        prepareTargetChannelForHttp(channelFuture);
-                        if (protocol.equalsIgnoreCase(Constants.HTTP_SCHEME) &&
-                                senderConfiguration.getProxyServerConfiguration() != null) {
-                            httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
-                        }
-                        targetChannel.writeContent(httpOutboundRequest);
-                    }
+            private void startExecutingOnEventLoop(EventLoop sourceEventLoop, String protocol,
+                                                   ChannelFuture channelFuture) {
+                // Pooled channels are already registered with the source eventloop whenever one was idle there.
+                // A channel can only be moved to an eventloop of the transport it was created for, hence it stays
+                // on its own eventloop when the client and the listener use different transports.
+                Channel channel = channelFuture.channel();
+                if (channel.eventLoop() == sourceEventLoop
+                        || NativeTransport.of(channel.eventLoop()) != NativeTransport.of(sourceEventLoop)) {
+                    startExecutingOutboundRequest(protocol, channelFuture);
+                    return;
                 }
+                channel.deregister().addListener(deregisterFuture -> {
+                    if (!deregisterFuture.isSuccess()) {
+                        onRegistrationFailure(channel, deregisterFuture.cause());
+                        return;
+                    }
+                    sourceEventLoop.register(channel).addListener(registerFuture -> {
+                        if (registerFuture.isSuccess()) {
+                            startExecutingOutboundRequest(protocol, channelFuture);
+                        } else {
+                            onRegistrationFailure(channel, registerFuture.cause());
+                        }
+                    });
+                });
+            }
 
-                private void prepareTargetChannelForHttp2() {
-                    freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
-                    connectionManager.getHttp2ConnectionManager().
-                            addHttp2ClientChannel(freshHttp2ClientChannel.getChannel().eventLoop(), route,
-                                                  freshHttp2ClientChannel);
-                    freshHttp2ClientChannel.getConnection().remote().flowController().listener(
-                            new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
-                    freshHttp2ClientChannel.addDataEventListener(
-                            Constants.IDLE_STATE_HANDLER,
-                            new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
-                    setHttp2ForwardedExtension(outboundMsgHolder);
-                    new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+            private void onRegistrationFailure(Channel channel, Throwable cause) {
+                LOG.warn("Failed to move the connection {} to the eventloop of the inbound connection",
+                         channel.id(), cause);
+                try {
+                    connectionManager.invalidateTargetChannel(targetChannel);
+                } catch (Exception e) {
+                    LOG.debug("Failed to invalidate the connection {}", channel.id(), e);
                 }
+                onFailure(new ClientConnectorException(channel.id().asLongText(),
+                                                       "Failed to register the connection with an eventloop"));
+            }
 
-                private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+            private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
+                if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
+                        || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
+                    prepareTargetChannelForHttp2();
+                } else {
                     // Response for the upgrade request will arrive in stream 1,
                     // so use 1 as the stream id.
-                    freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
-                            outboundMsgHolder);
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
-                    targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
+                    prepareTargetChannelForHttp(channelFuture);
+                    if (protocol.equalsIgnoreCase(Constants.HTTP_SCHEME) &&
+                            senderConfiguration.getProxyServerConfiguration() != null) {
+                        httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
+                    }
+                    targetChannel.writeContent(httpOutboundRequest);
+                }
+            }
 
-                    Channel targetNettyChannel = channelFuture.channel();
+            private void prepareTargetChannelForHttp2() {
+                freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
+                connectionManager.getHttp2ConnectionManager().
+                        addHttp2ClientChannel(freshHttp2ClientChannel.getChannel().eventLoop(), route,
+                                              freshHttp2ClientChannel);
+                freshHttp2ClientChannel.getConnection().remote().flowController().listener(
+                        new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
+                freshHttp2ClientChannel.addDataEventListener(
+                        Constants.IDLE_STATE_HANDLER,
+                        new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
+                setHttp2ForwardedExtension(outboundMsgHolder);
+                new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+            }
 
-                    initializeSenderReqRespStateMgr(targetNettyChannel);
+            private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+                // Response for the upgrade request will arrive in stream 1,
+                // so use 1 as the stream id.
+                freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
+                        outboundMsgHolder);
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
 
-                    targetChannel.setChannel(targetNettyChannel);
-                    targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
-                    httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
-                    Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
+                Channel targetNettyChannel = channelFuture.channel();
 
-                    Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
-                    String localAddress =
-                            ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
-                    Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
-                }
+                initializeSenderReqRespStateMgr(targetNettyChannel);
 
-                private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
-                    SenderReqRespStateManager senderReqRespStateManager =
-                            new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
-                    senderReqRespStateManager.state =
-                            new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
-                                               chunkConfig, httpResponseFuture);
-                    targetChannel.senderReqRespStateManager = senderReqRespStateManager;
-                }
+                targetChannel.setChannel(targetNettyChannel);
+                targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
+                httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
+                Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
 
-                @Override
-                public void onFailure(ClientConnectorException cause) {
-                    httpResponseFuture.notifyHttpListener(cause);
-                    httpOutboundRequest
-                            .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
-                }
-            });
-        } catch (NoSuchElementException failedCause) {
-            if ("Timeout waiting for idle object".equals(failedCause.getMessage())) {
-                failedCause = new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED);
+                Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
+                String localAddress =
+                        ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
+                Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
             }
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
-        } catch (Exception failedCause) {
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
+
+            private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
+                SenderReqRespStateManager senderReqRespStateManager =
+                        new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
+                senderReqRespStateManager.state =
+                        new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
+                                           chunkConfig, httpResponseFuture);
+                targetChannel.senderReqRespStateManager = senderReqRespStateManager;
+            }
+
+            @Override
+            public void onFailure(ClientConnectorException cause) {
+                httpResponseFuture.notifyHttpListener(cause);
+                httpOutboundRequest
+                        .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
+            }
+        });
+    }
+
+    private Exception getConnectionAcquisitionError(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof NoSuchElementException
+                && TargetChannelPool.TIMEOUT_WAITING_FOR_IDLE_OBJECT.equals(cause.getMessage())) {
+            return new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED);
         }
-        return httpResponseFuture;
+        return cause instanceof Exception ? (Exception) cause : new Exception(cause);
     }
 
     private void setHttp2ForwardedExtension(OutboundMsgHolder outboundMsgHolder) {
@@ -331,7 +412,15 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
         String host = fetchHost(httpCarbonMessage);
         int port = fetchPort(httpCarbonMessage);
 
-        return new HttpRoute(scheme, host, port, configHashCode);
+        // Clients almost always call the same endpoint, so reuse the route of the previous request when it matches
+        HttpRoute route = lastRoute;
+        if (route != null && route.getPort() == port && route.getConfigHash() == configHashCode
+                && route.getHost().equals(host) && Objects.equals(route.getScheme(), scheme)) {
+            return route;
+        }
+        route = new HttpRoute(scheme, host, port, configHashCode);
+        lastRoute = route;
+        return route;
     }
 
     private int fetchPort(HttpCarbonMessage httpCarbonMessage) {
@@ -27,8 +27,10 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnector;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
@@ -39,13 +41,13 @@ import io.ballerina.stdlib.http.transport.contractimpl.websocket.DefaultWebSocke
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.SSLException;
 
@@ -57,23 +59,40 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.PIPELINING_T
  */
 public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
 
-    private final EventLoopGroup bossGroup;
-    private final EventLoopGroup workerGroup;
-    private final EventLoopGroup clientGroup;
+    private final int serverSocketThreads;
+    private final int childSocketThreads;
+    private final int clientThreads;
+    private final NativeTransport defaultTransport;
+    private final Map<NativeTransport, TransportEventLoopGroups> eventLoopGroups = new ConcurrentHashMap<>();
     private EventExecutorGroup pipeliningGroup;
 
     private final ChannelGroup allChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
     public DefaultHttpWsConnectorFactory() {
-        bossGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
-        workerGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
-        clientGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 2,
+             Runtime.getRuntime().availableProcessors() * 2);
     }
 
     public DefaultHttpWsConnectorFactory(int serverSocketThreads, int childSocketThreads, int clientThreads) {
-        bossGroup = new NioEventLoopGroup(serverSocketThreads);
-        workerGroup = new NioEventLoopGroup(childSocketThreads);
-        clientGroup = new NioEventLoopGroup(clientThreads);
+        this(serverSocketThreads, childSocketThreads, clientThreads, TransportType.NIO);
+    }
+
+    /**
+     * Creates a connector factory whose default event loops use the given transport. Connectors configured with a
+     * different transport get their own event loop groups, created the first time that transport is requested.
+     *
+     * @param serverSocketThreads number of acceptor threads
+     * @param childSocketThreads  number of threads serving accepted connections
+     * @param clientThreads       number of client threads
+     * @param transportType       default transport, which falls back to NIO when it is not available
+     */
+    public DefaultHttpWsConnectorFactory(int serverSocketThreads, int childSocketThreads, int clientThreads,
+                                         TransportType transportType) {
+        this.serverSocketThreads = serverSocketThreads;
+        this.childSocketThreads = childSocketThreads;
+        this.clientThreads = clientThreads;
+        this.defaultTransport = NativeTransport.resolve(transportType);
+        getEventLoopGroups(defaultTransport);
     }
 
     @Override
@@ -92,7 +111,9 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         }
         serverConnectorBootstrap.addHttpTraceLogHandler(listenerConfig.isHttpTraceLogEnabled());
         serverConnectorBootstrap.addHttpAccessLogHandler(listenerConfig.isHttpAccessLogEnabled());
-        serverConnectorBootstrap.addThreadPools(bossGroup, workerGroup);
+        TransportEventLoopGroups groups = getEventLoopGroups(listenerConfig.getTransportType());
+        serverConnectorBootstrap.addThreadPools(groups.bossGroup, groups.workerGroup);
+        serverConnectorBootstrap.setAcceptorCount(listenerConfig.getAcceptorCount());
         serverConnectorBootstrap.addHeaderAndEntitySizeValidation(listenerConfig.getMsgSizeValidationConfig());
         serverConnectorBootstrap.addChunkingBehaviour(listenerConfig.getChunkConfig());
         serverConnectorBootstrap.addKeepAliveBehaviour(listenerConfig.getKeepAliveConfig());
@@ -101,6 +122,8 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         serverConnectorBootstrap.setPipeliningEnabled(listenerConfig.isPipeliningEnabled());
         serverConnectorBootstrap.setWebSocketCompressionEnabled(listenerConfig.isWebSocketCompressionEnabled());
         serverConnectorBootstrap.setPipeliningLimit(listenerConfig.getPipeliningLimit());
+        serverConnectorBootstrap.setFlushConsolidationConfig(listenerConfig.getFlushConsolidationConfig());
+        serverConnectorBootstrap.setCompressionConfig(listenerConfig.getCompressionConfig());
 
         if (listenerConfig.isPipeliningEnabled()) {
             pipeliningGroup = new DefaultEventExecutorGroup(PIPELINING_THREAD_COUNT, new DefaultThreadFactory(
@@ -147,7 +170,8 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(transportProperties);
         ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getEventLoopGroups(senderConfiguration.getTransportType()).clientGroup,
                                               configHashCode);
     }
 
@@ -157,21 +181,25 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         ConnectionManager connectionManager) {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(transportProperties);
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getEventLoopGroups(senderConfiguration.getTransportType()).clientGroup,
                                               configHashCode);
     }
 
     @Override
     public WebSocketClientConnector createWsClientConnector(WebSocketClientConnectorConfig clientConnectorConfig) {
-        return new DefaultWebSocketClientConnector(clientConnectorConfig, clientGroup);
+        return new DefaultWebSocketClientConnector(clientConnectorConfig,
+                getEventLoopGroups(clientConnectorConfig.getTransportType()).clientGroup);
     }
 
     @Override
     public void shutdown() throws InterruptedException {
         allChannels.close().sync();
-        workerGroup.shutdownGracefully().sync();
-        bossGroup.shutdownGracefully().sync();
-        clientGroup.shutdownGracefully().sync();
+        for (TransportEventLoopGroups groups : eventLoopGroups.values()) {
+            groups.workerGroup.shutdownGracefully().sync();
+            groups.bossGroup.shutdownGracefully().sync();
+            groups.clientGroup.shutdownGracefully().sync();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully().sync();
         }
@@ -182,11 +210,47 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
      **/
     public void shutdownNow() {
         allChannels.close();
-        workerGroup.shutdownGracefully();
-        bossGroup.shutdownGracefully();
-        clientGroup.shutdownGracefully();
+        for (TransportEventLoopGroups groups : eventLoopGroups.values()) {
+            groups.workerGroup.shutdownGracefully();
+            groups.bossGroup.shutdownGracefully();
+            groups.clientGroup.shutdownGracefully();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully();
         }
     }
+
+    /**
+     * Returns the transport used when a connector configuration does not select one.
+     *
+     * @return the default transport
+     */
+    public NativeTransport getDefaultTransport() {
+        return defaultTransport;
+    }
+
+    private TransportEventLoopGroups getEventLoopGroups(TransportType transportType) {
+        return getEventLoopGroups(transportType == null ? defaultTransport : NativeTransport.resolve(transportType));
+    }
+
+    private TransportEventLoopGroups getEventLoopGroups(NativeTransport transport) {
+        return eventLoopGroups.computeIfAbsent(transport, key -> new TransportEventLoopGroups(
+                key.newEventLoopGroup(serverSocketThreads), key.newEventLoopGroup(childSocketThreads),
+                key.newEventLoopGroup(clientThreads)));
+    }
+
+    /**
+     * Holds the server and client event loop groups of a single transport.
+     */
+    private static class TransportEventLoopGroups {
+        private final EventLoopGroup bossGroup;
+        private final EventLoopGroup workerGroup;
+        private final EventLoopGroup clientGroup;
+
+        TransportEventLoopGroups(EventLoopGroup bossGroup, EventLoopGroup workerGroup, EventLoopGroup clientGroup) {
+            this.bossGroup = bossGroup;
+            this.workerGroup = workerGroup;
+            this.clientGroup = clientGroup;
+        }
+    }
 }
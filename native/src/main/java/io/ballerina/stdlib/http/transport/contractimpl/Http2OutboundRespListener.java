@@ -22,6 +22,7 @@ package io.ballerina.stdlib.http.transport.contractimpl;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.CompressionPolicy;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
@@ -49,11 +50,8 @@ import io.netty.handler.codec.http2.Http2Exception;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Calendar;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROMISED_STREAM_REJECTED_ERROR;
 
 /**
@@ -74,7 +72,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     private String serverName;
     private HttpResponseFuture outboundRespStatusFuture;
     private HttpServerChannelInitializer serverChannelInitializer;
-    private Calendar inboundRequestArrivalTime;
+    private long inboundRequestArrivalTime;
     private String remoteAddress = "-";
     private ServerRemoteFlowControlListener remoteFlowControlListener;
     private ResponseWriter defaultResponseWriter;
@@ -97,7 +95,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
             this.remoteAddress = remoteAddress;
         }
         outboundRespStatusFuture = inboundRequestMsg.getHttpOutboundRespStatusFuture();
-        inboundRequestArrivalTime = Calendar.getInstance();
+        inboundRequestArrivalTime = System.currentTimeMillis();
         http2MessageStateContext = inboundRequestMsg.getHttp2MessageStateContext();
         this.remoteFlowControlListener = remoteFlowControlListener;
         this.http2ServerChannel = http2ServerChannel;
@@ -177,8 +175,11 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         //This means compression AUTO case; With NEVER(identity) and ALWAYS, content-encoding will always have a value.
         if (contentEncoding == null) {
             String acceptEncoding = inboundRequestMsg.getHeader(HttpHeaderNames.ACCEPT_ENCODING.toString());
-            if (acceptEncoding != null) {
-                String targetContentEncoding = determineScheme(acceptEncoding);
+            CompressionPolicy compressionPolicy = serverChannelInitializer.getCompressionPolicy();
+            if (acceptEncoding != null && compressionPolicy.isCompressible(
+                    getContentLength(outboundResponseMsg),
+                    outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()))) {
+                String targetContentEncoding = compressionPolicy.selectEncoding(acceptEncoding);
                 if (targetContentEncoding != null) {
                     outboundResponseMsg.setHeader(HttpHeaderNames.CONTENT_ENCODING.toString(), targetContentEncoding);
                 }
@@ -186,55 +187,16 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         }
     }
 
-    /***
-     * This function is to determine one encoding scheme from the request's `accept-encoding` header. The logic to
-     * determine the scheme is similar to the logic used in Netty's `determineWrapper()` function in the
-     * `HttpContentCompressor` class which is used to do the same, when doing the HTTP1.1 compression.
-     *
-     * @param acceptEncoding `accept-encoding` header value
-     * @return the chosen encoding scheme
-     */
-    private String determineScheme(String acceptEncoding) {
-        float starQ = -1.0f;
-        float gzipQ = -1.0f;
-        float deflateQ = -1.0f;
-        for (String encoding : acceptEncoding.split(",")) {
-            float qValue = 1.0f;
-            int equalsPos = encoding.indexOf('=');
-            if (equalsPos != -1) {
-                try {
-                    qValue = Float.parseFloat(encoding.substring(equalsPos + 1));
-                } catch (NumberFormatException e) {
-                    // Ignore encoding
-                    qValue = 0.0f;
-                }
-            }
-            if (encoding.contains("*")) {
-                starQ = qValue;
-            } else if (encoding.contains(ENCODING_GZIP) && qValue > gzipQ) {
-                gzipQ = qValue;
-            } else if (encoding.contains(ENCODING_DEFLATE) && qValue > deflateQ) {
-                deflateQ = qValue;
-            } else {
-                LOG.debug("Server does not support the requested encoding scheme: {}", encoding);
-            }
-        }
-        if (gzipQ > 0.0f || deflateQ > 0.0f) {
-            if (gzipQ >= deflateQ) {
-                return ENCODING_GZIP;
-            } else {
-                return ENCODING_DEFLATE;
-            }
-        }
-        if (starQ > 0.0f) {
-            if (gzipQ == -1.0f) {
-                return ENCODING_GZIP;
-            }
-            if (deflateQ == -1.0f) {
-                return ENCODING_DEFLATE;
+    private static long getContentLength(HttpCarbonMessage outboundResponseMsg) {
+        String contentLength = outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
@@ -348,7 +310,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         return conn;
     }
 
-    public Calendar getInboundRequestArrivalTime() {
+    public long getInboundRequestArrivalTime() {
         return inboundRequestArrivalTime;
     }
 
@@ -15,14 +15,16 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.common;
 
+import java.util.Objects;
+
 /**
  * Class encapsulates the Endpoint address.
  */
 public class HttpRoute {
-    private String scheme;
-    private String host;
-    private int port;
-    private int configHashCode;
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final int configHashCode;
 
     public HttpRoute(String scheme, String host, int port, int configHashCode) {
         this.scheme = scheme;
@@ -31,6 +33,27 @@ public class HttpRoute {
         this.configHashCode = configHashCode;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpRoute)) {
+            return false;
+        }
+        HttpRoute that = (HttpRoute) o;
+        return port == that.port && configHashCode == that.configHashCode && Objects.equals(scheme, that.scheme)
+                && Objects.equals(host, that.host);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(scheme);
+        result = 31 * result + Objects.hashCode(host);
+        result = 31 * result + port;
+        return 31 * result + configHashCode;
+    }
+
     @Override
     public String toString() {
         return scheme + "-" + host + "-" + port + "-" + configHashCode;
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Socket transports which can back the listener and client event loops. Native transports are only used when
+ * they are available on the running platform, otherwise selection falls back to NIO.
+ */
+public enum NativeTransport {
+
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public ChannelOption<Boolean> getReusePortOption() {
+            return null;
+        }
+    },
+
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public ChannelOption<Boolean> getReusePortOption() {
+            return EpollChannelOption.SO_REUSEPORT;
+        }
+    },
+
+    /**
+     * The io_uring transport lives in the netty incubator and is only picked up when it is on the classpath.
+     */
+    IO_URING {
+        @Override
+        public boolean isAvailable() {
+            return IoUring.AVAILABLE;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads) {
+            try {
+                return (EventLoopGroup) IoUring.eventLoopGroupClass.getConstructor(int.class).newInstance(threads);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create io_uring event loop group", e);
+            }
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+            return IoUring.serverSocketChannelClass;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getSocketChannelClass() {
+            return IoUring.socketChannelClass;
+        }
+
+        @Override
+        public ChannelOption<Boolean> getReusePortOption() {
+            return IoUring.reusePortOption;
+        }
+    };
+
+    private static final Logger LOG = LoggerFactory.getLogger(NativeTransport.class);
+
+    public abstract boolean isAvailable();
+
+    public abstract EventLoopGroup newEventLoopGroup(int threads);
+
+    public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+    public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+    /**
+     * Returns the {@code SO_REUSEPORT} option of the transport, which lets several server sockets bind to the same
+     * port with the kernel balancing the accepted connections among them.
+     *
+     * @return the option or null if the transport does not support it
+     */
+    public abstract ChannelOption<Boolean> getReusePortOption();
+
+    /**
+     * Resolves the configured transport type to a transport which is available on this platform. {@code AUTO}
+     * picks epoll when it is available and NIO otherwise. An unavailable io_uring falls back to epoll and an
+     * unavailable epoll falls back to NIO.
+     *
+     * @param transportType the configured transport type
+     * @return the transport to use
+     */
+    public static NativeTransport resolve(TransportType transportType) {
+        if (transportType == null) {
+            return NIO;
+        }
+        switch (transportType) {
+            case AUTO:
+                return EPOLL.isAvailable() ? EPOLL : NIO;
+            case IO_URING:
+                if (IO_URING.isAvailable()) {
+                    return IO_URING;
+                }
+                LOG.warn("io_uring transport is not available, falling back to {}", fallback());
+                return fallback();
+            case EPOLL:
+                if (EPOLL.isAvailable()) {
+                    return EPOLL;
+                }
+                LOG.warn("Epoll transport is not available, falling back to NIO: {}",
+                         String.valueOf(Epoll.unavailabilityCause()));
+                return NIO;
+            default:
+                return NIO;
+        }
+    }
+
+    /**
+     * Finds the transport an event loop group, or an event loop of a group, was created for so that channels
+     * registered with it use the matching channel classes.
+     *
+     * @param eventLoopGroup the event loop group or event loop
+     * @return the transport of the given group
+     */
+    public static NativeTransport of(EventLoopGroup eventLoopGroup) {
+        EventLoopGroup group = eventLoopGroup;
+        if (group instanceof EventLoop && ((EventLoop) group).parent() != null) {
+            group = ((EventLoop) group).parent();
+        }
+        if (group instanceof EpollEventLoopGroup) {
+            return EPOLL;
+        }
+        if (IoUring.eventLoopGroupClass != null && IoUring.eventLoopGroupClass.isInstance(group)) {
+            return IO_URING;
+        }
+        return NIO;
+    }
+
+    private static NativeTransport fallback() {
+        return EPOLL.isAvailable() ? EPOLL : NIO;
+    }
+
+    /**
+     * Lazily loaded handles to the incubator io_uring transport classes.
+     */
+    private static final class IoUring {
+
+        private static final String PACKAGE = "io.netty.incubator.channel.uring.";
+        static final boolean AVAILABLE;
+        static Class<?> eventLoopGroupClass;
+        static Class<? extends ServerSocketChannel> serverSocketChannelClass;
+        static Class<? extends SocketChannel> socketChannelClass;
+        static ChannelOption<Boolean> reusePortOption;
+
+        static {
+            boolean available = false;
+            try {
+                ClassLoader classLoader = NativeTransport.class.getClassLoader();
+                eventLoopGroupClass = Class.forName(PACKAGE + "IOUringEventLoopGroup", false, classLoader);
+                serverSocketChannelClass = Class.forName(PACKAGE + "IOUringServerSocketChannel", false, classLoader)
+                        .asSubclass(ServerSocketChannel.class);
+                socketChannelClass = Class.forName(PACKAGE + "IOUringSocketChannel", false, classLoader)
+                        .asSubclass(SocketChannel.class);
+                reusePortOption = loadChannelOption(Class.forName(PACKAGE + "IOUringChannelOption", false,
+                                                                  classLoader), "SO_REUSEPORT");
+                available = (Boolean) Class.forName(PACKAGE + "IOUring", true, classLoader)
+                        .getMethod("isAvailable").invoke(null);
+            } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+                LOG.debug("io_uring transport is not on the classpath", e);
+            }
+            AVAILABLE = available;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static ChannelOption<Boolean> loadChannelOption(Class<?> optionClass, String name)
+                throws ReflectiveOperationException {
+            return (ChannelOption<Boolean>) optionClass.getField(name).get(null);
+        }
+
+        private IoUring() {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.EventLoop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the content writes of an outbound message on the event loop of the outbound channel, preserving their order.
+ * A write is run inline when the caller is already on that event loop and no earlier write is still queued, which is
+ * the case when a passthrough message is forwarded to a target channel sharing the event loop of the source channel.
+ */
+public class OutboundContentWriteExecutor {
+
+    private final EventLoop eventLoop;
+    private final AtomicInteger queuedWrites = new AtomicInteger();
+
+    public OutboundContentWriteExecutor(EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    public void execute(Runnable write) {
+        if (queuedWrites.get() == 0 && eventLoop.inEventLoop()) {
+            write.run();
+            return;
+        }
+        queuedWrites.incrementAndGet();
+        eventLoop.execute(() -> {
+            try {
+                write.run();
+            } finally {
+                queuedWrites.decrementAndGet();
+            }
+        });
+    }
+}
@@ -18,12 +18,14 @@ package io.ballerina.stdlib.http.transport.contractimpl.common;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConfigurationException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSslContextCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
@@ -370,47 +372,52 @@ public class Util {
         SSLEngine sslEngine = null;
         SslHandler sslHandler;
         ChannelPipeline pipeline = socketChannel.pipeline();
-        SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+        ClientSslContextCache sslContextCache = sslConfig.getClientSslContextCache();
+        SSLHandlerFactory sslHandlerFactory = sslContextCache.getSslHandlerFactory();
         if (sslConfig.isOcspStaplingEnabled()) {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            ReferenceCountedOpenSslContext referenceCountedOpenSslContext = sslHandlerFactory
-                    .buildClientReferenceCountedOpenSslContext();
+            ReferenceCountedOpenSslContext referenceCountedOpenSslContext = (ReferenceCountedOpenSslContext)
+                    sslContextCache.getHttpContext(SSLHandlerFactory::buildClientReferenceCountedOpenSslContext);
 
             if (referenceCountedOpenSslContext != null) {
-                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc());
+                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc(), host, port);
                 sslEngine = sslHandler.engine();
                 setSslHandshakeTimeOut(sslConfig, sslHandler);
+                sslContextCache.recordHandshake(sslHandler);
                 socketChannel.pipeline().addLast(sslHandler);
-                socketChannel.pipeline().addLast(new OCSPStaplingHandler((ReferenceCountedOpenSslEngine) sslEngine));
+                socketChannel.pipeline().addLast(new OCSPStaplingHandler(
+                        (ReferenceCountedOpenSslEngine) sslEngine, sslConfig.getCacheSize(),
+                        sslConfig.getCacheValidityPeriod(), sslConfig.getRevocationStaleIfErrorMillis()));
             }
         } else {
             if (sslConfig.isDisableSsl()) {
-                sslEngine = createInsecureSslEngine(socketChannel, sslConfig, host, port);
+                sslEngine = sslContextCache.getHttpContext(factory -> createInsecureSslContext(sslConfig))
+                        .newEngine(socketChannel.alloc(), host, port);
             } else {
                 if (sslConfig.getTrustStore() != null) {
-                    sslHandlerFactory.createSSLContextFromKeystores(false);
                     sslEngine = instantiateAndConfigSSL(sslConfig, host, port,
                             sslConfig.isHostNameVerificationEnabled(), sslHandlerFactory);
                 } else {
-                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, sslHandlerFactory);
+                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, sslContextCache);
                 }
             }
             sslHandler = new SslHandler(sslEngine);
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            sslContextCache.recordHandshake(sslHandler);
             pipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (sslConfig.isValidateCertEnabled()) {
                 pipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER, new CertificateValidationHandler(
-                        sslEngine, sslConfig.getCacheValidityPeriod(), sslConfig.getCacheSize()));
+                        sslEngine, sslConfig.getCacheValidityPeriod(), sslConfig.getCacheSize(),
+                        sslConfig.getRevocationStaleIfErrorMillis()));
             }
         }
         return sslEngine;
     }
 
     private static SSLEngine getSslEngineForCerts(SocketChannel socketChannel, String host, int port,
-            SSLConfig sslConfig, SSLHandlerFactory sslHandlerFactory) throws SSLException {
-        SslContext sslContext = sslHandlerFactory.createHttpTLSContextForClient();
-        SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
-        SSLEngine sslEngine = sslHandler.engine();
+            SSLConfig sslConfig, ClientSslContextCache sslContextCache) throws Exception {
+        SslContext sslContext = sslContextCache.getHttpContext(SSLHandlerFactory::createHttpTLSContextForClient);
+        SSLEngine sslEngine = sslContext.newEngine(socketChannel.alloc(), host, port);
+        SSLHandlerFactory sslHandlerFactory = sslContextCache.getSslHandlerFactory();
         sslHandlerFactory.addCommonConfigs(sslEngine);
         sslHandlerFactory.setSNIServerNames(sslEngine, host);
         if (sslConfig.isHostNameVerificationEnabled()) {
@@ -419,30 +426,25 @@ public class Util {
         return sslEngine;
     }
 
-    private static SSLEngine createInsecureSslEngine(SocketChannel socketChannel, SSLConfig sslConfig, String host,
-                                                     int port) throws Exception {
-        SslContext sslContext;
+    private static SslContext createInsecureSslContext(SSLConfig sslConfig) throws Exception {
         if (sslConfig.getKeyStore() != null && sslConfig.getKeyStorePass() != null) {
             KeyStore ks = getKeyStore(sslConfig);
             KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
             kmf.init(ks, sslConfig.getCertPass() != null ?
                     sslConfig.getCertPass().toCharArray() :
                     sslConfig.getKeyStorePass().toCharArray());
-            sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
+            return SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
                     .trustManager(InsecureTrustManagerFactory.INSTANCE)
                     .keyManager(kmf)
                     .build();
         } else if (sslConfig.getClientKeyFile() != null && sslConfig.getClientCertificates() != null) {
             String keyPassword = sslConfig.getClientKeyPassword();
-            sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
+            return SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
                     .keyManager(sslConfig.getClientCertificates(), sslConfig.getClientKeyFile(), keyPassword)
                     .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
-        } else {
-            sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
-                    .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
         }
-        SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
-        return sslHandler.engine();
+        return SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
+                .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
     }
 
     /**
@@ -711,6 +713,20 @@ public class Util {
         ctx.channel().attr(Constants.ORIGINAL_CHANNEL_TIMEOUT).set(null);
     }
 
+    /**
+     * Hand over the compression level requested for an outbound response to the content compressor of the channel.
+     * Must be called on the event loop, right before the response headers are written.
+     *
+     * @param ctx                 Channel handler context
+     * @param outboundResponseMsg outbound response
+     */
+    public static void setResponseCompressionLevel(ChannelHandlerContext ctx, HttpCarbonMessage outboundResponseMsg) {
+        Object compressionLevel = outboundResponseMsg.getProperty(Constants.COMPRESSION_LEVEL);
+        if (compressionLevel instanceof CompressionLevel) {
+            ctx.channel().attr(Constants.RESPONSE_COMPRESSION_LEVEL).set((CompressionLevel) compressionLevel);
+        }
+    }
+
     /**
      * Check if a given content is last httpContent.
      *
@@ -836,7 +852,8 @@ public class Util {
 
         HttpCarbonMessage inboundRequestMsg =
                 new HttpCarbonRequest(httpRequestHeaders, new DefaultListener(ctx));
-        inboundRequestMsg.setProperty(Constants.POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
+        inboundRequestMsg.setProperty(Constants.POOLED_BYTE_BUFFER_FACTORY,
+                PooledDataStreamerFactory.forAllocator(ctx.alloc()));
 
         inboundRequestMsg.setProperty(Constants.CHNL_HNDLR_CTX, ctx);
         inboundRequestMsg.setProperty(Constants.SRC_HANDLER, sourceHandler);
@@ -883,7 +900,7 @@ public class Util {
                                                                HttpCarbonMessage outboundRequestMsg) {
         HttpCarbonMessage inboundResponseMsg = new HttpCarbonResponse(httpResponseHeaders, new DefaultListener(ctx));
         inboundResponseMsg.setProperty(Constants.POOLED_BYTE_BUFFER_FACTORY,
-                new PooledDataStreamerFactory(ctx.alloc()));
+                PooledDataStreamerFactory.forAllocator(ctx.alloc()));
 
         inboundResponseMsg.setProperty(Constants.DIRECTION, Constants.DIRECTION_RESPONSE);
         inboundResponseMsg.setHttpStatusCode(httpResponseHeaders.status().code());
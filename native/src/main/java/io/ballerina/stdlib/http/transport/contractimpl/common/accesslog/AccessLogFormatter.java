@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Formats {@link AccessLogRecord}s in the common log format with the referer and user-agent appended, e.g.
+ * {@code 127.0.0.1 - - [10/Oct/2021:13:55:36 +0530] "GET / HTTP/1.1" 200 2326 "-" "curl/7.64.1"}.
+ * <p>
+ * The timestamp only changes once a second, so it is formatted once and reused for the records of the same second.
+ * Not thread safe; the writer thread owns its formatter.
+ */
+public final class AccessLogFormatter {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.getDefault(Locale.Category.FORMAT));
+
+    private final ZoneId zoneId;
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    public AccessLogFormatter() {
+        this(ZoneId.systemDefault());
+    }
+
+    public AccessLogFormatter(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Appends the log line of a record, without a line separator.
+     *
+     * @param record the record
+     * @param line   the builder the line is appended to
+     */
+    public void format(AccessLogRecord record, StringBuilder line) {
+        line.append(record.getRemoteAddress()).append(" - - [")
+                .append(getTimestamp(record.getRequestTimeMillis())).append("] \"")
+                .append(record.getMethod()).append(' ')
+                .append(record.getUri()).append(' ')
+                .append(record.getProtocol()).append("\" ")
+                .append(record.getStatus()).append(' ')
+                .append(record.getContentLength()).append(" \"")
+                .append(record.getReferrer()).append("\" \"")
+                .append(record.getUserAgent()).append('"');
+    }
+
+    private String getTimestamp(long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        if (second != cachedSecond) {
+            cachedTimestamp = TIMESTAMP_FORMATTER.format(Instant.ofEpochSecond(second).atZone(zoneId));
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+}
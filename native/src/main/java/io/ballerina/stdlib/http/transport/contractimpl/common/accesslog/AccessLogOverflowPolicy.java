@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+/**
+ * What a thread recording an access log entry does when its buffer is full.
+ */
+public enum AccessLogOverflowPolicy {
+    /**
+     * Discard the entry and count it as dropped.
+     */
+    DROP,
+    /**
+     * Wait until the writer makes room for the entry.
+     */
+    BLOCK
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+/**
+ * A reusable slot of an {@link AccessLogRingBuffer} holding the details of a single request. Only references and
+ * primitives are recorded, so filling a slot allocates nothing; formatting happens on the writer thread.
+ */
+public final class AccessLogRecord {
+
+    private String remoteAddress;
+    private long requestTimeMillis;
+    private String method;
+    private String uri;
+    private String protocol;
+    private String referrer;
+    private String userAgent;
+    private int status;
+    private long contentLength;
+
+    /**
+     * Records the request details of the entry.
+     *
+     * @param remoteAddress     the address of the client
+     * @param requestTimeMillis the time the request arrived at, in milliseconds since the epoch
+     * @param method            the request method
+     * @param uri               the request uri
+     * @param protocol          the protocol version of the request
+     * @param referrer          the referer header of the request, or "-"
+     * @param userAgent         the user-agent header of the request, or "-"
+     * @return this record
+     */
+    public AccessLogRecord setRequest(String remoteAddress, long requestTimeMillis, String method, String uri,
+                                      String protocol, String referrer, String userAgent) {
+        this.remoteAddress = remoteAddress;
+        this.requestTimeMillis = requestTimeMillis;
+        this.method = method;
+        this.uri = uri;
+        this.protocol = protocol;
+        this.referrer = referrer;
+        this.userAgent = userAgent;
+        return this;
+    }
+
+    /**
+     * Records the response details of the entry.
+     *
+     * @param status        the status code of the response
+     * @param contentLength the number of body bytes sent
+     * @return this record
+     */
+    public AccessLogRecord setResponse(int status, long contentLength) {
+        this.status = status;
+        this.contentLength = contentLength;
+        return this;
+    }
+
+    String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    long getRequestTimeMillis() {
+        return requestTimeMillis;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    String getProtocol() {
+        return protocol;
+    }
+
+    String getReferrer() {
+        return referrer;
+    }
+
+    String getUserAgent() {
+        return userAgent;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    long getContentLength() {
+        return contentLength;
+    }
+
+    void clear() {
+        remoteAddress = null;
+        method = null;
+        uri = null;
+        protocol = null;
+        referrer = null;
+        userAgent = null;
+    }
+}
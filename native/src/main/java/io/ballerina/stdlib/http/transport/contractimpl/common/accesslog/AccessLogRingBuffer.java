@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * A bounded single-producer single-consumer ring of preallocated {@link AccessLogRecord}s. The thread that owns the
+ * buffer claims and publishes records, and the writer thread drains them. Slots are reused, so recording an entry
+ * does not allocate.
+ */
+final class AccessLogRingBuffer {
+
+    private static final AtomicLongFieldUpdater<AccessLogRingBuffer> HEAD_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(AccessLogRingBuffer.class, "head");
+    private static final AtomicLongFieldUpdater<AccessLogRingBuffer> TAIL_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(AccessLogRingBuffer.class, "tail");
+
+    private final AccessLogRecord[] records;
+    private final int mask;
+    private final WeakReference<Thread> owner;
+    // Next slot to drain, advanced by the writer thread only
+    private volatile long head;
+    // Next slot to fill, advanced by the owner thread only
+    private volatile long tail;
+
+    AccessLogRingBuffer(int capacity, Thread owner) {
+        this.owner = new WeakReference<>(owner);
+        int size = Math.max(2, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        records = new AccessLogRecord[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = new AccessLogRecord();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Gets the next free record. Called by the owner thread only.
+     *
+     * @return the record to fill, or null if the buffer is full
+     */
+    AccessLogRecord claim() {
+        long currentTail = tail;
+        if (currentTail - head >= records.length) {
+            return null;
+        }
+        return records[(int) (currentTail & mask)];
+    }
+
+    /**
+     * Makes the last claimed record visible to the writer. Called by the owner thread only.
+     */
+    void publish() {
+        TAIL_UPDATER.lazySet(this, tail + 1);
+    }
+
+    /**
+     * Hands the published records to the given consumer and frees their slots. Called by the writer thread only.
+     *
+     * @param consumer   the consumer of the records
+     * @param maxRecords the maximum number of records to drain
+     * @return the number of records drained
+     */
+    int drain(Consumer<AccessLogRecord> consumer, int maxRecords) {
+        long currentHead = head;
+        long available = Math.min(tail - currentHead, maxRecords);
+        for (int i = 0; i < available; i++) {
+            AccessLogRecord record = records[(int) ((currentHead + i) & mask)];
+            consumer.accept(record);
+            record.clear();
+        }
+        if (available > 0) {
+            HEAD_UPDATER.lazySet(this, currentHead + available);
+        }
+        return (int) available;
+    }
+
+    /**
+     * @return true if the owner thread has terminated, in which case no more records are published
+     */
+    boolean isOrphaned() {
+        Thread thread = owner.get();
+        return thread == null || !thread.isAlive();
+    }
+
+    int size() {
+        return (int) (tail - head);
+    }
+
+    int capacity() {
+        return records.length;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+import java.io.IOException;
+
+/**
+ * A destination of the access log lines produced by an {@link AccessLogWriter}. Called from the writer thread only.
+ */
+public interface AccessLogSink {
+
+    /**
+     * Appends a log line.
+     *
+     * @param line the line, without a line separator
+     * @throws IOException if the line could not be written
+     */
+    void append(CharSequence line) throws IOException;
+
+    /**
+     * Writes out the lines appended since the last flush. Called at the end of every batch.
+     *
+     * @throws IOException if the lines could not be written
+     */
+    void flush() throws IOException;
+
+    /**
+     * Releases the resources of the sink.
+     *
+     * @throws IOException if the sink could not be closed
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes access logs off the threads that record them. Each recording thread, typically an event loop, fills the
+ * records of its own {@link AccessLogRingBuffer}, and a single background thread drains all the buffers, formats
+ * the records and hands the lines to the {@link AccessLogSink}s in batches. The writer sleeps while there are no
+ * entries and the first entry published afterwards wakes it up. The buffers of threads which have terminated are
+ * dropped once they are drained.
+ * <p>
+ * When the buffer of a thread is full the entry is either dropped or the thread waits for the writer, depending on
+ * the {@link AccessLogOverflowPolicy}.
+ */
+public class AccessLogWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_BATCH_SIZE = 1024;
+    // Upper bound of an idle sleep, after which the buffers of terminated threads are looked for again
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static volatile AccessLogWriter defaultWriter;
+
+    private final List<AccessLogSink> sinks;
+    private final int bufferSize;
+    private final AccessLogOverflowPolicy overflowPolicy;
+    private final List<AccessLogRingBuffer> ringBuffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<AccessLogRingBuffer> threadRingBuffer = ThreadLocal.withInitial(this::newRingBuffer);
+    private final LongAdder recordedEntries = new LongAdder();
+    private final LongAdder droppedEntries = new LongAdder();
+    private final LongAdder writtenEntries = new LongAdder();
+    private final AccessLogFormatter formatter = new AccessLogFormatter();
+    private final StringBuilder line = new StringBuilder(256);
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+
+    public AccessLogWriter(List<AccessLogSink> sinks, int bufferSize, AccessLogOverflowPolicy overflowPolicy) {
+        this.sinks = Collections.unmodifiableList(sinks);
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        writerThread = new Thread(this::run, "http-access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Gets the writer the access logs of the listeners go through. Unless one was set, a writer which hands the
+     * lines over to the access logger is created on first use.
+     *
+     * @return the access log writer
+     */
+    public static AccessLogWriter getDefault() {
+        AccessLogWriter writer = defaultWriter;
+        if (writer == null) {
+            synchronized (AccessLogWriter.class) {
+                writer = defaultWriter;
+                if (writer == null) {
+                    writer = new AccessLogWriter(Collections.singletonList(new LoggerAccessLogSink(
+                            Constants.ACCESS_LOG)), DEFAULT_BUFFER_SIZE, AccessLogOverflowPolicy.DROP);
+                    defaultWriter = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Replaces the writer the access logs of the listeners go through. The previous writer is closed after writing
+     * out the entries it holds.
+     *
+     * @param writer the new access log writer, or null to fall back to a writer over the access logger
+     */
+    public static void setDefault(AccessLogWriter writer) {
+        AccessLogWriter previous;
+        synchronized (AccessLogWriter.class) {
+            previous = defaultWriter;
+            defaultWriter = writer;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Gets a record to fill for a new entry. The caller must fill the record and call {@link #publish()} from the
+     * same thread.
+     *
+     * @return the record, or null if the entry has to be dropped
+     */
+    public AccessLogRecord claim() {
+        if (!running) {
+            droppedEntries.increment();
+            return null;
+        }
+        AccessLogRingBuffer ringBuffer = threadRingBuffer.get();
+        AccessLogRecord record = ringBuffer.claim();
+        while (record == null && overflowPolicy == AccessLogOverflowPolicy.BLOCK && running) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FULL_BUFFER_PARK_NANOS);
+            record = ringBuffer.claim();
+        }
+        if (record == null) {
+            droppedEntries.increment();
+        }
+        return record;
+    }
+
+    /**
+     * Hands the record last claimed by the calling thread over to the writer.
+     */
+    public void publish() {
+        threadRingBuffer.get().publish();
+        recordedEntries.increment();
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Stops the writer thread after the recorded entries are written, and closes the sinks.
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of entries handed over to the writer
+     */
+    public long getRecordedEntries() {
+        return recordedEntries.sum();
+    }
+
+    /**
+     * @return the number of entries dropped since the buffer of the recording thread was full
+     */
+    public long getDroppedEntries() {
+        return droppedEntries.sum();
+    }
+
+    /**
+     * @return the number of entries written to the sinks
+     */
+    public long getWrittenEntries() {
+        return writtenEntries.sum();
+    }
+
+    int getRingBufferCount() {
+        return ringBuffers.size();
+    }
+
+    private AccessLogRingBuffer newRingBuffer() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(bufferSize, Thread.currentThread());
+        ringBuffers.add(ringBuffer);
+        return ringBuffer;
+    }
+
+    private void run() {
+        while (true) {
+            // Read before draining, so that the entries recorded before closing are written out
+            boolean closing = !running;
+            if (drainAll() == 0) {
+                if (closing) {
+                    break;
+                }
+                park();
+            }
+        }
+        for (AccessLogSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close the access log sink", e);
+            }
+        }
+    }
+
+    private void park() {
+        writerParked = true;
+        // Checked again after announcing the sleep, as an entry published just before it did not unpark the writer
+        if (drainAll() == 0 && running) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerParked = false;
+    }
+
+    private int drainAll() {
+        int drained = 0;
+        for (AccessLogRingBuffer ringBuffer : ringBuffers) {
+            // Read before draining, as the owner may still publish until it terminates
+            boolean orphaned = ringBuffer.isOrphaned();
+            drained += ringBuffer.drain(this::write, MAX_BATCH_SIZE);
+            if (orphaned && ringBuffer.size() == 0) {
+                ringBuffers.remove(ringBuffer);
+            }
+        }
+        if (drained > 0) {
+            for (AccessLogSink sink : sinks) {
+                try {
+                    sink.flush();
+                } catch (IOException e) {
+                    LOG.warn("Failed to write the access logs", e);
+                }
+            }
+            writtenEntries.add(drained);
+        }
+        return drained;
+    }
+
+    private void write(AccessLogRecord record) {
+        line.setLength(0);
+        formatter.format(record, line);
+        for (AccessLogSink sink : sinks) {
+            try {
+                sink.append(line);
+            } catch (IOException e) {
+                LOG.warn("Failed to write the access logs", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation;
+
+import java.security.cert.X509Certificate;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Revocation verifiers that check the revocation status of a certificate without blocking the calling thread.
+ */
+public interface AsyncRevocationVerifier {
+
+    /**
+     * Checks the revocation status of a certificate.
+     *
+     * @param peerCert   the certificate that needs to be validated
+     * @param issuerCert the issuer of the peer certificate
+     * @return a future that completes with the revocation status, or fails with a
+     * {@link CertificateVerificationException} when the status cannot be found
+     */
+    CompletableFuture<RevocationStatus> checkRevocationStatus(X509Certificate peerCert, X509Certificate issuerCert);
+}
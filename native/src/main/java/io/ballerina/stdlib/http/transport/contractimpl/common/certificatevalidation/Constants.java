@@ -32,6 +32,9 @@ public final class Constants {
     public static final String BOUNCY_CASTLE_PROVIDER = "BC";
     public static final String X_509 = "X.509";
     public static final String ALGORITHM = "PKIX";
+    public static final long REVOCATION_REFRESH_AHEAD_MILLIS = 5 * 60 * 1000L;
+    public static final long REVOCATION_SWEEP_INTERVAL_MILLIS = 30 * 1000L;
+    public static final long REVOCATION_FAILURE_BACKOFF_MILLIS = 10 * 1000L;
 
     private Constants() {
     }
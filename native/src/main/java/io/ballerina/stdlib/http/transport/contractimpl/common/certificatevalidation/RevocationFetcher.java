@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * Fetches OCSP responses and CRLs over HTTP or HTTPS without blocking the calling thread. Requests are sent from a
+ * dedicated event loop, so a slow OCSP responder or CRL distribution point never holds up the I/O threads of the
+ * transport. HTTPS servers are verified against the default trust store of the JVM.
+ */
+public class RevocationFetcher {
+
+    private static final int TIMEOUT_MILLIS = 10000;
+    private static final int MAX_RESPONSE_SIZE = 20 * 1024 * 1024;
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static volatile RevocationFetcher fetcher;
+
+    private final EventLoopGroup eventLoopGroup;
+    private volatile SslContext sslContext;
+
+    private RevocationFetcher() {
+        this(null);
+    }
+
+    RevocationFetcher(SslContext sslContext) {
+        this.sslContext = sslContext;
+        eventLoopGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("http-revocation-fetcher", true));
+    }
+
+    public static RevocationFetcher getInstance() {
+        //Double checked locking
+        if (fetcher == null) {
+            synchronized (RevocationFetcher.class) {
+                if (fetcher == null) {
+                    fetcher = new RevocationFetcher();
+                }
+            }
+        }
+        return fetcher;
+    }
+
+    /**
+     * Sends an OCSP request to an OCSP responder.
+     *
+     * @param serviceUrl the URL of the OCSP responder
+     * @param request    the ASN.1 encoded OCSP request
+     * @return a future that completes with the ASN.1 encoded OCSP response
+     */
+    public CompletableFuture<byte[]> postOCSPRequest(String serviceUrl, byte[] request) {
+        return fetch(serviceUrl, HttpMethod.POST, request);
+    }
+
+    /**
+     * Downloads a CRL from a CRL distribution point.
+     *
+     * @param crlUrl the URL of the CRL distribution point
+     * @return a future that completes with the encoded CRL
+     */
+    public CompletableFuture<byte[]> getCRL(String crlUrl) {
+        return fetch(crlUrl, HttpMethod.GET, null);
+    }
+
+    /**
+     * Tries the given URLs one after the other until one of them succeeds.
+     *
+     * @param urls           the URLs to try, in order
+     * @param attempt        the attempt made with each URL
+     * @param failureMessage the message of the failure when no URL succeeds
+     * @param <T>            the type of the result
+     * @return a future that completes with the result of the first successful attempt
+     */
+    public static <T> CompletableFuture<T> firstSuccessful(List<String> urls,
+                                                           Function<String, CompletableFuture<T>> attempt,
+                                                           String failureMessage) {
+        CompletableFuture<T> result = CompletableFuture.failedFuture(
+                new CertificateVerificationException(failureMessage));
+        for (String url : urls) {
+            result = result.handle((value, e) -> e == null ? CompletableFuture.completedFuture(value)
+                    : attempt.apply(url)).thenCompose(Function.identity());
+        }
+        return result.handle((value, e) -> {
+            if (e != null) {
+                throw new CompletionException(new CertificateVerificationException(failureMessage, e));
+            }
+            return value;
+        });
+    }
+
+    private CompletableFuture<byte[]> fetch(String url, HttpMethod method, byte[] body) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            return CompletableFuture.failedFuture(new CertificateVerificationException("Malformed URL: " + url, e));
+        }
+        boolean secure = HTTPS.equalsIgnoreCase(uri.getScheme());
+        if ((!secure && !HTTP.equalsIgnoreCase(uri.getScheme())) || uri.getHost() == null) {
+            return CompletableFuture.failedFuture(new CertificateVerificationException(
+                    "Only http and https are supported for revocation checks: " + url));
+        }
+        String host = uri.getHost();
+        int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+        SslContext clientSslContext;
+        try {
+            clientSslContext = secure ? getSslContext() : null;
+        } catch (SSLException e) {
+            return CompletableFuture.failedFuture(new CertificateVerificationException(
+                    "Cannot create the SSL context to connect to " + url, e));
+        }
+
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path = path + "?" + uri.getRawQuery();
+        }
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, path,
+                body != null ? Unpooled.wrappedBuffer(body) : Unpooled.EMPTY_BUFFER);
+        request.headers().set(HttpHeaderNames.HOST, uri.getPort() == -1 ? uri.getHost()
+                : uri.getHost() + ":" + uri.getPort());
+        request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes());
+        if (body != null) {
+            request.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/ocsp-request");
+            request.headers().set(HttpHeaderNames.ACCEPT, "application/ocsp-response");
+        }
+
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TIMEOUT_MILLIS)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        if (clientSslContext != null) {
+                            SslHandler sslHandler = clientSslContext.newHandler(channel.alloc(), host, port);
+                            SSLParameters sslParameters = sslHandler.engine().getSSLParameters();
+                            sslParameters.setEndpointIdentificationAlgorithm(HTTPS);
+                            sslHandler.engine().setSSLParameters(sslParameters);
+                            channel.pipeline().addLast(sslHandler);
+                        }
+                        channel.pipeline().addLast(new ReadTimeoutHandler(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+                                                   new HttpClientCodec(),
+                                                   new HttpObjectAggregator(MAX_RESPONSE_SIZE),
+                                                   new ResponseHandler(url, result));
+                    }
+                });
+        bootstrap.connect(host, port)
+                .addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        future.channel().writeAndFlush(request);
+                    } else {
+                        ReferenceCountUtil.release(request);
+                        result.completeExceptionally(new CertificateVerificationException(
+                                "Cannot connect to " + url, future.cause()));
+                    }
+                });
+        return result;
+    }
+
+    private SslContext getSslContext() throws SSLException {
+        SslContext context = sslContext;
+        if (context == null) {
+            synchronized (this) {
+                context = sslContext;
+                if (context == null) {
+                    context = SslContextBuilder.forClient().build();
+                    sslContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    void close() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    /**
+     * Completes the result with the body of the response.
+     */
+    private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        private final String url;
+        private final CompletableFuture<byte[]> result;
+
+        ResponseHandler(String url, CompletableFuture<byte[]> result) {
+            this.url = url;
+            this.result = result;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            if (response.status().code() / 100 == 2) {
+                result.complete(ByteBufUtil.getBytes(response.content()));
+            } else {
+                result.completeExceptionally(new CertificateVerificationException(
+                        "Error getting a response from " + url + ". Response code is " + response.status().code()));
+            }
+            ctx.close();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            result.completeExceptionally(new CertificateVerificationException(
+                    "Cannot get a response from " + url, cause));
+            ctx.close();
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            result.completeExceptionally(new CertificateVerificationException(
+                    "Connection to " + url + " closed before a response was received"));
+        }
+    }
+}
@@ -18,8 +18,10 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation;
 
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.crl.AsyncCRLVerifier;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.crl.CRLCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.crl.CRLVerifier;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.AsyncOCSPVerifier;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPVerifier;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.pathvalidation.CertificatePathValidator;
@@ -27,9 +29,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.security.cert.CertificateEncodingException;
 
@@ -41,6 +49,7 @@ public class RevocationVerificationManager {
 
     private int cacheSize = Constants.CACHE_DEFAULT_ALLOCATED_SIZE;
     private int cacheDelayMins = Constants.CACHE_DEFAULT_DELAY_MINS;
+    private long staleIfErrorMillis;
     private static final Logger LOG = LoggerFactory.getLogger(RevocationVerificationManager.class);
 
     public RevocationVerificationManager(Integer cacheAllocatedSize, Integer cacheDelayMins) {
@@ -55,6 +64,11 @@ public class RevocationVerificationManager {
         }
     }
 
+    public RevocationVerificationManager(Integer cacheAllocatedSize, Integer cacheDelayMins, long staleIfErrorMillis) {
+        this(cacheAllocatedSize, cacheDelayMins);
+        this.staleIfErrorMillis = Math.max(staleIfErrorMillis, 0);
+    }
+
     /**
      * This method first tries to verify the given certificate chain using OCSP since OCSP verification is
      * faster. If that fails it tries to do the verification using CRL.
@@ -95,6 +109,64 @@ public class RevocationVerificationManager {
         throw new CertificateVerificationException("Path verification failed for both OCSP and CRL");
     }
 
+    /**
+     * Verifies the given certificate chain without blocking the calling thread. The status of each certificate is
+     * first checked using OCSP and then using CRL if OCSP fails. Responses and CRLs are served from caches that are
+     * refreshed in the background, so the check completes immediately once they are cached.
+     *
+     * @param peerCertificates the certificate chain of the peer, as given by the SSL session
+     * @return a future that completes with true when the chain is verified, or fails with a
+     * {@link CertificateVerificationException} otherwise.
+     */
+    public CompletableFuture<Boolean> verifyRevocationStatusAsync(Certificate[] peerCertificates) {
+        X509Certificate[] convertedCertificates = new X509Certificate[peerCertificates.length];
+        for (int i = 0; i < peerCertificates.length; i++) {
+            if (!(peerCertificates[i] instanceof X509Certificate)) {
+                return CompletableFuture.failedFuture(new CertificateVerificationException(
+                        "Unsupported certificate type: " + peerCertificates[i].getType()));
+            }
+            convertedCertificates[i] = (X509Certificate) peerCertificates[i];
+        }
+
+        long start = System.currentTimeMillis();
+        RevocationFetcher fetcher = RevocationFetcher.getInstance();
+        AsyncRevocationVerifier ocspVerifier = new AsyncOCSPVerifier(
+                AsyncOCSPVerifier.getSharedCache(cacheSize, cacheDelayMins), fetcher, staleIfErrorMillis);
+        AsyncRevocationVerifier crlVerifier = new AsyncCRLVerifier(
+                AsyncCRLVerifier.getSharedCache(cacheSize, cacheDelayMins), fetcher, staleIfErrorMillis);
+
+        // The root certificate is trusted, so the status of every other certificate is checked against its issuer.
+        Map<X509Certificate, RevocationStatus> statuses = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] checks = new CompletableFuture<?>[Math.max(convertedCertificates.length - 1, 0)];
+        for (int i = 0; i < checks.length; i++) {
+            X509Certificate peerCert = convertedCertificates[i];
+            X509Certificate issuerCert = convertedCertificates[i + 1];
+            checks[i] = ocspVerifier.checkRevocationStatus(peerCert, issuerCert)
+                    .handle((status, e) -> e == null ? CompletableFuture.completedFuture(status)
+                            : crlVerifier.checkRevocationStatus(peerCert, issuerCert))
+                    .thenCompose(Function.identity())
+                    .thenAccept(status -> statuses.put(peerCert, status));
+        }
+        return CompletableFuture.allOf(checks).handle((ignored, e) -> {
+            if (e != null) {
+                throw new CompletionException(new CertificateVerificationException(
+                        "Path verification failed for both OCSP and CRL", e));
+            }
+            try {
+                // All the statuses are known by now, so validating the path does not need any network calls.
+                CertificatePathValidator pathValidator = new CertificatePathValidator(convertedCertificates,
+                        (peerCert, issuerCert) -> statuses.getOrDefault(peerCert, RevocationStatus.UNKNOWN));
+                pathValidator.validatePath();
+            } catch (CertificateVerificationException ex) {
+                throw new CompletionException(ex);
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Path verification is successful. Took {} ms.", System.currentTimeMillis() - start);
+            }
+            return true;
+        });
+    }
+
     /** Convert certificates and create a certificate chain.
      *
      * @param certs array of javax.security.cert.X509Certificate[] s.
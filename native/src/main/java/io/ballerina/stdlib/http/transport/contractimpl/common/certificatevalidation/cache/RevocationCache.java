@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * A lock free cache of revocation information such as OCSP responses and CRLs. Each value is valid until its next
+ * update time. Values are refreshed in the background ahead of that time, so lookups are served from memory and
+ * never wait for the network once a value has been loaded. When a refresh fails, the previous value can still be
+ * served for a configurable stale-if-error period. A failed load is remembered for a backoff period, during which
+ * lookups of the key fail without going to the network again.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached revocation information
+ */
+public class RevocationCache<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RevocationCache.class);
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new DefaultThreadFactory("http-revocation-cache", true));
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final Map<K, Failure> failures = new ConcurrentHashMap<>();
+    private final ToLongFunction<V> nextUpdateOf;
+    private final int maxSize;
+    private final long refreshAheadMillis;
+    private final long failureBackoffMillis;
+    private final ScheduledFuture<?> sweeper;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * Creates a cache and starts refreshing its values in the background.
+     *
+     * @param maxSize             maximum number of values. The least recently used value is removed when exceeded
+     * @param refreshAheadMillis  how long before its next update time a value is refreshed
+     * @param sweepIntervalMillis how often the values are checked for refreshing and removal
+     * @param nextUpdateOf        gives the time in milliseconds until which a value is valid
+     */
+    public RevocationCache(int maxSize, long refreshAheadMillis, long sweepIntervalMillis,
+                           ToLongFunction<V> nextUpdateOf) {
+        this(maxSize, refreshAheadMillis, sweepIntervalMillis, Constants.REVOCATION_FAILURE_BACKOFF_MILLIS,
+             nextUpdateOf);
+    }
+
+    /**
+     * Creates a cache and starts refreshing its values in the background.
+     *
+     * @param maxSize              maximum number of values. The least recently used value is removed when exceeded
+     * @param refreshAheadMillis   how long before its next update time a value is refreshed
+     * @param sweepIntervalMillis  how often the values are checked for refreshing and removal
+     * @param failureBackoffMillis how long after a failed load the value of the key is not loaded again
+     * @param nextUpdateOf         gives the time in milliseconds until which a value is valid
+     */
+    public RevocationCache(int maxSize, long refreshAheadMillis, long sweepIntervalMillis, long failureBackoffMillis,
+                           ToLongFunction<V> nextUpdateOf) {
+        this.maxSize = maxSize;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.failureBackoffMillis = failureBackoffMillis;
+        this.nextUpdateOf = nextUpdateOf;
+        this.sweeper = SCHEDULER.scheduleWithFixedDelay(this::sweep, sweepIntervalMillis, sweepIntervalMillis,
+                                                        TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the value of a key, loading it if it is not in the cache.
+     *
+     * @param key                the key
+     * @param loader             fetches the value of the key. It is kept to refresh the value later
+     * @param staleIfErrorMillis how long after its next update time a value can be served when refreshing it fails
+     * @return a future that completes with the value. It is already complete when the value is in the cache
+     */
+    public CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> loader, long staleIfErrorMillis) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entry.lastAccess = now;
+            if (staleIfErrorMillis > entry.staleIfErrorMillis) {
+                entry.staleIfErrorMillis = staleIfErrorMillis;
+            }
+            if (now < entry.nextUpdate) {
+                hits.increment();
+                if (needsRefresh(entry, now)) {
+                    load(key, entry.loader, entry.staleIfErrorMillis);
+                }
+                return CompletableFuture.completedFuture(entry.value);
+            }
+            if (entry.refreshFailed && now < entry.nextUpdate + staleIfErrorMillis) {
+                staleHits.increment();
+                load(key, entry.loader, entry.staleIfErrorMillis);
+                return CompletableFuture.completedFuture(entry.value);
+            }
+        }
+        misses.increment();
+        return load(key, loader, staleIfErrorMillis).handle((value, e) -> {
+            if (e == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            Entry<V> stale = entries.get(key);
+            if (stale != null && System.currentTimeMillis() < stale.nextUpdate + staleIfErrorMillis) {
+                staleHits.increment();
+                return CompletableFuture.completedFuture(stale.value);
+            }
+            return CompletableFuture.<V>failedFuture(e);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Removes all the values and stops refreshing them.
+     */
+    public void close() {
+        sweeper.cancel(false);
+        entries.clear();
+        failures.clear();
+    }
+
+    private CompletableFuture<V> load(K key, Supplier<CompletableFuture<V>> loader, long staleIfErrorMillis) {
+        Failure failure = failures.get(key);
+        if (failure != null) {
+            if (System.currentTimeMillis() - failure.failedAt < failureBackoffMillis) {
+                return CompletableFuture.failedFuture(failure.cause);
+            }
+            failures.remove(key, failure);
+        }
+        CompletableFuture<V> result = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, result);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        if (entries.containsKey(key)) {
+            refreshes.increment();
+        }
+        CompletableFuture<V> source;
+        try {
+            source = loader.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((value, e) -> {
+            if (e == null) {
+                failures.remove(key);
+                store(key, value, loader, staleIfErrorMillis);
+            } else {
+                failures.put(key, new Failure(System.currentTimeMillis(), e));
+                refreshFailures.increment();
+                markRefreshFailed(key);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cannot load the revocation information of {}", key, e);
+                }
+            }
+            loading.remove(key, result);
+            if (e == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private void store(K key, V value, Supplier<CompletableFuture<V>> loader, long staleIfErrorMillis) {
+        long now = System.currentTimeMillis();
+        long nextUpdate = nextUpdateOf.applyAsLong(value);
+        if (nextUpdate <= now) {
+            // Already outdated, so it cannot be served from the cache
+            entries.remove(key);
+            return;
+        }
+        Entry<V> previous = entries.get(key);
+        Entry<V> entry = new Entry<>(value, now, nextUpdate, loader, false);
+        entry.staleIfErrorMillis = staleIfErrorMillis;
+        if (previous != null) {
+            entry.lastAccess = previous.lastAccess;
+            entry.staleIfErrorMillis = Math.max(previous.staleIfErrorMillis, staleIfErrorMillis);
+        }
+        entries.put(key, entry);
+        if (entries.size() > maxSize) {
+            removeLeastRecentlyUsed();
+        }
+    }
+
+    private void markRefreshFailed(K key) {
+        Entry<V> entry;
+        do {
+            entry = entries.get(key);
+        } while (entry != null && !entry.refreshFailed && !entries.replace(key, entry, entry.refreshFailed()));
+    }
+
+    private void removeLeastRecentlyUsed() {
+        while (entries.size() > maxSize) {
+            Map.Entry<K, Entry<V>> leastRecentlyUsed = null;
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                if (leastRecentlyUsed == null
+                        || candidate.getValue().lastAccess < leastRecentlyUsed.getValue().lastAccess) {
+                    leastRecentlyUsed = candidate;
+                }
+            }
+            if (leastRecentlyUsed == null) {
+                return;
+            }
+            entries.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+        }
+    }
+
+    private boolean needsRefresh(Entry<V> entry, long now) {
+        // Short lived values are refreshed halfway through their lifetime
+        long refreshAhead = Math.min(refreshAheadMillis, (entry.nextUpdate - entry.loadedAt) / 2);
+        return entry.nextUpdate - now <= refreshAhead;
+    }
+
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            failures.values().removeIf(failure -> now - failure.failedAt >= failureBackoffMillis);
+            for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+                Entry<V> entry = mapEntry.getValue();
+                if (now >= entry.nextUpdate + entry.staleIfErrorMillis) {
+                    entries.remove(mapEntry.getKey(), entry);
+                } else if (needsRefresh(entry, now)) {
+                    load(mapEntry.getKey(), entry.loader, entry.staleIfErrorMillis);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Error while refreshing the revocation cache", e);
+        }
+    }
+
+    /**
+     * @return the values in the cache
+     */
+    public List<V> values() {
+        return entries.values().stream().map(entry -> entry.value).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the number of values in the cache
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups served with a valid value
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups served with a value that could not be refreshed after its next update time
+     */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to load the value
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of times a cached value was refreshed
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return the number of loads and refreshes that failed
+     */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * A cached value. Only the access time and the stale-if-error period change after it is created.
+     */
+    private static class Entry<V> {
+
+        private final V value;
+        private final long loadedAt;
+        private final long nextUpdate;
+        private final Supplier<CompletableFuture<V>> loader;
+        private final boolean refreshFailed;
+        private volatile long lastAccess;
+        private volatile long staleIfErrorMillis;
+
+        Entry(V value, long loadedAt, long nextUpdate, Supplier<CompletableFuture<V>> loader, boolean refreshFailed) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.nextUpdate = nextUpdate;
+            this.loader = loader;
+            this.refreshFailed = refreshFailed;
+            this.lastAccess = loadedAt;
+        }
+
+        Entry<V> refreshFailed() {
+            Entry<V> entry = new Entry<>(value, loadedAt, nextUpdate, loader, true);
+            entry.lastAccess = lastAccess;
+            entry.staleIfErrorMillis = staleIfErrorMillis;
+            return entry;
+        }
+    }
+
+    /**
+     * A failed load, remembered for the failure backoff period.
+     */
+    private static class Failure {
+
+        private final long failedAt;
+        private final Throwable cause;
+
+        Failure(long failedAt, Throwable cause) {
+            this.failedAt = failedAt;
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.crl;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.AsyncRevocationVerifier;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationFetcher;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationStatus;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.RevocationCache;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.CRLException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the revocation status of a certificate using the CRLs published by the CA without blocking the calling
+ * thread. CRLs are kept in a {@link RevocationCache} against their URLs and refreshed before their next update time.
+ */
+public class AsyncCRLVerifier implements AsyncRevocationVerifier {
+
+    private static final Map<String, RevocationCache<String, X509CRL>> SHARED_CACHES = new ConcurrentHashMap<>();
+
+    private final RevocationCache<String, X509CRL> cache;
+    private final RevocationFetcher fetcher;
+    private final long staleIfErrorMillis;
+
+    /**
+     * @param cache              the cache of CRLs
+     * @param fetcher            downloads the CRLs
+     * @param staleIfErrorMillis how long a CRL is used after its next update time when it cannot be refreshed
+     */
+    public AsyncCRLVerifier(RevocationCache<String, X509CRL> cache, RevocationFetcher fetcher,
+                            long staleIfErrorMillis) {
+        this.cache = cache;
+        this.fetcher = fetcher;
+        this.staleIfErrorMillis = staleIfErrorMillis;
+    }
+
+    /**
+     * Gets the cache of CRLs shared by all the transports configured with the given size and validity, creating it
+     * on first use.
+     *
+     * @param size         max size of the cache
+     * @param validityMins how long a CRL without a next update time is cached
+     * @return the shared cache
+     */
+    public static RevocationCache<String, X509CRL> getSharedCache(int size, int validityMins) {
+        return SHARED_CACHES.computeIfAbsent(size + ":" + validityMins, key -> {
+            long validityMillis = TimeUnit.MINUTES.toMillis(validityMins);
+            return new RevocationCache<>(
+                    size, Constants.REVOCATION_REFRESH_AHEAD_MILLIS, Constants.REVOCATION_SWEEP_INTERVAL_MILLIS,
+                    crl -> crl.getNextUpdate() != null ? crl.getNextUpdate().getTime()
+                            : System.currentTimeMillis() + validityMillis);
+        });
+    }
+
+    @Override
+    public CompletableFuture<RevocationStatus> checkRevocationStatus(X509Certificate peerCert,
+                                                                     X509Certificate issuerCert) {
+        List<String> crlUrls;
+        try {
+            crlUrls = CRLVerifier.getCrlDistributionPoints(peerCert);
+        } catch (CertificateVerificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        //check with distributions points in the list one by one. if one fails move to the other.
+        return RevocationFetcher.firstSuccessful(
+                crlUrls, crlUrl -> cache.get(crlUrl, () -> fetcher.getCRL(crlUrl).thenApply(AsyncCRLVerifier::parseCRL),
+                                             staleIfErrorMillis),
+                "Cannot check revocation status with the certificate")
+                .thenApply(crl -> CRLVerifier.getRevocationStatus(crl, peerCert));
+    }
+
+    private static X509CRL parseCRL(byte[] encoded) {
+        try {
+            CertificateFactory cf = CertificateFactory.getInstance(Constants.X_509);
+            return (X509CRL) cf.generateCRL(new ByteArrayInputStream(encoded));
+        } catch (CertificateException | CRLException e) {
+            throw new CompletionException(new CertificateVerificationException(
+                    "Cannot generate X509CRL from the stream data", e));
+        }
+    }
+}
@@ -85,7 +85,7 @@ public class CRLCache implements ManageableCache {
      *
      * @return next cache value of the cache.
      */
-    public synchronized ManageableCacheValue getNextCacheValue() {
+    public ManageableCacheValue getNextCacheValue() {
         //changes to the map are reflected on the keySet. And its iterator is weakly consistent. so will never
         //throw concurrent modification exception.
         if (iterator.hasNext()) {
@@ -99,7 +99,7 @@ public class CRLCache implements ManageableCache {
     /**
      * To get the current cache size (size of the hash map).
      */
-    public synchronized int getCacheSize() {
+    public int getCacheSize() {
         return hashMap.size();
     }
 
@@ -107,7 +107,7 @@ public class CRLCache implements ManageableCache {
         iterator = hashMap.entrySet().iterator();
     }
 
-    public synchronized X509CRL getCacheValue(String crlUrl) {
+    public X509CRL getCacheValue(String crlUrl) {
         CRLCacheValue cacheValue = hashMap.get(crlUrl);
         if (cacheValue != null) {
             //If someone gets this cache value before cache manager task found it is invalid, update it and get the
@@ -124,7 +124,7 @@ public class CRLCache implements ManageableCache {
         }
     }
 
-    public synchronized void setCacheValue(String crlUrl, X509CRL crl) {
+    public void setCacheValue(String crlUrl, X509CRL crl) {
         CRLCacheValue cacheValue = new CRLCacheValue(crlUrl, crl);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before setting - HashMap size {}", hashMap.size());
@@ -135,7 +135,7 @@ public class CRLCache implements ManageableCache {
         }
     }
 
-    public synchronized void removeCacheValue(String crlUrl) {
+    public void removeCacheValue(String crlUrl) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before removing - HashMap size {}", hashMap.size());
         }
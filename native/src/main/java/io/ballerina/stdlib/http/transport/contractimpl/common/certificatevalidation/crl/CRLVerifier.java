@@ -105,7 +105,7 @@ public class CRLVerifier implements RevocationVerifier {
         throw new CertificateVerificationException("Cannot check revocation status with the certificate");
     }
 
-    private RevocationStatus getRevocationStatus(X509CRL x509CRL, X509Certificate peerCert) {
+    static RevocationStatus getRevocationStatus(X509CRL x509CRL, X509Certificate peerCert) {
         if (x509CRL.isRevoked(peerCert)) {
             return RevocationStatus.REVOKED;
         } else {
@@ -142,7 +142,7 @@ public class CRLVerifier implements RevocationVerifier {
      * extension in a X.509 certificate. If CRL distribution point extension is
      * unavailable, returns an empty list.
      */
-    private List<String> getCrlDistributionPoints(X509Certificate cert) throws CertificateVerificationException {
+    static List<String> getCrlDistributionPoints(X509Certificate cert) throws CertificateVerificationException {
 
         //Gets the DER-encoded OCTET string for the extension value for CRLDistributionPoints.
         byte[] crlDPExtensionValue = cert.getExtensionValue(Extension.cRLDistributionPoints.getId());
@@ -194,7 +194,8 @@ public class CRLVerifier implements RevocationVerifier {
         return crlUrls;
     }
 
-    private CRLDistPoint getOctetInputStream(DEROctetString crlDEROctetString) throws CertificateVerificationException {
+    private static CRLDistPoint getOctetInputStream(DEROctetString crlDEROctetString)
+            throws CertificateVerificationException {
         try (ASN1InputStream asn1InOctets = new ASN1InputStream(crlDEROctetString.getOctets())) {
             ASN1Primitive crlDERObject = asn1InOctets.readObject();
             return CRLDistPoint.getInstance(crlDERObject);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.AsyncRevocationVerifier;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationFetcher;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationStatus;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.RevocationCache;
+import org.bouncycastle.asn1.ocsp.OCSPResponseStatus;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.OCSPException;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+
+import java.io.IOException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the revocation status of a certificate using OCSP without blocking the calling thread. OCSP responses are
+ * kept in a {@link RevocationCache} and refreshed before their next update time.
+ */
+public class AsyncOCSPVerifier implements AsyncRevocationVerifier {
+
+    private static final Map<String, RevocationCache<String, OCSPResp>> SHARED_CACHES = new ConcurrentHashMap<>();
+
+    private final RevocationCache<String, OCSPResp> cache;
+    private final RevocationFetcher fetcher;
+    private final long staleIfErrorMillis;
+
+    /**
+     * @param cache              the cache of OCSP responses
+     * @param fetcher            fetches the OCSP responses
+     * @param staleIfErrorMillis how long an OCSP response is used after its next update time when it cannot be
+     *                           refreshed
+     */
+    public AsyncOCSPVerifier(RevocationCache<String, OCSPResp> cache, RevocationFetcher fetcher,
+                             long staleIfErrorMillis) {
+        this.cache = cache;
+        this.fetcher = fetcher;
+        this.staleIfErrorMillis = staleIfErrorMillis;
+    }
+
+    /**
+     * Gets the cache of OCSP responses shared by all the transports configured with the given size and validity,
+     * creating it on first use.
+     *
+     * @param size         max size of the cache
+     * @param validityMins how long a response without a next update time is cached
+     * @return the shared cache
+     */
+    public static RevocationCache<String, OCSPResp> getSharedCache(int size, int validityMins) {
+        return SHARED_CACHES.computeIfAbsent(size + ":" + validityMins,
+                                             key -> newCache(size, TimeUnit.MINUTES.toMillis(validityMins),
+                                                             Constants.REVOCATION_REFRESH_AHEAD_MILLIS,
+                                                             Constants.REVOCATION_SWEEP_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Creates a cache of OCSP responses.
+     *
+     * @param size                max size of the cache
+     * @param validityMillis      how long a response without a next update time is cached
+     * @param refreshAheadMillis  how long before its next update time a response is refreshed
+     * @param sweepIntervalMillis how often the responses are checked for refreshing
+     * @return the cache
+     */
+    public static RevocationCache<String, OCSPResp> newCache(int size, long validityMillis, long refreshAheadMillis,
+                                                             long sweepIntervalMillis) {
+        return new RevocationCache<>(size, refreshAheadMillis, sweepIntervalMillis, response -> {
+            SingleResp singleResp = getSingleResponses(response)[0];
+            return singleResp.getNextUpdate() != null ? singleResp.getNextUpdate().getTime()
+                    : System.currentTimeMillis() + validityMillis;
+        });
+    }
+
+    @Override
+    public CompletableFuture<RevocationStatus> checkRevocationStatus(X509Certificate peerCert,
+                                                                     X509Certificate issuerCert) {
+        List<String> locations;
+        try {
+            locations = OCSPVerifier.getAIALocations(peerCert);
+        } catch (CertificateVerificationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String key = issuerCert.getSubjectX500Principal().getName() + "#" + peerCert.getSerialNumber();
+        return cache.get(key, () -> fetchResponse(peerCert, issuerCert, locations), staleIfErrorMillis)
+                .thenApply(response -> getRevocationStatus(response, peerCert));
+    }
+
+    private CompletableFuture<OCSPResp> fetchResponse(X509Certificate peerCert, X509Certificate issuerCert,
+                                                      List<String> locations) {
+        byte[] request;
+        try {
+            request = OCSPVerifier.generateOCSPRequest(issuerCert, peerCert.getSerialNumber()).getEncoded();
+        } catch (CertificateVerificationException | IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return RevocationFetcher.firstSuccessful(
+                locations, serviceUrl -> fetcher.postOCSPRequest(serviceUrl, request)
+                        .thenApply(AsyncOCSPVerifier::parseResponse),
+                "Could not get revocation status from OCSP.");
+    }
+
+    private static OCSPResp parseResponse(byte[] encoded) {
+        try {
+            OCSPResp response = new OCSPResp(encoded);
+            if (response.getStatus() != OCSPResponseStatus.SUCCESSFUL) {
+                // Server didn't give the correct response.
+                throw new CompletionException(new CertificateVerificationException(
+                        "OCSP response status is " + response.getStatus()));
+            }
+            if (getSingleResponses(response).length == 0) {
+                throw new CompletionException(new CertificateVerificationException("OCSP response is empty"));
+            }
+            return response;
+        } catch (IOException e) {
+            throw new CompletionException(new CertificateVerificationException("Cannot read the OCSP response", e));
+        }
+    }
+
+    private static SingleResp[] getSingleResponses(OCSPResp response) {
+        try {
+            BasicOCSPResp basicResponse = (BasicOCSPResp) response.getResponseObject();
+            return basicResponse == null ? new SingleResp[0] : basicResponse.getResponses();
+        } catch (OCSPException e) {
+            throw new CompletionException(new CertificateVerificationException("Cannot read the OCSP response", e));
+        }
+    }
+
+    private static RevocationStatus getRevocationStatus(OCSPResp response, X509Certificate peerCert) {
+        for (SingleResp singleResp : getSingleResponses(response)) {
+            //For an OCSP response to be valid, certificate serial number should be equal to the ocsp serial number.
+            if (singleResp.getCertID().getSerialNumber().equals(peerCert.getSerialNumber())) {
+                try {
+                    return OCSPVerifier.getRevocationStatus(singleResp);
+                } catch (CertificateVerificationException e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }
+        throw new CompletionException(new CertificateVerificationException(
+                "OCSP response does not contain the status of certificate " + peerCert.getSerialNumber()));
+    }
+}
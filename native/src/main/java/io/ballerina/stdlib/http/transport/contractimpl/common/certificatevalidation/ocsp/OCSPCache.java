@@ -116,7 +116,7 @@ public class OCSPCache implements ManageableCache {
     }
 
 
-    public synchronized SingleResp getCacheValue(BigInteger serialNumber) {
+    public SingleResp getCacheValue(BigInteger serialNumber) {
         OCSPCacheValue cacheValue = hashMap.get(serialNumber);
         if (cacheValue == null) {
             return null;
@@ -132,7 +132,7 @@ public class OCSPCache implements ManageableCache {
         return cacheValue.getValue();
     }
 
-    public synchronized OCSPResp getOCSPCacheValue(BigInteger serialNumber) {
+    public OCSPResp getOCSPCacheValue(BigInteger serialNumber) {
         OCSPCacheValue cacheValue = hashMap.get(serialNumber);
         if (cacheValue != null) {
             if (!cacheValue.isValid()) {
@@ -147,7 +147,7 @@ public class OCSPCache implements ManageableCache {
         }
     }
 
-    public synchronized void setCacheValue(OCSPResp ocspResp, BigInteger serialNumber, SingleResp singleResp,
+    public void setCacheValue(OCSPResp ocspResp, BigInteger serialNumber, SingleResp singleResp,
             OCSPReq request, String serviceUrl) {
         OCSPCacheValue cacheValue = new OCSPCacheValue(ocspResp, serialNumber, singleResp, request, serviceUrl);
         if (LOG.isDebugEnabled()) {
@@ -159,7 +159,7 @@ public class OCSPCache implements ManageableCache {
         }
     }
 
-    public synchronized void removeCacheValue(BigInteger serialNumber) {
+    public void removeCacheValue(BigInteger serialNumber) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before removing - HashMap size {}", hashMap.size());
         }
@@ -131,7 +131,7 @@ public class OCSPVerifier implements RevocationVerifier {
         throw new CertificateVerificationException("Could not get revocation status from OCSP.");
     }
 
-    private RevocationStatus getRevocationStatus(SingleResp resp) throws CertificateVerificationException {
+    static RevocationStatus getRevocationStatus(SingleResp resp) throws CertificateVerificationException {
         Object status = resp.getCertStatus();
         if (status == CertificateStatus.GOOD) {
             return RevocationStatus.GOOD;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes all the content written through it as a single brotli stream, which is completed when the channel is
+ * closed. Netty's own brotli encoder compresses every buffer as a stream of its own, and decoders do not accept such
+ * concatenated streams once a body spans several buffers. Each buffer is flushed through the stream, so the encoded
+ * content is emitted as it is written, as with the zlib encoders.
+ */
+final class BrotliStreamEncoder extends ChannelOutboundHandlerAdapter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BrotliStreamEncoder.class);
+
+    private final Encoder.Parameters parameters;
+    private final ByteBufSink sink = new ByteBufSink();
+    private BrotliOutputStream brotliStream;
+    private boolean finished;
+
+    BrotliStreamEncoder(Encoder.Parameters parameters) {
+        this.parameters = parameters;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws IOException {
+        if (!(msg instanceof ByteBuf) || !((ByteBuf) msg).isReadable()) {
+            ctx.write(msg, promise);
+            return;
+        }
+        ByteBuf content = (ByteBuf) msg;
+        ByteBuf encoded = ctx.alloc().buffer();
+        try {
+            if (finished) {
+                throw new IOException("Brotli stream is already finished");
+            }
+            sink.target = encoded;
+            BrotliOutputStream stream = getBrotliStream();
+            content.readBytes(stream, content.readableBytes());
+            stream.flush();
+        } catch (IOException e) {
+            encoded.release();
+            throw e;
+        } finally {
+            sink.target = null;
+            content.release();
+        }
+        ctx.write(encoded, promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws IOException {
+        if (!finished) {
+            ByteBuf trailer = ctx.alloc().buffer();
+            try {
+                finish(trailer);
+            } catch (IOException e) {
+                trailer.release();
+                throw e;
+            }
+            ctx.writeAndFlush(trailer);
+        }
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (finished || brotliStream == null) {
+            return;
+        }
+        // Frees the native encoder of a stream that was abandoned before it was completed
+        ByteBuf discarded = ctx.alloc().buffer();
+        try {
+            finish(discarded);
+        } catch (IOException e) {
+            LOG.debug("Failed to release the brotli encoder", e);
+        } finally {
+            discarded.release();
+        }
+    }
+
+    private BrotliOutputStream getBrotliStream() throws IOException {
+        if (brotliStream == null) {
+            brotliStream = new BrotliOutputStream(sink, parameters);
+        }
+        return brotliStream;
+    }
+
+    private void finish(ByteBuf target) throws IOException {
+        finished = true;
+        sink.target = target;
+        try {
+            // An empty body still needs a complete stream
+            getBrotliStream().close();
+        } finally {
+            sink.target = null;
+        }
+    }
+
+    /**
+     * Collects the output of the brotli stream into the buffer of the write in progress.
+     */
+    private static final class ByteBufSink extends OutputStream {
+
+        private ByteBuf target;
+
+        @Override
+        public void write(int b) {
+            target.writeByte(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            target.writeBytes(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.netty.handler.codec.compression.CompressionOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Decides whether and how the responses of a listener are compressed, based on its {@link CompressionConfig}.
+ */
+public final class CompressionPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressionPolicy.class);
+
+    private final List<ContentCoding> codings = new ArrayList<>();
+    private final CompressionLevel level;
+    private final long minResponseSize;
+    private final List<String> contentTypes = new ArrayList<>();
+
+    public CompressionPolicy(CompressionConfig compressionConfig) {
+        for (String encoding : compressionConfig.getEncodings()) {
+            ContentCoding coding = ContentCoding.of(encoding);
+            if (coding == null) {
+                LOG.warn("Ignoring unsupported content coding: {}", encoding);
+            } else if (!coding.isAvailable()) {
+                LOG.warn("Ignoring content coding {} as its native library is not available", encoding);
+            } else if (!codings.contains(coding)) {
+                codings.add(coding);
+            }
+        }
+        this.level = compressionConfig.getLevel();
+        this.minResponseSize = compressionConfig.getMinResponseSize();
+        for (String contentType : compressionConfig.getContentTypes()) {
+            contentTypes.add(contentType.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @return the level applied to the responses of resources that do not set their own
+     */
+    public CompressionLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the options of the codings a compressor must support. Gzip and deflate are always included since a
+     * service may ask for them explicitly through the content-encoding of its response.
+     *
+     * @return the compression options
+     */
+    public CompressionOptions[] getCompressionOptions() {
+        List<ContentCoding> supported = new ArrayList<>(codings);
+        for (ContentCoding coding : Arrays.asList(ContentCoding.GZIP, ContentCoding.DEFLATE)) {
+            if (!supported.contains(coding)) {
+                supported.add(coding);
+            }
+        }
+        CompressionOptions[] options = new CompressionOptions[supported.size()];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = supported.get(i).getCompressionOptions(level);
+        }
+        return options;
+    }
+
+    /**
+     * Checks whether a response is worth compressing.
+     *
+     * @param contentLength the length of the response body, or -1 if it is not known
+     * @param contentType   the content-type of the response
+     * @return true if the response may be compressed
+     */
+    public boolean isCompressible(long contentLength, String contentType) {
+        if (contentLength >= 0 && contentLength < minResponseSize) {
+            return false;
+        }
+        if (contentTypes.isEmpty()) {
+            return true;
+        }
+        return contentType != null && contentTypes.stream().anyMatch(
+                contentType.toLowerCase(Locale.ROOT)::contains);
+    }
+
+    /**
+     * Selects the coding to apply from the accept-encoding of a request. Among the codings the client accepts with
+     * the highest q-value, the one configured first wins.
+     *
+     * @param acceptEncoding the accept-encoding header value
+     * @return the name of the chosen coding, or null if the response should not be compressed
+     */
+    public String selectEncoding(String acceptEncoding) {
+        float starQ = -1.0f;
+        float[] qValues = new float[codings.size()];
+        Arrays.fill(qValues, -1.0f);
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String encoding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            float qValue = qValueOf(parameters);
+            if ("*".equals(encoding)) {
+                starQ = qValue;
+                continue;
+            }
+            for (int i = 0; i < qValues.length; i++) {
+                if (encoding.equals(codings.get(i).getEncoding())) {
+                    qValues[i] = Math.max(qValues[i], qValue);
+                    break;
+                }
+            }
+        }
+        int selected = -1;
+        for (int i = 0; i < qValues.length; i++) {
+            if (qValues[i] > 0.0f && (selected == -1 || qValues[i] > qValues[selected])) {
+                selected = i;
+            }
+        }
+        if (selected == -1 && starQ > 0.0f) {
+            for (int i = 0; i < qValues.length && selected == -1; i++) {
+                if (qValues[i] == -1.0f) {
+                    selected = i;
+                }
+            }
+        }
+        return selected == -1 ? null : codings.get(selected).getEncoding();
+    }
+
+    /**
+     * Reads the q-value among the parameters of an accept-encoding element. An invalid q-value excludes the coding.
+     */
+    private static float qValueOf(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            int equalsPos = parameter.indexOf('=');
+            if (equalsPos == -1 || !"q".equalsIgnoreCase(parameter.substring(0, equalsPos).trim())) {
+                continue;
+            }
+            try {
+                float qValue = Float.parseFloat(parameter.substring(equalsPos + 1).trim());
+                return qValue >= 0.0f && qValue <= 1.0f ? qValue : 0.0f;
+            } catch (NumberFormatException e) {
+                return 0.0f;
+            }
+        }
+        return 1.0f;
+    }
+}
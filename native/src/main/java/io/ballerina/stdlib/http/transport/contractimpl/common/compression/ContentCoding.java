@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.luben.zstd.ZstdInputStream;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The content codings supported in both directions. Brotli and zstd rely on native libraries, so they are only used
+ * when those can be loaded.
+ */
+public enum ContentCoding {
+    BROTLI(Constants.ENCODING_BROTLI) {
+        @Override
+        public boolean isAvailable() {
+            return Brotli.isAvailable();
+        }
+
+        @Override
+        public CompressionOptions getCompressionOptions(CompressionLevel level) {
+            return StandardCompressionOptions.brotli(brotliParameters(level));
+        }
+
+        @Override
+        public ChannelHandler newEncoder(CompressionLevel level) {
+            return new BrotliStreamEncoder(brotliParameters(level));
+        }
+
+        @Override
+        public InputStream newDecodingStream(InputStream encoded) throws IOException {
+            return new BrotliInputStream(encoded);
+        }
+    },
+    ZSTD(Constants.ENCODING_ZSTD) {
+        @Override
+        public boolean isAvailable() {
+            return Zstd.isAvailable();
+        }
+
+        @Override
+        public CompressionOptions getCompressionOptions(CompressionLevel level) {
+            return StandardCompressionOptions.zstd(level.getZstdLevel(), ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE);
+        }
+
+        @Override
+        public ChannelHandler newEncoder(CompressionLevel level) {
+            return new ZstdEncoder(level.getZstdLevel(), ZSTD_BLOCK_SIZE, ZSTD_MAX_ENCODE_SIZE);
+        }
+
+        @Override
+        public InputStream newDecodingStream(InputStream encoded) throws IOException {
+            return new ZstdInputStream(encoded);
+        }
+    },
+    GZIP(Constants.ENCODING_GZIP) {
+        @Override
+        public CompressionOptions getCompressionOptions(CompressionLevel level) {
+            return StandardCompressionOptions.gzip(level.getZlibLevel(), ZLIB_WINDOW_BITS, ZLIB_MEM_LEVEL);
+        }
+
+        @Override
+        public ChannelHandler newEncoder(CompressionLevel level) {
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level.getZlibLevel(), ZLIB_WINDOW_BITS,
+                                                   ZLIB_MEM_LEVEL);
+        }
+
+        @Override
+        public InputStream newDecodingStream(InputStream encoded) throws IOException {
+            return new GZIPInputStream(encoded);
+        }
+    },
+    DEFLATE(Constants.ENCODING_DEFLATE) {
+        @Override
+        public CompressionOptions getCompressionOptions(CompressionLevel level) {
+            return StandardCompressionOptions.deflate(level.getZlibLevel(), ZLIB_WINDOW_BITS, ZLIB_MEM_LEVEL);
+        }
+
+        @Override
+        public ChannelHandler newEncoder(CompressionLevel level) {
+            return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, level.getZlibLevel(), ZLIB_WINDOW_BITS,
+                                                   ZLIB_MEM_LEVEL);
+        }
+
+        @Override
+        public InputStream newDecodingStream(InputStream encoded) {
+            return new InflaterInputStream(encoded);
+        }
+    };
+
+    private static final int ZLIB_WINDOW_BITS = 15;
+    private static final int ZLIB_MEM_LEVEL = 8;
+    private static final int ZSTD_BLOCK_SIZE = 64 * 1024;
+    private static final int ZSTD_MAX_ENCODE_SIZE = 32 * 1024 * 1024;
+
+    private final String encoding;
+
+    ContentCoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * The name of the coding used in the content-encoding and accept-encoding headers.
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Gets the options Netty's compressors use for this coding.
+     *
+     * @param level the compression level
+     * @return the compression options
+     */
+    public abstract CompressionOptions getCompressionOptions(CompressionLevel level);
+
+    /**
+     * Creates a handler that encodes the bytes written through it.
+     *
+     * @param level the compression level
+     * @return the encoder
+     */
+    public abstract ChannelHandler newEncoder(CompressionLevel level);
+
+    /**
+     * Wraps a stream of encoded content with one that decodes it.
+     *
+     * @param encoded the encoded content
+     * @return the stream of decoded content
+     * @throws IOException if the encoded content cannot be read
+     */
+    public abstract InputStream newDecodingStream(InputStream encoded) throws IOException;
+
+    /**
+     * Finds the coding of the given content-encoding.
+     *
+     * @param encoding the name of the content-encoding
+     * @return the coding, or null if the encoding is not supported
+     */
+    public static ContentCoding of(String encoding) {
+        String name = encoding.trim().toLowerCase(Locale.ROOT);
+        for (ContentCoding coding : values()) {
+            if (coding.encoding.equals(name)) {
+                return coding;
+            }
+        }
+        return null;
+    }
+
+    private static Encoder.Parameters brotliParameters(CompressionLevel level) {
+        return new Encoder.Parameters().setQuality(level.getBrotliQuality());
+    }
+}
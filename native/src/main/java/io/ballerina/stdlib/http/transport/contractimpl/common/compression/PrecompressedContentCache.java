@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps the compressed bodies of responses carrying a strong ETag, so that later responses of the same resource with
+ * the same ETag are served without compressing them again. Entries are evicted in insertion order once the cache is
+ * full.
+ * <p>
+ * The handlers returned by {@link #newEncoderHandlers} are placed in the embedded channel a content encoder writes
+ * a response body through. On a miss the encoded bytes are recorded on their way out, and stored once the whole
+ * body has passed through. On a hit the body is discarded and the stored bytes are emitted when the encoder is
+ * finished.
+ */
+public final class PrecompressedContentCache {
+
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final int maxEntries;
+    private final int maxBodySize;
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public PrecompressedContentCache(int maxEntries, int maxBodySize) {
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Gets the key the compressed body of a response is cached under. A strong ETag only identifies a body within
+     * its resource, so the key includes the host and target of the request.
+     *
+     * @param resource the host and target of the request
+     * @param response the response headers
+     * @param coding   the coding applied to the body
+     * @param level    the compression level
+     * @return the key, or null if the body of the response must not be cached
+     */
+    public String getCacheKey(String resource, HttpResponse response, ContentCoding coding, CompressionLevel level) {
+        if (!HttpResponseStatus.OK.equals(response.status())) {
+            return null;
+        }
+        String etag = response.headers().get(HttpHeaderNames.ETAG);
+        String contentLength = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (etag == null || etag.startsWith(WEAK_ETAG_PREFIX) || contentLength == null) {
+            return null;
+        }
+        long bodySize;
+        try {
+            bodySize = Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (bodySize <= 0 || bodySize > maxBodySize) {
+            return null;
+        }
+        return etag + '|' + bodySize + '|' + coding.getEncoding() + '|' + level + '|' + resource;
+    }
+
+    /**
+     * Creates the handlers that encode a response body through the cache.
+     *
+     * @param cacheKey      the key of the response
+     * @param contentLength the length of the body before it is encoded
+     * @param coding        the coding applied on a miss
+     * @param level         the compression level applied on a miss
+     * @return the handlers, in the order they are added to the embedded channel
+     */
+    public ChannelHandler[] newEncoderHandlers(String cacheKey, long contentLength, ContentCoding coding,
+                                               CompressionLevel level) {
+        byte[] encoded = entries.get(cacheKey);
+        if (encoded != null) {
+            return new ChannelHandler[]{new EncodedContentReplayer(encoded)};
+        }
+        EncodedContentRecorder recorder = new EncodedContentRecorder(cacheKey, contentLength);
+        return new ChannelHandler[]{recorder, coding.newEncoder(level), recorder.newContentCounter()};
+    }
+
+    /**
+     * @return the number of cached bodies
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(String cacheKey, byte[] encoded) {
+        if (entries.putIfAbsent(cacheKey, encoded) != null) {
+            return;
+        }
+        insertionOrder.add(cacheKey);
+        while (entries.size() > maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * Records the bytes leaving the encoder, and stores them when the encoder is closed after the complete body
+     * went through it. A body cut short by an aborted response is never stored.
+     */
+    private final class EncodedContentRecorder extends ChannelOutboundHandlerAdapter {
+
+        private final String cacheKey;
+        private final long contentLength;
+        private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        private long consumed;
+        private boolean overflowed;
+
+        private EncodedContentRecorder(String cacheKey, long contentLength) {
+            this.cacheKey = cacheKey;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof ByteBuf && !overflowed) {
+                ByteBuf content = (ByteBuf) msg;
+                if (encoded.size() + content.readableBytes() > maxBodySize) {
+                    overflowed = true;
+                } else {
+                    content.getBytes(content.readerIndex(), encoded, content.readableBytes());
+                }
+            }
+            ctx.write(msg, promise);
+        }
+
+        @Override
+        public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+            if (!overflowed && consumed == contentLength) {
+                put(cacheKey, encoded.toByteArray());
+            }
+            ctx.close(promise);
+        }
+
+        private ChannelHandler newContentCounter() {
+            return new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                    if (msg instanceof ByteBuf) {
+                        consumed += ((ByteBuf) msg).readableBytes();
+                    }
+                    ctx.write(msg, promise);
+                }
+            };
+        }
+    }
+
+    /**
+     * Discards the body written to it and emits the cached encoded bytes instead when it is closed.
+     */
+    private static final class EncodedContentReplayer extends ChannelOutboundHandlerAdapter {
+
+        private final byte[] encoded;
+
+        private EncodedContentReplayer(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.setSuccess();
+        }
+
+        @Override
+        public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+            ctx.writeAndFlush(Unpooled.wrappedBuffer(encoded));
+            ctx.close(promise);
+        }
+    }
+}
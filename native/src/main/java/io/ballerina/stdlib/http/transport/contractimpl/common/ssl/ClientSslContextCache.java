@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Holds the client side SSL contexts built from a {@link SSLConfig}, so that every outbound connection of a client
+ * shares the parsed key and trust material and, more importantly, the client session cache of the context. Engines
+ * created from the cached contexts are bound to the peer host and port, which lets pool refills and HTTP/2
+ * reconnects resume the TLS session instead of doing a full handshake.
+ */
+public class ClientSslContextCache {
+
+    // Bounds the sessions remembered for resumption detection, older sessions are counted as full handshakes
+    private static final int MAX_ESTABLISHED_SESSIONS = 2048;
+    private static final Cleaner CONTEXT_CLEANER = Cleaner.create();
+
+    private final SSLConfig sslConfig;
+    private final SslHandshakeMetrics handshakeMetrics = new SslHandshakeMetrics();
+    private final Map<Object, Boolean> establishedSessions = Collections.synchronizedMap(
+            new LinkedHashMap<Object, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                    return size() > MAX_ESTABLISHED_SESSIONS;
+                }
+            });
+    private volatile SSLHandlerFactory sslHandlerFactory;
+    private final CachedContexts contexts = new CachedContexts();
+
+    ClientSslContextCache(SSLConfig sslConfig) {
+        this.sslConfig = sslConfig;
+        // Frees the native OpenSSL contexts of a client configuration which is dropped without being closed
+        CONTEXT_CLEANER.register(this, contexts);
+    }
+
+    /**
+     * Returns the shared {@link SSLHandlerFactory} of the client. The JDK {@link javax.net.ssl.SSLContext} of the
+     * factory is initialized from the configured key and trust stores only once, unless certificate validation is
+     * disabled altogether.
+     *
+     * @return the shared ssl handler factory
+     */
+    public SSLHandlerFactory getSslHandlerFactory() {
+        SSLHandlerFactory handlerFactory = sslHandlerFactory;
+        if (handlerFactory == null) {
+            synchronized (this) {
+                handlerFactory = sslHandlerFactory;
+                if (handlerFactory == null) {
+                    handlerFactory = new SSLHandlerFactory(sslConfig);
+                    if (!sslConfig.isDisableSsl()) {
+                        handlerFactory.createSSLContextFromKeystores(false);
+                    }
+                    sslHandlerFactory = handlerFactory;
+                }
+            }
+        }
+        return handlerFactory;
+    }
+
+    /**
+     * Returns the cached context used by HTTP/1.x connections, building it with the given factory on first use.
+     *
+     * @param contextFactory builds the context when it is not cached yet
+     * @return the shared HTTP/1.x client context
+     * @throws Exception if the context cannot be built
+     */
+    public SslContext getHttpContext(SslContextFactory contextFactory) throws Exception {
+        SslContext sslContext = contexts.http;
+        if (sslContext == null) {
+            synchronized (this) {
+                sslContext = contexts.http;
+                if (sslContext == null) {
+                    sslContext = contextFactory.create(getSslHandlerFactory());
+                    contexts.http = sslContext;
+                }
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * Returns the cached ALPN enabled context used by HTTP/2 connections, building it with the given factory on
+     * first use.
+     *
+     * @param contextFactory builds the context when it is not cached yet
+     * @return the shared HTTP/2 client context
+     * @throws Exception if the context cannot be built
+     */
+    public SslContext getHttp2Context(SslContextFactory contextFactory) throws Exception {
+        SslContext sslContext = contexts.http2;
+        if (sslContext == null) {
+            synchronized (this) {
+                sslContext = contexts.http2;
+                if (sslContext == null) {
+                    sslContext = contextFactory.create(getSslHandlerFactory());
+                    contexts.http2 = sslContext;
+                }
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * Releases the cached contexts. Connections which are still open keep their engines, and the next connection
+     * builds a new context.
+     */
+    public synchronized void release() {
+        contexts.run();
+    }
+
+    /**
+     * Counts the outcome of the handshake of the given handler in the {@link SslHandshakeMetrics} of the client.
+     *
+     * @param sslHandler the ssl handler of a new outbound connection
+     */
+    public void recordHandshake(SslHandler sslHandler) {
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (!future.isSuccess()) {
+                handshakeMetrics.incrementFailedHandshakes();
+                return;
+            }
+            handshakeMetrics.incrementHandshakes();
+            if (isResumed(sslHandler.engine().getSession())) {
+                handshakeMetrics.incrementResumedHandshakes();
+            }
+        });
+    }
+
+    /**
+     * A handshake is counted as resumed when its session was established by an earlier handshake of this client.
+     * TLS 1.2 resumption reuses the session ID. TLS 1.3 resumption issues a new session ID, but the resumed session
+     * keeps the peer and the creation time of the session it was resumed from, so those identify it instead.
+     */
+    private boolean isResumed(SSLSession session) {
+        if (session == null) {
+            return false;
+        }
+        boolean resumed = false;
+        byte[] sessionId = session.getId();
+        if (sessionId != null && sessionId.length > 0) {
+            resumed = establishedSessions.put(ByteBuffer.wrap(sessionId), Boolean.TRUE) != null;
+        }
+        String sessionOrigin = session.getPeerHost() + ':' + session.getPeerPort() + '@' + session.getCreationTime();
+        return establishedSessions.put(sessionOrigin, Boolean.TRUE) != null || resumed;
+    }
+
+    /**
+     * @return the handshake counters of the connections sharing this cache
+     */
+    public SslHandshakeMetrics getHandshakeMetrics() {
+        return handshakeMetrics;
+    }
+
+    /**
+     * The cached contexts, kept apart from the cache so that the cleaner can release them once the cache is no
+     * longer reachable.
+     */
+    private static final class CachedContexts implements Runnable {
+
+        private volatile SslContext http;
+        private volatile SslContext http2;
+
+        @Override
+        public void run() {
+            ReferenceCountUtil.release(http);
+            ReferenceCountUtil.release(http2);
+            http = null;
+            http2 = null;
+        }
+    }
+
+    /**
+     * Builds a client {@link SslContext} from the shared {@link SSLHandlerFactory}.
+     */
+    @FunctionalInterface
+    public interface SslContextFactory {
+        SslContext create(SSLHandlerFactory sslHandlerFactory) throws Exception;
+    }
+}
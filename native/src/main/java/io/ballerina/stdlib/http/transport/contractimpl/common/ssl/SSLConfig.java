@@ -50,6 +50,7 @@ public class SSLConfig {
     private boolean validateCertEnabled;
     private int cacheSize = 50;
     private int cacheValidityPeriod = 15;
+    private long revocationStaleIfErrorMillis = 0;
     private boolean ocspStaplingEnabled = false;
     private boolean hostNameVerificationEnabled = true;
     private File serverKeyFile;
@@ -64,6 +65,7 @@ public class SSLConfig {
     private long handshakeTimeOut;
     private boolean disableSsl = false;
     private boolean useJavaDefaults = false;
+    private volatile ClientSslContextCache clientSslContextCache;
 
     public SSLConfig() {}
 
@@ -233,6 +235,14 @@ public class SSLConfig {
         this.cacheValidityPeriod = cacheValidityPeriod;
     }
 
+    public long getRevocationStaleIfErrorMillis() {
+        return revocationStaleIfErrorMillis;
+    }
+
+    public void setRevocationStaleIfErrorMillis(long revocationStaleIfErrorMillis) {
+        this.revocationStaleIfErrorMillis = revocationStaleIfErrorMillis;
+    }
+
     public boolean isOcspStaplingEnabled() {
         return ocspStaplingEnabled;
     }
@@ -344,4 +354,24 @@ public class SSLConfig {
     public void setUseJavaDefaults() {
         this.useJavaDefaults = true;
     }
+
+    /**
+     * Returns the cache of the client SSL contexts built from this configuration. The cache is created on first use,
+     * so the configuration is expected to be complete by the time the first connection is opened.
+     *
+     * @return the client ssl context cache
+     */
+    public ClientSslContextCache getClientSslContextCache() {
+        ClientSslContextCache contextCache = clientSslContextCache;
+        if (contextCache == null) {
+            synchronized (this) {
+                contextCache = clientSslContextCache;
+                if (contextCache == null) {
+                    contextCache = new ClientSslContextCache(this);
+                    clientSslContextCache = contextCache;
+                }
+            }
+        }
+        return contextCache;
+    }
 }
@@ -360,7 +360,7 @@ public class SSLHandlerFactory {
         if (sessionTimeout > 0) {
             sslContext.sessionContext().setSessionTimeout(sessionTimeout);
         }
-        return sslContextBuilder.build();
+        return sslContext;
     }
 
     private void setCiphers(SslContextBuilder sslContextBuilder, List<String> ciphers) {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the TLS handshakes performed by the outbound connections sharing a {@link ClientSslContextCache}.
+ */
+public final class SslHandshakeMetrics {
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failedHandshakes = new LongAdder();
+
+    void incrementHandshakes() {
+        handshakes.increment();
+    }
+
+    void incrementResumedHandshakes() {
+        resumedHandshakes.increment();
+    }
+
+    void incrementFailedHandshakes() {
+        failedHandshakes.increment();
+    }
+
+    /**
+     * @return the number of successful handshakes, including the resumed ones
+     */
+    public long getHandshakes() {
+        return handshakes.sum();
+    }
+
+    /**
+     * @return the number of successful handshakes which resumed a cached TLS session
+     */
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    /**
+     * @return the number of handshakes which failed or timed out
+     */
+    public long getFailedHandshakes() {
+        return failedHandshakes.sum();
+    }
+
+    /**
+     * @return the fraction of successful handshakes which resumed a cached TLS session
+     */
+    public double getResumptionRatio() {
+        long total = handshakes.sum();
+        return total == 0 ? 0 : (double) resumedHandshakes.sum() / total;
+    }
+}
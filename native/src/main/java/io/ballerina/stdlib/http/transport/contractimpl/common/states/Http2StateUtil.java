@@ -131,7 +131,7 @@ public class Http2StateUtil {
         ChannelHandlerContext ctx = http2SourceHandler.getChannelHandlerContext();
         HttpCarbonRequest sourceReqCMsg = new HttpCarbonRequest(httpRequest, new Http2InboundContentListener(
             streamId, ctx, http2SourceHandler.getConnection(), INBOUND_REQUEST));
-        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
+        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, PooledDataStreamerFactory.forAllocator(ctx.alloc()));
         sourceReqCMsg.setProperty(CHNL_HNDLR_CTX, ctx);
         sourceReqCMsg.setProperty(Constants.SRC_HANDLER, http2SourceHandler);
         HttpVersion protocolVersion = httpRequest.protocolVersion();
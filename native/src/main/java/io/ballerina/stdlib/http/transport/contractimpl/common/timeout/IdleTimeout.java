@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.timeout;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
+
+/**
+ * An idle timeout registered with an {@link IdleTimeoutWheel}. Recording activity and cancelling are O(1) and can be
+ * done from any thread; the wheel notices both the next time it visits the timeout.
+ */
+public final class IdleTimeout {
+
+    private final long timeoutNanos;
+    private final Listener listener;
+    private volatile long lastActivityNanos;
+    private volatile boolean cancelled;
+
+    // The following are only accessed from the event loop which owns the wheel
+    private long lastIdleNanos;
+    private boolean idleFired;
+    long tick;
+    IdleTimeout next;
+
+    IdleTimeout(long timeoutNanos, Listener listener) {
+        this.timeoutNanos = timeoutNanos;
+        this.listener = listener;
+        this.lastActivityNanos = ticksInNanos();
+    }
+
+    /**
+     * Records activity, which pushes the timeout back by a full period.
+     */
+    public void touch() {
+        lastActivityNanos = ticksInNanos();
+    }
+
+    /**
+     * Cancels the timeout. The listener is not notified after this returns, unless it is already running.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    long getDeadlineNanos() {
+        long lastActivity = lastActivityNanos;
+        return (idleFired && lastIdleNanos - lastActivity > 0 ? lastIdleNanos : lastActivity) + timeoutNanos;
+    }
+
+    void expire(long nowNanos) {
+        boolean first = !idleFired || lastActivityNanos - lastIdleNanos > 0;
+        idleFired = true;
+        lastIdleNanos = nowNanos;
+        listener.onIdleTimeout(this, first);
+    }
+
+    /**
+     * Listener notified on the owning event loop when no activity has been recorded for a full timeout period.
+     * Unless the timeout is cancelled, the listener is notified again after every further idle period.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called when the timeout expires.
+         *
+         * @param timeout the expired timeout
+         * @param first   whether this is the first expiry since the last recorded activity
+         */
+        void onIdleTimeout(IdleTimeout timeout, boolean first);
+    }
+}
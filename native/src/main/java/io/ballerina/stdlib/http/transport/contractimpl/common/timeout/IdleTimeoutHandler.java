@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.timeout;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A drop-in replacement for {@link IdleStateHandler} which tracks its timeouts on the event loop's
+ * {@link IdleTimeoutWheel} instead of scheduling a task per channel. It fires the same {@link IdleStateEvent}s, so
+ * handlers further down the pipeline are unaffected. A time of zero or less disables the corresponding timeout.
+ */
+public class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+    private final long readerIdleTimeNanos;
+    private final long writerIdleTimeNanos;
+    private final long allIdleTimeNanos;
+    private final ChannelFutureListener writeListener = future -> writeCompleted();
+
+    private IdleTimeout readerIdleTimeout;
+    private IdleTimeout writerIdleTimeout;
+    private IdleTimeout allIdleTimeout;
+    private boolean initialized;
+    private boolean destroyed;
+
+    public IdleTimeoutHandler(long readerIdleTime, long writerIdleTime, long allIdleTime, TimeUnit unit) {
+        this.readerIdleTimeNanos = unit.toNanos(readerIdleTime);
+        this.writerIdleTimeNanos = unit.toNanos(writerIdleTime);
+        this.allIdleTimeNanos = unit.toNanos(allIdleTime);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        destroy();
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isActive()) {
+            initialize(ctx);
+        }
+        super.channelRegistered(ctx);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        touch(readerIdleTimeout);
+        touch(allIdleTimeout);
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (writerIdleTimeout != null || allIdleTimeout != null) {
+            ctx.write(msg, promise.unvoid()).addListener(writeListener);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void writeCompleted() {
+        touch(writerIdleTimeout);
+        touch(allIdleTimeout);
+    }
+
+    private void initialize(ChannelHandlerContext ctx) {
+        if (initialized || destroyed) {
+            return;
+        }
+        initialized = true;
+        readerIdleTimeout = schedule(ctx, readerIdleTimeNanos, IdleState.READER_IDLE);
+        writerIdleTimeout = schedule(ctx, writerIdleTimeNanos, IdleState.WRITER_IDLE);
+        allIdleTimeout = schedule(ctx, allIdleTimeNanos, IdleState.ALL_IDLE);
+    }
+
+    private static IdleTimeout schedule(ChannelHandlerContext ctx, long idleTimeNanos, IdleState state) {
+        if (idleTimeNanos <= 0) {
+            return null;
+        }
+        return IdleTimeoutWheel.schedule(ctx.executor(), idleTimeNanos, (timeout, first) -> {
+            if (ctx.channel().isOpen()) {
+                ctx.fireUserEventTriggered(getIdleStateEvent(state, first));
+            }
+        });
+    }
+
+    private static IdleStateEvent getIdleStateEvent(IdleState state, boolean first) {
+        switch (state) {
+            case READER_IDLE:
+                return first ? IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT : IdleStateEvent.READER_IDLE_STATE_EVENT;
+            case WRITER_IDLE:
+                return first ? IdleStateEvent.FIRST_WRITER_IDLE_STATE_EVENT : IdleStateEvent.WRITER_IDLE_STATE_EVENT;
+            default:
+                return first ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT : IdleStateEvent.ALL_IDLE_STATE_EVENT;
+        }
+    }
+
+    private void destroy() {
+        destroyed = true;
+        cancel(readerIdleTimeout);
+        cancel(writerIdleTimeout);
+        cancel(allIdleTimeout);
+    }
+
+    private static void touch(IdleTimeout timeout) {
+        if (timeout != null) {
+            timeout.touch();
+        }
+    }
+
+    private static void cancel(IdleTimeout timeout) {
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.timeout;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
+
+/**
+ * A coarse-tick hashed wheel which tracks the idle timeouts of one event loop. Instead of a scheduled task per
+ * connection or stream, which has to be rescheduled whenever it fires early, each event loop runs a single periodic
+ * tick while it has timeouts. Activity only updates a timestamp on the {@link IdleTimeout}; the wheel re-buckets a
+ * timeout when it visits it and finds that it has been pushed back.
+ */
+public final class IdleTimeoutWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdleTimeoutWheel.class);
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Map<EventExecutor, IdleTimeoutWheel> WHEELS = new ConcurrentHashMap<>();
+
+    private final EventExecutor executor;
+    private final IdleTimeout[] buckets = new IdleTimeout[WHEEL_SIZE];
+    private final long startNanos;
+    private long currentTick;
+    private int size;
+    private ScheduledFuture<?> tickTask;
+
+    private IdleTimeoutWheel(EventExecutor executor) {
+        this.executor = executor;
+        this.startNanos = ticksInNanos();
+    }
+
+    /**
+     * Starts tracking an idle timeout on the given event loop. The listener is always notified on that event loop.
+     *
+     * @param executor     the event loop which owns the channel
+     * @param timeoutNanos the idle period in nanoseconds
+     * @param listener     the listener to notify when the period elapses without activity
+     * @return the registered timeout
+     */
+    public static IdleTimeout schedule(EventExecutor executor, long timeoutNanos, IdleTimeout.Listener listener) {
+        IdleTimeoutWheel wheel = forExecutor(executor);
+        IdleTimeout timeout = new IdleTimeout(Math.max(timeoutNanos, MIN_TIMEOUT_NANOS), listener);
+        if (executor.inEventLoop()) {
+            wheel.add(timeout);
+        } else {
+            executor.execute(() -> wheel.add(timeout));
+        }
+        return timeout;
+    }
+
+    static IdleTimeoutWheel forExecutor(EventExecutor executor) {
+        IdleTimeoutWheel wheel = WHEELS.get(executor);
+        return wheel != null ? wheel : WHEELS.computeIfAbsent(executor, IdleTimeoutWheel::new);
+    }
+
+    /**
+     * Returns the number of timeouts held by the wheel, including cancelled ones which have not been visited yet.
+     *
+     * @return the number of timeouts in the wheel
+     */
+    int size() {
+        return size;
+    }
+
+    private void add(IdleTimeout timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        if (tickTask == null) {
+            startTicking();
+        }
+        size++;
+        insert(timeout);
+    }
+
+    private void startTicking() {
+        currentTick = tickOf(ticksInNanos());
+        // Make sure the wheel is the one registered for the executor, it may have been dropped while it was idle
+        WHEELS.putIfAbsent(executor, this);
+        ScheduledFuture<?> task = executor.scheduleAtFixedRate(this::expireTimeouts, TICK_NANOS, TICK_NANOS,
+                                                               TimeUnit.NANOSECONDS);
+        // The tick is cancelled when the wheel runs empty, or when the event loop shuts down
+        task.addListener(future -> WHEELS.remove(executor, this));
+        tickTask = task;
+    }
+
+    private void insert(IdleTimeout timeout) {
+        // Bucket the timeout on the tick after its deadline, so that it has elapsed when the bucket is visited
+        long tick = Math.max(tickOf(timeout.getDeadlineNanos()) + 1, currentTick + 1);
+        int index = (int) (tick & WHEEL_MASK);
+        timeout.tick = tick;
+        timeout.next = buckets[index];
+        buckets[index] = timeout;
+    }
+
+    private long tickOf(long nanos) {
+        return Math.floorDiv(nanos - startNanos, TICK_NANOS);
+    }
+
+    void expireTimeouts() {
+        long nowNanos = ticksInNanos();
+        long nowTick = tickOf(nowNanos);
+        // If the event loop was held up for more than a full rotation every bucket is visited just once
+        long fromTick = Math.max(currentTick + 1, nowTick - WHEEL_MASK);
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            currentTick = tick;
+            expireBucket(tick, nowNanos);
+        }
+        currentTick = Math.max(currentTick, nowTick);
+        if (size == 0 && tickTask != null) {
+            tickTask.cancel(false);
+            tickTask = null;
+        }
+    }
+
+    private void expireBucket(long tick, long nowNanos) {
+        int index = (int) (tick & WHEEL_MASK);
+        IdleTimeout timeout = buckets[index];
+        buckets[index] = null;
+        while (timeout != null) {
+            IdleTimeout next = timeout.next;
+            timeout.next = null;
+            if (timeout.isCancelled()) {
+                size--;
+            } else if (timeout.tick > tick) {
+                // Belongs to a later rotation of the wheel
+                timeout.next = buckets[index];
+                buckets[index] = timeout;
+            } else if (timeout.getDeadlineNanos() - nowNanos <= 0) {
+                expire(timeout, nowNanos);
+            } else {
+                // Activity was recorded since the timeout was bucketed
+                insert(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void expire(IdleTimeout timeout, long nowNanos) {
+        try {
+            timeout.expire(nowNanos);
+        } catch (Exception e) {
+            LOG.warn("Idle timeout listener threw an exception", e);
+        }
+        if (timeout.isCancelled()) {
+            size--;
+        } else {
+            insert(timeout);
+        }
+    }
+}
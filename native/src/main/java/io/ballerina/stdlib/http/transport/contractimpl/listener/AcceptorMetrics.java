@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the connections accepted by a single acceptor socket of a listener.
+ */
+public final class AcceptorMetrics {
+
+    private final int acceptorId;
+    private final LongAdder acceptedConnections = new LongAdder();
+    private long acceptedAtLastSample;
+    private volatile long acceptRate;
+
+    AcceptorMetrics(int acceptorId) {
+        this.acceptorId = acceptorId;
+    }
+
+    void incrementAcceptedConnections() {
+        acceptedConnections.increment();
+    }
+
+    /**
+     * Updates the accept rate with the connections accepted since the previous sample. This is invoked once every
+     * second from the event loop of the acceptor.
+     */
+    void sampleAcceptRate() {
+        long accepted = acceptedConnections.sum();
+        acceptRate = accepted - acceptedAtLastSample;
+        acceptedAtLastSample = accepted;
+    }
+
+    /**
+     * @return the index of the acceptor socket within the listener
+     */
+    public int getAcceptorId() {
+        return acceptorId;
+    }
+
+    /**
+     * @return the number of connections accepted by the acceptor
+     */
+    public long getAcceptedConnections() {
+        return acceptedConnections.sum();
+    }
+
+    /**
+     * @return the number of connections accepted by the acceptor during the last second
+     */
+    public long getAcceptRate() {
+        return acceptRate;
+    }
+
+    /**
+     * Counts the connections accepted by the server channel it is added to.
+     */
+    @ChannelHandler.Sharable
+    static class AcceptCounter extends ChannelInboundHandlerAdapter {
+
+        private final AcceptorMetrics metrics;
+
+        AcceptCounter(AcceptorMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            metrics.incrementAcceptedConnections();
+            ctx.fireChannelRead(msg);
+        }
+    }
+}
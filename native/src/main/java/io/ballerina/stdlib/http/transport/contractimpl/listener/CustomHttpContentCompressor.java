@@ -1,23 +1,69 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.CompressionPolicy;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.ContentCoding;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.PrecompressedContentCache;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
 
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 
 /**
- * Custom Http Content Compressor to handle the content-length and transfer encoding.
+ * Custom Http Content Compressor to handle the content-length and transfer encoding. Which responses are compressed
+ * and with which coding is decided by the {@link CompressionPolicy} of the listener.
  */
 public class CustomHttpContentCompressor extends HttpContentCompressor {
 
+    private final CompressionPolicy compressionPolicy;
+    private final PrecompressedContentCache precompressedContentCache;
+    // Host and target of the requests the responses are for, in the order the requests were received
+    private final Queue<String> requestResources = new ArrayDeque<>();
     private HttpMethod method;
+    private ChannelHandlerContext ctx;
+    private CompressionLevel responseLevel;
+    private String responseResource;
 
     public CustomHttpContentCompressor() {
-        super();
+        this(new CompressionPolicy(new CompressionConfig()), null);
+    }
+
+    public CustomHttpContentCompressor(CompressionPolicy compressionPolicy,
+                                       PrecompressedContentCache precompressedContentCache) {
+        super(compressionPolicy.getCompressionOptions());
+        this.compressionPolicy = compressionPolicy;
+        this.precompressedContentCache = precompressedContentCache;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+        if (msg instanceof HttpResponse) {
+            // Set by the writer of the response right before the response is written
+            responseLevel = ctx.channel().attr(Constants.RESPONSE_COMPRESSION_LEVEL).getAndSet(null);
+            if (((HttpResponse) msg).status().code() != HttpResponseStatus.CONTINUE.code()) {
+                responseResource = requestResources.poll();
+            }
+        }
+        super.encode(ctx, msg, out);
     }
 
     @Override
@@ -27,20 +73,56 @@ public class CustomHttpContentCompressor extends HttpContentCompressor {
         if (method == HttpMethod.OPTIONS && allowHeader != null && contentLength.equals("0")) {
             return null;
         }
+        long bodySize = getBodySize(headers);
+        String targetContentEncoding;
         String contentEncoding = headers.headers().get(HttpHeaderNames.CONTENT_ENCODING);
         if (contentEncoding != null) {
-            //When the response contains content-encoding header, override acceptEncoding value with it, which will
-            //ultimately be used for compression and then remove the content-encoding header from response.
-            acceptEncoding = contentEncoding;
+            //When the response contains content-encoding header, the response is compressed with it regardless of the
+            //accept-encoding value and then content-encoding header is removed from response.
             headers.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+            targetContentEncoding = determineEncoding(contentEncoding);
+        } else if (compressionPolicy.isCompressible(bodySize, headers.headers().get(HttpHeaderNames.CONTENT_TYPE))) {
+            targetContentEncoding = compressionPolicy.selectEncoding(acceptEncoding);
+        } else {
+            return null;
+        }
+        ContentCoding coding = targetContentEncoding != null ? ContentCoding.of(targetContentEncoding) : null;
+        if (coding == null || !coding.isAvailable()) {
+            return null;
         }
-        return super.beginEncode(headers, acceptEncoding);
+
+        CompressionLevel level = responseLevel != null ? responseLevel : compressionPolicy.getLevel();
+        String cacheKey = precompressedContentCache != null && responseResource != null ?
+                precompressedContentCache.getCacheKey(responseResource, headers, coding, level) : null;
+        ChannelHandler[] handlers = cacheKey != null ?
+                precompressedContentCache.newEncoderHandlers(cacheKey, bodySize, coding, level) :
+                new ChannelHandler[]{coding.newEncoder(level)};
+        return new Result(coding.getEncoding(), new EmbeddedChannel(ctx.channel().id(),
+                                                                    ctx.channel().metadata().hasDisconnect(),
+                                                                    ctx.channel().config(), handlers));
     }
 
     @Override
     protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out)
             throws Exception {
         this.method = msg.method();
+        String host = msg.headers().get(HttpHeaderNames.HOST);
+        requestResources.add((host != null ? host : "") + msg.uri());
         super.decode(ctx, msg, out);
     }
+
+    private static long getBodySize(HttpResponse headers) {
+        if (headers instanceof HttpContent) {
+            return ((HttpContent) headers).content().readableBytes();
+        }
+        String contentLength = headers.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.FlushConsolidationConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+
+/**
+ * Coalesces the flushes of a listener channel. Flushes requested while a read is in progress are passed on once the
+ * read completes, and the ones requested from other tasks are passed on once the current event loop iteration has
+ * run the tasks queued so far. Pending flushes are passed on right away once their number or the bytes written since
+ * the last socket flush reach the configured limits.
+ * <p>
+ * This handler has to be the first one of the pipeline, so that it only sees the encoded bytes of the responses.
+ */
+public class FlushConsolidationHandler extends ChannelDuplexHandler {
+
+    private final int maxPendingFlushes;
+    private final long maxPendingBytes;
+    private final FlushConsolidationMetrics metrics;
+    private final Runnable flushTask;
+    private ChannelHandlerContext ctx;
+    private int pendingFlushes;
+    private long pendingBytes;
+    private boolean readInProgress;
+    private boolean flushScheduled;
+
+    public FlushConsolidationHandler(FlushConsolidationConfig config, FlushConsolidationMetrics metrics) {
+        this.maxPendingFlushes = config.getMaxPendingFlushes();
+        this.maxPendingBytes = config.getMaxPendingBytes();
+        this.metrics = metrics;
+        this.flushTask = this::runScheduledFlush;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        pendingBytes += sizeOf(msg);
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        metrics.incrementRequestedFlushes();
+        if (++pendingFlushes >= maxPendingFlushes || pendingBytes >= maxPendingBytes) {
+            flushNow(ctx);
+        } else if (!readInProgress && !flushScheduled) {
+            flushScheduled = true;
+            ctx.channel().eventLoop().execute(flushTask);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            flushIfNeeded(ctx);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        flushIfNeeded(ctx);
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfNeeded(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        flushIfNeeded(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfNeeded(ctx);
+    }
+
+    private void runScheduledFlush() {
+        flushScheduled = false;
+        // A read which started meanwhile passes the pending flushes on once it completes
+        if (!readInProgress) {
+            flushIfNeeded(ctx);
+        }
+    }
+
+    private void flushIfNeeded(ChannelHandlerContext ctx) {
+        if (pendingFlushes > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        pendingFlushes = 0;
+        pendingBytes = 0;
+        metrics.incrementSocketFlushes();
+        ctx.flush();
+    }
+
+    private static long sizeOf(Object msg) {
+        if (msg instanceof ByteBuf) {
+            return ((ByteBuf) msg).readableBytes();
+        }
+        if (msg instanceof ByteBufHolder) {
+            return ((ByteBufHolder) msg).content().readableBytes();
+        }
+        if (msg instanceof FileRegion) {
+            return ((FileRegion) msg).count();
+        }
+        return 0;
+    }
+}
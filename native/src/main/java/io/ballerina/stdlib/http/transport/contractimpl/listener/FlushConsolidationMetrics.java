@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the flushes coalesced by the {@link FlushConsolidationHandler}s of a listener.
+ */
+public final class FlushConsolidationMetrics {
+
+    private final LongAdder requestedFlushes = new LongAdder();
+    private final LongAdder socketFlushes = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+
+    void incrementRequestedFlushes() {
+        requestedFlushes.increment();
+    }
+
+    void incrementSocketFlushes() {
+        socketFlushes.increment();
+    }
+
+    /**
+     * Records a response of which the last content has been written.
+     */
+    public void incrementResponses() {
+        responses.increment();
+    }
+
+    /**
+     * @return the number of flushes requested while writing responses
+     */
+    public long getRequestedFlushes() {
+        return requestedFlushes.sum();
+    }
+
+    /**
+     * @return the number of flushes passed on to the socket
+     */
+    public long getSocketFlushes() {
+        return socketFlushes.sum();
+    }
+
+    /**
+     * @return the number of responses written completely
+     */
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    /**
+     * @return the average number of socket flushes per response, or 0 if no response has been written
+     */
+    public double getFlushesPerResponse() {
+        long responseCount = responses.sum();
+        return responseCount == 0 ? 0 : (double) socketFlushes.sum() / responseCount;
+    }
+}
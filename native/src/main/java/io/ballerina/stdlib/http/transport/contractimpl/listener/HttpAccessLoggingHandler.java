@@ -19,6 +19,8 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogRecord;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogWriter;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.HttpContent;
@@ -31,14 +33,12 @@ import io.netty.handler.logging.LoggingHandler;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Calendar;
 
 /**
  * Logging handler for HTTP access logs.
  */
 public class HttpAccessLoggingHandler extends LoggingHandler {
     private static final LogLevel LOG_LEVEL = LogLevel.INFO;
-    private static final String EVENT_WRITE = "WRITE";
     private String inetAddress;
     private String method;
     private String uri;
@@ -46,8 +46,8 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
     private String userAgent = "-";
     private String referrer = "-";
     private int status;
-    private Long contentLength = 0L;
-    private Calendar calendar;
+    private long contentLength = 0L;
+    private long requestTimeMillis;
 
     public HttpAccessLoggingHandler(String name) {
         super(name, LOG_LEVEL);
@@ -75,7 +75,7 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof HttpRequest) {
             HttpRequest httpRequest = (HttpRequest) msg;
-            calendar = Calendar.getInstance();
+            requestTimeMillis = System.currentTimeMillis();
             // maybe this request was proxied or load balanced.
             // try and get the real originating IP
             if (httpRequest.headers().contains(Constants.HTTP_X_FORWARDED_FOR)) {
@@ -108,31 +108,32 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
             HttpResponse httpResponse = (HttpResponse) msg;
             status = httpResponse.status().code();
             if (httpResponse.headers().contains(HttpHeaderNames.CONTENT_LENGTH)) {
-                contentLength = Long.valueOf(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH));
-                if (logger.isEnabled(internalLevel)) {
-                    logger.log(internalLevel, format(ctx, EVENT_WRITE, msg));
-                }
+                contentLength = Long.parseLong(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH));
+                logAccess();
                 clearState();
             }
         } else if (msg instanceof HttpContent) {
             HttpContent httpContent = (HttpContent) msg;
             contentLength += httpContent.content().readableBytes();
             if (msg instanceof LastHttpContent) {
-                if (logger.isEnabled(internalLevel)) {
-                    logger.log(internalLevel, format(ctx, EVENT_WRITE, msg));
-                }
+                logAccess();
                 clearState();
             }
         }
     }
 
-    @Override
-    protected String format(ChannelHandlerContext ctx, String eventName, Object arg) {
-        if (EVENT_WRITE.equals(eventName)) {
-            return String.format(Constants.ACCESS_LOG_FORMAT, inetAddress, calendar, method, uri, protocol, status,
-                                 contentLength, referrer, userAgent);
+    private void logAccess() {
+        if (!logger.isEnabled(internalLevel)) {
+            return;
+        }
+        // Only the details are recorded here; the line is formatted and written by the access log writer thread
+        AccessLogWriter accessLogWriter = AccessLogWriter.getDefault();
+        AccessLogRecord record = accessLogWriter.claim();
+        if (record != null) {
+            record.setRequest(inetAddress, requestTimeMillis, method, uri, protocol, referrer, userAgent)
+                    .setResponse(status, contentLength);
+            accessLogWriter.publish();
         }
-        return "";
     }
 
     private void clearState() {
@@ -141,7 +142,7 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
         protocol = null;
         status = -1;
         contentLength = 0L;
-        calendar = null;
+        requestTimeMillis = 0L;
         userAgent = "-";
         referrer = "-";
     }
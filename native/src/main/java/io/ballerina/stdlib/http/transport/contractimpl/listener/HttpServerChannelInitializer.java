@@ -18,14 +18,19 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.FlushConsolidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.CompressionPolicy;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.PrecompressedContentCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceConnectionHandlerBuilder;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2ToHttpFallbackHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2WithPriorKnowledgeHandler;
@@ -51,20 +56,21 @@ import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
-import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.AsciiString;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutorGroup;
-import org.bouncycastle.cert.ocsp.OCSPResp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.security.KeyStoreException;
 import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_ACCESS_LOG_HANDLER;
@@ -103,10 +109,17 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private int cacheSize;
     private ChannelGroup allChannels;
     private boolean ocspStaplingEnabled = false;
+    private volatile X509Certificate[] ocspStapleCertificates;
+    private volatile ReferenceCountedOpenSslContext ocspStaplingSslContext;
     private boolean pipeliningEnabled;
     private long pipeliningLimit;
     private EventExecutorGroup pipeliningGroup;
     private boolean webSocketCompressionEnabled;
+    private FlushConsolidationConfig flushConsolidationConfig;
+    private FlushConsolidationMetrics flushConsolidationMetrics;
+    private final PipeliningMetrics pipeliningMetrics = new PipeliningMetrics();
+    private CompressionPolicy compressionPolicy = new CompressionPolicy(new CompressionConfig());
+    private PrecompressedContentCache precompressedContentCache;
 
     @Override
     public void initChannel(SocketChannel ch) throws Exception {
@@ -114,17 +127,24 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             LOG.debug("Initializing source channel pipeline");
         }
         ChannelPipeline serverPipeline = ch.pipeline();
+        if (flushConsolidationConfig != null) {
+            serverPipeline.addFirst(Constants.FLUSH_CONSOLIDATION_HANDLER,
+                                    new FlushConsolidationHandler(flushConsolidationConfig,
+                                                                  flushConsolidationMetrics));
+        }
 
         if (http2Enabled) {
             if (sslHandlerFactory != null) {
                 if (ocspStaplingEnabled) {
-                    OCSPResp response = getOcspResponse();
+                    byte[] staple = getOcspStaple();
 
                     ReferenceCountedOpenSslContext context = (ReferenceCountedOpenSslContext) keystoreHttp2SslContext;
                     SslHandler sslHandler = context.newHandler(ch.alloc());
 
                     ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
-                    engine.setOcspResponse(response.getEncoded());
+                    if (staple != null) {
+                        engine.setOcspResponse(staple);
+                    }
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
                     ch.pipeline()
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
@@ -147,16 +167,74 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         }
     }
 
-    private OCSPResp getOcspResponse()
+    /**
+     * Gets the OCSP response to staple from the shared staple cache. It is null until the response is fetched, in
+     * which case the client checks the revocation status itself.
+     */
+    private byte[] getOcspStaple()
             throws IOException, KeyStoreException, CertificateVerificationException, CertificateException {
-        OCSPResp response = OCSPResponseBuilder.generateOcspResponse(sslConfig, cacheSize, cacheDelay);
+        X509Certificate[] certificates = getOcspStapleCertificates();
         if (!OpenSsl.isAvailable()) {
             throw new IllegalStateException("OpenSSL is not available!");
         }
         if (!OpenSsl.isOcspSupported()) {
             throw new IllegalStateException("OCSP is not supported!");
         }
-        return response;
+        return getOcspStapleCache().getStaple(certificates[0], certificates[1]);
+    }
+
+    private X509Certificate[] getOcspStapleCertificates()
+            throws IOException, KeyStoreException, CertificateVerificationException, CertificateException {
+        X509Certificate[] certificates = ocspStapleCertificates;
+        if (certificates == null) {
+            certificates = OCSPResponseBuilder.getCertificateAndIssuer(sslConfig);
+            ocspStapleCertificates = certificates;
+        }
+        return certificates;
+    }
+
+    private ReferenceCountedOpenSslContext getOcspStaplingSslContext() throws SSLException {
+        // Built once per listener rather than for every connection
+        ReferenceCountedOpenSslContext context = ocspStaplingSslContext;
+        if (context == null) {
+            synchronized (this) {
+                context = ocspStaplingSslContext;
+                if (context == null) {
+                    context = sslHandlerFactory.getServerReferenceCountedOpenSslContext(true);
+                    ocspStaplingSslContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Releases the OCSP stapling context once the listener stops accepting connections. Open connections keep their
+     * engines, and the context is built again if the listener is restarted.
+     */
+    synchronized void releaseOcspStaplingSslContext() {
+        ReferenceCountUtil.release(ocspStaplingSslContext);
+        ocspStaplingSslContext = null;
+    }
+
+    /**
+     * Starts fetching the OCSP response to staple, so that it is ready before the first handshake.
+     */
+    void prefetchOcspStaple() {
+        if (!ocspStaplingEnabled || sslConfig == null) {
+            return;
+        }
+        try {
+            X509Certificate[] certificates = getOcspStapleCertificates();
+            getOcspStapleCache().fetchStaple(certificates[0], certificates[1])
+                    .whenComplete((staple, e) -> {
+                        if (e != null) {
+                            LOG.warn("Cannot fetch the OCSP response to staple", e);
+                        }
+                    });
+        } catch (IOException | KeyStoreException | CertificateVerificationException | CertificateException e) {
+            LOG.warn("Cannot read the certificate to staple an OCSP response", e);
+        }
     }
 
     private void configureSslForHttp(ChannelPipeline serverPipeline, SocketChannel ch)
@@ -164,15 +242,16 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         SSLEngine sslEngine;
         SslHandler sslHandler;
         if (ocspStaplingEnabled) {
-            OCSPResp response = getOcspResponse();
+            byte[] staple = getOcspStaple();
 
-            ReferenceCountedOpenSslContext context = sslHandlerFactory
-                    .getServerReferenceCountedOpenSslContext(ocspStaplingEnabled);
+            ReferenceCountedOpenSslContext context = getOcspStaplingSslContext();
             sslHandler = context.newHandler(ch.alloc());
             sslEngine = sslHandler.engine();
 
             ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslEngine;
-            engine.setOcspResponse(response.getEncoded());
+            if (staple != null) {
+                engine.setOcspResponse(staple);
+            }
             setSslHandshakeTimeOut(sslConfig, sslHandler);
             ch.pipeline().addLast(sslHandler);
         } else {
@@ -188,7 +267,8 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             serverPipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (validateCertEnabled) {
                 serverPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
-                        new CertificateValidationHandler(sslEngine, cacheDelay, cacheSize));
+                        new CertificateValidationHandler(sslEngine, cacheDelay, cacheSize,
+                                sslConfig.getRevocationStaleIfErrorMillis()));
             }
         }
         serverPipeline.addLast(Constants.SSL_COMPLETION_HANDLER,
@@ -210,7 +290,8 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                           reqSizeValidationConfig.getMaxHeaderSize(),
                                                           reqSizeValidationConfig.getMaxChunkSize()));
 
-            serverPipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+            serverPipeline.addLast(Constants.HTTP_COMPRESSOR,
+                                   new CustomHttpContentCompressor(compressionPolicy, precompressedContentCache));
             serverPipeline.addLast(Constants.HTTP_CHUNK_WRITER, new ChunkedWriteHandler());
 
             if (httpTraceLogEnabled) {
@@ -230,13 +311,16 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                new WebSocketServerHandshakeHandler(this.serverConnectorFuture,
                                                                    webSocketCompressionEnabled));
         serverPipeline.addLast(Constants.BACK_PRESSURE_HANDLER, new BackPressureHandler());
-        serverPipeline.addLast(Constants.HTTP_SOURCE_HANDLER,
-                               new SourceHandler(this.serverConnectorFuture, this.interfaceId, this.chunkConfig,
-                                                 keepAliveConfig, this.serverName, this.allChannels,
-                                       this.pipeliningEnabled, this.pipeliningLimit, this.pipeliningGroup));
+        SourceHandler sourceHandler = new SourceHandler(this.serverConnectorFuture, this.interfaceId,
+                                                        this.chunkConfig, keepAliveConfig, this.serverName,
+                                                        this.allChannels, this.pipeliningEnabled,
+                                                        this.pipeliningLimit, this.pipeliningGroup);
+        sourceHandler.setPipeliningMetrics(pipeliningMetrics);
+        sourceHandler.setFlushConsolidationMetrics(flushConsolidationMetrics);
+        serverPipeline.addLast(Constants.HTTP_SOURCE_HANDLER, sourceHandler);
         if (socketIdleTimeout >= 0) {
             serverPipeline.addBefore(Constants.HTTP_SOURCE_HANDLER, Constants.IDLE_STATE_HANDLER,
-                                     new IdleStateHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS));
+                                     new IdleTimeoutHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS));
         }
         serverPipeline.addLast(Constants.HTTP_EXCEPTION_HANDLER, new HttpExceptionHandler());
     }
@@ -266,7 +350,8 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             }
         };
         pipeline.addLast(Constants.HTTP_SERVER_CODEC, sourceCodec);
-        pipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+        pipeline.addLast(Constants.HTTP_COMPRESSOR,
+                         new CustomHttpContentCompressor(compressionPolicy, precompressedContentCache));
         if (httpTraceLogEnabled) {
             pipeline.addLast(HTTP_TRACE_LOG_HANDLER,
                              new HttpTraceLoggingHandler(TRACE_LOG_DOWNSTREAM));
@@ -391,6 +476,60 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         this.webSocketCompressionEnabled = webSocketCompressionEnabled;
     }
 
+    void setFlushConsolidationConfig(FlushConsolidationConfig flushConsolidationConfig) {
+        this.flushConsolidationConfig = flushConsolidationConfig;
+        this.flushConsolidationMetrics = flushConsolidationConfig != null ? new FlushConsolidationMetrics() : null;
+    }
+
+    void setCompressionConfig(CompressionConfig compressionConfig) {
+        if (compressionConfig == null) {
+            compressionConfig = new CompressionConfig();
+        }
+        this.compressionPolicy = new CompressionPolicy(compressionConfig);
+        this.precompressedContentCache = compressionConfig.getPrecompressedCacheSize() > 0 ?
+                new PrecompressedContentCache(compressionConfig.getPrecompressedCacheSize(),
+                                              compressionConfig.getMaxPrecompressedBodySize()) : null;
+    }
+
+    /**
+     * Gets the policy which decides how the responses of the listener are compressed.
+     *
+     * @return the compression policy
+     */
+    public CompressionPolicy getCompressionPolicy() {
+        return compressionPolicy;
+    }
+
+    /**
+     * Gets the metrics of the responses held back to preserve the order of pipelined requests.
+     *
+     * @return the pipelining metrics
+     */
+    public PipeliningMetrics getPipeliningMetrics() {
+        return pipeliningMetrics;
+    }
+
+    /**
+     * Gets the cache of the OCSP responses stapled by the listener, which also holds the stapling metrics.
+     *
+     * @return the staple cache, or null if OCSP stapling is not enabled
+     */
+    public OCSPStapleCache getOcspStapleCache() {
+        if (!ocspStaplingEnabled || sslConfig == null) {
+            return null;
+        }
+        return OCSPStapleCache.getInstance(cacheSize, cacheDelay);
+    }
+
+    /**
+     * Gets the metrics of the flush consolidation of the listener.
+     *
+     * @return the flush consolidation metrics, or null if flushes are not consolidated
+     */
+    public FlushConsolidationMetrics getFlushConsolidationMetrics() {
+        return flushConsolidationMetrics;
+    }
+
     /**
      * Handler which handles ALPN.
      */
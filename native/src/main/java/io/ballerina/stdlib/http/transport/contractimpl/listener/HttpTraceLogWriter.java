@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.internal.logging.InternalLogLevel;
+import io.netty.util.internal.logging.InternalLogger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Formats and logs HTTP trace log entries on a background thread, so that the event loops only take a snapshot of
+ * the messages. Entries are dropped when the writer falls behind by more than the buffer size, hence the writer is
+ * only used when the trace logs are limited by sampling or by a payload cap.
+ */
+final class HttpTraceLogWriter {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder droppedEntries = new LongAdder();
+
+    HttpTraceLogWriter(int bufferSize) {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                                          new ArrayBlockingQueue<>(Math.max(1, bufferSize)),
+                                          new DefaultThreadFactory("http-trace-log-writer", true),
+                                          (task, pool) -> droppedEntries.increment());
+    }
+
+    void write(InternalLogger logger, InternalLogLevel level, Supplier<String> entry) {
+        executor.execute(() -> logger.log(level, entry.get()));
+    }
+
+    /**
+     * Stops accepting entries. The entries already accepted are still written.
+     */
+    void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return the number of entries dropped since the writer fell behind or was closed
+     */
+    long getDroppedEntries() {
+        return droppedEntries.sum();
+    }
+}
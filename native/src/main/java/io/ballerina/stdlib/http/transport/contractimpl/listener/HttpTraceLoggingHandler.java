@@ -18,23 +18,38 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contract.config.TraceLogConfig;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpStatusClass;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
-import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 import static io.netty.util.internal.StringUtil.NEWLINE;
 
 /**
- * A custom LoggingHandler for the HTTP wire logs.
+ * A custom LoggingHandler for the HTTP wire logs. The messages of a request and its response are logged when the
+ * request is sampled. The sampling decisions of pipelined requests are queued, so that each response follows the
+ * decision of its own request. When the trace logs are limited by sampling or by a payload cap, the entries are
+ * formatted by the {@link HttpTraceLogWriter} off the event loop, otherwise they are logged as they happen.
  */
 public class HttpTraceLoggingHandler extends LoggingHandler {
 
@@ -45,7 +60,14 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
     private static final String EVENT_OUTBOUND = "OUTBOUND";
     private static final String ID_0X = "[id: 0x";
 
+    private static volatile TraceLogConfig traceLogConfig = new TraceLogConfig();
+    private static volatile HttpTraceLogWriter traceLogWriter;
+
+    private final TraceLogConfig config = traceLogConfig;
+    private final Queue<Boolean> pendingSamplingDecisions = new ArrayDeque<>();
     private String correlatedSourceId;
+    private boolean inboundSampled = config.getSampleRate() >= 1;
+    private boolean outboundSampled = inboundSampled;
 
     public HttpTraceLoggingHandler(LogLevel level) {
         super(level);
@@ -72,6 +94,37 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
         correlatedSourceId = "n/a";
     }
 
+    /**
+     * Sets the sampling and the payload limits of the trace logs of the connections created afterwards.
+     *
+     * @param config the trace log configuration
+     */
+    public static void setTraceLogConfig(TraceLogConfig config) {
+        HttpTraceLogWriter previous;
+        synchronized (HttpTraceLoggingHandler.class) {
+            traceLogConfig = config;
+            previous = traceLogWriter;
+            traceLogWriter = null;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    private static HttpTraceLogWriter getTraceLogWriter() {
+        HttpTraceLogWriter writer = traceLogWriter;
+        if (writer == null) {
+            synchronized (HttpTraceLoggingHandler.class) {
+                writer = traceLogWriter;
+                if (writer == null) {
+                    writer = new HttpTraceLogWriter(traceLogConfig.getBufferSize());
+                    traceLogWriter = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
     public void setCorrelatedSourceId(String correlatedSourceId) {
         this.correlatedSourceId = "0x" + correlatedSourceId;
     }
@@ -79,7 +132,10 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) {
         if (logger.isEnabled(internalLevel)) {
-            logger.log(internalLevel, format(ctx, EVENT_INBOUND, msg));
+            inboundSampled = sample(msg, inboundSampled);
+            if (inboundSampled) {
+                log(ctx, EVENT_INBOUND, msg);
+            }
         }
         ctx.fireChannelRead(msg);
     }
@@ -87,11 +143,51 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
         if (logger.isEnabled(internalLevel)) {
-            logger.log(internalLevel, format(ctx, EVENT_OUTBOUND, msg));
+            outboundSampled = sample(msg, outboundSampled);
+            if (outboundSampled) {
+                log(ctx, EVENT_OUTBOUND, msg);
+            }
         }
         ctx.write(msg, promise);
     }
 
+    /**
+     * A request, inbound on a listener and outbound on a client, decides whether its exchange is logged. Responses
+     * take the decisions in the order of the requests, and the other messages follow the last request or response
+     * in the same direction.
+     */
+    boolean sample(Object msg, boolean current) {
+        if (msg instanceof HttpRequest) {
+            boolean sampled = isSampled((HttpRequest) msg);
+            pendingSamplingDecisions.add(sampled);
+            return sampled;
+        }
+        if (msg instanceof HttpResponse) {
+            // An interim response is followed by the final response of the same request
+            Boolean sampled = HttpStatusClass.INFORMATIONAL.contains(((HttpResponse) msg).status().code()) ?
+                    pendingSamplingDecisions.peek() : pendingSamplingDecisions.poll();
+            return sampled != null ? sampled : current;
+        }
+        return current;
+    }
+
+    private void log(ChannelHandlerContext ctx, String eventName, Object msg) {
+        if (config.isLimited()) {
+            getTraceLogWriter().write(logger, internalLevel, new TraceLogEntry(ctx, eventName, msg));
+        } else {
+            logger.log(internalLevel, format(ctx, eventName, msg));
+        }
+    }
+
+    boolean isSampled(HttpRequest request) {
+        String samplingHeader = config.getSamplingHeader();
+        if (samplingHeader != null && request.headers().contains(samplingHeader)) {
+            return true;
+        }
+        double sampleRate = config.getSampleRate();
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
     @Override
     protected String format(ChannelHandlerContext ctx, String eventName, Object arg1, Object arg2) {
         String arg1Str = String.valueOf(arg1);
@@ -120,84 +216,140 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
 
     @Override
     protected String format(ChannelHandlerContext ctx, String eventName, Object msg) {
-        String channelId = ctx.channel().id().asShortText();
-        String socketInfo = buildSocketInfo(ctx.channel().localAddress(), ctx.channel().remoteAddress());
-        String msgStr;
+        return new TraceLogEntry(ctx, eventName, msg).get();
+    }
+
+    private static String buildSocketInfo(SocketAddress local, SocketAddress remote) {
+        StringBuilder stringBuilder = new StringBuilder();
 
-        try {
+        if (local != null) {
+            stringBuilder.append(", host:").append(local.toString()).append(" - ");
+        }
+        if (remote != null) {
+            stringBuilder.append("remote:").append(remote.toString());
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * A snapshot of a message taken on the event loop. Only the logged part of the payload is copied, and the
+     * payload is decoded when the entry is formatted.
+     */
+    private final class TraceLogEntry implements Supplier<String> {
+
+        private final String channelId;
+        private final String correlatedSourceId;
+        private final SocketAddress localAddress;
+        private final SocketAddress remoteAddress;
+        private final String eventName;
+        private final Object message;
+        private final int payloadLength;
+        private final byte[] payload;
+
+        TraceLogEntry(ChannelHandlerContext ctx, String eventName, Object msg) {
+            this.channelId = ctx.channel().id().asShortText();
+            this.correlatedSourceId = HttpTraceLoggingHandler.this.correlatedSourceId;
+            this.localAddress = ctx.channel().localAddress();
+            this.remoteAddress = ctx.channel().remoteAddress();
+            this.eventName = eventName;
+
+            ByteBuf content = null;
             if (msg instanceof ByteBuf) {
-                msgStr = formatPayload((ByteBuf) msg);
-            } else if (msg instanceof ByteBufHolder) {
-                msgStr = formatPayload((ByteBufHolder) msg);
+                content = (ByteBuf) msg;
+                message = null;
             } else {
-                msgStr = String.valueOf(msg);
+                if (msg instanceof ByteBufHolder) {
+                    content = ((ByteBufHolder) msg).content();
+                }
+                message = snapshot(msg);
+            }
+            payloadLength = content != null ? content.readableBytes() : -1;
+            if (payloadLength > 0 && !config.isHeadersOnly()) {
+                int maxPayloadSize = config.getMaxPayloadSize();
+                payload = new byte[maxPayloadSize < 0 ? payloadLength : Math.min(payloadLength, maxPayloadSize)];
+                content.getBytes(content.readerIndex(), payload);
+            } else {
+                payload = null;
             }
-        } catch (CharacterCodingException e) {
-            msgStr = "<< Payload could not be decoded >>";
         }
 
-        StringBuilder stringBuilder = new StringBuilder(
-                7 + channelId.length() + 14 + correlatedSourceId.length() + socketInfo.length() + 2 +
-                        eventName.length() + 2 + msgStr.length());
-
-        if (EVENT_REGISTERED.equals(eventName) || EVENT_CONNECT.equals(eventName)) {
-            return stringBuilder.append(ID_0X).append(channelId).append("] ").append(eventName)
-                    .append(": ").append(msgStr).toString();
-        } else {
-            return stringBuilder.append(ID_0X).append(channelId).append(", correlatedSource: ")
-                    .append(correlatedSourceId).append(socketInfo).append("] ").append(eventName)
-                    .append(": ").append(msgStr).toString();
+        private Object snapshot(Object msg) {
+            // The headers may change once the message is passed on, so copies are formatted instead
+            if (msg instanceof HttpRequest) {
+                HttpRequest request = (HttpRequest) msg;
+                return new DefaultHttpRequest(request.protocolVersion(), request.method(), request.uri(),
+                                              request.headers().copy());
+            } else if (msg instanceof HttpResponse) {
+                HttpResponse response = (HttpResponse) msg;
+                return new DefaultHttpResponse(response.protocolVersion(), response.status(),
+                                               response.headers().copy());
+            }
+            return String.valueOf(msg);
         }
-    }
 
-    private static String formatPayload(ByteBuf msg) throws CharacterCodingException {
-        int length = msg.readableBytes();
-        if (length == 0) {
-            return " 0B";
-        } else {
-            int rows = length / 16 + (length % 16 == 0 ? 0 : 1) + 4;
-            StringBuilder stringBuilder = new StringBuilder(10 + 1 + 2 + rows * 80);
+        @Override
+        public String get() {
+            String socketInfo = buildSocketInfo(localAddress, remoteAddress);
+            String msgStr;
 
-            stringBuilder.append(length).append('B').append(NEWLINE);
-            appendPayload(stringBuilder, msg);
-            
-            return stringBuilder.toString();
-        }
-    }
+            try {
+                msgStr = formatMessage();
+            } catch (CharacterCodingException e) {
+                msgStr = "<< Payload could not be decoded >>";
+            }
 
-    private static String formatPayload(ByteBufHolder msg) throws CharacterCodingException {
-        String msgStr = msg.toString();
-        ByteBuf content = msg.content();
-        int length = content.readableBytes();
-        if (length == 0) {
-            return msgStr + ", 0B";
-        } else {
-            int rows = length / 16 + (length % 16 == 0 ? 0 : 1) + 4;
-            StringBuilder stringBuilder = new StringBuilder(2 + msgStr.length() + 2 + 10 + 1 + 2 + rows * 80);
+            StringBuilder stringBuilder = new StringBuilder(
+                    7 + channelId.length() + 14 + correlatedSourceId.length() + socketInfo.length() + 2 +
+                            eventName.length() + 2 + msgStr.length());
 
-            stringBuilder.append(msgStr).append(", ").append(length).append('B').append(NEWLINE);
-            appendPayload(stringBuilder, content);
+            if (EVENT_REGISTERED.equals(eventName) || EVENT_CONNECT.equals(eventName)) {
+                return stringBuilder.append(ID_0X).append(channelId).append("] ").append(eventName)
+                        .append(": ").append(msgStr).toString();
+            } else {
+                return stringBuilder.append(ID_0X).append(channelId).append(", correlatedSource: ")
+                        .append(correlatedSourceId).append(socketInfo).append("] ").append(eventName)
+                        .append(": ").append(msgStr).toString();
+            }
+        }
+
+        private String formatMessage() throws CharacterCodingException {
+            if (payloadLength < 0) {
+                return String.valueOf(message);
+            }
+            String msgStr = message != null ? message + ", " : " ";
+            if (payloadLength == 0) {
+                return msgStr + "0B";
+            }
+            int payloadSize = payload != null ? payload.length : 0;
+            StringBuilder stringBuilder = new StringBuilder(msgStr.length() + 10 + 1 + 2 + payloadSize + 40);
+
+            stringBuilder.append(message != null ? msgStr : "").append(payloadLength).append('B');
+            if (payload != null) {
+                stringBuilder.append(NEWLINE);
+                appendPayload(stringBuilder, payload, payloadSize < payloadLength);
+                if (payloadSize < payloadLength) {
+                    stringBuilder.append(NEWLINE).append("<< ").append(payloadLength - payloadSize)
+                            .append("B truncated >>");
+                }
+            }
 
             return stringBuilder.toString();
         }
     }
 
-    private static String buildSocketInfo(SocketAddress local, SocketAddress remote) {
-        StringBuilder stringBuilder = new StringBuilder();
-
-        if (local != null) {
-            stringBuilder.append(", host:").append(local.toString()).append(" - ");
+    private static void appendPayload(StringBuilder stringBuilder, byte[] payload, boolean truncated)
+            throws CharacterCodingException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        CharBuffer buffer = CharBuffer.allocate(payload.length);
+        // A truncated payload may end in the middle of a character, which is left out
+        CoderResult result = decoder.decode(ByteBuffer.wrap(payload), buffer, !truncated);
+        if (result.isError()) {
+            result.throwException();
         }
-        if (remote != null) {
-            stringBuilder.append("remote:").append(remote.toString());
+        if (!truncated) {
+            decoder.flush(buffer);
         }
-
-        return stringBuilder.toString();
-    }
-
-    private static void appendPayload(StringBuilder stringBuilder, ByteBuf content) throws CharacterCodingException {
-        CharsetDecoder decoder = Charset.forName("UTF8").newDecoder();
-        CharBuffer buffer = decoder.decode(content.nioBuffer());
-        stringBuilder.append(buffer);
+        stringBuilder.append(buffer.flip());
     }
 }
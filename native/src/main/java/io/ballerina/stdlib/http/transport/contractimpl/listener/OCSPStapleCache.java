@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationFetcher;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.RevocationCache;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPVerifier;
+import org.bouncycastle.asn1.ocsp.OCSPResponseStatus;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPException;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+
+import java.io.IOException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the OCSP responses stapled to the TLS handshakes of the listeners. Responses are cached against the server
+ * certificate, so listeners that share a certificate share its response. They are refreshed in the background before
+ * their next update time, and handshakes are given the cached response without any network I/O. Listeners with the
+ * same cache size and delay share a cache.
+ */
+public class OCSPStapleCache {
+
+    private static final Map<String, OCSPStapleCache> STAPLE_CACHES = new ConcurrentHashMap<>();
+
+    private final RevocationCache<String, Staple> cache;
+    private final RevocationFetcher fetcher;
+    private final long validityMillis;
+    private final LongAdder stapledHandshakes = new LongAdder();
+    private final LongAdder unstapledHandshakes = new LongAdder();
+
+    OCSPStapleCache(int size, long validityMillis, long refreshAheadMillis, long sweepIntervalMillis,
+                    long failureBackoffMillis, RevocationFetcher fetcher) {
+        this.cache = new RevocationCache<>(size, refreshAheadMillis, sweepIntervalMillis, failureBackoffMillis,
+                                           staple -> staple.nextUpdate);
+        this.fetcher = fetcher;
+        this.validityMillis = validityMillis;
+    }
+
+    /**
+     * Gets the staple cache shared by the listeners with the given configuration, creating it on first use.
+     *
+     * @param cacheAllocatedSize max size of the cache
+     * @param cacheDelay         how long in minutes a response without a next update time is cached
+     * @return the shared staple cache
+     */
+    public static OCSPStapleCache getInstance(int cacheAllocatedSize, int cacheDelay) {
+        int cacheSize = Constants.CACHE_DEFAULT_ALLOCATED_SIZE;
+        int cacheDelayMins = Constants.CACHE_DEFAULT_DELAY_MINS;
+        if (cacheAllocatedSize > Constants.CACHE_MIN_ALLOCATED_SIZE
+                && cacheAllocatedSize < Constants.CACHE_MAX_ALLOCATED_SIZE) {
+            cacheSize = cacheAllocatedSize;
+        }
+        if (cacheDelay > Constants.CACHE_MIN_DELAY_MINS && cacheDelay < Constants.CACHE_MAX_DELAY_MINS) {
+            cacheDelayMins = cacheDelay;
+        }
+        int size = cacheSize;
+        long validityMillis = TimeUnit.MINUTES.toMillis(cacheDelayMins);
+        return STAPLE_CACHES.computeIfAbsent(size + ":" + cacheDelayMins,
+                                             key -> new OCSPStapleCache(size, validityMillis,
+                                                                        Constants.REVOCATION_REFRESH_AHEAD_MILLIS,
+                                                                        Constants.REVOCATION_SWEEP_INTERVAL_MILLIS,
+                                                                        Constants.REVOCATION_FAILURE_BACKOFF_MILLIS,
+                                                                        RevocationFetcher.getInstance()));
+    }
+
+    /**
+     * Fetches the OCSP response of a certificate unless it is already cached. Used to have the response ready before
+     * the first handshake.
+     *
+     * @param certificate the server certificate
+     * @param issuer      the issuer of the server certificate
+     * @return a future that completes with the encoded OCSP response
+     */
+    public CompletableFuture<byte[]> fetchStaple(X509Certificate certificate, X509Certificate issuer) {
+        return lookup(certificate, issuer).thenApply(staple -> staple.encoded);
+    }
+
+    /**
+     * Gets the OCSP response to staple to a handshake. This never waits for the network. When the response is not
+     * cached yet, it is fetched in the background and the handshake goes without a staple.
+     *
+     * @param certificate the server certificate
+     * @param issuer      the issuer of the server certificate
+     * @return the encoded OCSP response, or null if it is not available yet
+     */
+    public byte[] getStaple(X509Certificate certificate, X509Certificate issuer) {
+        CompletableFuture<Staple> staple = lookup(certificate, issuer);
+        if (staple.isDone() && !staple.isCompletedExceptionally()) {
+            stapledHandshakes.increment();
+            return staple.join().encoded;
+        }
+        unstapledHandshakes.increment();
+        return null;
+    }
+
+    void close() {
+        cache.close();
+    }
+
+    private CompletableFuture<Staple> lookup(X509Certificate certificate, X509Certificate issuer) {
+        String key = issuer.getSubjectX500Principal().getName() + "#" + certificate.getSerialNumber();
+        // An outdated response is rejected by the clients, so it is never stapled
+        return cache.get(key, () -> fetch(certificate, issuer), 0);
+    }
+
+    private CompletableFuture<Staple> fetch(X509Certificate certificate, X509Certificate issuer) {
+        List<String> locations;
+        byte[] request;
+        try {
+            locations = OCSPResponseBuilder.getAIALocations(certificate);
+            request = OCSPVerifier.generateOCSPRequest(issuer, certificate.getSerialNumber()).getEncoded();
+        } catch (CertificateVerificationException | IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return RevocationFetcher.firstSuccessful(
+                locations, serviceUrl -> fetcher.postOCSPRequest(serviceUrl, request)
+                        .thenApply(encoded -> parseStaple(encoded, certificate)),
+                "Could not get revocation status from OCSP.");
+    }
+
+    private Staple parseStaple(byte[] encoded, X509Certificate certificate) {
+        try {
+            OCSPResp response = new OCSPResp(encoded);
+            if (response.getStatus() != OCSPResponseStatus.SUCCESSFUL) {
+                // Server didn't give the correct response.
+                throw new CertificateVerificationException("OCSP response status is " + response.getStatus());
+            }
+            BasicOCSPResp basicResponse = (BasicOCSPResp) response.getResponseObject();
+            SingleResp[] responses = basicResponse == null ? null : basicResponse.getResponses();
+            if (responses == null || responses.length != 1) {
+                throw new CertificateVerificationException("OCSP response should contain a single response");
+            }
+            SingleResp singleResponse = responses[0];
+            if (singleResponse.getCertStatus() != CertificateStatus.GOOD) {
+                throw new CertificateVerificationException("Certificate status is not good");
+            }
+            //User certificates serial number and response coming from CA needs to be same.
+            if (!certificate.getSerialNumber().equals(singleResponse.getCertID().getSerialNumber())) {
+                throw new CertificateVerificationException("Bad Serials=" + certificate.getSerialNumber() + " vs. "
+                                                                   + singleResponse.getCertID().getSerialNumber());
+            }
+            long thisUpdate = singleResponse.getThisUpdate().getTime();
+            long nextUpdate = singleResponse.getNextUpdate() != null ? singleResponse.getNextUpdate().getTime()
+                    : System.currentTimeMillis() + validityMillis;
+            return new Staple(encoded, thisUpdate, nextUpdate);
+        } catch (IOException | OCSPException e) {
+            throw new CompletionException(new CertificateVerificationException("Cannot read the OCSP response", e));
+        } catch (CertificateVerificationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * @return the number of cached OCSP responses
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of handshakes given a stapled OCSP response
+     */
+    public long getStapledHandshakes() {
+        return stapledHandshakes.sum();
+    }
+
+    /**
+     * @return the number of handshakes that went without a staple because the OCSP response was not available
+     */
+    public long getUnstapledHandshakes() {
+        return unstapledHandshakes.sum();
+    }
+
+    /**
+     * @return the number of times a cached OCSP response was refreshed
+     */
+    public long getRefreshes() {
+        return cache.getRefreshes();
+    }
+
+    /**
+     * @return the number of fetches and refreshes of OCSP responses that failed
+     */
+    public long getRefreshFailures() {
+        return cache.getRefreshFailures();
+    }
+
+    /**
+     * @return the time in milliseconds since the oldest cached OCSP response was produced, or 0 if none is cached
+     */
+    public long getMaxStapleAgeMillis() {
+        long now = System.currentTimeMillis();
+        return cache.values().stream().mapToLong(staple -> now - staple.thisUpdate).max().orElse(0);
+    }
+
+    /**
+     * A cached OCSP response.
+     */
+    private static class Staple {
+
+        private final byte[] encoded;
+        private final long thisUpdate;
+        private final long nextUpdate;
+
+        Staple(byte[] encoded, long thisUpdate, long nextUpdate) {
+            this.encoded = encoded;
+            this.thisUpdate = thisUpdate;
+            this.nextUpdate = nextUpdate;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.EXPECTED_SEQUENCE_NUMBER;
+import static io.ballerina.stdlib.http.transport.contract.Constants.UNBOUNDED_RESPONSE_QUEUE;
+
+/**
+ * Holds the pipelined responses of a connection until they can be written in the order of their requests.
+ * <p>
+ * Responses are placed in a ring indexed by the sequence number of their request, so the strands completing them
+ * hand them over without taking a lock. Only the channel's event loop advances the next sequence number, once the
+ * last content of the response in line has been written. A response is taken out by compare-and-set, hence it is
+ * written exactly once even if several threads try to drain the buffer at the same time.
+ * <p>
+ * Responses completing too far ahead of the one in line to fit the ring, which can happen when the queue is unbounded
+ * or its limit exceeds the largest ring, wait in an overflow map instead. The limit on waiting responses applies to
+ * both alike.
+ *
+ * @param <T> type of the buffered response
+ */
+public final class PipelinedResponseBuffer<T> {
+
+    private static final int UNBOUNDED_CAPACITY = 1 << 10;
+    private static final int MAX_CAPACITY = 1 << 16;
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final Map<Long, T> overflow = new ConcurrentHashMap<>();
+    private final int mask;
+    private final long maxQueuedResponses;
+    private final AtomicLong nextSequenceNumber = new AtomicLong(EXPECTED_SEQUENCE_NUMBER);
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final PipeliningMetrics metrics;
+
+    /**
+     * Creates a buffer whose ring is sized for the given limit, up to {@value #MAX_CAPACITY} slots. When the queue is
+     * unbounded the ring has {@value #UNBOUNDED_CAPACITY} slots.
+     *
+     * @param maxQueuedResponses maximum number of responses allowed to wait, or
+     *                           {@link io.ballerina.stdlib.http.transport.contract.Constants#UNBOUNDED_RESPONSE_QUEUE}
+     * @param metrics            metrics of the listener
+     */
+    public PipelinedResponseBuffer(long maxQueuedResponses, PipeliningMetrics metrics) {
+        int capacity = capacityFor(maxQueuedResponses);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.maxQueuedResponses = maxQueuedResponses;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Hands over a completed response.
+     *
+     * @param sequenceId sequence number of the request the response belongs to
+     * @param response   the response
+     * @return false if too many responses are already waiting, in which case the connection should be closed
+     */
+    public boolean offer(long sequenceId, T response) {
+        long next = nextSequenceNumber.get();
+        if ((maxQueuedResponses != UNBOUNDED_RESPONSE_QUEUE && queueDepth.get() > maxQueuedResponses)
+                || !enqueue(sequenceId - next > mask, sequenceId, response)) {
+            metrics.incrementOverflowClosures();
+            return false;
+        }
+        metrics.recordQueuedResponse(sequenceId != next, queueDepth.incrementAndGet());
+        return true;
+    }
+
+    /**
+     * Takes the response that is next in line, if it has been handed over and has not been taken already.
+     *
+     * @return the response to be written, or null if it is not available
+     */
+    public T pollNext() {
+        long next = nextSequenceNumber.get();
+        int index = index(next);
+        Slot<T> slot = slots.get(index);
+        T response = null;
+        // The slot may already hold a response one lap ahead if the sequence number advanced after it was read.
+        if (slot != null && slot.sequenceId == next && slots.compareAndSet(index, slot, null)) {
+            response = slot.response;
+        } else if (!overflow.isEmpty()) {
+            // Handed over while it was still more than a lap ahead
+            response = overflow.remove(next);
+        }
+        if (response != null) {
+            queueDepth.decrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * Moves on to the next response once the last content of the current one has been written. Must only be called
+     * from the event loop of the channel.
+     *
+     * @return the sequence number of the response that is now in line
+     */
+    public long advance() {
+        return nextSequenceNumber.incrementAndGet();
+    }
+
+    public long getNextSequenceNumber() {
+        return nextSequenceNumber.get();
+    }
+
+    public long getMaxQueuedResponses() {
+        return maxQueuedResponses;
+    }
+
+    /**
+     * @return the number of responses waiting to be written
+     */
+    public int size() {
+        return queueDepth.get();
+    }
+
+    public boolean isEmpty() {
+        return queueDepth.get() == 0;
+    }
+
+    private boolean enqueue(boolean beyondRing, long sequenceId, T response) {
+        if (beyondRing) {
+            return overflow.putIfAbsent(sequenceId, response) == null;
+        }
+        return slots.compareAndSet(index(sequenceId), null, new Slot<>(sequenceId, response));
+    }
+
+    private static int capacityFor(long maxQueuedResponses) {
+        if (maxQueuedResponses == UNBOUNDED_RESPONSE_QUEUE) {
+            return UNBOUNDED_CAPACITY;
+        }
+        // Room for the response being written as well as the ones allowed to wait behind it
+        long required = Math.min(maxQueuedResponses + 2, MAX_CAPACITY);
+        return Math.max(2, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    private int index(long sequenceId) {
+        return (int) sequenceId & mask;
+    }
+
+    private static final class Slot<T> {
+        private final long sequenceId;
+        private final T response;
+
+        private Slot(long sequenceId, T response) {
+            this.sequenceId = sequenceId;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the responses held back by the {@link PipelinedResponseBuffer}s of a listener until the responses of
+ * the earlier pipelined requests have been written.
+ */
+public final class PipeliningMetrics {
+
+    private final LongAdder queuedResponses = new LongAdder();
+    private final LongAdder deferredResponses = new LongAdder();
+    private final LongAdder overflowClosures = new LongAdder();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Long::max, 0);
+
+    void recordQueuedResponse(boolean deferred, int queueDepth) {
+        queuedResponses.increment();
+        if (deferred) {
+            deferredResponses.increment();
+        }
+        maxQueueDepth.accumulate(queueDepth);
+    }
+
+    void incrementOverflowClosures() {
+        overflowClosures.increment();
+    }
+
+    /**
+     * @return the number of pipelined responses handed over to be written
+     */
+    public long getQueuedResponses() {
+        return queuedResponses.sum();
+    }
+
+    /**
+     * @return the number of pipelined responses that completed before the response of an earlier request
+     */
+    public long getDeferredResponses() {
+        return deferredResponses.sum();
+    }
+
+    /**
+     * @return the number of connections closed because too many responses were waiting to be written
+     */
+    public long getOverflowClosures() {
+        return overflowClosures.sum();
+    }
+
+    /**
+     * @return the highest number of responses seen waiting to be written on a single connection
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+}
@@ -21,28 +21,43 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.FlushConsolidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.SSLContext;
 
@@ -60,6 +75,9 @@ public class ServerConnectorBootstrap {
     private boolean initialized;
     private boolean isHttps = false;
     private ChannelGroup allChannels;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private int acceptorCount = 1;
 
     public ServerConnectorBootstrap(ChannelGroup allChannels) {
         serverBootstrap = new ServerBootstrap();
@@ -114,7 +132,20 @@ public class ServerConnectorBootstrap {
     }
 
     public void addThreadPools(EventLoopGroup bossGroup, EventLoopGroup workerGroup) {
-        serverBootstrap.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class);
+        this.bossGroup = bossGroup;
+        this.workerGroup = workerGroup;
+        serverBootstrap.channel(NativeTransport.of(bossGroup).getServerSocketChannelClass());
+    }
+
+    /**
+     * Sets the number of server sockets bound to the listener port. When more than one is requested and the transport
+     * supports {@code SO_REUSEPORT}, each socket is bound with that option on its own boss event loop so that the
+     * kernel spreads the incoming connections among them.
+     *
+     * @param acceptorCount number of acceptor sockets
+     */
+    public void setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
     }
 
     public void addHttpTraceLogHandler(Boolean isHttpTraceLogEnabled) {
@@ -189,6 +220,14 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setWebSocketCompressionEnabled(webSocketCompressionEnabled);
     }
 
+    public void setFlushConsolidationConfig(FlushConsolidationConfig flushConsolidationConfig) {
+        httpServerChannelInitializer.setFlushConsolidationConfig(flushConsolidationConfig);
+    }
+
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        httpServerChannelInitializer.setCompressionConfig(compressionConfig);
+    }
+
     class HttpServerConnector implements ServerConnector {
 
        private final Logger log = LoggerFactory.getLogger(HttpServerConnector.class);
@@ -198,6 +237,8 @@ public class ServerConnectorBootstrap {
         private String host;
         private int port;
         private String connectorID;
+        private List<ChannelFuture> bindFutures = Collections.emptyList();
+        private volatile List<AcceptorMetrics> acceptorMetrics = Collections.emptyList();
 
         HttpServerConnector(String id, String host, int port) {
             this.host = host;
@@ -208,6 +249,7 @@ public class ServerConnectorBootstrap {
 
         @Override
         public ServerConnectorFuture start() {
+            httpServerChannelInitializer.prefetchOcspStaple();
             channelFuture = bindInterface();
             serverConnectorFuture = new HttpWsServerConnectorFuture(channelFuture, allChannels);
             channelFuture.addListener(future -> {
@@ -231,6 +273,7 @@ public class ServerConnectorBootstrap {
             try {
                 connectorStopped = unBindInterface();
                 if (connectorStopped) {
+                    httpServerChannelInitializer.releaseOcspStaplingSslContext();
                     serverConnectorFuture.notifyPortUnbindingEvent(this.connectorID, isHttps);
                 }
             } catch (InterruptedException e) {
@@ -248,6 +291,26 @@ public class ServerConnectorBootstrap {
             return this.connectorID;
         }
 
+        @Override
+        public List<AcceptorMetrics> getAcceptorMetrics() {
+            return acceptorMetrics;
+        }
+
+        @Override
+        public PipeliningMetrics getPipeliningMetrics() {
+            return httpServerChannelInitializer.getPipeliningMetrics();
+        }
+
+        @Override
+        public OCSPStapleCache getOcspStapleCache() {
+            return httpServerChannelInitializer.getOcspStapleCache();
+        }
+
+        @Override
+        public FlushConsolidationMetrics getFlushConsolidationMetrics() {
+            return httpServerChannelInitializer.getFlushConsolidationMetrics();
+        }
+
         private ChannelFuture getChannelFuture() {
             return channelFuture;
         }
@@ -270,7 +333,84 @@ public class ServerConnectorBootstrap {
                 log.error("ServerConnectorBootstrap is not initialized");
                 return null;
             }
-            return serverBootstrap.bind(new InetSocketAddress(getHost(), getPort()));
+            InetSocketAddress localAddress = new InetSocketAddress(getHost(), getPort());
+            List<EventLoopGroup> acceptorGroups = getAcceptorGroups();
+            ChannelOption<Boolean> reusePortOption = NativeTransport.of(bossGroup).getReusePortOption();
+            List<AcceptorMetrics> metrics = new ArrayList<>(acceptorGroups.size());
+            List<ChannelFuture> futures = new ArrayList<>(acceptorGroups.size());
+            for (EventLoopGroup acceptorGroup : acceptorGroups) {
+                AcceptorMetrics acceptor = new AcceptorMetrics(metrics.size());
+                ServerBootstrap bootstrap = serverBootstrap.clone().group(acceptorGroup, workerGroup)
+                        .handler(new AcceptorMetrics.AcceptCounter(acceptor));
+                if (acceptorGroups.size() > 1) {
+                    bootstrap.option(reusePortOption, true);
+                }
+                ChannelFuture bindFuture = bootstrap.bind(localAddress);
+                bindFuture.addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        scheduleAcceptRateSampling(future.channel(), acceptor);
+                    }
+                });
+                metrics.add(acceptor);
+                futures.add(bindFuture);
+            }
+            acceptorMetrics = Collections.unmodifiableList(metrics);
+            bindFutures = futures;
+            return futures.size() == 1 ? futures.get(0) : aggregate(futures);
+        }
+
+        private List<EventLoopGroup> getAcceptorGroups() {
+            if (acceptorCount <= 1) {
+                return Collections.singletonList(bossGroup);
+            }
+            NativeTransport transport = NativeTransport.of(bossGroup);
+            if (transport.getReusePortOption() == null) {
+                log.warn("SO_REUSEPORT is not supported by the {} transport, listener on port {} binds a single " +
+                                 "acceptor", transport, getPort());
+                return Collections.singletonList(bossGroup);
+            }
+            // Each socket is registered with a distinct boss event loop so that accepts proceed in parallel.
+            List<EventLoopGroup> acceptorGroups = new ArrayList<>(acceptorCount);
+            while (acceptorGroups.size() < acceptorCount) {
+                for (EventExecutor executor : bossGroup) {
+                    if (acceptorGroups.size() == acceptorCount) {
+                        break;
+                    }
+                    acceptorGroups.add((EventLoop) executor);
+                }
+            }
+            return acceptorGroups;
+        }
+
+        private void scheduleAcceptRateSampling(Channel acceptorChannel, AcceptorMetrics acceptor) {
+            ScheduledFuture<?> sampling = acceptorChannel.eventLoop().scheduleAtFixedRate(
+                    acceptor::sampleAcceptRate, 1, 1, TimeUnit.SECONDS);
+            acceptorChannel.closeFuture().addListener(future -> sampling.cancel(false));
+        }
+
+        /**
+         * Completes once every acceptor socket is bound, or fails with the first bind failure after closing the
+         * sockets which were bound.
+         */
+        private ChannelFuture aggregate(List<ChannelFuture> futures) {
+            ChannelPromise bindPromise = new DefaultChannelPromise(futures.get(0).channel(),
+                                                                   GlobalEventExecutor.INSTANCE);
+            AtomicInteger pendingBinds = new AtomicInteger(futures.size());
+            for (ChannelFuture bindFuture : futures) {
+                bindFuture.addListener((ChannelFutureListener) future -> {
+                    if (!future.isSuccess()) {
+                        if (bindPromise.tryFailure(future.cause())) {
+                            futures.forEach(acceptorFuture -> acceptorFuture.channel().close());
+                        }
+                        return;
+                    }
+                    allChannels.add(future.channel());
+                    if (pendingBinds.decrementAndGet() == 0) {
+                        bindPromise.trySuccess();
+                    }
+                });
+            }
+            return bindPromise;
         }
 
         private boolean unBindInterface() throws InterruptedException {
@@ -283,7 +423,9 @@ public class ServerConnectorBootstrap {
             ChannelFuture future = getChannelFuture();
             if (future != null) {
                 //Close will stop accepting new connections.
-                future.channel().close().sync();
+                for (ChannelFuture bindFuture : bindFutures) {
+                    bindFuture.channel().close().sync();
+                }
                 if (log.isDebugEnabled()) {
                     log.debug("HttpConnectorListener stopped listening on host {} and port {}", getHost(), getPort());
                 }
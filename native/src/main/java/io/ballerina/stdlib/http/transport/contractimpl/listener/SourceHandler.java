@@ -42,19 +42,14 @@ import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.ssl.SslCloseCompletionEvent;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.EventExecutorGroup;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.EXPECTED_SEQUENCE_NUMBER;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_INBOUND_REQUEST;
-import static io.ballerina.stdlib.http.transport.contract.Constants.NUMBER_OF_INITIAL_EVENTS_HELD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_BEFORE_INITIATING_INBOUND_REQUEST;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createInboundReqCarbonMsg;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isKeepAliveConnection;
@@ -68,7 +63,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     private HttpCarbonMessage inboundRequestMsg;
     private final Map<Integer, HttpCarbonMessage> requestSet = new ConcurrentHashMap<>();
     private HandlerExecutor handlerExecutor;
-    private Map<String, GenericObjectPool> targetChannelPool;
     private ChunkConfig chunkConfig;
 
     private KeepAliveConfig keepAliveConfig;
@@ -84,8 +78,9 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     private boolean pipeliningEnabled; //Based on the pipelining config
     private long pipeliningLimit; //Max number of responses allowed to be queued when pipelining is enabled
     private long sequenceId = 1L; //Keep track of the request order for http 1.1 pipelining
-    private final Queue holdingQueue = new PriorityQueue<>(NUMBER_OF_INITIAL_EVENTS_HELD);
     private EventExecutorGroup pipeliningGroup;
+    private PipeliningMetrics pipeliningMetrics;
+    private FlushConsolidationMetrics flushConsolidationMetrics;
 
     public SourceHandler(ServerConnectorFuture serverConnectorFuture, String interfaceId, ChunkConfig chunkConfig,
                          KeepAliveConfig keepAliveConfig, String serverName, ChannelGroup allChannels, boolean
@@ -94,7 +89,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         this.interfaceId = interfaceId;
         this.chunkConfig = chunkConfig;
         this.keepAliveConfig = keepAliveConfig;
-        this.targetChannelPool = new ConcurrentHashMap<>();
         this.idleTimeout = false;
         this.serverName = serverName;
         this.allChannels = allChannels;
@@ -165,8 +159,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
             }
         }
 
-        closeTargetChannels();
-
         if (handlerExecutor != null) {
             handlerExecutor.executeAtSourceConnectionTermination(Integer.toString(ctx.hashCode()));
             handlerExecutor = null;
@@ -179,16 +171,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         LOG.warn("Exception occurred in SourceHandler : {}", cause.getMessage());
     }
 
-    private void closeTargetChannels() {
-        targetChannelPool.forEach((hostPortKey, genericObjectPool) -> {
-            try {
-                targetChannelPool.remove(hostPortKey).close();
-            } catch (Exception e) {
-                LOG.error("Couldn't close target channel socket connections", e);
-            }
-        });
-    }
-
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
         if (evt instanceof IdleStateEvent) {
@@ -263,14 +245,9 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
      * Set pipeline related properties. These should be set only once per connection.
      */
     private void setPipeliningProperties() {
-        if (ctx.channel().attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).get() == null) {
-            ctx.channel().attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).set(pipeliningLimit);
-        }
-        if (ctx.channel().attr(Constants.RESPONSE_QUEUE).get() == null) {
-            ctx.channel().attr(Constants.RESPONSE_QUEUE).set(holdingQueue);
-        }
-        if (ctx.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get() == null) {
-            ctx.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(EXPECTED_SEQUENCE_NUMBER);
+        if (ctx.channel().attr(Constants.PIPELINED_RESPONSE_BUFFER).get() == null) {
+            ctx.channel().attr(Constants.PIPELINED_RESPONSE_BUFFER).set(
+                    new PipelinedResponseBuffer<>(pipeliningLimit, pipeliningMetrics));
         }
 
         if (ctx.channel().attr(Constants.PIPELINING_EXECUTOR).get() == null) {
@@ -293,10 +270,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         return this.ctx.channel().eventLoop();
     }
 
-    public Map<String, GenericObjectPool> getTargetChannelPool() {
-        return targetChannelPool;
-    }
-
     public ChannelHandlerContext getInboundChannelContext() {
         return ctx;
     }
@@ -325,6 +298,23 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         return serverName;
     }
 
+    /**
+     * Gets the metrics of the flush consolidation of the listener.
+     *
+     * @return the flush consolidation metrics, or null if flushes are not consolidated
+     */
+    public FlushConsolidationMetrics getFlushConsolidationMetrics() {
+        return flushConsolidationMetrics;
+    }
+
+    void setPipeliningMetrics(PipeliningMetrics pipeliningMetrics) {
+        this.pipeliningMetrics = pipeliningMetrics;
+    }
+
+    void setFlushConsolidationMetrics(FlushConsolidationMetrics flushConsolidationMetrics) {
+        this.flushConsolidationMetrics = flushConsolidationMetrics;
+    }
+
     public void setConnectedState(boolean connectedState) {
         this.connectedState = connectedState;
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.CompressionPolicy;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.ContentCoding;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.CompressorHttp2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2ConnectionEncoder;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Headers;
+
+/**
+ * {@code Http2ResponseCompressionEncoder} compresses the HTTP/2 response streams with the codings of the listener
+ * {@link CompressionPolicy}, honouring the compression level requested for a particular response.
+ */
+public class Http2ResponseCompressionEncoder extends CompressorHttp2ConnectionEncoder {
+
+    private final CompressionLevel defaultLevel;
+    private CompressionLevel responseLevel;
+
+    public Http2ResponseCompressionEncoder(Http2ConnectionEncoder delegate, CompressionPolicy compressionPolicy) {
+        super(delegate, compressionPolicy.getCompressionOptions());
+        this.defaultLevel = compressionPolicy.getLevel();
+    }
+
+    @Override
+    public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding,
+                                      boolean endStream, ChannelPromise promise) {
+        responseLevel = ctx.channel().attr(Constants.RESPONSE_COMPRESSION_LEVEL).getAndSet(null);
+        return super.writeHeaders(ctx, streamId, headers, padding, endStream, promise);
+    }
+
+    @Override
+    public ChannelFuture writeHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers headers,
+                                      int streamDependency, short weight, boolean exclusive, int padding,
+                                      boolean endOfStream, ChannelPromise promise) {
+        responseLevel = ctx.channel().attr(Constants.RESPONSE_COMPRESSION_LEVEL).getAndSet(null);
+        return super.writeHeaders(ctx, streamId, headers, streamDependency, weight, exclusive, padding, endOfStream,
+                                  promise);
+    }
+
+    @Override
+    protected EmbeddedChannel newContentCompressor(ChannelHandlerContext ctx, CharSequence contentEncoding)
+            throws Http2Exception {
+        ContentCoding coding = ContentCoding.of(contentEncoding.toString());
+        if (coding == null || !coding.isAvailable()) {
+            return super.newContentCompressor(ctx, contentEncoding);
+        }
+        // The encoders of the codings are used even at the default level, since Netty's brotli encoder cannot
+        // compress a stream that spans several data frames
+        CompressionLevel level = responseLevel != null ? responseLevel : defaultLevel;
+        return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                                   ctx.channel().config(), coding.newEncoder(level));
+    }
+}
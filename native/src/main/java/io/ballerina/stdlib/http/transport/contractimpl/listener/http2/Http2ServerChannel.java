@@ -19,7 +19,8 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
-import io.netty.util.internal.PlatformDependent;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -28,10 +29,13 @@ import java.util.Map;
 
 /**
  * Represents the streams related to a single server channel.
+ * <p>
+ * The stream map is confined to the event loop of the connection. Frames are read on that loop and the outbound
+ * response listener hands its writes over to the same loop, so no further synchronization is needed.
  */
 public class Http2ServerChannel {
     // streamIdRequestMap contains the mapping of http carbon messages vs stream id to support multiplexing
-    private Map<Integer, InboundMessageHolder> streamIdRequestMap = PlatformDependent.newConcurrentHashMap();
+    private final IntObjectMap<InboundMessageHolder> streamIdRequestMap = new IntObjectHashMap<>();
     private Map<String, Http2DataEventListener> dataEventListeners;
 
     Http2ServerChannel() {
@@ -42,7 +46,13 @@ public class Http2ServerChannel {
         streamIdRequestMap.clear();
     }
 
-    public Map<Integer, InboundMessageHolder> getStreamIdRequestMap() {
+    /**
+     * Gets the in-flight requests of this connection keyed by stream id. Must only be accessed from the event loop
+     * of the connection.
+     *
+     * @return the stream id to inbound message map
+     */
+    public IntObjectMap<InboundMessageHolder> getStreamIdRequestMap() {
         return streamIdRequestMap;
     }
 
@@ -19,6 +19,8 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeout;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutWheel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -30,14 +32,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.schedule;
-import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
-
 /**
- * Timeout handler for HTTP/2 server. Timer applies to individual streams.
+ * Timeout handler for HTTP/2 server. Timer applies to individual streams, which are tracked on the event loop's
+ * {@link IdleTimeoutWheel}.
  */
 public class Http2ServerTimeoutHandler implements Http2DataEventListener {
 
@@ -45,7 +44,7 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
     private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
     private long idleTimeNanos;
     private Http2ServerChannel http2ServerChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
+    private Map<Integer, IdleTimeout> timerTasks;
     private ServerConnectorFuture serverConnectorFuture;
 
     Http2ServerTimeoutHandler(long idleTimeMills, Http2ServerChannel serverChannel,
@@ -60,9 +59,8 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
     public boolean onStreamInit(ChannelHandlerContext ctx, int streamId) {
         InboundMessageHolder inboundMsgHolder = http2ServerChannel.getInboundMessage(streamId);
         if (inboundMsgHolder != null) {
-            inboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-            timerTasks.put(streamId,
-                           schedule(ctx, new Http2ServerTimeoutHandler.IdleTimeoutTask(ctx, streamId), idleTimeNanos));
+            timerTasks.put(streamId, IdleTimeoutWheel.schedule(ctx.executor(), idleTimeNanos,
+                                                               new IdleTimeoutTask(ctx, streamId)));
         }
         return true;
     }
@@ -104,23 +102,22 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
+        IdleTimeout timerTask = timerTasks.remove(streamId);
         if (timerTask != null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Server timer is removed for the stream : {}", streamId);
             }
-            timerTask.cancel(false);
-            timerTasks.remove(streamId);
+            timerTask.cancel();
         }
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
+        timerTasks.forEach((streamId, task) -> task.cancel());
         timerTasks.clear();
     }
 
-    private class IdleTimeoutTask implements Runnable {
+    private class IdleTimeoutTask implements IdleTimeout.Listener {
         private ChannelHandlerContext ctx;
         private int streamId;
 
@@ -130,28 +127,16 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
         }
 
         @Override
-        public void run() {
+        public void onIdleTimeout(IdleTimeout timeout, boolean first) {
+            timeout.cancel();
+            timerTasks.remove(streamId, timeout);
             InboundMessageHolder msgHolder = http2ServerChannel.getInboundMessage(streamId);
             if (msgHolder != null) {
-                runTimeOutLogic(msgHolder);
-            }
-        }
-
-        private void runTimeOutLogic(InboundMessageHolder msgHolder) {
-            long nextDelay = getNextDelay(msgHolder);
-            if (nextDelay <= 0) {
                 handleTimeout(msgHolder);
                 closeStream(msgHolder, streamId, ctx);
-            } else {
-                // Read or write occurred before the timeout - set a new timeout with shorter delay.
-                timerTasks.put(streamId, schedule(ctx, this, nextDelay));
             }
         }
 
-        private long getNextDelay(InboundMessageHolder msgHolder) {
-            return idleTimeNanos - (ticksInNanos() - msgHolder.getLastReadWriteTime());
-        }
-
         private void handleTimeout(InboundMessageHolder msgHolder) {
             if (msgHolder.getInboundMsg() != null) {
                 if (LOG.isDebugEnabled()) {
@@ -175,19 +160,17 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
     }
 
     private void updateLastReadTime(int streamId) {
-        InboundMessageHolder inboundMessage = http2ServerChannel.getInboundMessage(streamId);
-        if (inboundMessage != null) {
-            inboundMessage.setLastReadWriteTime(ticksInNanos());
+        IdleTimeout timerTask = timerTasks.get(streamId);
+        if (timerTask != null) {
+            timerTask.touch();
         }
     }
 
     private void updateLastWriteTime(int streamId, boolean endOfStream) {
-        InboundMessageHolder inboundMessage = http2ServerChannel.getInboundMessage(streamId);
-        if (inboundMessage != null) {
-            inboundMessage.setLastReadWriteTime(ticksInNanos());
-        }
         if (endOfStream) {
             onStreamClose(streamId);
+        } else {
+            updateLastReadTime(streamId);
         }
     }
 }
@@ -22,9 +22,7 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.common.FrameLogger;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
-import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
-import io.netty.handler.codec.http2.CompressorHttp2ConnectionEncoder;
 import io.netty.handler.codec.http2.DefaultHttp2Connection;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
@@ -71,8 +69,8 @@ public final class Http2SourceConnectionHandlerBuilder
     @Override
     public Http2SourceConnectionHandler build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
                                               Http2Settings initialSettings) {
-        Http2ConnectionEncoder compressEncoder = new CompressorHttp2ConnectionEncoder(
-                encoder, StandardCompressionOptions.gzip(), StandardCompressionOptions.deflate());
+        Http2ConnectionEncoder compressEncoder = new Http2ResponseCompressionEncoder(
+                encoder, serverChannelInitializer.getCompressionPolicy());
         Http2SourceConnectionHandler sourceConnectionHandler = new Http2SourceConnectionHandler(
                 serverChannelInitializer, decoder, compressEncoder, initialSettings, interfaceId,
                 serverConnectorFuture, serverName);
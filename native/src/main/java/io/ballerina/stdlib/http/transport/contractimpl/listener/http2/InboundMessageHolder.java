@@ -22,35 +22,16 @@ import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 /**
- * Message holder for inbound request and push response. Keeps track of the last read or write execution time.
+ * Message holder for inbound request and push response.
  */
 public class InboundMessageHolder {
     private HttpCarbonMessage inboundMsg;
-    private long lastReadWriteTime;
     private Http2OutboundRespListener http2OutboundRespListener;
 
     public InboundMessageHolder(HttpCarbonMessage inboundMsgOrPushResponse) {
         this.inboundMsg = inboundMsgOrPushResponse;
     }
 
-    /**
-     * Gets last read or write operation execution time.
-     *
-     * @return the last read or write operation execution time
-     */
-    long getLastReadWriteTime() {
-        return lastReadWriteTime;
-    }
-
-    /**
-     * Sets the last read or write operation execution time.
-     *
-     * @param lastReadWriteTime the last read or write operation execution time
-     */
-    void setLastReadWriteTime(long lastReadWriteTime) {
-        this.lastReadWriteTime = lastReadWriteTime;
-    }
-
     public HttpCarbonMessage getInboundMsg() {
         return inboundMsg;
     }
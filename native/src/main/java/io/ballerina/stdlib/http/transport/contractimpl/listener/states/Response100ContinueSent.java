@@ -44,6 +44,7 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIEN
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_100_CONTINUE_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_TO_HOST_CONNECTION_CLOSED;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createFullHttpResponse;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setResponseCompressionLevel;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupChunkedRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.checkChunkingCompatibility;
@@ -115,6 +116,7 @@ public class Response100ContinueSent extends SendingHeaders {
                                                                        outboundRespListener.getServerName(),
                                                                        outboundRespListener.isKeepAlive(), allContent);
 
+            setResponseCompressionLevel(outboundRespListener.getSourceContext(), outboundResponseMsg);
             outboundHeaderFuture = outboundRespListener.getSourceContext().writeAndFlush(fullOutboundResponse);
             checkForResponseWriteStatus(outboundRespListener.getInboundRequestMsg(), outboundRespStatusFuture,
                                         outboundHeaderFuture);
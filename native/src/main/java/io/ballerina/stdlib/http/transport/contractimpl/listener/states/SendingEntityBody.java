@@ -23,6 +23,8 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.FlushConsolidationMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipelinedResponseBuffer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
@@ -45,13 +47,13 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HEAD_METHOD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_TO_HOST_CONNECTION_CLOSED;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createFullHttpResponse;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setResponseCompressionLevel;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupContentLengthRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 
@@ -121,6 +123,11 @@ public class SendingEntityBody implements ListenerState {
                                                                            (LastHttpContent) httpContent);
             }
 
+            FlushConsolidationMetrics flushConsolidationMetrics = sourceHandler.getFlushConsolidationMetrics();
+            if (flushConsolidationMetrics != null) {
+                flushConsolidationMetrics.incrementResponses();
+            }
+
             if (!outboundRespListener.isKeepAlive()) {
                 outboundChannelFuture.addListener(ChannelFutureListener.CLOSE);
             } else {
@@ -196,6 +203,7 @@ public class SendingEntityBody implements ListenerState {
                                                                    outboundRespListener.getServerName(),
                                                                    outboundRespListener.isKeepAlive(), allContent);
 
+        setResponseCompressionLevel(sourceContext, outboundResponseMsg);
         ChannelFuture outboundChannelFuture = sourceContext.writeAndFlush(fullOutboundResponse);
         checkForResponseWriteStatus(inboundRequestMsg, outboundRespStatusFuture, outboundChannelFuture);
         return outboundChannelFuture;
@@ -234,21 +242,17 @@ public class SendingEntityBody implements ListenerState {
         String httpVersion = inboundRequestMsg.getHttpVersion();
         if (outboundResponseMsg.isPipeliningEnabled() && Constants.HTTP_1_1_VERSION.equalsIgnoreCase
                 (httpVersion)) {
-            Queue responseQueue;
-            synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-                responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-                Long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
-                //because the body of the request is yet to come. Only when the actual response is sent out, this
-                //next sequence number should be updated.
-                nextSequenceNumber++;
-                sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(nextSequenceNumber);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
-                    LOG.debug("Updated next sequence id to : {}", nextSequenceNumber);
-                }
+            PipelinedResponseBuffer<?> responseBuffer = sourceContext.channel()
+                    .attr(Constants.PIPELINED_RESPONSE_BUFFER).get();
+            //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
+            //because the body of the request is yet to come. Only when the actual response is sent out, this
+            //next sequence number should be updated.
+            long nextSequenceNumber = responseBuffer.advance();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
+                LOG.debug("Updated next sequence id to : {}", nextSequenceNumber);
             }
-            if (!responseQueue.isEmpty()) {
+            if (!responseBuffer.isEmpty()) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Pipelining logic is triggered from transport");
                 }
@@ -39,6 +39,7 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIEN
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createHttpResponse;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isLastHttpContent;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setResponseCompressionLevel;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.setupChunkedRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.checkChunkingCompatibility;
@@ -146,6 +147,7 @@ public class SendingHeaders implements ListenerState {
         HttpResponse response = createHttpResponse(outboundResponseMsg,
                                                    outboundResponseListener.getRequestDataHolder().getHttpVersion(),
                                                    outboundResponseListener.getServerName(), keepAlive);
+        setResponseCompressionLevel(outboundResponseListener.getSourceContext(), outboundResponseMsg);
         return outboundResponseListener.getSourceContext().write(response);
     }
 }
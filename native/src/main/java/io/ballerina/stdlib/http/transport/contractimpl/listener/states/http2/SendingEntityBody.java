@@ -23,8 +23,11 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogRecord;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogWriter;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.FlushConsolidationMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
@@ -54,10 +57,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.Calendar;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG_FORMAT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_X_FORWARDED_FOR;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
@@ -81,12 +82,12 @@ public class SendingEntityBody implements ListenerState {
     private final Http2ConnectionEncoder encoder;
     private final HttpResponseFuture outboundRespStatusFuture;
     private final HttpCarbonMessage inboundRequestMsg;
-    private final Calendar inboundRequestArrivalTime;
+    private final long inboundRequestArrivalTime;
     private final int originalStreamId;
     private final Http2OutboundRespListener http2OutboundRespListener;
     private HttpCarbonMessage outboundResponseMsg;
 
-    private Long contentLength = 0L;
+    private long contentLength = 0L;
     private String remoteAddress;
 
     SendingEntityBody(Http2OutboundRespListener http2OutboundRespListener,
@@ -170,6 +171,11 @@ public class SendingEntityBody implements ListenerState {
             if (serverChannelInitializer.isHttpAccessLogEnabled()) {
                 logAccessInfo(outboundResponseMsg, streamId);
             }
+            FlushConsolidationMetrics flushConsolidationMetrics =
+                    serverChannelInitializer.getFlushConsolidationMetrics();
+            if (flushConsolidationMetrics != null) {
+                flushConsolidationMetrics.incrementResponses();
+            }
 
             final LastHttpContent lastContent = (httpContent == LastHttpContent.EMPTY_LAST_CONTENT) ?
                     new DefaultLastHttpContent() : (LastHttpContent) httpContent;
@@ -251,8 +257,12 @@ public class SendingEntityBody implements ListenerState {
         // Populate response parameters
         int statusCode = Util.getHttpResponseStatus(outboundResponseMsg).code();
 
-        ACCESS_LOGGER.log(InternalLogLevel.INFO, String.format(
-                ACCESS_LOG_FORMAT, remoteAddress, inboundRequestArrivalTime, method, uri, protocol,
-                statusCode, contentLength, referrer, userAgent));
+        AccessLogWriter accessLogWriter = AccessLogWriter.getDefault();
+        AccessLogRecord record = accessLogWriter.claim();
+        if (record != null) {
+            record.setRequest(remoteAddress, inboundRequestArrivalTime, method, uri, protocol, referrer, userAgent)
+                    .setResponse(statusCode, contentLength);
+            accessLogWriter.publish();
+        }
     }
 }
@@ -156,6 +156,7 @@ public class SendingHeaders implements ListenerState {
         // Construct Http2 headers
         Http2Headers http2Headers = HttpConversionUtil.toHttp2Headers(httpMessage, true);
         validatePromisedStreamState(originalStreamId, streamId, conn, inboundRequestMsg);
+        Util.setResponseCompressionLevel(ctx, outboundResponseMsg);
         Http2StateUtil.writeHttp2ResponseHeaders(ctx, encoder, outboundRespStatusFuture, streamId, http2Headers, false,
                                                  http2OutboundRespListener);
         http2MessageStateContext.setHeadersSent(true);
@@ -23,14 +23,22 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidat
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 
 /**
- * A handler to validate certificates in certificate revocation process.
+ * A handler to validate certificates in certificate revocation process. The revocation status is checked without
+ * blocking the event loop. The handshake completion event and any data read meanwhile are held back until the
+ * certificate chain is verified.
  */
 public class CertificateValidationHandler extends ChannelInboundHandlerAdapter {
 
@@ -39,30 +47,109 @@ public class CertificateValidationHandler extends ChannelInboundHandlerAdapter {
     private RevocationVerificationManager revocationVerifier;
     private int cacheSize;
     private int cacheDelay;
+    private long staleIfErrorMillis;
+    private final Queue<Object> pendingReads = new ArrayDeque<>();
+    private boolean validating;
+    private boolean autoRead;
 
     public CertificateValidationHandler(SSLEngine sslEngine, int cacheDelay, int cacheSize) {
+        this(sslEngine, cacheDelay, cacheSize, 0);
+    }
+
+    public CertificateValidationHandler(SSLEngine sslEngine, int cacheDelay, int cacheSize,
+                                        long staleIfErrorMillis) {
         this.sslEngine = sslEngine;
         this.cacheDelay = cacheDelay;
         this.cacheSize = cacheSize;
+        this.staleIfErrorMillis = staleIfErrorMillis;
         this.revocationVerifier = null;
     }
 
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
-        revocationVerifier = new RevocationVerificationManager(cacheSize, cacheDelay);
-        if (evt instanceof SslHandshakeCompletionEvent) {
+        if (!(evt instanceof SslHandshakeCompletionEvent)) {
+            ctx.fireUserEventTriggered(evt);
+            return;
+        }
+        SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
+        if (!event.isSuccess()) {
             ctx.pipeline().remove(this);
+            ctx.close();
+            throw new SSLException("Certificate Chain Validation failed. Hence closing the channel");
+        }
 
-            SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
-
-            if (event.isSuccess() && revocationVerifier
-                    .verifyRevocationStatus(sslEngine.getSession().getPeerCertificateChain())) {
-                ctx.fireChannelRead(evt);
+        validating = true;
+        autoRead = ctx.channel().config().isAutoRead();
+        ctx.channel().config().setAutoRead(false);
+        revocationVerifier = new RevocationVerificationManager(cacheSize, cacheDelay, staleIfErrorMillis);
+        CompletableFuture<Boolean> verification;
+        try {
+            verification = revocationVerifier.verifyRevocationStatusAsync(
+                    sslEngine.getSession().getPeerCertificates());
+        } catch (SSLException e) {
+            verification = CompletableFuture.failedFuture(e);
+        }
+        verification.whenComplete((verified, e) -> {
+            if (ctx.executor().inEventLoop()) {
+                completeValidation(ctx, evt, e == null && verified, e);
             } else {
-                ctx.close();
-                throw new SSLException("Certificate Chain Validation failed. Hence closing the channel");
+                ctx.executor().execute(() -> completeValidation(ctx, evt, e == null && verified, e));
             }
-            ctx.fireUserEventTriggered(evt);
+        });
+    }
+
+    private void completeValidation(ChannelHandlerContext ctx, Object evt, boolean verified, Throwable cause) {
+        validating = false;
+        if (ctx.isRemoved()) {
+            return;
+        }
+        if (!verified) {
+            releasePendingReads();
+            ctx.pipeline().remove(this);
+            ctx.close();
+            ctx.fireExceptionCaught(new SSLException("Certificate Chain Validation failed. Hence closing the channel",
+                    cause instanceof CompletionException ? cause.getCause() : cause));
+            return;
+        }
+        ctx.fireChannelRead(evt);
+        ctx.fireUserEventTriggered(evt);
+        boolean readPending = !pendingReads.isEmpty();
+        Object msg;
+        while ((msg = pendingReads.poll()) != null) {
+            ctx.fireChannelRead(msg);
+        }
+        if (readPending) {
+            ctx.fireChannelReadComplete();
+        }
+        ctx.pipeline().remove(this);
+        ctx.channel().config().setAutoRead(autoRead);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (validating) {
+            pendingReads.add(msg);
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        if (!validating) {
+            ctx.fireChannelReadComplete();
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releasePendingReads();
+    }
+
+    private void releasePendingReads() {
+        Object msg;
+        while ((msg = pendingReads.poll()) != null) {
+            ReferenceCountUtil.release(msg);
         }
     }
 
@@ -78,4 +165,3 @@ public class CertificateValidationHandler extends ChannelInboundHandlerAdapter {
         ctx.fireExceptionCaught(cause);
     }
 }
-
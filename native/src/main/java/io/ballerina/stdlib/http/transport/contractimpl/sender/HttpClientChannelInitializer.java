@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.FrameLogger;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSslContextCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpExceptionHandler;
@@ -86,7 +87,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
     private HttpRoute httpRoute;
     private SenderConfiguration senderConfiguration;
     private ConnectionAvailabilityFuture connectionAvailabilityFuture;
-    private SSLHandlerFactory sslHandlerFactory;
+    private ClientSslContextCache sslContextCache;
     private final InboundMsgSizeValidationConfig responseSizeValidationConfig;
 
     public HttpClientChannelInitializer(SenderConfiguration senderConfiguration, HttpRoute httpRoute,
@@ -117,7 +118,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         http2ConnectionHandler = connectionHandlerBuilder.connection(connection).frameListener(frameListener).build();
         http2TargetHandler = new Http2TargetHandler(connection, http2ConnectionHandler.encoder());
         if (sslConfig != null) {
-            sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+            sslContextCache = sslConfig.getClientSslContextCache();
         }
     }
 
@@ -175,22 +176,29 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         connectionAvailabilityFuture.setSSLEnabled(true);
         if (sslConfig.isOcspStaplingEnabled()) {
             ReferenceCountedOpenSslContext referenceCountedOpenSslContext =
-                    (ReferenceCountedOpenSslContext) sslHandlerFactory.
-                            createHttp2TLSContextForClient(sslConfig.isOcspStaplingEnabled());
+                    (ReferenceCountedOpenSslContext) sslContextCache.getHttp2Context(
+                            factory -> factory.createHttp2TLSContextForClient(true));
             if (referenceCountedOpenSslContext != null) {
-                SslHandler sslHandler = referenceCountedOpenSslContext.newHandler(ch.alloc());
+                SslHandler sslHandler = referenceCountedOpenSslContext.newHandler(ch.alloc(), httpRoute.getHost(),
+                                                                                  httpRoute.getPort());
                 ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
                 setSslHandshakeTimeOut(sslConfig, sslHandler);
+                sslContextCache.recordHandshake(sslHandler);
                 ch.pipeline().addLast(sslHandler);
-                ch.pipeline().addLast(new OCSPStaplingHandler(engine));
+                ch.pipeline().addLast(new OCSPStaplingHandler(engine, sslConfig.getCacheSize(),
+                                                              sslConfig.getCacheValidityPeriod(),
+                                                              sslConfig.getRevocationStaleIfErrorMillis()));
             }
         } else if (sslConfig.isDisableSsl()) {
-            SslContext sslCtx = Util.createInsecureSslEngineForHttp2(sslConfig);
+            SslContext sslCtx = sslContextCache.getHttp2Context(
+                    factory -> Util.createInsecureSslEngineForHttp2(sslConfig));
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
+            sslContextCache.recordHandshake(sslHandler);
             clientPipeline.addLast(sslHandler);
         } else {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            SslContext sslCtx = sslHandlerFactory.createHttp2TLSContextForClient(false);
+            SSLHandlerFactory sslHandlerFactory = sslContextCache.getSslHandlerFactory();
+            SslContext sslCtx = sslContextCache.getHttp2Context(
+                    factory -> factory.createHttp2TLSContextForClient(false));
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
             SSLEngine sslEngine = sslHandler.engine();
             sslHandlerFactory.setSNIServerNames(sslEngine, httpRoute.getHost());
@@ -198,11 +206,12 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
                 setHostNameVerfication(sslEngine);
             }
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            sslContextCache.recordHandshake(sslHandler);
             clientPipeline.addLast(sslHandler);
             if (sslConfig.isValidateCertEnabled()) {
                 clientPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
                         new CertificateValidationHandler(sslEngine, sslConfig.getCacheValidityPeriod(),
-                                sslConfig.getCacheSize()));
+                                sslConfig.getCacheSize(), sslConfig.getRevocationStaleIfErrorMillis()));
             }
         }
         clientPipeline.addLast(new Http2PipelineConfiguratorForClient(targetHandler, connectionAvailabilityFuture));
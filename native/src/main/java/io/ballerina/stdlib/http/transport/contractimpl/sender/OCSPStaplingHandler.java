@@ -18,9 +18,9 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender;
 
-import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationVerificationManager;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.handler.ssl.ocsp.OcspClientHandler;
 import org.bouncycastle.asn1.ocsp.OCSPResponseStatus;
 import org.bouncycastle.cert.ocsp.BasicOCSPResp;
@@ -31,12 +31,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigInteger;
+import java.security.cert.X509Certificate;
 
 import javax.net.ssl.SSLSession;
-import javax.security.cert.X509Certificate;
-
-import static io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants.CACHE_DEFAULT_ALLOCATED_SIZE;
-import static io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants.CACHE_DEFAULT_DELAY_MINS;
 
 /**
  * A handler for OCSP stapling.
@@ -44,9 +41,40 @@ import static io.ballerina.stdlib.http.transport.contractimpl.common.certificate
 public class OCSPStaplingHandler extends OcspClientHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(OCSPStaplingHandler.class);
+    private final ReferenceCountedOpenSslEngine engine;
+    private final int cacheSize;
+    private final int cacheDelay;
+    private final long staleIfErrorMillis;
 
-    public OCSPStaplingHandler(ReferenceCountedOpenSslEngine engine) {
+    /**
+     * @param engine             the engine of the connection
+     * @param cacheSize          max size of the revocation caches used when the server does not staple a response
+     * @param cacheDelay         validity of the cached revocation responses in minutes
+     * @param staleIfErrorMillis how long a revocation response is used after it expired when it cannot be refreshed
+     */
+    public OCSPStaplingHandler(ReferenceCountedOpenSslEngine engine, int cacheSize, int cacheDelay,
+                               long staleIfErrorMillis) {
         super(engine);
+        this.engine = engine;
+        this.cacheSize = cacheSize;
+        this.cacheDelay = cacheDelay;
+        this.staleIfErrorMillis = staleIfErrorMillis;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SslHandshakeCompletionEvent && ((SslHandshakeCompletionEvent) evt).isSuccess()
+                && engine.getOcspResponse() == null) {
+            // If the response came from the server does not contain the OCSP staple, the certificate is validated
+            // by the CertificateValidationHandler against the OCSP access location and then the CRL distribution
+            // points without blocking the event loop.
+            CertificateValidationHandler validationHandler = new CertificateValidationHandler(
+                    engine, cacheDelay, cacheSize, staleIfErrorMillis);
+            ctx.pipeline().replace(this, null, validationHandler);
+            validationHandler.userEventTriggered(ctx.pipeline().context(validationHandler), evt);
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
     }
 
     @Override
@@ -55,12 +83,8 @@ public class OCSPStaplingHandler extends OcspClientHandler {
         //Get the stapled ocsp response from the ssl engine.
         byte[] staple = engine.getOcspResponse();
         if (staple == null) {
-            // If the response came from the server does not contain the OCSP staple, client attempts to validate
-            // the certificate by directly calling OCSP access location and if that also fails, finally
-            // do the CRL validation.
-            RevocationVerificationManager revocationVerifier = new RevocationVerificationManager(
-                    CACHE_DEFAULT_ALLOCATED_SIZE, CACHE_DEFAULT_DELAY_MINS);
-            return revocationVerifier.verifyRevocationStatus(engine.getSession().getPeerCertificateChain());
+            // Handshakes without a staple are handed over to the CertificateValidationHandler before they get here
+            return false;
         }
 
         OCSPResp response = new OCSPResp(staple);
@@ -69,8 +93,7 @@ public class OCSPStaplingHandler extends OcspClientHandler {
         }
 
         SSLSession session = engine.getSession();
-        X509Certificate[] chain = session.getPeerCertificateChain();
-        BigInteger certSerial = chain[0].getSerialNumber();
+        BigInteger certSerial = ((X509Certificate) session.getPeerCertificates()[0]).getSerialNumber();
 
         BasicOCSPResp basicResponse = (BasicOCSPResp) response.getResponseObject();
         SingleResp singleResp = basicResponse.getResponses()[0];
@@ -18,6 +18,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.OutboundContentWriteExecutor;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRespStateManager;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityFuture;
@@ -45,7 +46,6 @@ public class TargetChannel {
     private static final Logger LOG = LoggerFactory.getLogger(TargetChannel.class);
 
     public SenderReqRespStateManager senderReqRespStateManager;
-    public String trgHlrConnPoolId;
 
     private boolean requestHeaderWritten = false;
     private Channel channel;
@@ -100,12 +100,13 @@ public class TargetChannel {
 
         resetTargetChannelState();
 
+        OutboundContentWriteExecutor writeExecutor = new OutboundContentWriteExecutor(this.channel.eventLoop());
         httpOutboundRequest.getHttpContentAsync().setMessageListener((httpContent -> {
             //TODO:Until the listener is set, content writing happens in I/O thread. If writability changed
             //while in I/O thread and DefaultBackPressureListener is engaged, there's a chance of I/O thread
             //getting blocked. Cannot recreate, only a possibility.
             Util.checkUnWritabilityAndNotify(targetHandler.getContext(), backpressureHandler);
-            this.channel.eventLoop().execute(() -> {
+            writeExecutor.execute(() -> {
                 try {
                     senderReqRespStateManager.writeOutboundRequestEntity(httpOutboundRequest, httpContent);
                 } catch (Exception exception) {
@@ -17,22 +17,23 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
-import java.util.UUID;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A class which handles connection pool management.
@@ -41,22 +42,23 @@ public class ConnectionManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionManager.class);
 
-    private final String connectionManagerId;
     private final PoolConfiguration poolConfiguration;
-    private final Map<String, GenericObjectPool> globalConnPool;
-    private final Map<String, PoolableTargetChannelFactory> globalFactoryObjects;
+    private final Map<HttpRoute, TargetChannelPool> connectionPools;
     private final Http2ConnectionManager http2ConnectionManager;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    private final AtomicInteger clientCount = new AtomicInteger();
 
     public ConnectionManager(PoolConfiguration poolConfiguration) {
         this.poolConfiguration = poolConfiguration;
-        globalConnPool = new ConcurrentHashMap<>();
-        globalFactoryObjects = new ConcurrentHashMap<>();
+        connectionPools = new ConcurrentHashMap<>();
+        connectionPoolMetrics = new ConnectionPoolMetrics();
         http2ConnectionManager = new Http2ConnectionManager(poolConfiguration);
-        connectionManagerId = "-" + UUID.randomUUID().toString();
     }
 
     /**
-     * Gets the client target channel pool.
+     * Acquires a target channel without blocking the calling thread. When the pool of the route is exhausted, the
+     * acquisition waits in the pool's FIFO pending queue and the returned future completes once a channel is
+     * released to the pool, or fails once the maximum wait time is exceeded.
      *
      * @param httpRoute          Represents the endpoint address
      * @param sourceHandler      Represents the HTTP/1.x source handler
@@ -64,94 +66,71 @@ public class ConnectionManager {
      * @param senderConfig       Represents the client configurations
      * @param bootstrapConfig    Represents the bootstrap info related to client connection creation
      * @param clientEventGroup   Represents the eventloop group that the client channel should be bound to
-     * @return the target channel which is requested for given parameters.
-     * @throws Exception to notify any errors occur during retrieving the target channel
+     * @return a future of the target channel which is requested for given parameters. It fails with a
+     * {@link NoSuchElementException} if a channel couldn't be acquired from the pool
      */
-    public TargetChannel borrowTargetChannel(HttpRoute httpRoute, SourceHandler sourceHandler,
-                                             Http2SourceHandler http2SourceHandler,
-                                             SenderConfiguration senderConfig, BootstrapConfiguration bootstrapConfig,
-                                             EventLoopGroup clientEventGroup) throws Exception {
-        GenericObjectPool trgHlrConnPool;
-        String trgHlrConnPoolId = httpRoute.toString() + connectionManagerId;
+    public CompletableFuture<TargetChannel> acquireTargetChannel(HttpRoute httpRoute, SourceHandler sourceHandler,
+                                                                 Http2SourceHandler http2SourceHandler,
+                                                                 SenderConfiguration senderConfig,
+                                                                 BootstrapConfiguration bootstrapConfig,
+                                                                 EventLoopGroup clientEventGroup) {
+        return acquireFromPool(httpRoute, sourceHandler, http2SourceHandler, senderConfig, bootstrapConfig,
+                               clientEventGroup)
+                .thenApply(targetChannel -> getTargetChannel(sourceHandler, http2SourceHandler, targetChannel));
+    }
 
+    private CompletableFuture<TargetChannel> acquireFromPool(HttpRoute httpRoute, SourceHandler sourceHandler,
+                                                             Http2SourceHandler http2SourceHandler,
+                                                             SenderConfiguration senderConfig,
+                                                             BootstrapConfiguration bootstrapConfig,
+                                                             EventLoopGroup clientEventGroup) {
+        TargetChannelPool trgHlrConnPool = getTargetChannelPool(httpRoute, senderConfig, bootstrapConfig,
+                                                                clientEventGroup);
         if (sourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = sourceHandler.getInboundChannelContext();
-
-
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    sourceHandler.getTargetChannelPool());
+            return acquireWithSourceEventLoop(trgHlrConnPool, sourceHandler.getInboundChannelContext());
         } else if (http2SourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = http2SourceHandler.getInboundChannelContext();
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    http2SourceHandler.getTargetChannelPool());
-
-        } else {
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup);
+            return acquireWithSourceEventLoop(trgHlrConnPool, http2SourceHandler.getInboundChannelContext());
         }
-
-        return getTargetChannel(sourceHandler, http2SourceHandler, trgHlrConnPool, trgHlrConnPoolId);
+        return trgHlrConnPool.acquire(null, clientEventGroup,
+                                      NativeTransport.of(clientEventGroup).getSocketChannelClass());
     }
 
-    private GenericObjectPool getTrgHlrPoolFromGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
-                                                          BootstrapConfiguration bootstrapConfig,
-                                                          EventLoopGroup clientEventGroup) {
-        GenericObjectPool trgHlrConnPool;
-        Class eventLoopClass = NioSocketChannel.class;
-        synchronized (this) {
-            if (!globalConnPool.containsKey(httpRoute.toString())) {
-                createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup,
-                                             eventLoopClass);
-            }
-            trgHlrConnPool = globalConnPool.get(httpRoute.toString());
-        }
-        return trgHlrConnPool;
+    private CompletableFuture<TargetChannel> acquireWithSourceEventLoop(TargetChannelPool trgHlrConnPool,
+                                                                        ChannelHandlerContext inboundChannelContext) {
+        // New channels are created on the eventloop of the source channel since, with http/2, the eventloop of the
+        // channel cannot be changed later. Idle channels registered with that eventloop are preferred for the same
+        // reason.
+        EventLoop sourceEventLoop = inboundChannelContext.channel().eventLoop();
+        return trgHlrConnPool.acquire(sourceEventLoop, sourceEventLoop,
+                                      NativeTransport.of(sourceEventLoop).getSocketChannelClass());
     }
 
-    private GenericObjectPool getTrgHlrPoolFromGlobalPoolWithSrcPool(HttpRoute httpRoute,
-                                                                     SenderConfiguration senderConfig,
-                                                                     BootstrapConfiguration bootstrapConfig,
-                                                                     String trgHlrConnPoolId,
-                                                                     EventLoopGroup clientEventGroup,
-                                                                     Class eventLoopClass,
-                                                                     Map<String, GenericObjectPool> srcHlrConnPool) {
-        GenericObjectPool trgHlrConnPool = srcHlrConnPool.get(trgHlrConnPoolId);
+    private TargetChannelPool getTargetChannelPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+                                                   BootstrapConfiguration bootstrapConfig,
+                                                   EventLoopGroup clientEventGroup) {
+        TargetChannelPool trgHlrConnPool = connectionPools.get(httpRoute);
         if (trgHlrConnPool == null) {
-            synchronized (this) {
-                if (!globalConnPool.containsKey(httpRoute.toString())) {
-                    createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig,
-                                                 clientEventGroup, eventLoopClass);
-                }
-                trgHlrConnPool = globalConnPool.get(httpRoute.toString());
-                PoolableTargetChannelFactory channelFactory = globalFactoryObjects.get(httpRoute.toString());
-                trgHlrConnPool = createPoolForRoutePerSrcHndlr(trgHlrConnPool, channelFactory, clientEventGroup,
-                                                               eventLoopClass);
-            }
-            srcHlrConnPool.put(trgHlrConnPoolId, trgHlrConnPool);
+            trgHlrConnPool = connectionPools.computeIfAbsent(httpRoute, route -> createTargetChannelPool(
+                    route, senderConfig, bootstrapConfig, clientEventGroup));
         }
         return trgHlrConnPool;
     }
 
-    private void createTrgHlrPoolInGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
-                                              BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
-                                              Class eventLoopClass) {
+    private TargetChannelPool createTargetChannelPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+                                                      BootstrapConfiguration bootstrapConfig,
+                                                      EventLoopGroup clientEventGroup) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Creating a pool for route {}", httpRoute);
+        }
         PoolableTargetChannelFactory poolableTargetChannelFactory =
-                new PoolableTargetChannelFactory(clientEventGroup, eventLoopClass,
-                                                 httpRoute, senderConfig, bootstrapConfig, this);
-        GenericObjectPool trgHlrConnPool = createPoolForRoute(poolableTargetChannelFactory);
-        globalConnPool.put(httpRoute.toString(), trgHlrConnPool);
-        globalFactoryObjects.put(httpRoute.toString(), poolableTargetChannelFactory);
+                new PoolableTargetChannelFactory(httpRoute, senderConfig, bootstrapConfig, this);
+        return new TargetChannelPool(poolableTargetChannelFactory, poolConfiguration, clientEventGroup,
+                                     NativeTransport.of(clientEventGroup).getSocketChannelClass(),
+                                     connectionPoolMetrics);
     }
 
     private TargetChannel getTargetChannel(SourceHandler sourceHandler, Http2SourceHandler http2SourceHandler,
-                                           GenericObjectPool trgHlrConnPool,
-                                           String trgHlrConnPoolId) throws Exception {
-        TargetChannel targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+                                           TargetChannel targetChannel) {
         if (sourceHandler != null) {
             targetChannel.setCorrelatedSource(sourceHandler);
         } else if (http2SourceHandler != null) {
@@ -160,29 +139,21 @@ public class ConnectionManager {
             targetChannel.setCorrelatedSource(null);
         }
         targetChannel.setConnectionManager(this);
-        targetChannel.trgHlrConnPoolId = trgHlrConnPoolId;
         return targetChannel;
     }
 
     public void returnChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
-            Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
-            if (objectPoolMap != null) {
-                releaseChannelToPool(targetChannel, objectPoolMap.get(targetChannel.trgHlrConnPoolId));
-            }
-        } else {
-            releaseChannelToPool(targetChannel, globalConnPool.get(targetChannel.getHttpRoute().toString()));
-        }
-    }
-
-    private void releaseChannelToPool(TargetChannel targetChannel, GenericObjectPool pool) throws Exception {
         try {
             String channelID = targetChannel.getChannel().id().asShortText();
+            TargetChannelPool pool = connectionPools.get(targetChannel.getHttpRoute());
             if (targetChannel.getChannel().isActive() && pool != null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Returning connection {} to the pool", channelID);
                 }
-                pool.returnObject(targetChannel);
+                pool.release(targetChannel);
+            } else if (targetChannel.getChannel().isActive()) {
+                LOG.debug("Closing channel {} as its connection pool is closed", channelID);
+                targetChannel.getChannel().close();
             } else {
                 LOG.debug("Channel {} is inactive hence not returning to connection pool", channelID);
             }
@@ -192,77 +163,54 @@ public class ConnectionManager {
     }
 
     public void invalidateTargetChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
-            Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
-            if (objectPoolMap != null) {
-                try {
-                    // Need a null check because SourceHandler side could timeout before TargetHandler side.
-                    String poolId = targetChannel.trgHlrConnPoolId;
-                    if (objectPoolMap.containsKey(poolId)) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Invalidating connection {} to the pool",
-                                      targetChannel.getChannel().id().asShortText());
-                        }
-                        objectPoolMap.get(poolId).invalidateObject(targetChannel);
-                    }
-                } catch (Exception e) {
-                    throw new Exception("Cannot invalidate channel from pool", e);
-                }
+        TargetChannelPool pool = connectionPools.get(targetChannel.getHttpRoute());
+        if (pool != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Invalidating connection {} to the pool",
+                          targetChannel.getChannelFuture().channel().id().asShortText());
             }
-        } else {
-            GenericObjectPool genericObjectPool = globalConnPool.get(targetChannel.getHttpRoute().toString());
-            if (genericObjectPool != null) {
-                genericObjectPool.invalidateObject(targetChannel);
+            try {
+                pool.invalidate(targetChannel);
+            } catch (Exception e) {
+                throw new Exception("Cannot invalidate channel from pool", e);
             }
         }
     }
 
-    private Map<String, GenericObjectPool> getTargetPoolMap(TargetChannel targetChannel) {
-        Map<String, GenericObjectPool> objectPoolMap = null;
-        ChannelInboundHandlerAdapter correlatedSource = targetChannel.getCorrelatedSource();
-        if (correlatedSource instanceof SourceHandler) {
-            SourceHandler h1SourceHandler = (SourceHandler) correlatedSource;
-            objectPoolMap = h1SourceHandler.getTargetChannelPool();
-        } else if (correlatedSource instanceof Http2SourceHandler) {
-            Http2SourceHandler h2SourceHandler = (Http2SourceHandler) correlatedSource;
-            objectPoolMap = h2SourceHandler.getTargetChannelPool();
-        }
-        return objectPoolMap;
+    /**
+     * Registers a client which acquires its channels through the connection manager.
+     */
+    public void retain() {
+        clientCount.incrementAndGet();
     }
 
-    public Http2ConnectionManager getHttp2ConnectionManager() {
-        return http2ConnectionManager;
+    /**
+     * Unregisters a client of the connection manager. The pools are closed once no client is left.
+     */
+    public void release() {
+        if (clientCount.decrementAndGet() == 0) {
+            close();
+        }
     }
 
-    private GenericObjectPool createPoolForRoutePerSrcHndlr(GenericObjectPool genericObjectPool,
-                                                            PoolableTargetChannelFactory channelFactory,
-                                                            EventLoopGroup clientEventGroup,
-                                                            Class eventLoopClass) {
-        return new GenericObjectPool(
-            new PoolableTargetChannelFactoryPerSrcHndlr(genericObjectPool, channelFactory, clientEventGroup,
-                                                        eventLoopClass),
-            instantiateAndConfigureConfig());
+    /**
+     * Closes the pools of all the routes, which stops their eviction runs. A later acquisition creates the pool of
+     * its route again.
+     */
+    public void close() {
+        for (HttpRoute httpRoute : connectionPools.keySet()) {
+            TargetChannelPool pool = connectionPools.remove(httpRoute);
+            if (pool != null) {
+                pool.close();
+            }
+        }
     }
 
-    private GenericObjectPool createPoolForRoute(PoolableTargetChannelFactory poolableTargetChannelFactory) {
-        return new GenericObjectPool(poolableTargetChannelFactory, instantiateAndConfigureConfig());
+    public Http2ConnectionManager getHttp2ConnectionManager() {
+        return http2ConnectionManager;
     }
 
-    private GenericObjectPool.Config instantiateAndConfigureConfig() {
-        GenericObjectPool.Config config = new GenericObjectPool.Config();
-        config.maxActive = poolConfiguration.getMaxActivePerPool();
-        config.maxIdle = poolConfiguration.getMaxIdlePerPool();
-        config.minIdle = poolConfiguration.getMinIdlePerPool();
-        config.testOnBorrow = poolConfiguration.isTestOnBorrow();
-        config.testWhileIdle = poolConfiguration.isTestWhileIdle();
-        config.timeBetweenEvictionRunsMillis = poolConfiguration.getTimeBetweenEvictionRuns();
-        config.minEvictableIdleTimeMillis = poolConfiguration.getMinEvictableIdleTime();
-        config.whenExhaustedAction = poolConfiguration.getExhaustedAction();
-        config.maxWait = poolConfiguration.getMaxWaitTime();
-
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Creating a pool with {}", config);
-        }
-        return config;
+    public ConnectionPoolMetrics getConnectionPoolMetrics() {
+        return connectionPoolMetrics;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the connection acquisitions served by the pools of a {@link ConnectionManager}.
+ */
+public final class ConnectionPoolMetrics {
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder pendingAcquisitions = new LongAdder();
+    private final LongAdder timedOutAcquisitions = new LongAdder();
+    private final LongAdder rejectedAcquisitions = new LongAdder();
+    private final LongAdder createdConnections = new LongAdder();
+    private final LongAdder destroyedConnections = new LongAdder();
+
+    void incrementAcquisitions() {
+        acquisitions.increment();
+    }
+
+    void incrementPendingAcquisitions() {
+        pendingAcquisitions.increment();
+    }
+
+    void incrementTimedOutAcquisitions() {
+        timedOutAcquisitions.increment();
+    }
+
+    void incrementRejectedAcquisitions() {
+        rejectedAcquisitions.increment();
+    }
+
+    void incrementCreatedConnections() {
+        createdConnections.increment();
+    }
+
+    void incrementDestroyedConnections() {
+        destroyedConnections.increment();
+    }
+
+    /**
+     * @return the number of connection acquisitions requested
+     */
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * @return the number of acquisitions which had to wait since the pool was exhausted
+     */
+    public long getPendingAcquisitions() {
+        return pendingAcquisitions.sum();
+    }
+
+    /**
+     * @return the number of waiting acquisitions which exceeded the maximum wait time
+     */
+    public long getTimedOutAcquisitions() {
+        return timedOutAcquisitions.sum();
+    }
+
+    /**
+     * @return the number of acquisitions failed fast, either by the exhausted action or because the pending
+     * acquisition queue was full
+     */
+    public long getRejectedAcquisitions() {
+        return rejectedAcquisitions.sum();
+    }
+
+    /**
+     * @return the number of connections opened by the pools
+     */
+    public long getCreatedConnections() {
+        return createdConnections.sum();
+    }
+
+    /**
+     * @return the number of connections closed by the pools
+     */
+    public long getDestroyedConnections() {
+        return destroyedConnections.sum();
+    }
+}
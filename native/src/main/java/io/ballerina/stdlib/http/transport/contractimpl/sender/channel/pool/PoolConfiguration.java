@@ -15,13 +15,26 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
-import org.apache.commons.pool.impl.GenericObjectPool;
-
 /**
  * A class which represents connection pool specific parameters.
  */
 public class PoolConfiguration {
 
+    /**
+     * Fail the acquisition when the pool of a route is exhausted.
+     */
+    public static final byte WHEN_EXHAUSTED_FAIL = 0;
+
+    /**
+     * Wait for a connection of the route to be released when the pool of a route is exhausted.
+     */
+    public static final byte WHEN_EXHAUSTED_BLOCK = 1;
+
+    /**
+     * Create a new connection beyond the maximum number of active connections when the pool of a route is exhausted.
+     */
+    public static final byte WHEN_EXHAUSTED_GROW = 2;
+
     private int maxActivePerPool = -1;
     private int minIdlePerPool;
     private int maxIdlePerPool = 100;
@@ -29,12 +42,14 @@ public class PoolConfiguration {
     private boolean testWhileIdle = true;
     private long timeBetweenEvictionRuns = 30 * 1000L;
     private long minEvictableIdleTime = 5 * 60 * 1000L;
-    private byte exhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+    private byte exhaustedAction = WHEN_EXHAUSTED_BLOCK;
     private int numberOfPools = 0;
     private int executorServiceThreads = 20;
     private int eventGroupExecutorThreads = 15;
     private long maxWaitTime = 60000L;
+    private int maxPendingAcquiresPerPool = -1;
     private int http2MaxActiveStreamsPerConnection = Integer.MAX_VALUE;
+    private double http2TargetStreamUtilization = 0.75;
 
     public PoolConfiguration() {
     }
@@ -135,6 +150,20 @@ public class PoolConfiguration {
         this.maxWaitTime = maxWaitTime;
     }
 
+    /**
+     * Gets the maximum number of connection acquisitions which can wait for a connection of a route when its pool
+     * is exhausted. A negative value means that the number of waiting acquisitions is not bounded.
+     *
+     * @return the maximum number of pending acquisitions per pool
+     */
+    public int getMaxPendingAcquiresPerPool() {
+        return maxPendingAcquiresPerPool;
+    }
+
+    public void setMaxPendingAcquiresPerPool(int maxPendingAcquiresPerPool) {
+        this.maxPendingAcquiresPerPool = maxPendingAcquiresPerPool;
+    }
+
     public int getHttp2MaxActiveStreamsPerConnection() {
         return http2MaxActiveStreamsPerConnection;
     }
@@ -142,4 +171,19 @@ public class PoolConfiguration {
     public void setHttp2MaxActiveStreamsPerConnection(int http2MaxActiveStreamsPerConnection) {
         this.http2MaxActiveStreamsPerConnection = http2MaxActiveStreamsPerConnection;
     }
+
+    /**
+     * Gets the stream utilization of the least loaded HTTP/2 connection of a route above which a new connection is
+     * opened ahead of the existing connections getting exhausted. A value of 1 opens new connections only
+     * once every connection of the route is exhausted.
+     *
+     * @return the target stream utilization of HTTP/2 connections
+     */
+    public double getHttp2TargetStreamUtilization() {
+        return http2TargetStreamUtilization;
+    }
+
+    public void setHttp2TargetStreamUtilization(double http2TargetStreamUtilization) {
+        this.http2TargetStreamUtilization = http2TargetStreamUtilization;
+    }
 }
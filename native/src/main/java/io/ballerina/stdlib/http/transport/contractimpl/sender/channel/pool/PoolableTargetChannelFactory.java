@@ -26,7 +26,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import org.apache.commons.pool.PoolableObjectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,35 +34,35 @@ import java.net.InetSocketAddress;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_SCHEME;
 
 /**
- * A class which creates a TargetChannel pool for each route.
+ * A class which creates, validates and destroys the target channels of a route.
  */
-public class PoolableTargetChannelFactory implements PoolableObjectFactory {
+public class PoolableTargetChannelFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(PoolableTargetChannelFactory.class);
 
-    private EventLoopGroup eventLoopGroup;
-    private Class eventLoopClass;
     private final HttpRoute httpRoute;
     private final SenderConfiguration senderConfiguration;
     private final BootstrapConfiguration bootstrapConfiguration;
     private final ConnectionManager connectionManager;
-    private String remoteAddress;
-
-    PoolableTargetChannelFactory(EventLoopGroup eventLoopGroup, Class eventLoopClass, HttpRoute httpRoute,
-                                        SenderConfiguration senderConfiguration,
-                                        BootstrapConfiguration bootstrapConfiguration,
-                                        ConnectionManager connectionManager) {
-        this.eventLoopGroup = eventLoopGroup;
-        this.eventLoopClass = eventLoopClass;
+
+    PoolableTargetChannelFactory(HttpRoute httpRoute, SenderConfiguration senderConfiguration,
+                                 BootstrapConfiguration bootstrapConfiguration,
+                                 ConnectionManager connectionManager) {
         this.httpRoute = httpRoute;
         this.senderConfiguration = senderConfiguration;
         this.bootstrapConfiguration = bootstrapConfiguration;
         this.connectionManager = connectionManager;
     }
 
-
-    @Override
-    public Object makeObject() throws Exception {
+    /**
+     * Creates a new target channel. The connection is initiated but not awaited, so the returned channel's
+     * {@link ConnectionAvailabilityFuture} should be used to find out when it is ready.
+     *
+     * @param eventLoopGroup the eventloop group that the new channel should be registered with
+     * @param eventLoopClass the channel class to be used for the new channel
+     * @return the newly created target channel
+     */
+    public TargetChannel createTargetChannel(EventLoopGroup eventLoopGroup, Class eventLoopClass) {
         Bootstrap clientBootstrap = instantiateAndConfigBootStrap(eventLoopGroup,
                 eventLoopClass, bootstrapConfiguration);
         ConnectionAvailabilityFuture connectionAvailabilityFuture = new ConnectionAvailabilityFuture();
@@ -82,9 +81,9 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
     private TargetChannel createNewTargetChannel(Bootstrap clientBootstrap,
                                                  ConnectionAvailabilityFuture connectionAvailabilityFuture,
                                                  HttpClientChannelInitializer httpClientChannelInitializer) {
-
-        ChannelFuture channelFuture = connectToRemoteEndpoint(clientBootstrap);
-        connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, remoteAddress);
+        InetSocketAddress socketAddress = getRemoteAddress();
+        ChannelFuture channelFuture = clientBootstrap.connect(socketAddress);
+        connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, socketAddress.toString());
         connectionAvailabilityFuture.setForceHttp2(senderConfiguration.isForceHttp2());
 
         TargetChannel targetChannel =
@@ -93,22 +92,16 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         return targetChannel;
     }
 
-    private ChannelFuture connectToRemoteEndpoint(Bootstrap clientBootstrap) {
+    private InetSocketAddress getRemoteAddress() {
         // Connect to proxy server if proxy is enabled
-        ChannelFuture channelFuture;
-        InetSocketAddress socketAddress;
         if (senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
                 .equals(HTTP_SCHEME)) {
-            socketAddress = new InetSocketAddress(
+            return new InetSocketAddress(
                     senderConfiguration.getProxyServerConfiguration().getProxyHost(),
                     senderConfiguration.getProxyServerConfiguration().getProxyPort()
             );
-        } else {
-            socketAddress = new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
         }
-        remoteAddress = socketAddress.toString();
-        channelFuture = clientBootstrap.connect(socketAddress);
-        return channelFuture;
+        return new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
     }
 
     private Bootstrap instantiateAndConfigBootStrap(EventLoopGroup eventLoopGroup, Class eventLoopClass,
@@ -135,9 +128,13 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         return httpClientChannelInitializer;
     }
 
-    @Override
-    public void destroyObject(Object o) throws Exception {
-        Channel targetNettyChannel = ((TargetChannel) o).getChannel();
+    /**
+     * Closes the underlying connection of the given target channel.
+     *
+     * @param targetChannel the target channel to be destroyed
+     */
+    public void destroyTargetChannel(TargetChannel targetChannel) {
+        Channel targetNettyChannel = targetChannel.getChannelFuture().channel();
         if (targetNettyChannel.isOpen()) {
             targetNettyChannel.close();
         }
@@ -147,32 +144,20 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         }
     }
 
-    @Override
-    public boolean validateObject(Object o) {
-        TargetChannel targetChannel = (TargetChannel) o;
-        if (targetChannel.getChannel() != null) {
-            boolean answer = targetChannel.getChannel().isActive();
-            LOG.debug("Validating channel: {} -> {}", targetChannel.getChannel().id(), answer);
-            return answer;
+    /**
+     * Checks whether the given target channel can still be used. A channel which is still connecting is
+     * considered valid since its outcome is reported through the connection availability future.
+     *
+     * @param targetChannel the target channel to be validated
+     * @return true if the channel is usable
+     */
+    public boolean validateTargetChannel(TargetChannel targetChannel) {
+        ChannelFuture channelFuture = targetChannel.getChannelFuture();
+        if (!channelFuture.isDone()) {
+            return true;
         }
-        return true;
-    }
-
-    @Override
-    public void activateObject(Object o) throws Exception {
-
-    }
-
-    @Override
-    public void passivateObject(Object o) throws Exception {
-
-    }
-
-    public void setEventLoopGroup(EventLoopGroup eventLoopGroup) {
-        this.eventLoopGroup = eventLoopGroup;
-    }
-
-    public void setEventLoopClass(Class eventLoopClass) {
-        this.eventLoopClass = eventLoopClass;
+        boolean answer = channelFuture.isSuccess() && channelFuture.channel().isActive();
+        LOG.debug("Validating channel: {} -> {}", channelFuture.channel().id(), answer);
+        return answer;
     }
 }
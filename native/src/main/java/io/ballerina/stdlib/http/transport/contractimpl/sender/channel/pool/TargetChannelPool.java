@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free pool of HTTP/1.1 target channels for a single route.
+ * <p>
+ * Idle channels are kept in a LIFO stack per eventloop so that a caller running on an eventloop gets a channel
+ * which is already registered with it whenever one is available. When none is idle, a new channel is created as
+ * long as the pool has capacity. Otherwise the acquisition is parked in a FIFO pending queue, and it is served by
+ * the next channel that is released or by the capacity freed by the next invalidated channel.
+ */
+public class TargetChannelPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TargetChannelPool.class);
+
+    static final String POOL_EXHAUSTED = "Pool exhausted";
+    public static final String TIMEOUT_WAITING_FOR_IDLE_OBJECT = "Timeout waiting for idle object";
+    static final String PENDING_ACQUIRE_QUEUE_FULL = "Too many requests waiting for a connection";
+
+    private static final int IDLE = 0;
+    private static final int BORROWED = 1;
+    private static final int DESTROYED = 2;
+    private static final int RELEASING = 3;
+
+    private final PoolableTargetChannelFactory channelFactory;
+    private final EventLoopGroup clientEventGroup;
+    private final Class eventLoopClass;
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final boolean testOnBorrow;
+    private final boolean testWhileIdle;
+    private final long minEvictableIdleTimeNanos;
+    private final byte exhaustedAction;
+    private final long maxWaitTime;
+    private final int maxPendingAcquires;
+    private final ConnectionPoolMetrics metrics;
+
+    private final Map<TargetChannel, PooledTargetChannel> pooledChannels = new ConcurrentHashMap<>();
+    private final Map<EventLoop, ConcurrentLinkedDeque<PooledTargetChannel>> idleStacks = new ConcurrentHashMap<>();
+    private final Queue<PendingAcquire> pendingAcquires = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ScheduledFuture<?> evictionTask;
+    private volatile boolean closed;
+
+    TargetChannelPool(PoolableTargetChannelFactory channelFactory, PoolConfiguration poolConfiguration,
+                      EventLoopGroup clientEventGroup, Class eventLoopClass, ConnectionPoolMetrics metrics) {
+        this.channelFactory = channelFactory;
+        this.metrics = metrics;
+        this.clientEventGroup = clientEventGroup;
+        this.eventLoopClass = eventLoopClass;
+        this.maxActive = poolConfiguration.getMaxActivePerPool();
+        this.maxIdle = poolConfiguration.getMaxIdlePerPool();
+        this.minIdle = poolConfiguration.getMinIdlePerPool();
+        this.testOnBorrow = poolConfiguration.isTestOnBorrow();
+        this.testWhileIdle = poolConfiguration.isTestWhileIdle();
+        this.minEvictableIdleTimeNanos = TimeUnit.MILLISECONDS.toNanos(poolConfiguration.getMinEvictableIdleTime());
+        this.exhaustedAction = poolConfiguration.getExhaustedAction();
+        this.maxWaitTime = poolConfiguration.getMaxWaitTime();
+        this.maxPendingAcquires = poolConfiguration.getMaxPendingAcquiresPerPool();
+
+        long evictionInterval = poolConfiguration.getTimeBetweenEvictionRuns();
+        if (evictionInterval > 0) {
+            evictionTask = clientEventGroup.next().scheduleWithFixedDelay(this::evict, evictionInterval,
+                                                                         evictionInterval, TimeUnit.MILLISECONDS);
+        } else {
+            evictionTask = null;
+        }
+    }
+
+    /**
+     * Acquires a target channel from the pool without blocking the calling thread.
+     *
+     * @param preferredEventLoop the eventloop of the caller, if any. An idle channel registered with it is
+     *                           preferred over the others
+     * @param eventLoopGroup     the eventloop group that a newly created channel should be registered with
+     * @param eventLoopClass     the channel class to be used when a new channel is created
+     * @return a future which completes with the acquired channel, or exceptionally with a
+     * {@link NoSuchElementException} when the pool is exhausted, the pending acquisition queue is full or the
+     * maximum wait time is exceeded
+     */
+    CompletableFuture<TargetChannel> acquire(EventLoop preferredEventLoop, EventLoopGroup eventLoopGroup,
+                                             Class eventLoopClass) {
+        metrics.incrementAcquisitions();
+        // Acquisitions don't jump ahead of the ones already waiting, so that the waiters are served in FIFO order.
+        if (pendingCount.get() == 0 || exhaustedAction != PoolConfiguration.WHEN_EXHAUSTED_BLOCK) {
+            TargetChannel idleChannel = pollIdleChannel(preferredEventLoop);
+            if (idleChannel != null) {
+                return CompletableFuture.completedFuture(idleChannel);
+            }
+            if (tryReserve()) {
+                return createChannel(eventLoopGroup, eventLoopClass);
+            }
+        }
+        switch (exhaustedAction) {
+            case PoolConfiguration.WHEN_EXHAUSTED_FAIL:
+                metrics.incrementRejectedAcquisitions();
+                return failedFuture(new NoSuchElementException(POOL_EXHAUSTED));
+            case PoolConfiguration.WHEN_EXHAUSTED_GROW:
+                activeCount.incrementAndGet();
+                return createChannel(eventLoopGroup, eventLoopClass);
+            default:
+                if (!tryReservePendingSlot()) {
+                    metrics.incrementRejectedAcquisitions();
+                    return failedFuture(new NoSuchElementException(PENDING_ACQUIRE_QUEUE_FULL));
+                }
+                return enqueue(new PendingAcquire(preferredEventLoop, eventLoopGroup, eventLoopClass));
+        }
+    }
+
+    /**
+     * Returns a channel to the pool. It is handed over to the oldest pending acquisition if there is one, otherwise
+     * it is pushed to the idle stack of the eventloop that it is registered with.
+     *
+     * @param targetChannel the channel to be released
+     */
+    void release(TargetChannel targetChannel) {
+        PooledTargetChannel pooledChannel = pooledChannels.get(targetChannel);
+        // Only one of concurrent releases of the same channel claims it, the others are rejected.
+        if (pooledChannel == null || !pooledChannel.state.compareAndSet(BORROWED, RELEASING)) {
+            LOG.debug("Rejected the release of a channel which is not borrowed from the pool");
+            return;
+        }
+        if (closed || !channelFactory.validateTargetChannel(targetChannel)) {
+            invalidate(targetChannel);
+            return;
+        }
+        PendingAcquire pendingAcquire;
+        while ((pendingAcquire = pendingAcquires.poll()) != null) {
+            // The channel is borrowed by the waiter as soon as it is handed over, so that it can release it again.
+            pooledChannel.state.set(BORROWED);
+            if (pendingAcquire.complete(targetChannel)) {
+                return;
+            }
+            if (!pooledChannel.state.compareAndSet(BORROWED, RELEASING)) {
+                return;
+            }
+        }
+        if (maxIdle >= 0 && idleCount.get() >= maxIdle) {
+            invalidate(targetChannel);
+            return;
+        }
+        pushIdleChannel(pooledChannel, RELEASING);
+        servePendingAcquires();
+    }
+
+    /**
+     * Removes a channel from the pool and closes it. The freed capacity is used to serve a pending acquisition, if
+     * there is one. Invalidating a channel which is not owned by the pool is a no-op.
+     *
+     * @param targetChannel the channel to be invalidated
+     */
+    void invalidate(TargetChannel targetChannel) {
+        PooledTargetChannel pooledChannel = pooledChannels.remove(targetChannel);
+        if (pooledChannel == null) {
+            return;
+        }
+        if (pooledChannel.state.getAndSet(DESTROYED) == IDLE) {
+            idleCount.decrementAndGet();
+        }
+        activeCount.decrementAndGet();
+        metrics.incrementDestroyedConnections();
+        channelFactory.destroyTargetChannel(targetChannel);
+        servePendingAcquires();
+    }
+
+    /**
+     * Closes all the idle channels and fails the pending acquisitions. Borrowed channels are closed when they are
+     * released back to the pool.
+     */
+    void close() {
+        closed = true;
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+        }
+        PendingAcquire pendingAcquire;
+        while ((pendingAcquire = pendingAcquires.poll()) != null) {
+            pendingAcquire.completeExceptionally(new NoSuchElementException(POOL_EXHAUSTED));
+        }
+        for (ConcurrentLinkedDeque<PooledTargetChannel> idleStack : idleStacks.values()) {
+            PooledTargetChannel pooledChannel;
+            while ((pooledChannel = idleStack.pollFirst()) != null) {
+                if (pooledChannel.state.get() == IDLE) {
+                    invalidate(pooledChannel.targetChannel);
+                }
+            }
+        }
+    }
+
+    int getNumActive() {
+        return activeCount.get() - idleCount.get();
+    }
+
+    int getNumIdle() {
+        return idleCount.get();
+    }
+
+    int getNumWaiters() {
+        return pendingCount.get();
+    }
+
+    private boolean tryReservePendingSlot() {
+        if (maxPendingAcquires < 0) {
+            pendingCount.incrementAndGet();
+            return true;
+        }
+        for (;;) {
+            int current = pendingCount.get();
+            if (current >= maxPendingAcquires) {
+                return false;
+            }
+            if (pendingCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private CompletableFuture<TargetChannel> enqueue(PendingAcquire pendingAcquire) {
+        metrics.incrementPendingAcquisitions();
+        if (maxWaitTime > 0) {
+            EventLoop timeoutEventLoop = pendingAcquire.preferredEventLoop != null
+                    ? pendingAcquire.preferredEventLoop : clientEventGroup.next();
+            ScheduledFuture<?> timeoutTask = timeoutEventLoop.schedule(() -> {
+                if (pendingAcquire.completeExceptionally(new NoSuchElementException(TIMEOUT_WAITING_FOR_IDLE_OBJECT))) {
+                    metrics.incrementTimedOutAcquisitions();
+                    pendingAcquires.remove(pendingAcquire);
+                }
+            }, maxWaitTime, TimeUnit.MILLISECONDS);
+            pendingAcquire.whenComplete((targetChannel, throwable) -> timeoutTask.cancel(false));
+        }
+        pendingAcquires.offer(pendingAcquire);
+        // A channel may have been released, or capacity freed, after this acquisition found the pool exhausted.
+        servePendingAcquires();
+        return pendingAcquire;
+    }
+
+    private void servePendingAcquires() {
+        while (!pendingAcquires.isEmpty()) {
+            TargetChannel idleChannel = pollIdleChannel(null);
+            if (idleChannel == null && !tryReserve()) {
+                return;
+            }
+            PendingAcquire pendingAcquire = pendingAcquires.poll();
+            if (pendingAcquire == null) {
+                if (idleChannel != null) {
+                    release(idleChannel);
+                } else {
+                    activeCount.decrementAndGet();
+                }
+                return;
+            }
+            if (idleChannel != null) {
+                if (!pendingAcquire.complete(idleChannel)) {
+                    release(idleChannel);
+                }
+            } else {
+                createChannel(pendingAcquire.eventLoopGroup, pendingAcquire.eventLoopClass)
+                        .whenComplete((targetChannel, throwable) -> {
+                            if (throwable != null) {
+                                pendingAcquire.completeExceptionally(throwable);
+                            } else if (!pendingAcquire.complete(targetChannel)) {
+                                release(targetChannel);
+                            }
+                        });
+            }
+        }
+    }
+
+    private TargetChannel pollIdleChannel(EventLoop preferredEventLoop) {
+        if (preferredEventLoop != null) {
+            ConcurrentLinkedDeque<PooledTargetChannel> idleStack = idleStacks.get(preferredEventLoop);
+            if (idleStack != null) {
+                TargetChannel targetChannel = pollIdleStack(idleStack);
+                if (targetChannel != null) {
+                    return targetChannel;
+                }
+            }
+        }
+        if (idleCount.get() <= 0) {
+            return null;
+        }
+        for (ConcurrentLinkedDeque<PooledTargetChannel> idleStack : idleStacks.values()) {
+            TargetChannel targetChannel = pollIdleStack(idleStack);
+            if (targetChannel != null) {
+                return targetChannel;
+            }
+        }
+        return null;
+    }
+
+    private TargetChannel pollIdleStack(ConcurrentLinkedDeque<PooledTargetChannel> idleStack) {
+        PooledTargetChannel pooledChannel;
+        while ((pooledChannel = idleStack.pollFirst()) != null) {
+            if (!pooledChannel.state.compareAndSet(IDLE, BORROWED)) {
+                // Already invalidated while it was idle.
+                continue;
+            }
+            idleCount.decrementAndGet();
+            TargetChannel targetChannel = pooledChannel.targetChannel;
+            if (testOnBorrow && !channelFactory.validateTargetChannel(targetChannel)) {
+                invalidate(targetChannel);
+                continue;
+            }
+            return targetChannel;
+        }
+        return null;
+    }
+
+    private void pushIdleChannel(PooledTargetChannel pooledChannel, int currentState) {
+        EventLoop eventLoop = pooledChannel.targetChannel.getChannelFuture().channel().eventLoop();
+        ConcurrentLinkedDeque<PooledTargetChannel> idleStack = idleStacks.get(eventLoop);
+        if (idleStack == null) {
+            idleStack = idleStacks.computeIfAbsent(eventLoop, key -> new ConcurrentLinkedDeque<>());
+        }
+        pooledChannel.idleSince = System.nanoTime();
+        if (!pooledChannel.state.compareAndSet(currentState, IDLE)) {
+            // Invalidated concurrently, hence it shouldn't become visible to the borrowers.
+            return;
+        }
+        idleCount.incrementAndGet();
+        idleStack.offerFirst(pooledChannel);
+    }
+
+    private boolean tryReserve() {
+        if (closed) {
+            return false;
+        }
+        if (maxActive < 0) {
+            activeCount.incrementAndGet();
+            return true;
+        }
+        for (;;) {
+            int current = activeCount.get();
+            if (current >= maxActive) {
+                return false;
+            }
+            if (activeCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private CompletableFuture<TargetChannel> createChannel(EventLoopGroup eventLoopGroup, Class eventLoopClass) {
+        TargetChannel targetChannel;
+        try {
+            targetChannel = channelFactory.createTargetChannel(eventLoopGroup, eventLoopClass);
+        } catch (RuntimeException e) {
+            activeCount.decrementAndGet();
+            servePendingAcquires();
+            return failedFuture(e);
+        }
+        metrics.incrementCreatedConnections();
+        PooledTargetChannel pooledChannel = new PooledTargetChannel(targetChannel);
+        pooledChannel.state.set(BORROWED);
+        pooledChannels.put(targetChannel, pooledChannel);
+        return CompletableFuture.completedFuture(targetChannel);
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        for (ConcurrentLinkedDeque<PooledTargetChannel> idleStack : idleStacks.values()) {
+            Iterator<PooledTargetChannel> iterator = idleStack.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledTargetChannel pooledChannel = iterator.next();
+                if (pooledChannel.state.get() == DESTROYED) {
+                    idleStack.removeLastOccurrence(pooledChannel);
+                    continue;
+                }
+                boolean expired = minEvictableIdleTimeNanos > 0
+                        && now - pooledChannel.idleSince > minEvictableIdleTimeNanos;
+                if (expired || (testWhileIdle && !channelFactory.validateTargetChannel(pooledChannel.targetChannel))) {
+                    if (pooledChannel.state.compareAndSet(IDLE, BORROWED)) {
+                        idleCount.decrementAndGet();
+                        idleStack.removeLastOccurrence(pooledChannel);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Evicting idle channel {}", pooledChannel.targetChannel.getChannelFuture()
+                                    .channel().id());
+                        }
+                        invalidate(pooledChannel.targetChannel);
+                    }
+                }
+            }
+        }
+        ensureMinIdle();
+    }
+
+    private void ensureMinIdle() {
+        while (idleCount.get() < minIdle && pendingAcquires.isEmpty() && tryReserve()) {
+            createChannel(clientEventGroup, eventLoopClass).thenAccept(targetChannel -> {
+                PooledTargetChannel pooledChannel = pooledChannels.get(targetChannel);
+                if (pooledChannel != null) {
+                    pushIdleChannel(pooledChannel, BORROWED);
+                }
+            });
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Pool bookkeeping of a target channel. The state transitions are done with CAS so that a channel is claimed by
+     * exactly one of a borrower, the evictor or an invalidation.
+     */
+    private static class PooledTargetChannel {
+        private final TargetChannel targetChannel;
+        private final AtomicInteger state = new AtomicInteger();
+        private volatile long idleSince;
+
+        PooledTargetChannel(TargetChannel targetChannel) {
+            this.targetChannel = targetChannel;
+        }
+    }
+
+    /**
+     * An acquisition waiting for a channel to be released or for capacity to be freed. Its slot in the pending
+     * acquisition queue is freed before the waiting caller is notified, whichever way it is completed.
+     */
+    private class PendingAcquire extends CompletableFuture<TargetChannel> {
+        private final EventLoop preferredEventLoop;
+        private final EventLoopGroup eventLoopGroup;
+        private final Class eventLoopClass;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        PendingAcquire(EventLoop preferredEventLoop, EventLoopGroup eventLoopGroup, Class eventLoopClass) {
+            this.preferredEventLoop = preferredEventLoop;
+            this.eventLoopGroup = eventLoopGroup;
+            this.eventLoopClass = eventLoopClass;
+        }
+
+        @Override
+        public boolean complete(TargetChannel targetChannel) {
+            return settle() && super.complete(targetChannel);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+            return settle() && super.completeExceptionally(throwable);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return settle() && super.cancel(mayInterruptIfRunning);
+        }
+
+        private boolean settle() {
+            if (settled.compareAndSet(false, true)) {
+                pendingCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -18,12 +18,12 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
-import io.netty.channel.Channel;
-
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Per pool for eventloops.
@@ -32,7 +32,7 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 class EventLoopPool {
 
-    private Map<String, PerRouteConnectionPool> perRouteConnectionPools = new HashMap<>();
+    private Map<String, PerRouteConnectionPool> perRouteConnectionPools = new ConcurrentHashMap<>();
 
     PerRouteConnectionPool fetchPerRoutePool(String key) {
         return perRouteConnectionPools.get(key);
@@ -44,53 +44,131 @@ class EventLoopPool {
 
     /**
      * Entity which holds the pool of connections for a given http route.
+     * <p>
+     * Borrowers get a stream on the least loaded active connection. Once even that connection has reached the target
+     * utilization, a single borrow is turned away so that the caller opens a new connection ahead of the existing
+     * ones getting exhausted.
      */
     static class PerRouteConnectionPool {
 
-        private BlockingQueue<Http2ClientChannel> http2ClientChannels = new LinkedBlockingQueue<>();
+        private static final long NO_WARM_UP = -1;
+
+        // Connections are added and removed rarely compared to the number of borrows, which only iterate
+        private final List<Http2ClientChannel> http2ClientChannels = new CopyOnWriteArrayList<>();
         // Maximum number of allowed active streams
-        private int maxActiveStreams;
+        private final int maxActiveStreams;
+        private final double targetUtilization;
+        // Maximum number of connections of the route, beyond which a warm-up would wait for a connection
+        private final int maxConnections;
+        private final long warmUpTimeoutNanos;
+        private final Http2ConnectionPoolMetrics metrics;
+        // Start time of the connection being opened ahead of exhaustion, if any
+        private final AtomicLong warmUpStartTime = new AtomicLong(NO_WARM_UP);
 
-        PerRouteConnectionPool(int maxActiveStreams) {
+        PerRouteConnectionPool(int maxActiveStreams, double targetUtilization, int maxConnections,
+                               long warmUpTimeoutMillis, Http2ConnectionPoolMetrics metrics) {
             this.maxActiveStreams = maxActiveStreams;
+            this.targetUtilization = targetUtilization;
+            this.maxConnections = maxConnections;
+            this.warmUpTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(warmUpTimeoutMillis);
+            this.metrics = metrics;
         }
 
         /**
-         * Fetches an active {@code TargetChannel} from the pool.
+         * Fetches an active {@code TargetChannel} from the pool and reserves a stream on it.
          *
-         * @return active TargetChannel
+         * @return active TargetChannel or null if a new connection needs to be opened
          */
         Http2ClientChannel fetchTargetChannel() {
-            if (!http2ClientChannels.isEmpty()) {
-                Http2ClientChannel http2ClientChannel = http2ClientChannels.peek();
-                Channel channel = http2ClientChannel.getChannel();
-                if (!channel.isActive()) {  // if channel is not active, forget it and fetch next one
-                    http2ClientChannels.remove(http2ClientChannel);
-                    return fetchTargetChannel();
+            for (;;) {
+                Http2ClientChannel leastLoaded = null;
+                int leastLoadedStreams = Integer.MAX_VALUE;
+                int leastLoadedLimit = 0;
+                for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                    if (!http2ClientChannel.getChannel().isActive()) {  // forget inactive channels
+                        removeInactiveChannel(http2ClientChannel);
+                        continue;
+                    }
+                    int activeStreams = http2ClientChannel.getActiveStreamCount();
+                    int limit = http2ClientChannel.getMaxActiveStreams(maxActiveStreams);
+                    if (activeStreams < limit && activeStreams < leastLoadedStreams) {
+                        leastLoaded = http2ClientChannel;
+                        leastLoadedStreams = activeStreams;
+                        leastLoadedLimit = limit;
+                    }
+                }
+                if (leastLoaded == null) {
+                    if (!http2ClientChannels.isEmpty()) {
+                        metrics.incrementExhaustedBorrows();
+                    }
+                    return null;
                 }
-                // increment and get active stream count
-                int activeSteamCount = http2ClientChannel.incrementActiveStreamCount();
-
-                if (activeSteamCount < maxActiveStreams) {  // safe to fetch the Target Channel
-                    return http2ClientChannel;
-                } else if (activeSteamCount == maxActiveStreams) {  // no more streams except this one can be opened
-                    http2ClientChannel.markAsExhausted();
-                    http2ClientChannels.remove(http2ClientChannel);
-                    return http2ClientChannel;
-                } else {
-                    http2ClientChannels.remove(http2ClientChannel);
-                    return fetchTargetChannel();    // fetch the next one from the queue
+                if (leastLoadedStreams + 1 > targetUtilization * leastLoadedLimit && tryStartWarmUp()) {
+                    metrics.incrementWarmUpConnections();
+                    return null;
                 }
+                if (leastLoaded.tryReserveStream(leastLoadedLimit)) {
+                    metrics.incrementReservedStreams();
+                    return leastLoaded;
+                }
+                // Another borrower took the last stream of the channel in the meantime, so look again
+            }
+        }
+
+        private boolean tryStartWarmUp() {
+            if (maxConnections > 0 && http2ClientChannels.size() >= maxConnections) {
+                return false;
+            }
+            long startTime = warmUpStartTime.get();
+            long now = System.nanoTime();
+            // A warm-up which did not bring a new connection in time is considered failed
+            if (startTime != NO_WARM_UP && now - startTime < warmUpTimeoutNanos) {
+                return false;
+            }
+            return warmUpStartTime.compareAndSet(startTime, now);
+        }
+
+        private void removeInactiveChannel(Http2ClientChannel http2ClientChannel) {
+            if (http2ClientChannels.remove(http2ClientChannel)) {
+                metrics.incrementRemovedConnections();
             }
-            return null;
         }
 
         void addChannel(Http2ClientChannel http2ClientChannel) {
-            http2ClientChannels.add(http2ClientChannel);
+            if (!http2ClientChannels.contains(http2ClientChannel)) {
+                http2ClientChannels.add(http2ClientChannel);
+            }
+            warmUpStartTime.set(NO_WARM_UP);
         }
 
         void removeChannel(Http2ClientChannel http2ClientChannel) {
             http2ClientChannels.remove(http2ClientChannel);
         }
+
+        /**
+         * Gets the number of active and reserved streams of the pooled connections.
+         *
+         * @return number of active streams
+         */
+        long getActiveStreamCount() {
+            long activeStreams = 0;
+            for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                activeStreams += http2ClientChannel.getActiveStreamCount();
+            }
+            return activeStreams;
+        }
+
+        /**
+         * Gets the number of streams which can be active on the pooled connections.
+         *
+         * @return number of streams the pooled connections can take
+         */
+        long getStreamCapacity() {
+            long capacity = 0;
+            for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                capacity += http2ClientChannel.getMaxActiveStreams(maxActiveStreams);
+            }
+            return capacity;
+        }
     }
 }
@@ -26,6 +26,8 @@ import io.netty.channel.ChannelFuture;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2EventAdapter;
 import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,8 +35,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -46,15 +46,15 @@ public class Http2ClientChannel {
 
     private static final Logger LOG = LoggerFactory.getLogger(Http2ClientChannel.class);
 
-    private ConcurrentHashMap<Integer, OutboundMsgHolder> inFlightMessages;
-    private ConcurrentHashMap<Integer, OutboundMsgHolder> promisedMessages;
+    // Stream maps are confined to the event loop of the channel. Requests written from other threads are handed
+    // over to that loop by RequestWriteStarter before they get a stream id, so no further synchronization is needed.
+    private final IntObjectMap<OutboundMsgHolder> inFlightMessages = new IntObjectHashMap<>();
+    private final IntObjectMap<OutboundMsgHolder> promisedMessages = new IntObjectHashMap<>();
     private Channel channel;
     private Http2Connection connection;
     private ChannelFuture channelFuture;
     private HttpRoute httpRoute;
     private Http2ConnectionManager http2ConnectionManager;
-    // Whether channel is operates with maximum number of allowed streams
-    private AtomicBoolean isExhausted = new AtomicBoolean(false);
     // Number of active streams. Need to start from 1 to prevent someone stealing the connection from the creator
     private AtomicInteger activeStreams = new AtomicInteger(1);
     private int socketIdleTimeout = Constants.ENDPOINT_TIMEOUT;
@@ -70,8 +70,6 @@ public class Http2ClientChannel {
         streamCloseListener = new StreamCloseListener(this);
         this.connection.addListener(streamCloseListener);
         dataEventListeners = new HashMap<>();
-        inFlightMessages = new ConcurrentHashMap<>();
-        promisedMessages = new ConcurrentHashMap<>();
     }
 
     /**
@@ -120,7 +118,7 @@ public class Http2ClientChannel {
     }
 
     /**
-     * Adds a in-flight message.
+     * Adds a in-flight message. Must be called from the event loop of the channel.
      *
      * @param streamId        stream id
      * @param inFlightMessage {@link OutboundMsgHolder} which holds the in-flight message
@@ -187,19 +185,41 @@ public class Http2ClientChannel {
     }
 
     /**
-     * Increments and gets the active streams count.
+     * Reserves a stream on this channel unless the given number of streams is already active.
      *
-     * @return number of active streams count
+     * @param maxActiveStreams the maximum number of active streams allowed on this channel
+     * @return whether a stream was reserved
      */
-    int incrementActiveStreamCount() {
-        return activeStreams.incrementAndGet();
+    boolean tryReserveStream(int maxActiveStreams) {
+        for (;;) {
+            int count = activeStreams.get();
+            if (count >= maxActiveStreams) {
+                return false;
+            }
+            if (activeStreams.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
     }
 
     /**
-     * Marks the channel has reached the maximum number of active streams.
+     * Gets the number of active and reserved streams of this channel.
+     *
+     * @return number of active streams
      */
-    void markAsExhausted() {
-        isExhausted.set(true);
+    int getActiveStreamCount() {
+        return activeStreams.get();
+    }
+
+    /**
+     * Gets the maximum number of streams which can be active on this channel, honouring the
+     * SETTINGS_MAX_CONCURRENT_STREAMS advertised by the server.
+     *
+     * @param configuredMaxActiveStreams the maximum number of active streams configured for the client
+     * @return the effective maximum number of active streams
+     */
+    int getMaxActiveStreams(int configuredMaxActiveStreams) {
+        return Math.min(configuredMaxActiveStreams, connection.local().maxActiveStreams());
     }
 
     /**
@@ -243,12 +263,12 @@ public class Http2ClientChannel {
      * Destroys the Http2 client channel.
      */
     void destroy() {
-        inFlightMessages.forEach((streamId, outboundMsgHolder) -> {
+        for (IntObjectMap.PrimitiveEntry<OutboundMsgHolder> entry : inFlightMessages.entries()) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Remove back pressure listener from stream {} ", streamId);
+                LOG.debug("Remove back pressure listener from stream {} ", entry.key());
             }
-            outboundMsgHolder.getBackPressureObservable().removeListener();
-        });
+            entry.value().getBackPressureObservable().removeListener();
+        }
         handleConnectionClose();
         this.connection.removeListener(streamCloseListener);
         inFlightMessages.clear();
@@ -261,7 +281,8 @@ public class Http2ClientChannel {
      */
     private void handleConnectionClose() {
         if (!inFlightMessages.isEmpty()) {
-            inFlightMessages.values().forEach(outBoundMsgHolder -> {
+            // Sender states may remove the stream while being notified, hence iterate over a copy
+            new ArrayList<>(inFlightMessages.values()).forEach(outBoundMsgHolder -> {
                 Http2MessageStateContext messageStateContext =
                         outBoundMsgHolder.getRequest().getHttp2MessageStateContext();
                 if (messageStateContext != null) {
@@ -284,14 +305,11 @@ public class Http2ClientChannel {
 
         @Override
         public void onStreamClosed(Http2Stream stream) {
-            // Channel is no longer exhausted, so we can return it back to the pool
+            // Releasing the stream makes the channel selectable again if it was exhausted
             http2ClientChannel.removeInFlightMessage(stream.id());
             activeStreams.decrementAndGet();
             http2ClientChannel.getDataEventListeners().
                     forEach(dataEventListener -> dataEventListener.onStreamClose(stream.id()));
-            if (isExhausted.getAndSet(false)) {
-                http2ConnectionManager.returnClientChannel(httpRoute, http2ClientChannel);
-            }
         }
     }
 
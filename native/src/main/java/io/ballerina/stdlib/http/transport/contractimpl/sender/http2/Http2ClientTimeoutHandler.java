@@ -20,6 +20,8 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.exceptions.EndpointTimeOutException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeout;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutWheel;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
@@ -35,18 +37,16 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_PUSH_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_PUSH_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_WHILE_WRITING_OUTBOUND_REQUEST_BODY;
-import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.schedule;
-import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
 
 /**
- * {@code Http2ClientTimeoutHandler} handles the Read/Write Timeout of HTTP/2 streams.
+ * {@code Http2ClientTimeoutHandler} handles the Read/Write Timeout of HTTP/2 streams. The timeouts are tracked on the
+ * event loop's {@link IdleTimeoutWheel}.
  */
 public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
@@ -55,7 +55,7 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     private long idleTimeNanos;
     private Http2ClientChannel http2ClientChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
+    private Map<Integer, IdleTimeout> timerTasks;
 
     public Http2ClientTimeoutHandler(long idleTimeMills, Http2ClientChannel http2ClientChannel) {
         this.idleTimeNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMills), MIN_TIMEOUT_NANOS);
@@ -75,16 +75,20 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     private void setTimerTask(ChannelHandlerContext ctx, int streamId, OutboundMsgHolder outboundMsgHolder) {
         if (outboundMsgHolder != null) {
-            outboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-            timerTasks.put(streamId,
-                           schedule(ctx, new IdleTimeoutTask(ctx, streamId, false), idleTimeNanos));
+            putTimerTask(ctx, streamId, idleTimeNanos, false);
         }
     }
 
     public void createTimerTask(ChannelHandlerContext ctx, int streamId, long timeOut, boolean expectContinue) {
-        this.idleTimeNanos = timeOut;
-        timerTasks.put(streamId, schedule(ctx, new IdleTimeoutTask(ctx, streamId, expectContinue),
-                TimeUnit.MILLISECONDS.toNanos(timeOut)));
+        putTimerTask(ctx, streamId, TimeUnit.MILLISECONDS.toNanos(timeOut), expectContinue);
+    }
+
+    private void putTimerTask(ChannelHandlerContext ctx, int streamId, long timeoutNanos, boolean expectContinue) {
+        IdleTimeout previousTask = timerTasks.put(streamId, IdleTimeoutWheel.schedule(
+                ctx.executor(), timeoutNanos, new IdleTimeoutTask(ctx, streamId, expectContinue)));
+        if (previousTask != null) {
+            previousTask.cancel();
+        }
     }
 
     @Override
@@ -125,45 +129,45 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
+        IdleTimeout timerTask = timerTasks.remove(streamId);
         if (timerTask != null) {
-            timerTask.cancel(false);
-            timerTasks.remove(streamId);
+            timerTask.cancel();
         }
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
+        timerTasks.forEach((streamId, task) -> task.cancel());
         timerTasks.clear();
     }
 
     private void updateLastReadTime(int streamId, boolean endOfStream) {
-        OutboundMsgHolder outboundMsgHolder = http2ClientChannel.getInFlightMessage(streamId);
-        if (outboundMsgHolder == null) {
-            outboundMsgHolder = http2ClientChannel.getPromisedMessage(streamId);
-        }
-        if (outboundMsgHolder != null) {
-            outboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-        }
         if (endOfStream) {
             onStreamClose(streamId);
+        } else {
+            touch(streamId);
         }
     }
 
     private void updateLastWriteTime(int streamId) {
-        OutboundMsgHolder msgHolder = http2ClientChannel.getInFlightMessage(streamId);
-        if (msgHolder != null) {
-            msgHolder.setLastReadWriteTime(ticksInNanos());
-        } else {
-            LOG.debug("OutboundMsgHolder may have already been removed for streamId: {}", streamId);
+        if (!touch(streamId)) {
+            LOG.debug("Timer task may have already been removed for streamId: {}", streamId);
         }
     }
 
+    private boolean touch(int streamId) {
+        IdleTimeout timerTask = timerTasks.get(streamId);
+        if (timerTask == null) {
+            return false;
+        }
+        timerTask.touch();
+        return true;
+    }
+
     /**
      * This class is for creating a IdleTimeoutTask.
      */
-    public class IdleTimeoutTask implements Runnable {
+    public class IdleTimeoutTask implements IdleTimeout.Listener {
 
         private ChannelHandlerContext ctx;
         private int streamId;
@@ -176,7 +180,9 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
         }
 
         @Override
-        public void run() {
+        public void onIdleTimeout(IdleTimeout timeout, boolean first) {
+            timeout.cancel();
+            timerTasks.remove(streamId, timeout);
             OutboundMsgHolder msgHolder = http2ClientChannel.getInFlightMessage(streamId);
             OutboundMsgHolder promiseHolder = http2ClientChannel.getPromisedMessage(streamId);
 
@@ -188,19 +194,13 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
         }
 
         private void runTimeOutLogic(OutboundMsgHolder msgHolder, boolean primary) {
-            long nextDelay = getNextDelay(msgHolder);
-            if (nextDelay <= 0) {
-                if (!expectContinue) {
-                    closeStream(streamId, ctx);
-                }
-                if (primary) {
-                    handlePrimaryResponseTimeout(msgHolder);
-                } else {
-                    handlePushResponseTimeout(msgHolder);
-                }
+            if (!expectContinue) {
+                closeStream(streamId, ctx);
+            }
+            if (primary) {
+                handlePrimaryResponseTimeout(msgHolder);
             } else {
-                // Write occurred before the timeout - set a new timeout with shorter delay.
-                timerTasks.put(streamId, schedule(ctx, this, nextDelay));
+                handlePushResponseTimeout(msgHolder);
             }
         }
 
@@ -259,13 +259,9 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
                         HttpResponseStatus.GATEWAY_TIMEOUT.code()));
             }
         }
-
-        private long getNextDelay(OutboundMsgHolder msgHolder) {
-            return idleTimeNanos - (ticksInNanos() - msgHolder.getLastReadWriteTime());
-        }
     }
 
-    public Map<Integer, ScheduledFuture<?>> getTimerTasks() {
+    public Map<Integer, IdleTimeout> getTimerTasks() {
         return timerTasks;
     }
 }
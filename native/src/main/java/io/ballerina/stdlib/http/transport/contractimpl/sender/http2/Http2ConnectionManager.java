@@ -34,6 +34,7 @@ public class Http2ConnectionManager {
 
     private final ConcurrentHashMap<EventLoop, EventLoopPool> eventLoopPools = new ConcurrentHashMap<>();
     private final Deque<EventLoop> eventLoops = new ArrayDeque<>(); //When source handler is not present
+    private final Http2ConnectionPoolMetrics metrics = new Http2ConnectionPoolMetrics();
     private PoolConfiguration poolConfiguration;
 
     public Http2ConnectionManager(PoolConfiguration poolConfiguration) {
@@ -95,10 +96,11 @@ public class Http2ConnectionManager {
         if (perRouteConnectionPool != null) {
             return perRouteConnectionPool;
         }
-        return eventLoopPool.getPerRouteConnectionPools().computeIfAbsent(key,
-                                                                  p -> new EventLoopPool.PerRouteConnectionPool(
-                                                                      poolConfiguration
-                                                                          .getHttp2MaxActiveStreamsPerConnection()));
+        return eventLoopPool.getPerRouteConnectionPools().computeIfAbsent(
+                key, p -> new EventLoopPool.PerRouteConnectionPool(
+                        poolConfiguration.getHttp2MaxActiveStreamsPerConnection(),
+                        poolConfiguration.getHttp2TargetStreamUtilization(), poolConfiguration.getMaxActivePerPool(),
+                        poolConfiguration.getMaxWaitTime(), metrics));
     }
 
     /**
@@ -133,33 +135,59 @@ public class Http2ConnectionManager {
     }
 
     /**
-     * Return the http/2 client channel to per route pool.
+     * Remove http/2 client channel from per route pool.
      *
      * @param httpRoute          the http route
-     * @param http2ClientChannel represents the http/2 client channel
+     * @param http2ClientChannel represents the http/2 client channel to be removed
      */
-    void returnClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
+    void removeClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
         EventLoopPool.PerRouteConnectionPool perRouteConnectionPool = fetchPerRoutePool(httpRoute,
                                                                                         http2ClientChannel.getChannel()
                                                                                             .eventLoop());
         if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.addChannel(http2ClientChannel);
+            perRouteConnectionPool.removeChannel(http2ClientChannel);
         }
     }
 
     /**
-     * Remove http/2 client channel from per route pool.
+     * Gets the counters of the streams borrowed from the pooled connections.
      *
-     * @param httpRoute          the http route
-     * @param http2ClientChannel represents the http/2 client channel to be removed
+     * @return the HTTP/2 connection pool metrics
      */
-    void removeClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
-        EventLoopPool.PerRouteConnectionPool perRouteConnectionPool = fetchPerRoutePool(httpRoute,
-                                                                                        http2ClientChannel.getChannel()
-                                                                                            .eventLoop());
-        if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.removeChannel(http2ClientChannel);
+    public Http2ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the number of active and reserved streams of all pooled connections.
+     *
+     * @return number of active streams
+     */
+    public long getActiveStreamCount() {
+        long activeStreams = 0;
+        for (EventLoopPool eventLoopPool : eventLoopPools.values()) {
+            for (EventLoopPool.PerRouteConnectionPool pool : eventLoopPool.getPerRouteConnectionPools().values()) {
+                activeStreams += pool.getActiveStreamCount();
+            }
+        }
+        return activeStreams;
+    }
+
+    /**
+     * Gets the share of the stream capacity of all pooled connections which is in use.
+     *
+     * @return stream utilization between 0 and 1, or 0 if no connection is pooled
+     */
+    public double getStreamUtilization() {
+        long activeStreams = 0;
+        long capacity = 0;
+        for (EventLoopPool eventLoopPool : eventLoopPools.values()) {
+            for (EventLoopPool.PerRouteConnectionPool pool : eventLoopPool.getPerRouteConnectionPools().values()) {
+                activeStreams += pool.getActiveStreamCount();
+                capacity += pool.getStreamCapacity();
+            }
         }
+        return capacity == 0 ? 0 : Math.min(1, (double) activeStreams / capacity);
     }
 
     private EventLoopPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute,
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the streams borrowed from the HTTP/2 connections pooled by a {@link Http2ConnectionManager}.
+ */
+public final class Http2ConnectionPoolMetrics {
+
+    private final LongAdder reservedStreams = new LongAdder();
+    private final LongAdder exhaustedBorrows = new LongAdder();
+    private final LongAdder warmUpConnections = new LongAdder();
+    private final LongAdder removedConnections = new LongAdder();
+
+    void incrementReservedStreams() {
+        reservedStreams.increment();
+    }
+
+    void incrementExhaustedBorrows() {
+        exhaustedBorrows.increment();
+    }
+
+    void incrementWarmUpConnections() {
+        warmUpConnections.increment();
+    }
+
+    void incrementRemovedConnections() {
+        removedConnections.increment();
+    }
+
+    /**
+     * @return the number of streams reserved on pooled connections
+     */
+    public long getReservedStreams() {
+        return reservedStreams.sum();
+    }
+
+    /**
+     * @return the number of borrows which found every pooled connection of the route exhausted
+     */
+    public long getExhaustedBorrows() {
+        return exhaustedBorrows.sum();
+    }
+
+    /**
+     * @return the number of connections opened since the least loaded connection reached the target utilization
+     */
+    public long getWarmUpConnections() {
+        return warmUpConnections.sum();
+    }
+
+    /**
+     * @return the number of inactive connections dropped from the pools
+     */
+    public long getRemovedConnections() {
+        return removedConnections.sum();
+    }
+}
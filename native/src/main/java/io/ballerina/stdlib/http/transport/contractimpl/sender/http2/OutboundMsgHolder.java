@@ -25,9 +25,10 @@ import io.ballerina.stdlib.http.transport.message.DefaultBackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -39,7 +40,9 @@ public class OutboundMsgHolder {
     // Outbound request HttpCarbonMessage
     private HttpCarbonMessage requestCarbonMessage;
     private BlockingQueue<Http2PushPromise> promises;
-    private ConcurrentHashMap<Integer, HttpCarbonResponse> pushResponsesMap;
+    // Push responses are added on the event loop but may be looked up from the thread which registers the push
+    // response listener, so every access is guarded by the map itself
+    private final IntObjectMap<HttpCarbonResponse> pushResponsesMap = new IntObjectHashMap<>();
     private HttpCarbonResponse response;
 
     // Future which is used to notify the response listener upon response receive
@@ -47,7 +50,6 @@ public class OutboundMsgHolder {
     private Http2ClientChannel http2ClientChannel;
 
     private boolean allPromisesReceived = false;
-    private long lastReadWriteTime;
     private boolean requestWritten;
     private boolean firstContentWritten;
     private AtomicBoolean streamWritable = new AtomicBoolean(true);
@@ -56,7 +58,6 @@ public class OutboundMsgHolder {
     public OutboundMsgHolder(HttpCarbonMessage httpOutboundRequest) {
         this.requestCarbonMessage = httpOutboundRequest;
         promises = new LinkedBlockingQueue<>();
-        pushResponsesMap = new ConcurrentHashMap<>();
         responseFuture = new DefaultHttpResponseFuture(this);
     }
 
@@ -109,7 +110,9 @@ public class OutboundMsgHolder {
      * @param pushResponse push response message
      */
     public void addPushResponse(int streamId, HttpCarbonResponse pushResponse) {
-        pushResponsesMap.put(streamId, pushResponse);
+        synchronized (pushResponsesMap) {
+            pushResponsesMap.put(streamId, pushResponse);
+        }
         responseFuture.notifyPushResponse(streamId, pushResponse);
     }
 
@@ -137,7 +140,9 @@ public class OutboundMsgHolder {
      * @return the push response
      */
     public HttpCarbonResponse getPushResponse(int steamId) {
-        return pushResponsesMap.get(steamId);
+        synchronized (pushResponsesMap) {
+            return pushResponsesMap.get(steamId);
+        }
     }
 
     /**
@@ -179,24 +184,6 @@ public class OutboundMsgHolder {
         return promises.poll();
     }
 
-    /**
-     * Gets last read or write operation execution time.
-     *
-     * @return the last read or write operation execution time
-     */
-    long getLastReadWriteTime() {
-        return lastReadWriteTime;
-    }
-
-    /**
-     * Sets the last read or write operation execution time.
-     *
-     * @param lastReadWriteTime the last read or write operation execution time
-     */
-    void setLastReadWriteTime(long lastReadWriteTime) {
-        this.lastReadWriteTime = lastReadWriteTime;
-    }
-
     /**
      * Checks whether the request is written.
      *
@@ -22,6 +22,7 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRespStateManager;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.TargetHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.channel.ChannelHandlerContext;
@@ -29,7 +30,6 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,7 +65,7 @@ public class Sending100Continue implements SenderState {
 
     private void configIdleTimeoutTrigger(int socketIdleTimeout) {
         ChannelPipeline pipeline = senderReqRespStateManager.nettyTargetChannel.pipeline();
-        IdleStateHandler idleStateHandler = new IdleStateHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS);
+        IdleTimeoutHandler idleStateHandler = new IdleTimeoutHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS);
         safelyRemoveHandlers(pipeline, Constants.IDLE_STATE_HANDLER);
         if (pipeline.get(Constants.TARGET_HANDLER) == null) {
             pipeline.addLast(Constants.IDLE_STATE_HANDLER, idleStateHandler);
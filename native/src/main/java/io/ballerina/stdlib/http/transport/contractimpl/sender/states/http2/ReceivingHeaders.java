@@ -283,7 +283,7 @@ public class ReceivingHeaders implements SenderState {
             streamId, ctx, http2TargetHandler.getConnection(), INBOUND_RESPONSE));
 
         // Setting properties of the HTTP Carbon Response
-        responseCarbonMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
+        responseCarbonMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, PooledDataStreamerFactory.forAllocator(ctx.alloc()));
         responseCarbonMsg.setProperty(DIRECTION, DIRECTION_RESPONSE);
         responseCarbonMsg.setHttpStatusCode(httpResponse.status().code());
 
@@ -37,7 +37,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_WHILE_READING_INBOUND_RESPONSE_HEADERS;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.handleIncompleteInboundMessage;
@@ -107,10 +106,6 @@ public class WaitingFor100Continue implements SenderState {
     private void configTimeOut(ChannelHandlerContext ctx, int streamId, boolean expectContinue) {
         List<Http2DataEventListener> eventListeners = http2ClientChannel.getDataEventListeners();
         Http2ClientTimeoutHandler timeoutHandler = (Http2ClientTimeoutHandler) eventListeners.get(0);
-        ScheduledFuture<?> timerTask = timeoutHandler.getTimerTasks().get(streamId);
-        if (timerTask != null) {
-            timerTask.cancel(true);
-        }
         if (expectContinue) {
             timeoutHandler.createTimerTask(ctx, streamId, http2ClientChannel.getSocketIdleTimeout() / 5, true);
         } else {
@@ -22,8 +22,10 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.websocket;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.websocket.ClientHandshakeFuture;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.WebSocketMessageQueueHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.websocket.DefaultClientHandshakeFuture;
 import io.netty.bootstrap.Bootstrap;
@@ -33,7 +35,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.websocketx.Utf8FrameValidator;
@@ -41,7 +42,6 @@ import io.netty.handler.codec.http.websocketx.WebSocketClientHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
 import io.netty.handler.codec.http.websocketx.WebSocketVersion;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
-import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -132,7 +132,8 @@ public class WebSocketClient {
     private Bootstrap initClientBootstrap(String host, int port, DefaultClientHandshakeFuture handshakeFuture) {
         Bootstrap clientBootstrap = new Bootstrap();
         SSLConfig sslConfig = connectorConfig.getClientSSLConfig();
-        clientBootstrap.group(wsClientEventLoopGroup).channel(NioSocketChannel.class).handler(
+        clientBootstrap.group(wsClientEventLoopGroup)
+                .channel(NativeTransport.of(wsClientEventLoopGroup).getSocketChannelClass()).handler(
                 new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
@@ -159,7 +160,7 @@ public class WebSocketClient {
         pipeline.addLast(Utf8FrameValidator.class.getName(), new Utf8FrameValidator());
         if (connectorConfig.getIdleTimeoutInMillis() > 0) {
             pipeline.addLast(IDLE_STATE_HANDLER,
-                    new IdleStateHandler(0, 0, connectorConfig.getIdleTimeoutInMillis(), TimeUnit.MILLISECONDS));
+                    new IdleTimeoutHandler(0, 0, connectorConfig.getIdleTimeoutInMillis(), TimeUnit.MILLISECONDS));
         }
         pipeline.addLast(Constants.WEBSOCKET_CLIENT_HANDSHAKE_HANDLER, clientHandshakeHandler);
     }
@@ -4,6 +4,7 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketConnection;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketFrameType;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketWriteTimeOutListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.WebSocketMessageQueueHandler;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -18,7 +19,6 @@ import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
-import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -275,14 +275,14 @@ public class DefaultWebSocketConnection implements WebSocketConnection {
     public void addReadIdleStateHandler(long readTimeOut) {
         if (ctx.pipeline().get(IDLE_STATE_HANDLER) == null && readTimeOut > 0) {
             ctx.pipeline().addBefore(MESSAGE_QUEUE_HANDLER, IDLE_STATE_HANDLER,
-                    new IdleStateHandler(readTimeOut, 0, 0, TimeUnit.SECONDS));
+                    new IdleTimeoutHandler(readTimeOut, 0, 0, TimeUnit.SECONDS));
         }
     }
 
     public void addWriteIdleStateHandler(WebSocketWriteTimeOutListener timeOutListener, long writeTimeout) {
         if (ctx.pipeline().get(CLIENT_WRITE_TIMEOUT_HANDLER) == null && writeTimeout > 0) {
             ctx.pipeline().addFirst(WRITE_IDLE_STATE_HANDLER,
-                    new IdleStateHandler(0, writeTimeout, 0, TimeUnit.SECONDS));
+                    new IdleTimeoutHandler(0, writeTimeout, 0, TimeUnit.SECONDS));
             ctx.pipeline().addAfter(WRITE_IDLE_STATE_HANDLER, CLIENT_WRITE_TIMEOUT_HANDLER,
                     new ClientWriteTimeoutHandler(timeOutListener));
         }
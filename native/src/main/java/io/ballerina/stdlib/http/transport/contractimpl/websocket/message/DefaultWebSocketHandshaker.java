@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.websocket.ServerHandshakeFuture;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketConnection;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketHandshaker;
+import io.ballerina.stdlib.http.transport.contractimpl.common.timeout.IdleTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.MaxEntityBodyValidator;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.UriAndHeaderLengthValidator;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.WebSocketMessageQueueHandler;
@@ -45,7 +46,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
-import io.netty.handler.timeout.IdleStateHandler;
 
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
@@ -224,7 +224,7 @@ public class DefaultWebSocketHandshaker implements WebSocketHandshaker {
         }
         if (idleTimeout > 0) {
             pipeline.replace(Constants.IDLE_STATE_HANDLER, Constants.IDLE_STATE_HANDLER,
-                             new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS));
+                             new IdleTimeoutHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS));
         } else {
             pipeline.remove(Constants.IDLE_STATE_HANDLER);
         }
@@ -225,4 +225,13 @@ public class BlockingEntityCollector implements EntityCollector {
             readWriteLock.unlock();
         }
     }
+
+    public void markConsumed() {
+        try {
+            readWriteLock.lock();
+            state = EntityBodyState.CONSUMED;
+        } finally {
+            readWriteLock.unlock();
+        }
+    }
 }
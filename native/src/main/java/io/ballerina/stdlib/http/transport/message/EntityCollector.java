@@ -84,4 +84,10 @@ public interface EntityCollector {
      * This is need to release content before GC.
      */
     void waitAndReleaseAllEntities();
+
+    /**
+     * Marks the entity as consumed once the remaining content is handed over to a message listener without being
+     * queued, so that nothing waits for content which never reaches the queue.
+     */
+    void markConsumed();
 }
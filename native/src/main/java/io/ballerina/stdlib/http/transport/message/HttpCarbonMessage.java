@@ -55,7 +55,8 @@ public class HttpCarbonMessage {
 
     protected HttpMessage httpMessage;
     private EntityCollector blockingEntityCollector;
-    private Map<String, Object> properties = new HashMap<>(Constants.HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE);
+    private final Object[] propertySlots = new Object[PropertySlots.SLOT_COUNT];
+    private Map<String, Object> properties;
 
     private MessageFuture messageFuture;
     private final ServerConnectorFuture httpOutboundRespFuture = new HttpWsServerConnectorFuture();
@@ -112,13 +113,20 @@ public class HttpCarbonMessage {
                 removeMessageFuture();
                 throw new RuntimeException(this.getIoException());
             }
-            blockingEntityCollector.addHttpContent(httpContent);
-            if (messageFuture.isMessageListenerSet()) {
-                messageFuture.notifyMessageListener(blockingEntityCollector.getHttpContent());
-                //This should only be called once the message listener is set and the HttpContent is retrieved from the
-                //blocking entity collector. Calling this before that will raise a race condition in passthrough
-                //scenario.
-                contentObservable.notifyGetListener(httpContent);
+            if (passthrough && messageFuture.isMessageListenerSet()) {
+                // Content queued before the listener was set has already been drained to it, so in passthrough the
+                // content is handed straight to the listener writing it to the target channel. Ownership of the
+                // buffer moves along with it, and the write releases it.
+                messageFuture.notifyMessageListener(httpContent);
+            } else {
+                blockingEntityCollector.addHttpContent(httpContent);
+                if (messageFuture.isMessageListenerSet()) {
+                    messageFuture.notifyMessageListener(blockingEntityCollector.getHttpContent());
+                    //This should only be called once the message listener is set and the HttpContent is retrieved
+                    //from the blocking entity collector. Calling this before that will raise a race condition in
+                    //passthrough scenario.
+                    contentObservable.notifyGetListener(httpContent);
+                }
             }
             // We remove the feature as the message has reached it life time. If there is a need
             // for using the same message again, we need to set the future again and restart
@@ -305,11 +313,11 @@ public class HttpCarbonMessage {
     }
 
     public Object getProperty(String key) {
-        if (properties != null) {
-            return properties.get(key);
-        } else {
-            return null;
+        int slot = PropertySlots.indexOf(key);
+        if (slot >= 0) {
+            return propertySlots[slot];
         }
+        return properties != null ? properties.get(key) : null;
     }
 
     public synchronized void removeMessageFuture() {
@@ -318,16 +326,48 @@ public class HttpCarbonMessage {
         passthrough = false;
     }
 
+    /**
+     * Returns a snapshot of the properties of the message. Changes to the returned map are not reflected in the
+     * message.
+     *
+     * @return the properties of the message
+     */
     public Map<String, Object> getProperties() {
-        return properties;
+        Map<String, Object> propertiesMap = properties != null ? new HashMap<>(properties) : new HashMap<>();
+        for (int slot = 0; slot < propertySlots.length; slot++) {
+            if (propertySlots[slot] != null) {
+                propertiesMap.put(PropertySlots.keyAt(slot), propertySlots[slot]);
+            }
+        }
+        return propertiesMap;
     }
 
+    /**
+     * Sets a property of the message. The well-known transport and dispatcher properties are kept in a slot array,
+     * only other properties are stored in a map.
+     *
+     * @param key   the property name
+     * @param value the property value
+     */
     public void setProperty(String key, Object value) {
+        int slot = PropertySlots.indexOf(key);
+        if (slot >= 0) {
+            propertySlots[slot] = value;
+            return;
+        }
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
         properties.put(key, value);
     }
 
     public void removeProperty(String key) {
-        properties.remove(key);
+        int slot = PropertySlots.indexOf(key);
+        if (slot >= 0) {
+            propertySlots[slot] = null;
+        } else if (properties != null) {
+            properties.remove(key);
+        }
     }
 
     public String getHttpVersion() {
@@ -431,8 +471,10 @@ public class HttpCarbonMessage {
     public HttpCarbonMessage cloneCarbonMessageWithOutData() {
         HttpCarbonMessage newCarbonMessage = getNewHttpCarbonMessage();
 
-        Map<String, Object> propertiesMap = this.getProperties();
-        propertiesMap.forEach(newCarbonMessage::setProperty);
+        System.arraycopy(propertySlots, 0, newCarbonMessage.propertySlots, 0, propertySlots.length);
+        if (properties != null) {
+            properties.forEach(newCarbonMessage::setProperty);
+        }
         newCarbonMessage.setHttpStatusCode(this.getHttpStatusCode());
         newCarbonMessage.setHttpMethod(this.getHttpMethod());
         newCarbonMessage.setRequestUrl(this.getRequestUrl());
@@ -19,9 +19,12 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.compression.ContentCoding;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.http.DefaultHttpContent;
@@ -35,9 +38,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.Objects;
 
 /**
  * Provides input and output stream by taking the HttpCarbonMessage.
@@ -46,11 +47,15 @@ public class HttpMessageDataStreamer {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpMessageDataStreamer.class);
     private static final int CONTENT_BUFFER_SIZE = 8192;
+    private static final int MIN_CONTENT_BUFFER_SIZE = 256;
+    private static final int MAX_CONTENT_BUFFER_SIZE = 65536;
+    private static final int CONTENT_BATCH_SIZE = 65536;
 
     private final HttpCarbonMessage httpCarbonMessage;
     private ByteBufAllocator pooledByteBufAllocator;
     private HttpMessageDataStreamer.ByteBufferInputStream byteBufferInputStream;
     private HttpMessageDataStreamer.ByteBufferOutputStream byteBufferOutputStream;
+    private boolean contentDecoded;
 
     public HttpMessageDataStreamer(HttpCarbonMessage httpCarbonMessage) {
         this.httpCarbonMessage = httpCarbonMessage;
@@ -68,38 +73,129 @@ public class HttpMessageDataStreamer {
      */
     protected class ByteBufferInputStream extends InputStream {
 
-        private int count;
-        private boolean chunkFinished = true;
-        private int limit;
-        private ByteBuffer byteBuffer;
         private HttpContent httpContent;
-        private int referenceCount = 0;
+        private ByteBuf content;
+        private boolean lastContentReceived;
 
         @Override
         public int read() {
-            if ((httpContent instanceof LastHttpContent) && chunkFinished) {
+            ByteBuf buffer = readableContent();
+            if (buffer == null) {
                 return -1;
-            } else if (chunkFinished) {
+            }
+            int value = buffer.readUnsignedByte();
+            releaseIfDrained();
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            int bytesRead = 0;
+            while (bytesRead < length) {
+                ByteBuf buffer = readableContent();
+                if (buffer == null) {
+                    break;
+                }
+                int chunkLength = Math.min(length - bytesRead, buffer.readableBytes());
+                buffer.readBytes(bytes, offset + bytesRead, chunkLength);
+                bytesRead += chunkLength;
+                releaseIfDrained();
+            }
+            return bytesRead == 0 ? -1 : bytesRead;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            while (skipped < n) {
+                ByteBuf buffer = readableContent();
+                if (buffer == null) {
+                    break;
+                }
+                int chunkLength = (int) Math.min(n - skipped, buffer.readableBytes());
+                buffer.skipBytes(chunkLength);
+                skipped += chunkLength;
+                releaseIfDrained();
+            }
+            return skipped;
+        }
+
+        /**
+         * Gives the number of bytes left in the content chunk which is currently being read. Chunks which are
+         * still in the entity collector are not counted as reading them may block.
+         *
+         * @return the number of bytes that can be read without blocking
+         */
+        @Override
+        public int available() {
+            return content != null ? content.readableBytes() : 0;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            Objects.requireNonNull(out);
+            long transferred = 0;
+            ByteBuf buffer;
+            while ((buffer = readableContent()) != null) {
+                int chunkLength = buffer.readableBytes();
+                buffer.readBytes(out, chunkLength);
+                transferred += chunkLength;
+                releaseIfDrained();
+            }
+            return transferred;
+        }
+
+        /**
+         * Collects the remaining content chunks into a single composite buffer. The received buffers become the
+         * components of the composite buffer, so no content is copied.
+         *
+         * @param allocator the allocator used to create the composite buffer
+         * @return a composite buffer which the caller should release
+         */
+        CompositeByteBuf readRemainingContent(ByteBufAllocator allocator) {
+            CompositeByteBuf compositeContent = allocator.compositeBuffer(Integer.MAX_VALUE);
+            try {
+                ByteBuf buffer;
+                while ((buffer = readableContent()) != null) {
+                    // retainedSlice() of a duplicated pooled slice computes the wrong bounds, hence slice().retain()
+                    compositeContent.addComponent(true, buffer.slice().retain());
+                    releaseHttpContent();
+                }
+            } catch (RuntimeException e) {
+                compositeContent.release();
+                throw e;
+            }
+            return compositeContent;
+        }
+
+        /**
+         * Gives the buffer of the content chunk being read, fetching the next chunk from the message when the
+         * current one is drained. Empty chunks are released and skipped.
+         *
+         * @return a readable buffer or null at the end of the entity
+         */
+        private ByteBuf readableContent() {
+            while (content == null || !content.isReadable()) {
+                releaseHttpContent();
+                if (lastContentReceived) {
+                    return null;
+                }
                 httpContent = httpCarbonMessage.getHttpContent();
-                referenceCount++;
                 validateHttpContent();
-                byteBuffer = httpContent.content().nioBuffer();
-                count = 0;
-                limit = byteBuffer.limit();
-                if (limit == 0) {
-                    return -1;
-                }
-                chunkFinished = false;
+                content = httpContent.content().duplicate();
+                lastContentReceived = httpContent instanceof LastHttpContent;
             }
-            count++;
-            if (count == limit) {
-                int value = byteBuffer.get() & 0xff;
-                chunkFinished = true;
-                byteBuffer = null;
+            return content;
+        }
+
+        private void releaseIfDrained() {
+            if (!content.isReadable()) {
                 releaseHttpContent();
-                return value;
             }
-            return byteBuffer.get() & 0xff;
         }
 
         private void validateHttpContent() {
@@ -112,15 +208,15 @@ public class HttpMessageDataStreamer {
 
         @Override
         public void close() throws IOException {
-            byteBuffer = null;
             releaseHttpContent();    //fix memory leak issue in error path
             super.close();
         }
 
         private void releaseHttpContent() {
-            if (httpContent != null && referenceCount > 0) {
+            content = null;
+            if (httpContent != null) {
                 httpContent.release();
-                referenceCount--;
+                httpContent = null;
             }
         }
     }
@@ -134,22 +230,28 @@ public class HttpMessageDataStreamer {
     protected class ByteBufferOutputStream extends OutputStream {
 
         private ByteBuf dataHolder;
+        private CompositeByteBuf filledBuffers;
+        private int nextBufferSize = getInitialBufferSize();
 
         @Override
         public void write(int b) {
-            if (dataHolder == null) {
-                dataHolder = getBuffer();
+            if (dataHolder == null || !dataHolder.isWritable()) {
+                allocateNextBuffer();
             }
-            if (dataHolder.writableBytes() != 0) {
-                dataHolder.writeByte((byte) b);
-            } else {
-                try {
-                    httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
-                    dataHolder = getBuffer();
-                    dataHolder.writeByte((byte) b);
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
+            dataHolder.writeByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            while (length > 0) {
+                if (dataHolder == null || !dataHolder.isWritable()) {
+                    allocateNextBuffer();
                 }
+                int chunkLength = Math.min(length, dataHolder.writableBytes());
+                dataHolder.writeBytes(bytes, offset, chunkLength);
+                offset += chunkLength;
+                length -= chunkLength;
             }
         }
 
@@ -161,8 +263,9 @@ public class HttpMessageDataStreamer {
         @Override
         public void close() {
             try {
-                if (dataHolder != null && dataHolder.isReadable()) {
-                    httpCarbonMessage.addHttpContent(new DefaultLastHttpContent(dataHolder));
+                ByteBuf remainingContent = takeRemainingContent();
+                if (remainingContent != null) {
+                    httpCarbonMessage.addHttpContent(new DefaultLastHttpContent(remainingContent));
                 } else {
                     httpCarbonMessage.addHttpContent(LastHttpContent.EMPTY_LAST_CONTENT);
                 }
@@ -175,11 +278,80 @@ public class HttpMessageDataStreamer {
             }
         }
 
-        private ByteBuf getBuffer() {
+        /**
+         * Moves the filled data holder to the batch of filled buffers and allocates the next one. Buffers grow with
+         * the payload so that large payloads are written with fewer, larger buffers.
+         */
+        private void allocateNextBuffer() {
+            if (dataHolder != null) {
+                addFilledBuffer(dataHolder);
+            }
+            dataHolder = getBuffer(nextBufferSize);
+            nextBufferSize = Math.min(nextBufferSize << 1, MAX_CONTENT_BUFFER_SIZE);
+        }
+
+        /**
+         * Batches filled buffers into a composite buffer and hands the batch over as a single content once it
+         * reaches the batch size, instead of adding a content to the message for every buffer.
+         */
+        private void addFilledBuffer(ByteBuf buffer) {
+            ByteBuf batch;
+            if (filledBuffers == null && buffer.readableBytes() >= CONTENT_BATCH_SIZE) {
+                batch = buffer;
+            } else {
+                if (filledBuffers == null) {
+                    filledBuffers = getAllocator().compositeBuffer(Integer.MAX_VALUE);
+                }
+                filledBuffers.addComponent(true, buffer);
+                if (filledBuffers.readableBytes() < CONTENT_BATCH_SIZE) {
+                    return;
+                }
+                batch = filledBuffers;
+                filledBuffers = null;
+            }
+            try {
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(batch));
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
+            }
+        }
+
+        private ByteBuf takeRemainingContent() {
+            ByteBuf remainingContent = filledBuffers;
+            filledBuffers = null;
+            if (dataHolder != null) {
+                if (dataHolder.isReadable()) {
+                    if (remainingContent == null) {
+                        remainingContent = dataHolder;
+                    } else {
+                        ((CompositeByteBuf) remainingContent).addComponent(true, dataHolder);
+                    }
+                } else {
+                    dataHolder.release();
+                }
+                dataHolder = null;
+            }
+            return remainingContent;
+        }
+
+        private int getInitialBufferSize() {
+            String contentLength = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+            if (contentLength != null) {
+                try {
+                    return (int) Math.max(MIN_CONTENT_BUFFER_SIZE,
+                                          Math.min(Long.parseLong(contentLength), MAX_CONTENT_BUFFER_SIZE));
+                } catch (NumberFormatException e) {
+                    LOG.debug("Invalid Content-Length: {}", contentLength);
+                }
+            }
+            return CONTENT_BUFFER_SIZE;
+        }
+
+        private ByteBuf getBuffer(int size) {
             if (pooledByteBufAllocator == null) {
-                return Unpooled.buffer(CONTENT_BUFFER_SIZE);
+                return Unpooled.buffer(size);
             } else {
-                return pooledByteBufAllocator.directBuffer(CONTENT_BUFFER_SIZE);
+                return pooledByteBufAllocator.directBuffer(size);
             }
         }
     }
@@ -191,7 +363,7 @@ public class HttpMessageDataStreamer {
         return byteBufferOutputStream;
     }
 
-    private InputStream createInputStreamIfNull() {
+    private ByteBufferInputStream createInputStreamIfNull() {
         if (byteBufferInputStream == null) {
             byteBufferInputStream = new HttpMessageDataStreamer.ByteBufferInputStream();
         }
@@ -205,11 +377,12 @@ public class HttpMessageDataStreamer {
             // as encoded one. so once this header is removed, transport will encode again by looking the
             // accept-encoding request header
             httpCarbonMessage.removeHeader(HttpHeaderNames.CONTENT_ENCODING.toString());
+            ContentCoding contentCoding = ContentCoding.of(contentEncodingHeader);
             try {
-                if (contentEncodingHeader.equalsIgnoreCase(Constants.ENCODING_GZIP)) {
-                    return new GZIPInputStream(createInputStreamIfNull());
-                } else if (contentEncodingHeader.equalsIgnoreCase(Constants.ENCODING_DEFLATE)) {
-                    return new InflaterInputStream(createInputStreamIfNull());
+                if (contentCoding != null && contentCoding.isAvailable()) {
+                    InputStream decodedInputStream = contentCoding.newDecodingStream(createInputStreamIfNull());
+                    contentDecoded = true;
+                    return decodedInputStream;
                 } else if (!contentEncodingHeader.equalsIgnoreCase(Constants.HTTP_TRANSFER_ENCODING_IDENTITY)) {
                     LOG.warn("Unknown Content-Encoding: {}", contentEncodingHeader);
                 }
@@ -219,4 +392,28 @@ public class HttpMessageDataStreamer {
         }
         return createInputStreamIfNull();
     }
+
+    /**
+     * Checks whether {@link #getInputStream()} decompresses the entity according to its Content-Encoding header.
+     *
+     * @return true if the input stream gives decoded content rather than the received bytes
+     */
+    public boolean isContentDecoded() {
+        return contentDecoded;
+    }
+
+    /**
+     * Gives the remaining entity body as a single {@link CompositeByteBuf} whose components are the received
+     * content buffers, so the body is exposed without copying. The received bytes are returned as they are, hence
+     * this should not be used when the entity needs to be decoded. The caller should release the returned buffer.
+     *
+     * @return the remaining entity body
+     */
+    public CompositeByteBuf getCompositeContent() {
+        return createInputStreamIfNull().readRemainingContent(getAllocator());
+    }
+
+    private ByteBufAllocator getAllocator() {
+        return pooledByteBufAllocator != null ? pooledByteBufAllocator : UnpooledByteBufAllocator.DEFAULT;
+    }
 }
@@ -49,9 +49,11 @@ public class MessageFuture {
             }
 
             // Removes Inbound throttling listener during passthrough so that only backpressure handling would be
-            // present.
+            // present. The rest of the content is handed to the listener as it arrives, bypassing the blocking
+            // entity collector.
             if (httpCarbonMessage.isPassthrough()) {
                 httpCarbonMessage.removeInboundContentListener();
+                httpCarbonMessage.getBlockingEntityCollector().markConsumed();
             }
         }
     }
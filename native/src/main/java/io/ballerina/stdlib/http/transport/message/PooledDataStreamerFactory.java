@@ -25,12 +25,25 @@ import io.netty.buffer.ByteBufAllocator;
  */
 public class PooledDataStreamerFactory {
 
+    private static final PooledDataStreamerFactory DEFAULT = new PooledDataStreamerFactory(ByteBufAllocator.DEFAULT);
+
     private ByteBufAllocator byteBufAllocator;
 
     public PooledDataStreamerFactory(ByteBufAllocator byteBufAllocator) {
         this.byteBufAllocator = byteBufAllocator;
     }
 
+    /**
+     * Returns a factory for the given allocator. Messages of channels using the default allocator share a single
+     * factory instead of creating one per message.
+     *
+     * @param byteBufAllocator the allocator of the channel
+     * @return a data streamer factory for the allocator
+     */
+    public static PooledDataStreamerFactory forAllocator(ByteBufAllocator byteBufAllocator) {
+        return byteBufAllocator == DEFAULT.byteBufAllocator ? DEFAULT : new PooledDataStreamerFactory(byteBufAllocator);
+    }
+
     public HttpMessageDataStreamer createHttpDataStreamer(HttpCarbonMessage httpCarbonMessage) {
         return new HttpMessageDataStreamer(httpCarbonMessage, this.byteBufAllocator);
     }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The well-known properties which the transport and the dispatcher set on every {@link HttpCarbonMessage}. Each of
+ * them owns a fixed index in the property slot array of the message, so that only user defined properties need a
+ * map of their own.
+ */
+final class PropertySlots {
+
+    private static final String[] KEYS = {
+            // Set by the transport on every inbound message
+            Constants.POOLED_BYTE_BUFFER_FACTORY,
+            Constants.CHNL_HNDLR_CTX,
+            Constants.SRC_HANDLER,
+            Constants.LISTENER_PORT,
+            Constants.LISTENER_INTERFACE_ID,
+            Constants.PROTOCOL,
+            Constants.IS_SECURED_CONNECTION,
+            Constants.LOCAL_ADDRESS,
+            Constants.REMOTE_ADDRESS,
+            Constants.TO,
+            Constants.MUTUAL_SSL_HANDSHAKE_RESULT,
+            Constants.BASE_64_ENCODED_CERT,
+            Constants.HTTP_HOST,
+            Constants.HTTP_PORT,
+            Constants.DIRECTION,
+            Constants.CHUNKING_CONFIG,
+            Constants.IS_PROXY_ENABLED,
+            Constants.HTTP_REASON_PHRASE,
+            Constants.NO_ENTITY_BODY,
+            Constants.ORIGIN_HOST,
+            Constants.RESOLVED_REQUESTED_URI,
+            // Set by the dispatcher and the interceptor chain
+            HttpConstants.RAW_URI,
+            HttpConstants.RAW_QUERY_STR,
+            HttpConstants.QUERY_STR,
+            HttpConstants.SUB_PATH,
+            HttpConstants.REQUEST_TARGET,
+            HttpConstants.RESOURCE_ARGS,
+            HttpConstants.TARGET_SERVICE,
+            HttpConstants.WAIT_FOR_FULL_REQUEST,
+            HttpConstants.INTERCEPTORS,
+            HttpConstants.INTERCEPTOR_SERVICE,
+            HttpConstants.INTERCEPTOR_SERVICE_ERROR,
+            HttpConstants.REQUEST_INTERCEPTOR_INDEX,
+            HttpConstants.RESPONSE_INTERCEPTOR_INDEX,
+            Constants.HTTP_RESOURCE
+    };
+    private static final Map<String, Integer> INDEXES = new HashMap<>();
+
+    static final int SLOT_COUNT = KEYS.length;
+
+    static {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (INDEXES.put(KEYS[i], i) != null) {
+                throw new IllegalStateException("Duplicate message property slot: " + KEYS[i]);
+            }
+        }
+    }
+
+    private PropertySlots() {
+    }
+
+    /**
+     * @param key the property name
+     * @return the slot index of a well-known property, or -1 for any other property
+     */
+    static int indexOf(String key) {
+        Integer index = INDEXES.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @param index the slot index
+     * @return the property name owning the slot
+     */
+    static String keyAt(int index) {
+        return KEYS[index];
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable segment trie of the service base paths registered under a host. It finds the most specific base path
+ * of a request path with a single scan over the path segments, without allocating.
+ */
+public final class BasePathTrie {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private final TrieNode root;
+    private final String[][] basePathsByLength;
+
+    /**
+     * Builds the trie.
+     *
+     * @param basePaths base paths sorted by the length in descending order
+     */
+    public BasePathTrie(List<String> basePaths) {
+        Map<Integer, List<String>> groupedBasePaths = new HashMap<>();
+        int maxLength = 0;
+        TrieNodeBuilder rootBuilder = new TrieNodeBuilder();
+        for (String basePath : basePaths) {
+            groupedBasePaths.computeIfAbsent(basePath.length(), length -> new ArrayList<>()).add(basePath);
+            maxLength = Math.max(maxLength, basePath.length());
+            if (basePath.length() > 1 && basePath.charAt(0) == PATH_DELIMITER) {
+                TrieNodeBuilder builder = rootBuilder;
+                for (String segment : basePath.substring(1).split(String.valueOf(PATH_DELIMITER), -1)) {
+                    builder = builder.children.computeIfAbsent(segment, key -> new TrieNodeBuilder());
+                }
+                builder.basePath = basePath;
+            }
+        }
+        this.basePathsByLength = new String[maxLength + 1][];
+        groupedBasePaths.forEach((length, paths) -> basePathsByLength[length] = paths.toArray(new String[0]));
+        this.root = rootBuilder.build();
+    }
+
+    /**
+     * Finds the most specific base path for the given request path. A base path is a match if it is equal to the
+     * request path ignoring the case, or if the request path starts with the base path followed by a "/".
+     *
+     * @param requestPath raw path of the request
+     * @return the longest matching base path or null if there is none other than "/"
+     */
+    public String findTheMostSpecificBasePath(String requestPath) {
+        int length = requestPath.length();
+        if (length < basePathsByLength.length && basePathsByLength[length] != null) {
+            for (String basePath : basePathsByLength[length]) {
+                if (basePath.equalsIgnoreCase(requestPath)) {
+                    return basePath;
+                }
+            }
+        }
+        if (length == 0 || requestPath.charAt(0) != PATH_DELIMITER) {
+            return null;
+        }
+        String mostSpecificBasePath = null;
+        TrieNode node = root;
+        int start = 1;
+        while (node.children != null) {
+            int end = requestPath.indexOf(PATH_DELIMITER, start);
+            if (end < 0) {
+                // A base path which ends with the last segment is matched only if it is equal to the request path
+                break;
+            }
+            node = node.children.get(requestPath, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                mostSpecificBasePath = node.basePath;
+            }
+            start = end + 1;
+        }
+        return mostSpecificBasePath;
+    }
+
+    private static class TrieNode {
+        private final String basePath;
+        private final SegmentMap<TrieNode> children;
+
+        private TrieNode(String basePath, SegmentMap<TrieNode> children) {
+            this.basePath = basePath;
+            this.children = children;
+        }
+    }
+
+    private static class TrieNodeBuilder {
+        private final Map<String, TrieNodeBuilder> children = new HashMap<>();
+        private String basePath;
+
+        private TrieNode build() {
+            if (children.isEmpty()) {
+                return new TrieNode(basePath, null);
+            }
+            Map<String, TrieNode> builtChildren = new HashMap<>();
+            children.forEach((segment, child) -> builtChildren.put(segment, child.build()));
+            return new TrieNode(basePath, new SegmentMap<>(builtChildren));
+        }
+    }
+}
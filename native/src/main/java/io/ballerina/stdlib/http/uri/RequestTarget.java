@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The request-target of an inbound request, parsed in a single scan into the path without matrix params, the matrix
+ * params of each path segment and the raw query. Matrix params and the decoded query are only materialized when
+ * they are asked for. Targets containing characters which are not plain URI characters are validated through
+ * {@link URI} so that they are rejected exactly as before.
+ */
+public final class RequestTarget {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final char QUERY_DELIMITER = '?';
+    private static final char MATRIX_PARAM_DELIMITER = ';';
+    private static final char MATRIX_PARAM_VALUE_DELIMITER = '=';
+    private static final char PERCENT = '%';
+    private static final String PLAIN_PATH_CHARS = "-._~!$&'()*+,;=:@";
+    private static final boolean[] PATH_CHARS = new boolean[128];
+    private static final boolean[] QUERY_CHARS = new boolean[128];
+    // Each matrix param span is stored as the length of the path up to its segment, followed by its raw bounds
+    private static final int SPAN_SIZE = 3;
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            PATH_CHARS[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            PATH_CHARS[c] = true;
+            PATH_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (int i = 0; i < PLAIN_PATH_CHARS.length(); i++) {
+            PATH_CHARS[PLAIN_PATH_CHARS.charAt(i)] = true;
+        }
+        System.arraycopy(PATH_CHARS, 0, QUERY_CHARS, 0, PATH_CHARS.length);
+        QUERY_CHARS[PATH_DELIMITER] = true;
+        QUERY_CHARS[QUERY_DELIMITER] = true;
+    }
+
+    private final String rawTarget;
+    private final String target;
+    private final String path;
+    private final String rawPath;
+    private final String rawQuery;
+    private final int[] matrixParamSpans;
+    private String query;
+    private Map<String, Map<String, String>> matrixParams;
+
+    private RequestTarget(String rawTarget, String target, String path, String rawPath, String rawQuery,
+                          String query, int[] matrixParamSpans) {
+        this.rawTarget = rawTarget;
+        this.target = target;
+        this.path = path;
+        this.rawPath = rawPath;
+        this.rawQuery = rawQuery;
+        this.query = query;
+        this.matrixParamSpans = matrixParamSpans;
+    }
+
+    /**
+     * Parses the given request-target.
+     *
+     * @param rawTarget the request-target as received
+     * @return the parsed request-target
+     * @throws BallerinaConnectorException if a matrix param is malformed or the target is not a valid URI
+     */
+    public static RequestTarget parse(String rawTarget) {
+        int length = rawTarget.length();
+        int pathStart = length > 0 && rawTarget.charAt(0) == PATH_DELIMITER ? 1 : 0;
+        int queryStart = rawTarget.indexOf(QUERY_DELIMITER, pathStart);
+        int pathLimit = queryStart < 0 ? length : queryStart;
+        // Trailing empty path segments and query parts are dropped
+        int pathEnd = pathLimit;
+        while (pathEnd > pathStart && rawTarget.charAt(pathEnd - 1) == PATH_DELIMITER) {
+            pathEnd--;
+        }
+        int queryEnd = length;
+        while (queryStart >= 0 && queryEnd > queryStart + 1 && rawTarget.charAt(queryEnd - 1) == QUERY_DELIMITER) {
+            queryEnd--;
+        }
+
+        boolean plain = true;
+        int[] spans = null;
+        int spanCount = 0;
+        StringBuilder pathBuilder = null;
+        int segmentStart = pathStart;
+        int paramsStart = -1;
+        for (int i = pathStart; i <= pathEnd; i++) {
+            char c = i < pathEnd ? rawTarget.charAt(i) : PATH_DELIMITER;
+            if (c == PATH_DELIMITER) {
+                if (paramsStart >= 0) {
+                    if (pathBuilder == null) {
+                        pathBuilder = new StringBuilder(pathEnd - pathStart + 1);
+                        pathBuilder.append(PATH_DELIMITER).append(rawTarget, pathStart, segmentStart);
+                    }
+                    pathBuilder.append(rawTarget, segmentStart, paramsStart);
+                    int paramsEnd = trimTrailing(rawTarget, paramsStart + 1, i, MATRIX_PARAM_DELIMITER);
+                    if (paramsEnd > paramsStart + 1) {
+                        validateMatrixParams(rawTarget, paramsStart + 1, paramsEnd, pathStart);
+                        if (spans == null) {
+                            spans = new int[SPAN_SIZE * 2];
+                        } else if (spanCount * SPAN_SIZE == spans.length) {
+                            spans = Arrays.copyOf(spans, spans.length * 2);
+                        }
+                        spans[spanCount * SPAN_SIZE] = pathBuilder.length();
+                        spans[spanCount * SPAN_SIZE + 1] = paramsStart + 1;
+                        spans[spanCount * SPAN_SIZE + 2] = paramsEnd;
+                        spanCount++;
+                    }
+                } else if (pathBuilder != null) {
+                    pathBuilder.append(rawTarget, segmentStart, i);
+                }
+                if (pathBuilder != null && i < pathEnd) {
+                    pathBuilder.append(PATH_DELIMITER);
+                }
+                segmentStart = i + 1;
+                paramsStart = -1;
+            } else if (c == MATRIX_PARAM_DELIMITER) {
+                if (paramsStart < 0) {
+                    paramsStart = i;
+                }
+            } else {
+                plain = plain && isPlain(rawTarget, i, pathLimit, PATH_CHARS);
+            }
+        }
+        for (int i = queryStart + 1; queryStart >= 0 && i < queryEnd && plain; i++) {
+            plain = isPlain(rawTarget, i, queryEnd, QUERY_CHARS);
+        }
+
+        String path;
+        if (pathBuilder != null) {
+            path = pathBuilder.toString();
+        } else if (pathEnd == pathStart) {
+            path = String.valueOf(PATH_DELIMITER);
+        } else {
+            path = pathStart == 1 ? rawTarget.substring(0, pathEnd) : PATH_DELIMITER + rawTarget.substring(0, pathEnd);
+        }
+        String rawQuery = queryStart >= 0 && queryEnd > queryStart + 1 ?
+                rawTarget.substring(queryStart + 1, queryEnd) : null;
+        String target;
+        if (pathBuilder == null && pathStart == 1 && pathEnd == pathLimit && (queryStart < 0 || queryEnd == length)
+                && (rawQuery != null || queryStart < 0)) {
+            target = rawTarget;
+        } else {
+            target = rawQuery != null ? path + QUERY_DELIMITER + rawQuery : path;
+        }
+        int[] matrixParamSpans = spans != null ? Arrays.copyOf(spans, spanCount * SPAN_SIZE) : null;
+
+        // A path starting with "//" denotes an authority, hence java.net.URI is left to resolve it
+        if (!plain || path.startsWith("//")) {
+            URI uri;
+            try {
+                uri = URI.create(target);
+            } catch (IllegalArgumentException e) {
+                throw new BallerinaConnectorException(e.getMessage());
+            }
+            return new RequestTarget(rawTarget, target, path, uri.getRawPath(), uri.getRawQuery(), uri.getQuery(),
+                                     matrixParamSpans);
+        }
+        return new RequestTarget(rawTarget, target, path, path, rawQuery, null, matrixParamSpans);
+    }
+
+    private static boolean isPlain(String rawTarget, int index, int end, boolean[] plainChars) {
+        char c = rawTarget.charAt(index);
+        if (c == PERCENT) {
+            return index + 2 < end && Character.digit(rawTarget.charAt(index + 1), 16) >= 0
+                    && Character.digit(rawTarget.charAt(index + 2), 16) >= 0;
+        }
+        return c < plainChars.length && plainChars[c];
+    }
+
+    private static int trimTrailing(String value, int start, int end, char c) {
+        while (end > start && value.charAt(end - 1) == c) {
+            end--;
+        }
+        return end;
+    }
+
+    private static void validateMatrixParams(String rawTarget, int start, int end, int pathStart) {
+        int paramStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && rawTarget.charAt(i) != MATRIX_PARAM_DELIMITER) {
+                continue;
+            }
+            // A matrix param is a name and a value separated by a single '='
+            int paramEnd = trimTrailing(rawTarget, paramStart, i, MATRIX_PARAM_VALUE_DELIMITER);
+            int valueDelimiters = 0;
+            for (int j = paramStart; j < paramEnd; j++) {
+                if (rawTarget.charAt(j) == MATRIX_PARAM_VALUE_DELIMITER) {
+                    valueDelimiters++;
+                }
+            }
+            if (valueDelimiters != 1) {
+                throw new BallerinaConnectorException(
+                        String.format("Found non-matrix parameter '%s' in path '%s'",
+                                      rawTarget.substring(paramStart, i), rawTarget.substring(pathStart)));
+            }
+            paramStart = i + 1;
+        }
+    }
+
+    /**
+     * @return the request-target as received
+     */
+    public String getRawTarget() {
+        return rawTarget;
+    }
+
+    /**
+     * @return the request-target without matrix params
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the raw path used to dispatch the request
+     */
+    public String getRawPath() {
+        return rawPath;
+    }
+
+    /**
+     * @return the raw query, or null if the target has no query
+     */
+    public String getRawQuery() {
+        return rawQuery;
+    }
+
+    /**
+     * @return the percent-decoded query, or null if the target has no query
+     */
+    public String getQuery() {
+        if (query == null && rawQuery != null) {
+            query = rawQuery.indexOf(PERCENT) < 0 ? rawQuery : decode(rawQuery);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the matrix params of the segment ending the given path. The matrix params of all segments are
+     * extracted on first use.
+     *
+     * @param segmentPath the path without matrix params up to and including the segment
+     * @return the matrix params of the segment
+     */
+    public Map<String, String> getMatrixParams(String segmentPath) {
+        if (matrixParamSpans == null) {
+            return Collections.emptyMap();
+        }
+        if (matrixParams == null) {
+            matrixParams = extractMatrixParams();
+        }
+        return matrixParams.getOrDefault(segmentPath, Collections.emptyMap());
+    }
+
+    private Map<String, Map<String, String>> extractMatrixParams() {
+        Map<String, Map<String, String>> segmentParams = new HashMap<>();
+        for (int span = 0; span < matrixParamSpans.length; span += SPAN_SIZE) {
+            Map<String, String> params = new HashMap<>();
+            int paramStart = matrixParamSpans[span + 1];
+            int end = matrixParamSpans[span + 2];
+            while (paramStart < end) {
+                int paramEnd = rawTarget.indexOf(MATRIX_PARAM_DELIMITER, paramStart);
+                if (paramEnd < 0 || paramEnd > end) {
+                    paramEnd = end;
+                }
+                int valueDelimiter = rawTarget.indexOf(MATRIX_PARAM_VALUE_DELIMITER, paramStart);
+                params.put(rawTarget.substring(paramStart, valueDelimiter),
+                           rawTarget.substring(valueDelimiter + 1,
+                                               trimTrailing(rawTarget, valueDelimiter + 1, paramEnd,
+                                                            MATRIX_PARAM_VALUE_DELIMITER)));
+                paramStart = paramEnd + 1;
+            }
+            segmentParams.put(path.substring(0, matrixParamSpans[span]), params);
+        }
+        return segmentParams;
+    }
+
+    private static String decode(String value) {
+        StringBuilder decoded = new StringBuilder(value.length());
+        byte[] bytes = null;
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c != PERCENT) {
+                decoded.append(c);
+                i++;
+                continue;
+            }
+            if (bytes == null) {
+                bytes = new byte[(value.length() - i) / 3];
+            }
+            int count = 0;
+            while (i < value.length() && value.charAt(i) == PERCENT) {
+                bytes[count++] = (byte) ((Character.digit(value.charAt(i + 1), 16) << 4)
+                        | Character.digit(value.charAt(i + 2), 16));
+                i += 3;
+            }
+            decoded.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+        }
+        return decoded.toString();
+    }
+}
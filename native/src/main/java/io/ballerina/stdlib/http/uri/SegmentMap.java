@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing hash map from literal path segments to values. Lookups are done against a character
+ * range of the request path, hence the segment does not need to be extracted as a separate string.
+ *
+ * @param <V> Type of the mapped value.
+ */
+public final class SegmentMap<V> {
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+    private final int mask;
+
+    public SegmentMap(Map<String, V> entries) {
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<String, V> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            int hash = key.hashCode();
+            int index = spread(hash) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            hashes[index] = hash;
+            values[index] = entry.getValue();
+        }
+    }
+
+    /**
+     * Get the value mapped to the segment {@code path[start, end)}.
+     *
+     * @param path  the request path
+     * @param start start index of the segment, inclusive
+     * @param end   end index of the segment, exclusive
+     * @return the mapped value or null if there is no such segment
+     */
+    @SuppressWarnings("unchecked")
+    public V get(String path, int start, int end) {
+        int length = end - start;
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + path.charAt(i);
+        }
+        int index = spread(hash) & mask;
+        String key;
+        while ((key = keys[index]) != null) {
+            if (hashes[index] == hash && key.length() == length && key.regionMatches(0, path, start, length)) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
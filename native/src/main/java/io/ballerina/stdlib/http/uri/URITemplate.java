@@ -23,6 +23,7 @@ import io.ballerina.stdlib.http.uri.parser.DataElement;
 import io.ballerina.stdlib.http.uri.parser.DataElementFactory;
 import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
 import io.ballerina.stdlib.http.uri.parser.Node;
+import io.ballerina.stdlib.http.uri.parser.SegmentTrie;
 import io.ballerina.stdlib.http.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
@@ -36,6 +37,7 @@ import java.io.UnsupportedEncodingException;
 public class URITemplate<DataType, InboundMsgType> {
 
     private Node<DataType, InboundMsgType> syntaxTree;
+    private volatile SegmentTrie<DataType, InboundMsgType> segmentTrie;
 
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
         this.syntaxTree = syntaxTree;
@@ -43,7 +45,9 @@ public class URITemplate<DataType, InboundMsgType> {
 
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
-        boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        SegmentTrie<DataType, InboundMsgType> trie = segmentTrie;
+        boolean isFound = trie != null ? trie.matchAll(uri, variables, inboundMsg, dataReturnAgent)
+                : syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
         if (isFound) {
             return dataReturnAgent.getData();
         }
@@ -60,6 +64,8 @@ public class URITemplate<DataType, InboundMsgType> {
 
         URITemplateParser<DataType, InboundMsgType> parser = new URITemplateParser<>(syntaxTree, elementCreator);
         parser.parse(uriTemplate, resource);
+        // Templates are parsed at the service registration, hence the tree is compiled once per resource
+        segmentTrie = SegmentTrie.compile(syntaxTree);
     }
 
     private String removeTheFirstAndLastBackSlash(String template) throws URITemplateException {
@@ -22,7 +22,6 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.stdlib.http.api.BallerinaConnectorException;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
@@ -51,35 +50,44 @@ public class URIUtil {
         return path.substring(basePath.length());
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Populates the given map with the query params of the raw query string. The query string is scanned once and
+     * only values containing escaped characters are decoded.
+     *
+     * @param queryParamString the raw query string
+     * @param queryParamsMap   the map to populate
+     * @throws UnsupportedEncodingException if a value cannot be decoded
+     */
     public static void populateQueryParamMap(String queryParamString, BMap<BString, Object> queryParamsMap)
             throws UnsupportedEncodingException {
         Map<String, List<String>> tempParamMap = new HashMap<>();
-        String[] queryParamVals = queryParamString.split("&");
-        for (String queryParam : queryParamVals) {
-            int index = queryParam.indexOf('=');
-            if (index == -1) {
+        if (queryParamString.isEmpty()) {
+            tempParamMap.put(queryParamString, null);
+        }
+        // Empty trailing params are ignored, just as String#split ignores trailing empty strings
+        int end = trimTrailing(queryParamString, 0, queryParamString.length(), '&');
+        int paramStart = 0;
+        while (paramStart < end) {
+            int paramEnd = indexOf(queryParamString, '&', paramStart, end);
+            int index = indexOf(queryParamString, '=', paramStart, paramEnd);
+            if (index == paramEnd) {
+                String queryParam = queryParamString.substring(paramStart, paramEnd);
                 if (!tempParamMap.containsKey(queryParam)) {
                     tempParamMap.put(queryParam, null);
                 }
+                paramStart = paramEnd + 1;
                 continue;
             }
-            String queryParamName = queryParam.substring(0, index).trim();
-            String queryParamValue = queryParam.substring(index + 1).trim();
-            List<String> values = new ArrayList<>();
-            Set<String> uniqueValues = new HashSet<>();
-            for (String val : queryParamValue.split(",")) {
-                String decodedValue = URLDecoder.decode(val, "UTF-8");
-                if (uniqueValues.add(decodedValue)) {
-                    values.add(decodedValue);
-                }
-            }
+            String queryParamName = queryParamString.substring(paramStart, index).trim();
+            List<String> values = getQueryParamValues(queryParamString.substring(index + 1, paramEnd).trim());
 
-            if (tempParamMap.containsKey(queryParamName) && tempParamMap.get(queryParamName) != null) {
-                tempParamMap.get(queryParamName).addAll(values);
+            List<String> existingValues = tempParamMap.get(queryParamName);
+            if (existingValues != null) {
+                existingValues.addAll(values);
             } else {
                 tempParamMap.put(queryParamName, values);
             }
+            paramStart = paramEnd + 1;
         }
 
         for (Map.Entry<String, List<String>> entry : tempParamMap.entrySet()) {
@@ -93,49 +101,60 @@ public class URIUtil {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    public static BMap<BString, Object> getMatrixParamsMap(String path, HttpCarbonMessage carbonMessage) {
-        BMap<BString, Object> matrixParamsBMap = ValueCreator.createMapValue();
-        Map<String, Map<String, String>> pathToMatrixParamMap =
-                (Map<String, Map<String, String>>) carbonMessage.getProperty(HttpConstants.MATRIX_PARAMS);
-        Map<String, String> matrixParamsMap = pathToMatrixParamMap.get(path);
-        if (matrixParamsMap != null) {
-            for (Map.Entry<String, String> matrixParamEntry : matrixParamsMap.entrySet()) {
-                matrixParamsBMap.put(StringUtils.fromString(matrixParamEntry.getKey()),
-                                     StringUtils.fromString(matrixParamEntry.getValue()));
+    private static List<String> getQueryParamValues(String queryParamValue) throws UnsupportedEncodingException {
+        List<String> values = new ArrayList<>();
+        if (queryParamValue.isEmpty()) {
+            values.add(queryParamValue);
+            return values;
+        }
+        int end = trimTrailing(queryParamValue, 0, queryParamValue.length(), ',');
+        Set<String> uniqueValues = null;
+        int valueStart = 0;
+        while (valueStart < end) {
+            int valueEnd = indexOf(queryParamValue, ',', valueStart, end);
+            String decodedValue = decode(queryParamValue.substring(valueStart, valueEnd));
+            if (values.isEmpty()) {
+                values.add(decodedValue);
+            } else {
+                if (uniqueValues == null) {
+                    uniqueValues = new HashSet<>(values);
+                }
+                if (uniqueValues.add(decodedValue)) {
+                    values.add(decodedValue);
+                }
             }
+            valueStart = valueEnd + 1;
         }
-        return matrixParamsBMap;
+        return values;
     }
 
-
-    public static String extractMatrixParams(String path, Map<String, Map<String, String>> matrixParams) {
-        if (path.startsWith("/")) {
-            path = path.substring(1);
+    private static String decode(String value) throws UnsupportedEncodingException {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
         }
-        String[] pathSplits = path.split("\\?");
-        String[] pathSegments = pathSplits[0].split("/");
-        String pathToMatrixParam = "";
-        for (String pathSegment : pathSegments) {
-            String[] splitPathSegment = pathSegment.split(";");
-            pathToMatrixParam = pathToMatrixParam.concat("/" + splitPathSegment[0]);
-            Map<String, String> segmentMatrixParams = new HashMap<>();
-            for (int i = 1; i < splitPathSegment.length; i++) {
-                String[] splitMatrixParam = splitPathSegment[i].split("=");
-                if (splitMatrixParam.length != 2) {
-                    throw new BallerinaConnectorException(
-                            String.format("Found non-matrix parameter '%s' in path '%s'",
-                                          splitPathSegment[i], path));
-                }
-                segmentMatrixParams.put(splitMatrixParam[0], splitMatrixParam[1]);
-            }
-            matrixParams.put(pathToMatrixParam, segmentMatrixParams);
+        return URLDecoder.decode(value, "UTF-8");
+    }
+
+    private static int indexOf(String value, char c, int start, int end) {
+        int index = value.indexOf(c, start);
+        return index < 0 || index > end ? end : index;
+    }
+
+    private static int trimTrailing(String value, int start, int end, char c) {
+        while (end > start && value.charAt(end - 1) == c) {
+            end--;
         }
+        return end;
+    }
 
-        for (int i = 1; i < pathSplits.length; i++) {
-            pathToMatrixParam = pathToMatrixParam.concat("?").concat(pathSplits[i]);
+    public static BMap<BString, Object> getMatrixParamsMap(String path, HttpCarbonMessage carbonMessage) {
+        BMap<BString, Object> matrixParamsBMap = ValueCreator.createMapValue();
+        RequestTarget requestTarget = (RequestTarget) carbonMessage.getProperty(HttpConstants.REQUEST_TARGET);
+        for (Map.Entry<String, String> matrixParamEntry : requestTarget.getMatrixParams(path).entrySet()) {
+            matrixParamsBMap.put(StringUtils.fromString(matrixParamEntry.getKey()),
+                                 StringUtils.fromString(matrixParamEntry.getValue()));
         }
-        return pathToMatrixParam;
+        return matrixParamsBMap;
     }
 
     private URIUtil() {}
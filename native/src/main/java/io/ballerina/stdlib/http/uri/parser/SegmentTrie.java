@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri.parser;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.SegmentMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.http.uri.URIUtil.URI_PATH_DELIMITER;
+
+/**
+ * Compiled, immutable form of the uri-template syntax tree. Each node keeps its literal children in a hashed segment
+ * map, and at most one expression child and one wildcard child, so that a request path is dispatched with a single
+ * scan over its segments. The candidate order at every level is the same as {@link Node#matchAll}: literal, path
+ * param and then the wildcard, falling back to the next candidate when a subtree does not match.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ */
+public final class SegmentTrie<DataType, InboundMsgType> {
+
+    private static final String WILDCARD = "*";
+
+    private final DataElement<DataType, InboundMsgType> dataElement;
+    private final SegmentMap<SegmentTrie<DataType, InboundMsgType>> literalChildren;
+    private final SimpleStringExpression<DataType, InboundMsgType> expression;
+    private final SegmentTrie<DataType, InboundMsgType> expressionChild;
+    private final DataElement<DataType, InboundMsgType> wildcardElement;
+
+    private SegmentTrie(DataElement<DataType, InboundMsgType> dataElement,
+                        SegmentMap<SegmentTrie<DataType, InboundMsgType>> literalChildren,
+                        SimpleStringExpression<DataType, InboundMsgType> expression,
+                        SegmentTrie<DataType, InboundMsgType> expressionChild,
+                        DataElement<DataType, InboundMsgType> wildcardElement) {
+        this.dataElement = dataElement;
+        this.literalChildren = literalChildren;
+        this.expression = expression;
+        this.expressionChild = expressionChild;
+        this.wildcardElement = wildcardElement;
+    }
+
+    /**
+     * Compiles the given syntax tree.
+     *
+     * @param syntaxTree root node of the uri-template syntax tree
+     * @param <DataType> Type of data which should be stored in the node.
+     * @param <InboundMsgType> Inbound message type for additional checks.
+     * @return the compiled trie or null if the tree has segments which cannot be matched by exact segment lookup
+     */
+    public static <DataType, InboundMsgType> SegmentTrie<DataType, InboundMsgType> compile(
+            Node<DataType, InboundMsgType> syntaxTree) {
+        if (!(syntaxTree instanceof Literal) || !URI_PATH_DELIMITER.equals(syntaxTree.getToken())) {
+            return null;
+        }
+        return compileNode(syntaxTree);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <DataType, InboundMsgType> SegmentTrie<DataType, InboundMsgType> compileNode(
+            Node<DataType, InboundMsgType> node) {
+        Map<String, SegmentTrie<DataType, InboundMsgType>> literals = new HashMap<>();
+        SimpleStringExpression<DataType, InboundMsgType> expression = null;
+        SegmentTrie<DataType, InboundMsgType> expressionChild = null;
+        DataElement<DataType, InboundMsgType> wildcardElement = null;
+        for (Node<DataType, InboundMsgType> child : node.childNodesList) {
+            if (child instanceof SimpleStringExpression) {
+                expression = (SimpleStringExpression<DataType, InboundMsgType>) child;
+                expressionChild = compileNode(child);
+                if (expressionChild == null) {
+                    return null;
+                }
+                continue;
+            }
+            if (!(child instanceof Literal)) {
+                return null;
+            }
+            String token = child.getToken();
+            if (WILDCARD.equals(token)) {
+                wildcardElement = child.getDataElement();
+                continue;
+            }
+            // A literal such as `foo*` is a prefix match and cannot be looked up by the whole segment
+            if (token.endsWith(WILDCARD)) {
+                return null;
+            }
+            SegmentTrie<DataType, InboundMsgType> literalChild = compileNode(child);
+            if (literalChild == null) {
+                return null;
+            }
+            literals.put(token, literalChild);
+        }
+        return new SegmentTrie<>(node.getDataElement(), literals.isEmpty() ? null : new SegmentMap<>(literals),
+                                 expression, expressionChild, wildcardElement);
+    }
+
+    /**
+     * Matches the given request path against the compiled tree.
+     *
+     * @param uri             the sanitized request path which starts with a "/"
+     * @param variables       the resource arguments to be populated
+     * @param inboundMsg      inbound message for the additional checks of the data element
+     * @param dataReturnAgent agent to return the matched data
+     * @return true if a matching data element is found
+     */
+    public boolean matchAll(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                            DataReturnAgent<DataType> dataReturnAgent) {
+        if (uri.length() == 1) {
+            // Request to the root is dispatched to the default resource, unless there is a resource for "/"
+            if (dataElement.hasData()) {
+                return dataElement.getData(inboundMsg, dataReturnAgent);
+            }
+            return matchEmptySegment(uri, 0, variables, inboundMsg, dataReturnAgent);
+        }
+        return matchChildren(uri, 1, variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchChildren(String uri, int start, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                                  DataReturnAgent<DataType> dataReturnAgent) {
+        int length = uri.length();
+        if (start == length) {
+            return matchTrailingSlash(variables, inboundMsg, dataReturnAgent);
+        }
+        int end = uri.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        if (end == start) {
+            return matchEmptySegment(uri, start, variables, inboundMsg, dataReturnAgent);
+        }
+        if (literalChildren != null) {
+            SegmentTrie<DataType, InboundMsgType> literalChild = literalChildren.get(uri, start, end);
+            if (literalChild != null
+                    && literalChild.matchRemaining(uri, end, variables, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+        }
+        if (expression != null && expression.setVariables(uri.substring(start, end), variables)
+                && expressionChild.matchRemaining(uri, end, variables, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        return matchWildcard(uri.substring(start), variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchRemaining(String uri, int end, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                                   DataReturnAgent<DataType> dataReturnAgent) {
+        if (end == uri.length()) {
+            return dataElement.getData(inboundMsg, dataReturnAgent);
+        }
+        return matchChildren(uri, end + 1, variables, inboundMsg, dataReturnAgent);
+    }
+
+    /**
+     * An empty segment can only be consumed by the wildcard. Path params on the way match it with an empty value
+     * without consuming it.
+     */
+    private boolean matchEmptySegment(String uri, int start, HttpResourceArguments variables,
+                                      InboundMsgType inboundMsg, DataReturnAgent<DataType> dataReturnAgent) {
+        if (expression != null && expression.setVariables("", variables)
+                && expressionChild.matchEmptySegment(uri, start, variables, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        return matchWildcard(uri.substring(start), variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchTrailingSlash(HttpResourceArguments variables, InboundMsgType inboundMsg,
+                                       DataReturnAgent<DataType> dataReturnAgent) {
+        if (expression != null && expressionChild.dataElement.getData(inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        return matchWildcard("", variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchWildcard(String subUriFragment, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                                  DataReturnAgent<DataType> dataReturnAgent) {
+        if (wildcardElement == null || !wildcardElement.getData(inboundMsg, dataReturnAgent)) {
+            return false;
+        }
+        Map<Integer, String> indexValueMap =
+                Collections.singletonMap(HttpConstants.EXTRA_PATH_INDEX, URI_PATH_DELIMITER + subUriFragment);
+        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, indexValueMap);
+        return true;
+    }
+}
@@ -34,18 +34,21 @@ module io.ballerina.stdlib.http {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.transport;
+    requires io.netty.transport.classes.epoll;
     requires io.netty.codec.http2;
     requires org.eclipse.osgi;
     requires io.netty.codec;
     requires io.netty.handler;
-    requires commons.pool;
     requires io.netty.handler.proxy;
+    requires com.aayushatharva.brotli4j;
+    requires com.github.luben.zstd_jni;
     exports io.ballerina.stdlib.http.api;
     exports io.ballerina.stdlib.http.transport.contract.websocket;
     exports io.ballerina.stdlib.http.transport.contract;
     exports io.ballerina.stdlib.http.transport.contract.exceptions;
     exports io.ballerina.stdlib.http.transport.contract.config;
     exports io.ballerina.stdlib.http.transport.contractimpl;
+    exports io.ballerina.stdlib.http.transport.contractimpl.listener;
     exports io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
     exports io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
     exports io.ballerina.stdlib.http.transport.internal;
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.actions;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the pre-parsed client request template.
+ */
+public class ClientRequestTemplateTest {
+
+    @Test
+    public void testBaseUrlIsPreParsed() {
+        ClientRequestTemplate template = ClientRequestTemplate.create("http://localhost:9090/backend");
+        Assert.assertTrue(template.isPreParsed());
+        Assert.assertEquals(template.getProtocol(), "http");
+        Assert.assertEquals(template.getHost(), "localhost");
+        Assert.assertEquals(template.getPort(), 9090);
+        Assert.assertEquals(template.getHostHeader(), "localhost:9090");
+        Assert.assertEquals(template.resolveTarget("/hello?name=ballerina"), "/backend/hello?name=ballerina");
+        Assert.assertEquals(template.resolveTarget("?name=ballerina"), "/backend?name=ballerina");
+        Assert.assertEquals(template.resolveTarget(""), "/backend");
+    }
+
+    @Test
+    public void testDefaultPorts() {
+        ClientRequestTemplate https = ClientRequestTemplate.create("https://example.com");
+        Assert.assertEquals(https.getPort(), 443);
+        Assert.assertEquals(https.getHostHeader(), "example.com");
+        Assert.assertEquals(https.resolveTarget("/a"), "/a");
+
+        ClientRequestTemplate http = ClientRequestTemplate.create("http://example.com:80/");
+        Assert.assertEquals(http.getPort(), 80);
+        Assert.assertEquals(http.getHostHeader(), "example.com");
+        Assert.assertEquals(http.resolveTarget("/a"), "//a");
+    }
+
+    @Test
+    public void testPathsNeedingFullParse() {
+        ClientRequestTemplate template = ClientRequestTemplate.create("http://localhost:9090");
+        Assert.assertNull(template.resolveTarget("hello"));
+        Assert.assertNull(template.resolveTarget("/hello world"));
+        Assert.assertNull(template.resolveTarget("/hello#fragment"));
+    }
+
+    @Test
+    public void testBaseUrlsNeedingFullParse() {
+        Assert.assertFalse(ClientRequestTemplate.create("").isPreParsed());
+        Assert.assertFalse(ClientRequestTemplate.create("http://localhost:9090/a b").isPreParsed());
+        Assert.assertFalse(ClientRequestTemplate.create("http://localhost:9090/a?b=c").isPreParsed());
+        Assert.assertFalse(ClientRequestTemplate.create("localhost:9090").isPreParsed());
+        Assert.assertNull(ClientRequestTemplate.create("").resolveTarget("/hello"));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.api.client.resiliency.CircuitBreakerEngine.State;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A unit test class for the rolling window and the state transitions of the CircuitBreakerEngine.
+ */
+public class CircuitBreakerEngineTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testCircuitTripsAndRecovers() {
+        // A 60s time window of 10s buckets, which trips on 4 requests with a failure ratio above 0.5
+        CircuitBreakerEngine engine = new CircuitBreakerEngine(6, 10 * SECOND, 4, 0.5, 5 * SECOND, clock::get);
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(engine.onRequest(), State.CLOSED);
+            if (i == 0) {
+                engine.onSuccess();
+            } else {
+                engine.onFailure();
+            }
+        }
+        Assert.assertEquals(engine.onRequest(), State.OPEN);
+        engine.onRejection();
+        Assert.assertEquals(engine.getResetTimeRemaining(), 5);
+        Assert.assertEquals(engine.getOpenTransitions(), 1);
+
+        clock.addAndGet(3 * SECOND);
+        Assert.assertEquals(engine.onRequest(), State.OPEN);
+        Assert.assertEquals(engine.getResetTimeRemaining(), 2);
+
+        clock.addAndGet(3 * SECOND);
+        Assert.assertEquals(engine.onRequest(), State.HALF_OPEN);
+        engine.onSuccess();
+        Assert.assertEquals(engine.onRequest(), State.CLOSED);
+        Assert.assertEquals(engine.getHalfOpenTransitions(), 1);
+        Assert.assertEquals(engine.getCloseTransitions(), 1);
+    }
+
+    @Test
+    public void testFailedTrialRequestOpensCircuit() {
+        CircuitBreakerEngine engine = new CircuitBreakerEngine(6, 10 * SECOND, 1, 0.0, SECOND, clock::get);
+
+        engine.onRequest();
+        engine.onFailure();
+        Assert.assertEquals(engine.onRequest(), State.OPEN);
+        clock.addAndGet(2 * SECOND);
+        Assert.assertEquals(engine.onRequest(), State.HALF_OPEN);
+        engine.onFailure();
+        Assert.assertEquals(engine.onRequest(), State.OPEN);
+        Assert.assertEquals(engine.getOpenTransitions(), 2);
+    }
+
+    @Test
+    public void testBucketsRotateOutOfTimeWindow() {
+        CircuitBreakerEngine engine = new CircuitBreakerEngine(3, 10 * SECOND, 2, 0.5, SECOND, clock::get);
+
+        engine.onRequest();
+        engine.onFailure();
+        engine.onRequest();
+        engine.onFailure();
+        // The failed requests leave the time window once three more buckets have passed
+        clock.addAndGet(35 * SECOND);
+        engine.onRequest();
+        engine.onSuccess();
+        Assert.assertEquals(engine.onRequest(), State.CLOSED);
+        engine.onSuccess();
+        Assert.assertEquals(engine.onRequest(), State.CLOSED);
+        Assert.assertEquals(engine.getOpenTransitions(), 0);
+    }
+
+    @Test
+    public void testForcedStates() {
+        CircuitBreakerEngine engine = new CircuitBreakerEngine(6, 10 * SECOND, 1, 0.0, 5 * SECOND, clock::get);
+
+        engine.onRequest();
+        engine.onFailure();
+        engine.forceClose();
+        Assert.assertEquals(engine.getState(), State.CLOSED);
+        // The failure was cleared along with the time window
+        Assert.assertEquals(engine.onRequest(), State.CLOSED);
+
+        clock.addAndGet(SECOND);
+        engine.forceOpen();
+        Assert.assertEquals(engine.getState(), State.OPEN);
+        Assert.assertEquals(engine.getResetTimeRemaining(), 5);
+        clock.addAndGet(6 * SECOND);
+        Assert.assertEquals(engine.onRequest(), State.HALF_OPEN);
+    }
+}
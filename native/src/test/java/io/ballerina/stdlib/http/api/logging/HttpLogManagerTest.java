@@ -24,6 +24,8 @@ import io.ballerina.stdlib.http.api.TestUtils;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpAccessLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpTraceLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.JsonLogFormatter;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogRecord;
+import io.ballerina.stdlib.http.transport.contractimpl.common.accesslog.AccessLogWriter;
 import org.junit.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -32,6 +34,8 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
@@ -237,7 +241,7 @@ public class HttpLogManagerTest {
     }
 
     @Test
-    public void testHttpLogManagerWithAccessLogFile() {
+    public void testHttpLogManagerWithAccessLogFile() throws IOException {
         BMap traceLogAdvancedConfig = mock(BMap.class);
         when(traceLogAdvancedConfig.getBooleanValue(HTTP_LOG_CONSOLE)).thenReturn(false);
         BString traceFilePath = mock(BString.class);
@@ -259,12 +263,18 @@ public class HttpLogManagerTest {
         HttpLogManager httpLogManager = new HttpLogManager(false, traceLogAdvancedConfig,
                 accessLogConfig, HTTP_LOGGING_PROTOCOL);
         Assert.assertEquals(httpLogManager.httpAccessLogger.getLevel(), Level.INFO);
-        Handler[] handlers = httpLogManager.httpAccessLogger.getHandlers();
-        Assert.assertTrue(handlers.length > 0);
-        Handler handler = handlers[handlers.length - 1];
-        Assert.assertTrue(handler instanceof FileHandler);
-        Assert.assertTrue(handler.getFormatter() instanceof HttpAccessLogFormatter);
-        Assert.assertEquals(Level.INFO, handler.getLevel());
+        AccessLogWriter accessLogWriter = httpLogManager.accessLogWriter;
+        Assert.assertSame(AccessLogWriter.getDefault(), accessLogWriter);
+        AccessLogRecord record = accessLogWriter.claim();
+        Assert.assertNotNull(record);
+        record.setRequest("127.0.0.1", System.currentTimeMillis(), "GET", "/hello", "HTTP/1.1", "-", "-")
+                .setResponse(200, 5);
+        accessLogWriter.publish();
+        // Closes the writer, which writes out the buffered entries
+        AccessLogWriter.setDefault(null);
+        Assert.assertEquals(1, accessLogWriter.getWrittenEntries());
+        String accessLog = new String(Files.readAllBytes(tempLogTestFile.toPath()), StandardCharsets.UTF_8);
+        Assert.assertTrue(accessLog.contains("\"GET /hello HTTP/1.1\" 200 5"));
     }
 
     @Test (expectedExceptions = RuntimeException.class,
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.certificatevalidation;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationFetcher;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationStatus;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.RevocationCache;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.AsyncOCSPVerifier;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests the asynchronous OCSP verification against a local OCSP responder.
+ */
+public class AsyncOCSPVerifierTest {
+
+    private StubOCSPResponder responder;
+    private X509Certificate caCert;
+    private X509Certificate peerCert;
+    private RevocationCache<String, OCSPResp> cache;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        responder = new StubOCSPResponder();
+        caCert = responder.getCACertificate();
+        peerCert = responder.generateCertificate(BigInteger.valueOf(111));
+    }
+
+    @AfterMethod
+    public void resetResponder() {
+        cache.close();
+        responder.reset();
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        responder.close();
+    }
+
+    @Test
+    public void testSharedCacheIsKeyedByConfiguration() {
+        Assert.assertSame(AsyncOCSPVerifier.getSharedCache(20, 5), AsyncOCSPVerifier.getSharedCache(20, 5));
+        Assert.assertNotSame(AsyncOCSPVerifier.getSharedCache(20, 5), AsyncOCSPVerifier.getSharedCache(30, 5));
+        Assert.assertNotSame(AsyncOCSPVerifier.getSharedCache(20, 5), AsyncOCSPVerifier.getSharedCache(20, 10));
+    }
+
+    @Test
+    public void testResponseIsCached() throws Exception {
+        cache = AsyncOCSPVerifier.newCache(10, TestConstants.NEXT_UPDATE_PERIOD, 0, 60000);
+        AsyncOCSPVerifier verifier = new AsyncOCSPVerifier(cache, RevocationFetcher.getInstance(), 0);
+
+        Assert.assertEquals(verifier.checkRevocationStatus(peerCert, caCert).get(10, TimeUnit.SECONDS),
+                            RevocationStatus.GOOD);
+        CompletableFuture<RevocationStatus> cached = verifier.checkRevocationStatus(peerCert, caCert);
+        Assert.assertTrue(cached.isDone());
+        Assert.assertEquals(cached.get(), RevocationStatus.GOOD);
+        Assert.assertEquals(responder.getRequestCount(), 1);
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getHits(), 1);
+    }
+
+    @Test
+    public void testResponseIsRefreshedBeforeNextUpdate() throws Exception {
+        responder.setNextUpdatePeriod(2000);
+        cache = AsyncOCSPVerifier.newCache(10, TestConstants.NEXT_UPDATE_PERIOD, 60000, 100);
+        AsyncOCSPVerifier verifier = new AsyncOCSPVerifier(cache, RevocationFetcher.getInstance(), 0);
+
+        Assert.assertEquals(verifier.checkRevocationStatus(peerCert, caCert).get(10, TimeUnit.SECONDS),
+                            RevocationStatus.GOOD);
+        // Refreshed halfway through the lifetime of the response without a lookup asking for it
+        waitFor(() -> responder.getRequestCount() >= 2);
+        Assert.assertEquals(cache.getRefreshes(), 1);
+        Assert.assertTrue(verifier.checkRevocationStatus(peerCert, caCert).isDone());
+        Assert.assertEquals(cache.getMisses(), 1);
+    }
+
+    @Test
+    public void testStaleResponseIsServedWhenRefreshFails() throws Exception {
+        responder.setNextUpdatePeriod(2000);
+        cache = AsyncOCSPVerifier.newCache(10, TestConstants.NEXT_UPDATE_PERIOD, 0, 100);
+        AsyncOCSPVerifier staleIfErrorVerifier = new AsyncOCSPVerifier(cache, RevocationFetcher.getInstance(),
+                                                                       60000);
+        AsyncOCSPVerifier strictVerifier = new AsyncOCSPVerifier(cache, RevocationFetcher.getInstance(), 0);
+
+        Assert.assertEquals(staleIfErrorVerifier.checkRevocationStatus(peerCert, caCert).get(10, TimeUnit.SECONDS),
+                            RevocationStatus.GOOD);
+        responder.setFailing(true);
+        // Past the next update time, the refresh triggered by the cache fails
+        waitFor(() -> cache.getRefreshFailures() >= 1);
+
+        CompletableFuture<RevocationStatus> stale = staleIfErrorVerifier.checkRevocationStatus(peerCert, caCert);
+        Assert.assertTrue(stale.isDone());
+        Assert.assertEquals(stale.get(), RevocationStatus.GOOD);
+        Assert.assertTrue(cache.getStaleHits() >= 1);
+        try {
+            strictVerifier.checkRevocationStatus(peerCert, caCert).get(10, TimeUnit.SECONDS);
+            Assert.fail("The outdated response should not be served without stale-if-error");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Could not get revocation status from OCSP"));
+        }
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the cache");
+            Thread.sleep(50);
+        }
+    }
+}
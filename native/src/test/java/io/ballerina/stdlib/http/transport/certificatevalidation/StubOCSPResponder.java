@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.certificatevalidation;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.crypto.util.PrivateKeyFactory;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.DefaultDigestAlgorithmIdentifierFinder;
+import org.bouncycastle.operator.DefaultSignatureAlgorithmIdentifierFinder;
+import org.bouncycastle.operator.bc.BcRSAContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants.BOUNCY_CASTLE_PROVIDER;
+
+/**
+ * A local OCSP responder of a fake CA. It answers every OCSP request with a good status, or with an internal server
+ * error when it is made to fail.
+ */
+public class StubOCSPResponder implements AutoCloseable {
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile boolean failing;
+    private volatile long nextUpdatePeriod = TestConstants.NEXT_UPDATE_PERIOD;
+    private final EventLoopGroup group;
+    private final Channel channel;
+    private final KeyPair caKeyPair;
+    private final X509Certificate caCert;
+
+    public StubOCSPResponder() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        Utils utils = new Utils();
+        caKeyPair = utils.generateRSAKeyPair();
+        caCert = utils.generateFakeRootCert(caKeyPair);
+        group = new NioEventLoopGroup(1);
+        channel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(8192),
+                                                   new ResponderHandler());
+                    }
+                }).bind("localhost", 0).sync().channel();
+    }
+
+    public X509Certificate getCACertificate() {
+        return caCert;
+    }
+
+    /**
+     * Generates a certificate issued by the fake CA, which points to this responder for its OCSP status.
+     *
+     * @param serialNumber serial number of the certificate
+     * @return the certificate
+     * @throws Exception if the certificate cannot be generated
+     */
+    public X509Certificate generateCertificate(BigInteger serialNumber) throws Exception {
+        String ocspUrl = "http://localhost:" + ((InetSocketAddress) channel.localAddress()).getPort() + "/ocsp";
+        KeyPair keyPair = new Utils().generateRSAKeyPair();
+        Date validityStartDate = new Date(System.currentTimeMillis());
+        Date validityEndDate = new Date(System.currentTimeMillis() + TestConstants.VALIDITY_PERIOD);
+        X509v3CertificateBuilder builder = new X509v3CertificateBuilder(
+                new X500Name(caCert.getSubjectX500Principal().getName()), serialNumber, validityStartDate,
+                validityEndDate, new X500Name("CN=Test End Certificate"),
+                SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()));
+        builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+                new AccessDescription(AccessDescription.id_ad_ocsp,
+                                      new GeneralName(GeneralName.uniformResourceIdentifier, ocspUrl))));
+        AlgorithmIdentifier sigAlgId = new DefaultSignatureAlgorithmIdentifierFinder().find("SHA1WithRSAEncryption");
+        AlgorithmIdentifier digAlgId = new DefaultDigestAlgorithmIdentifierFinder().find(sigAlgId);
+        ContentSigner contentSigner = new BcRSAContentSignerBuilder(sigAlgId, digAlgId)
+                .build(PrivateKeyFactory.createKey(caKeyPair.getPrivate().getEncoded()));
+        return new JcaX509CertificateConverter().getCertificate(builder.build(contentSigner));
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    /**
+     * @param nextUpdatePeriod time in milliseconds from now to the next update of the responses. OCSP times have a
+     *                         precision of a second.
+     */
+    public void setNextUpdatePeriod(long nextUpdatePeriod) {
+        this.nextUpdatePeriod = nextUpdatePeriod;
+    }
+
+    public void reset() {
+        requestCount.set(0);
+        failing = false;
+        nextUpdatePeriod = TestConstants.NEXT_UPDATE_PERIOD;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        channel.close().sync();
+        group.shutdownGracefully().sync();
+    }
+
+    private byte[] generateOCSPResponse(OCSPReq request) throws Exception {
+        X509CertificateHolder caCertHolder = new X509CertificateHolder(caCert.getEncoded());
+        BasicOCSPRespBuilder basicOCSPRespBuilder = new BasicOCSPRespBuilder(new RespID(caCertHolder.getSubject()));
+        for (Req req : request.getRequestList()) {
+            Date thisUpdate = new Date();
+            Date nextUpdate = new Date(thisUpdate.getTime() + nextUpdatePeriod);
+            basicOCSPRespBuilder.addResponse(req.getCertID(), CertificateStatus.GOOD, thisUpdate, nextUpdate);
+        }
+        ContentSigner signer = new JcaContentSignerBuilder("SHA1withRSA").setProvider(BOUNCY_CASTLE_PROVIDER)
+                .build(caKeyPair.getPrivate());
+        return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicOCSPRespBuilder.build(
+                signer, new X509CertificateHolder[] { caCertHolder }, new Date())).getEncoded();
+    }
+
+    /**
+     * Answers the OCSP requests.
+     */
+    private class ResponderHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) throws Exception {
+            requestCount.incrementAndGet();
+            FullHttpResponse response;
+            if (failing) {
+                response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                       HttpResponseStatus.INTERNAL_SERVER_ERROR);
+            } else {
+                byte[] body = generateOCSPResponse(new OCSPReq(ByteBufUtil.getBytes(request.content())));
+                response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                       Unpooled.wrappedBuffer(body));
+                response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/ocsp-response");
+            }
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+
+/**
+ * A unit test class for the NativeTransport selection.
+ */
+public class NativeTransportTest {
+
+    @Test
+    public void testResolve() {
+        Assert.assertEquals(NativeTransport.resolve(null), NativeTransport.NIO);
+        Assert.assertEquals(NativeTransport.resolve(TransportType.NIO), NativeTransport.NIO);
+
+        NativeTransport epollOrNio = Epoll.isAvailable() ? NativeTransport.EPOLL : NativeTransport.NIO;
+        Assert.assertEquals(NativeTransport.resolve(TransportType.AUTO), epollOrNio);
+        Assert.assertEquals(NativeTransport.resolve(TransportType.EPOLL), epollOrNio);
+        if (!NativeTransport.IO_URING.isAvailable()) {
+            Assert.assertEquals(NativeTransport.resolve(TransportType.IO_URING), epollOrNio);
+        }
+    }
+
+    @Test
+    public void testTransportOfEventLoopGroup() {
+        EventLoopGroup nioGroup = new NioEventLoopGroup(1);
+        try {
+            Assert.assertEquals(NativeTransport.of(nioGroup), NativeTransport.NIO);
+            Assert.assertEquals(NativeTransport.of(nioGroup.next()), NativeTransport.NIO);
+            Assert.assertEquals(NativeTransport.of(nioGroup).getSocketChannelClass(), NioSocketChannel.class);
+        } finally {
+            nioGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testConnectionOverResolvedTransport() throws InterruptedException {
+        NativeTransport transport = NativeTransport.resolve(TransportType.AUTO);
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+        try {
+            Assert.assertEquals(NativeTransport.of(group), transport);
+            Channel serverChannel = new ServerBootstrap().group(group)
+                    .channel(NativeTransport.of(group).getServerSocketChannelClass())
+                    .childHandler(new ChannelInboundHandlerAdapter())
+                    .bind(new InetSocketAddress("localhost", 0)).sync().channel();
+            Channel clientChannel = new Bootstrap().group(group.next())
+                    .channel(NativeTransport.of(group.next()).getSocketChannelClass())
+                    .handler(new ChannelInboundHandlerAdapter())
+                    .connect(serverChannel.localAddress()).sync().channel();
+            Assert.assertTrue(clientChannel.isActive());
+            clientChannel.close().sync();
+            serverChannel.close().sync();
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for OutboundContentWriteExecutor.
+ */
+public class OutboundContentWriteExecutorTest {
+
+    private EventLoopGroup eventLoopGroup;
+
+    @BeforeClass
+    public void setUp() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @Test
+    public void testWriteRunsInlineOnEventLoop() throws Exception {
+        EventLoop eventLoop = eventLoopGroup.next();
+        OutboundContentWriteExecutor writeExecutor = new OutboundContentWriteExecutor(eventLoop);
+        List<String> writes = new CopyOnWriteArrayList<>();
+
+        eventLoop.submit(() -> {
+            writeExecutor.execute(() -> writes.add("inline"));
+            writes.add("after");
+        }).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(writes, List.of("inline", "after"));
+    }
+
+    @Test
+    public void testInlineWriteDoesNotOvertakeQueuedWrite() throws Exception {
+        EventLoop eventLoop = eventLoopGroup.next();
+        OutboundContentWriteExecutor writeExecutor = new OutboundContentWriteExecutor(eventLoop);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        CountDownLatch firstWriteQueued = new CountDownLatch(1);
+
+        eventLoop.execute(() -> {
+            try {
+                firstWriteQueued.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writeExecutor.execute(() -> writes.add("second"));
+        });
+        writeExecutor.execute(() -> writes.add("first"));
+        firstWriteQueued.countDown();
+
+        eventLoop.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(writes, List.of("first", "second"));
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoopGroup.shutdownGracefully();
+    }
+}
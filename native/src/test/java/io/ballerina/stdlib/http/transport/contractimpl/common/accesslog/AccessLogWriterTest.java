@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.accesslog;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the asynchronous access log writer.
+ */
+public class AccessLogWriterTest {
+
+    private static final long REQUEST_TIME = 1640995200000L;
+
+    @Test
+    public void testEntryIsFormatted() {
+        StringBuilder line = new StringBuilder();
+        AccessLogRecord record = new AccessLogRecord();
+        record.setRequest("10.0.0.1", REQUEST_TIME, "POST", "/orders?id=1", "HTTP/2.0", "-", "curl/7.79.1")
+                .setResponse(201, 12);
+        new AccessLogFormatter(ZoneOffset.UTC).format(record, line);
+        Assert.assertEquals(line.toString(), "10.0.0.1 - - [01/Jan/2022:00:00:00 +0000] \"POST /orders?id=1 "
+                + "HTTP/2.0\" 201 12 \"-\" \"curl/7.79.1\"");
+    }
+
+    @Test
+    public void testEntriesAreWrittenOnClose() {
+        CapturingSink sink = new CapturingSink(null);
+        AccessLogWriter writer = new AccessLogWriter(Collections.singletonList(sink), 16,
+                                                     AccessLogOverflowPolicy.DROP);
+        for (int i = 0; i < 10; i++) {
+            record(writer, "/" + i);
+        }
+        writer.close();
+
+        Assert.assertEquals(sink.lines.size(), 10);
+        Assert.assertTrue(sink.lines.get(9).contains("\"GET /9 HTTP/1.1\" 200 2"));
+        Assert.assertEquals(writer.getRecordedEntries(), 10);
+        Assert.assertEquals(writer.getWrittenEntries(), 10);
+        Assert.assertEquals(writer.getDroppedEntries(), 0);
+        Assert.assertNull(writer.claim());
+    }
+
+    @Test
+    public void testEntriesAreDroppedWhenBufferIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingSink sink = new CapturingSink(release);
+        AccessLogWriter writer = new AccessLogWriter(Collections.singletonList(sink), 4,
+                                                     AccessLogOverflowPolicy.DROP);
+        // The writer blocks on the first entry, which holds its slot until the batch is done
+        record(writer, "/first");
+        Assert.assertTrue(sink.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            record(writer, "/" + i);
+        }
+        release.countDown();
+        writer.close();
+
+        Assert.assertEquals(writer.getRecordedEntries(), 4);
+        Assert.assertEquals(writer.getDroppedEntries(), 7);
+        Assert.assertEquals(writer.getWrittenEntries(), 4);
+        Assert.assertEquals(sink.lines.size(), 4);
+    }
+
+    @Test
+    public void testIdleWriterIsWokenUpByNewEntry() throws InterruptedException {
+        CapturingSink sink = new CapturingSink(null);
+        AccessLogWriter writer = new AccessLogWriter(Collections.singletonList(sink), 16,
+                                                     AccessLogOverflowPolicy.DROP);
+        // Lets the writer go to sleep before the entry is recorded
+        Thread.sleep(100);
+        record(writer, "/idle");
+        Assert.assertTrue(awaitWrittenEntries(writer, 1, 500), "Writer was not woken up by the new entry");
+        writer.close();
+    }
+
+    @Test
+    public void testBufferOfTerminatedThreadIsRemoved() throws InterruptedException {
+        CapturingSink sink = new CapturingSink(null);
+        AccessLogWriter writer = new AccessLogWriter(Collections.singletonList(sink), 16,
+                                                     AccessLogOverflowPolicy.DROP);
+        Thread recorder = new Thread(() -> record(writer, "/short-lived"));
+        recorder.start();
+        recorder.join();
+        Assert.assertTrue(awaitWrittenEntries(writer, 1, 5000));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.getRingBufferCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(writer.getRingBufferCount(), 0);
+        writer.close();
+        Assert.assertEquals(sink.lines.size(), 1);
+    }
+
+    private static boolean awaitWrittenEntries(AccessLogWriter writer, long entries, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (writer.getWrittenEntries() < entries && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return writer.getWrittenEntries() >= entries;
+    }
+
+    private static void record(AccessLogWriter writer, String uri) {
+        AccessLogRecord record = writer.claim();
+        if (record != null) {
+            record.setRequest("127.0.0.1", REQUEST_TIME, "GET", uri, "HTTP/1.1", "-", "-").setResponse(200, 2);
+            writer.publish();
+        }
+    }
+
+    private static class CapturingSink implements AccessLogSink {
+
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        CapturingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void append(CharSequence line) throws IOException {
+            lines.add(line.toString());
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.CharsetUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the revocation information fetched over HTTPS by the RevocationFetcher.
+ */
+public class RevocationFetcherTest {
+
+    private static final String CRL = "crl";
+
+    private SelfSignedCertificate certificate;
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private String crlUrl;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        certificate = new SelfSignedCertificate("localhost");
+        SslContext serverSslContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                .build();
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(serverSslContext.newHandler(channel.alloc()),
+                                                   new HttpServerCodec(),
+                                                   new HttpObjectAggregator(1024),
+                                                   new CrlHandler());
+                    }
+                }).bind("localhost", 0).sync().channel();
+        int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        crlUrl = "https://localhost:" + port + "/ca.crl";
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully().sync();
+        certificate.delete();
+    }
+
+    @Test
+    public void testCrlIsFetchedOverHttps() throws Exception {
+        RevocationFetcher fetcher = new RevocationFetcher(
+                SslContextBuilder.forClient().trustManager(certificate.cert()).build());
+        try {
+            byte[] crl = fetcher.getCRL(crlUrl).get(10, TimeUnit.SECONDS);
+            Assert.assertEquals(new String(crl, CharsetUtil.UTF_8), CRL);
+        } finally {
+            fetcher.close();
+        }
+    }
+
+    @Test
+    public void testUntrustedServerIsRejected() throws Exception {
+        RevocationFetcher fetcher = new RevocationFetcher(null);
+        try {
+            fetcher.getCRL(crlUrl).get(10, TimeUnit.SECONDS);
+            Assert.fail("A server with an untrusted certificate should not be accepted");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof CertificateVerificationException);
+        } finally {
+            fetcher.close();
+        }
+    }
+
+    /**
+     * Responds to every request with the CRL.
+     */
+    private static class CrlHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                    Unpooled.copiedBuffer(CRL, CharsetUtil.UTF_8));
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A unit test class for the CompressionPolicy.
+ */
+public class CompressionPolicyTest {
+
+    @Test
+    public void testDefaultPolicyPrefersGzip() {
+        CompressionPolicy policy = new CompressionPolicy(new CompressionConfig());
+
+        Assert.assertEquals(policy.selectEncoding("deflate, gzip"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("gzip;q=0.5, deflate"), "deflate");
+        Assert.assertEquals(policy.selectEncoding("br"), null);
+        Assert.assertEquals(policy.selectEncoding("identity"), null);
+        Assert.assertEquals(policy.selectEncoding("x-gzip, xdeflate"), null);
+        Assert.assertEquals(policy.selectEncoding("gzip;q=0"), null);
+        Assert.assertEquals(policy.selectEncoding("gzip;level=1;q=0, deflate;q=0.1"), "deflate");
+        Assert.assertEquals(policy.selectEncoding("deflate;q=0.5, GZIP ; Q=0.8"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("gzip;q=invalid, deflate;q=0.1"), "deflate");
+        Assert.assertEquals(policy.getCompressionOptions().length, 2);
+    }
+
+    @Test
+    public void testConfiguredOrderBreaksTies() {
+        CompressionConfig config = new CompressionConfig();
+        config.setEncodings(Arrays.asList("deflate", "gzip", "unknown"));
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        Assert.assertEquals(policy.selectEncoding("gzip, deflate"), "deflate");
+        Assert.assertEquals(policy.selectEncoding("gzip;q=1.0, deflate;q=0.8"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("*"), "deflate");
+        Assert.assertEquals(policy.selectEncoding("deflate;q=0, *"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("gzip;q=0, deflate;q=0"), null);
+    }
+
+    @Test
+    public void testMinimumResponseSize() {
+        CompressionConfig config = new CompressionConfig();
+        config.setMinResponseSize(1024);
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        Assert.assertFalse(policy.isCompressible(1023, "text/plain"));
+        Assert.assertTrue(policy.isCompressible(1024, "text/plain"));
+        Assert.assertTrue(policy.isCompressible(-1, "text/plain"));
+    }
+
+    @Test
+    public void testContentTypeAllowList() {
+        CompressionConfig config = new CompressionConfig();
+        config.setContentTypes(Collections.singletonList("application/json"));
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        Assert.assertTrue(policy.isCompressible(2048, "Application/JSON; charset=utf-8"));
+        Assert.assertFalse(policy.isCompressible(2048, "image/png"));
+        Assert.assertFalse(policy.isCompressible(2048, null));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionLevel;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A unit test class for the encoders and decoders of the ContentCodings.
+ */
+public class ContentCodingTest {
+
+    private static final String CHUNK = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+
+    @DataProvider(name = "codings")
+    public Object[][] codings() {
+        ContentCoding[] codings = ContentCoding.values();
+        Object[][] data = new Object[codings.length][];
+        for (int i = 0; i < codings.length; i++) {
+            data[i] = new Object[]{codings[i]};
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "codings")
+    public void testBodyOfSeveralBuffersIsOneStream(ContentCoding coding) throws IOException {
+        if (!coding.isAvailable()) {
+            throw new SkipException("Native library of " + coding.getEncoding() + " is not available");
+        }
+        EmbeddedChannel encoder = new EmbeddedChannel(coding.newEncoder(CompressionLevel.DEFAULT));
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            String chunk = i + CHUNK;
+            body.append(chunk);
+            encoder.writeOutbound(Unpooled.copiedBuffer(chunk, CharsetUtil.UTF_8));
+        }
+        encoder.finish();
+
+        CompositeByteBuf encoded = Unpooled.compositeBuffer();
+        ByteBuf buffer;
+        while ((buffer = encoder.readOutbound()) != null) {
+            encoded.addComponent(true, buffer);
+        }
+        try (InputStream decoded = coding.newDecodingStream(new ByteBufInputStream(encoded, true))) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] bytes = new byte[1024];
+            int read;
+            while ((read = decoded.read(bytes)) != -1) {
+                content.write(bytes, 0, read);
+            }
+            Assert.assertEquals(content.toString("UTF-8"), body.toString());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.CompressionConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.CustomHttpContentCompressor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * A unit test class for the compression of listener responses through the PrecompressedContentCache.
+ */
+public class PrecompressedContentCacheTest {
+
+    private static final String BODY = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. "
+            + "Lorem ipsum dolor sit.";
+
+    private String contentEncoding;
+
+    @Test
+    public void testCompressedBodyIsReused() throws IOException {
+        PrecompressedContentCache cache = new PrecompressedContentCache(4, 1024);
+        CompressionPolicy policy = new CompressionPolicy(new CompressionConfig());
+
+        Assert.assertEquals(respond(policy, cache, "gzip", BODY, "\"v1\""), BODY);
+        Assert.assertEquals(contentEncoding, "gzip");
+        Assert.assertEquals(cache.size(), 1);
+        // The body of a response with the same ETag is not compressed again
+        String otherBody = BODY.toUpperCase();
+        Assert.assertEquals(respond(policy, cache, "gzip", otherBody, "\"v1\""), BODY);
+        Assert.assertEquals(respond(policy, cache, "gzip", otherBody, "W/\"v1\""), otherBody);
+        Assert.assertEquals(respond(policy, cache, "deflate", otherBody, "\"v1\""), otherBody);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testResourcesSharingAnETagAreCachedApart() throws IOException {
+        PrecompressedContentCache cache = new PrecompressedContentCache(4, 1024);
+        CompressionPolicy policy = new CompressionPolicy(new CompressionConfig());
+        String otherBody = BODY.toUpperCase();
+
+        Assert.assertEquals(respond(policy, cache, "gzip", "/first", BODY, "\"1\""), BODY);
+        Assert.assertEquals(respond(policy, cache, "gzip", "/second", otherBody, "\"1\""), otherBody);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(respond(policy, cache, "gzip", "/second", otherBody, "\"1\""), otherBody);
+        Assert.assertEquals(respond(policy, cache, "gzip", "/first", otherBody, "\"1\""), BODY);
+    }
+
+    @Test
+    public void testCacheIsBounded() throws IOException {
+        PrecompressedContentCache cache = new PrecompressedContentCache(1, 1024);
+        CompressionPolicy policy = new CompressionPolicy(new CompressionConfig());
+
+        respond(policy, cache, "gzip", BODY, "\"v1\"");
+        respond(policy, cache, "gzip", BODY, "\"v2\"");
+        Assert.assertEquals(cache.size(), 1);
+
+        PrecompressedContentCache smallCache = new PrecompressedContentCache(4, BODY.length() - 1);
+        respond(policy, smallCache, "gzip", BODY, "\"v1\"");
+        Assert.assertEquals(smallCache.size(), 0);
+    }
+
+    @Test
+    public void testSmallResponseIsNotCompressed() throws IOException {
+        CompressionConfig config = new CompressionConfig();
+        config.setMinResponseSize(BODY.length() + 1);
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        Assert.assertEquals(respond(policy, null, "gzip", BODY, null), BODY);
+        Assert.assertNull(contentEncoding);
+    }
+
+    @Test
+    public void testZstdIsNegotiated() throws IOException {
+        CompressionConfig config = new CompressionConfig();
+        config.setEncodings(Arrays.asList("zstd", "gzip"));
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        Assert.assertEquals(respond(policy, null, "gzip, zstd", BODY, null), BODY);
+        Assert.assertEquals(contentEncoding, "zstd");
+    }
+
+    private String respond(CompressionPolicy policy, PrecompressedContentCache cache, String acceptEncoding,
+                                  String body, String etag) throws IOException {
+        return respond(policy, cache, acceptEncoding, "/", body, etag);
+    }
+
+    private String respond(CompressionPolicy policy, PrecompressedContentCache cache, String acceptEncoding,
+                           String uri, String body, String etag) throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy, cache));
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        request.headers().set(HttpHeaderNames.HOST, "localhost");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        channel.writeInbound(request);
+        ((FullHttpRequest) channel.readInbound()).release();
+
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                Unpooled.copiedBuffer(body, CharsetUtil.UTF_8));
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+        if (etag != null) {
+            response.headers().set(HttpHeaderNames.ETAG, etag);
+        }
+        channel.writeOutbound(response);
+
+        contentEncoding = null;
+        ByteBuf received = Unpooled.buffer();
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            if (msg instanceof HttpResponse) {
+                contentEncoding = ((HttpResponse) msg).headers().get(HttpHeaderNames.CONTENT_ENCODING);
+            }
+            if (msg instanceof HttpContent) {
+                received.writeBytes(((HttpContent) msg).content());
+            }
+            ReferenceCountUtil.release(msg);
+        }
+        channel.finishAndReleaseAll();
+
+        InputStream inputStream = new ByteBufInputStream(received, true);
+        if (contentEncoding != null) {
+            inputStream = ContentCoding.of(contentEncoding).newDecodingStream(inputStream);
+        }
+        try (InputStream decoded = inputStream) {
+            return new String(decoded.readAllBytes(), CharsetUtil.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.timeout;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the idle timeout wheel and handler.
+ */
+public class IdleTimeoutWheelTest {
+
+    private EventLoopGroup eventLoopGroup;
+
+    @BeforeClass
+    public void setUp() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @Test
+    public void testTimeoutExpiresRepeatedlyUntilCancelled() throws Exception {
+        List<Boolean> expiries = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        long start = System.nanoTime();
+        IdleTimeoutWheel.schedule(eventLoopGroup.next(), TimeUnit.MILLISECONDS.toNanos(50), (timeout, first) -> {
+            expiries.add(first);
+            if (expiries.size() == 2) {
+                timeout.cancel();
+            }
+            latch.countDown();
+        });
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        Thread.sleep(200);
+        Assert.assertEquals(expiries.size(), 2);
+        Assert.assertTrue(expiries.get(0));
+        Assert.assertFalse(expiries.get(1));
+    }
+
+    @Test
+    public void testActivityPostponesTimeout() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        IdleTimeout idleTimeout = IdleTimeoutWheel.schedule(eventLoopGroup.next(),
+                                                            TimeUnit.MILLISECONDS.toNanos(200),
+                                                            (timeout, first) -> latch.countDown());
+        for (int i = 0; i < 8; i++) {
+            Thread.sleep(50);
+            idleTimeout.touch();
+        }
+        Assert.assertEquals(latch.getCount(), 1);
+        long lastActivity = System.nanoTime();
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - lastActivity >= TimeUnit.MILLISECONDS.toNanos(150));
+        idleTimeout.cancel();
+    }
+
+    @Test
+    public void testCancelledTimeoutsAreDropped() throws Exception {
+        EventLoopGroup dedicatedGroup = new NioEventLoopGroup(1);
+        try {
+            EventLoop eventLoop = dedicatedGroup.next();
+            IdleTimeoutWheel wheel = IdleTimeoutWheel.forExecutor(eventLoop);
+            CountDownLatch latch = new CountDownLatch(1);
+            IdleTimeout idleTimeout = IdleTimeoutWheel.schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(50),
+                                                                (timeout, first) -> latch.countDown());
+            idleTimeout.cancel();
+            Assert.assertFalse(latch.await(200, TimeUnit.MILLISECONDS));
+            int size = eventLoop.submit(wheel::size).get();
+            Assert.assertEquals(size, 0);
+        } finally {
+            dedicatedGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testHandlerFiresIdleStateEvents() throws Exception {
+        List<Object> events = new CopyOnWriteArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel(new IdleTimeoutHandler(0, 0, 50, TimeUnit.MILLISECONDS),
+                                                      new ChannelInboundHandlerAdapter() {
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+            }
+        });
+
+        Thread.sleep(30);
+        channel.writeInbound("ping");
+        channel.runScheduledPendingTasks();
+        Assert.assertTrue(events.isEmpty());
+
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertSame(events.get(0), IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+
+        channel.pipeline().remove(IdleTimeoutHandler.class);
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+        Assert.assertEquals(events.size(), 1);
+        channel.finishAndReleaseAll();
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoopGroup.shutdownGracefully();
+    }
+}
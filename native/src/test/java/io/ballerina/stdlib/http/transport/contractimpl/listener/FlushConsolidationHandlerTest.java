@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.FlushConsolidationConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the FlushConsolidationHandler.
+ */
+public class FlushConsolidationHandlerTest {
+
+    private FlushConsolidationMetrics metrics;
+
+    @BeforeMethod
+    public void setUp() {
+        metrics = new FlushConsolidationMetrics();
+    }
+
+    // EmbeddedChannel runs the pending tasks on every write, hence the writes precede the flushes in these tests
+    @Test
+    public void testFlushesAreCoalescedWithinEventLoopIteration() {
+        EmbeddedChannel channel = createChannel(256, 65536);
+        channel.write(buffer(8));
+        channel.write(buffer(8));
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+        Assert.assertTrue(channel.outboundMessages().isEmpty());
+
+        channel.runPendingTasks();
+        assertOutboundMessages(channel, 2);
+        Assert.assertEquals(metrics.getRequestedFlushes(), 2);
+        Assert.assertEquals(metrics.getSocketFlushes(), 1);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushesDuringReadArePassedOnAtReadComplete() {
+        EmbeddedChannel channel = createChannel(256, 65536);
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                ctx.writeAndFlush(msg);
+            }
+        });
+        channel.pipeline().fireChannelRead(buffer(8));
+        channel.pipeline().fireChannelRead(buffer(8));
+        channel.runPendingTasks();
+        Assert.assertTrue(channel.outboundMessages().isEmpty());
+
+        channel.pipeline().fireChannelReadComplete();
+        assertOutboundMessages(channel, 2);
+        Assert.assertEquals(metrics.getSocketFlushes(), 1);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushCountLimit() {
+        EmbeddedChannel channel = createChannel(2, 65536);
+        channel.write(buffer(8));
+        channel.write(buffer(8));
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+
+        assertOutboundMessages(channel, 2);
+        channel.runPendingTasks();
+        Assert.assertEquals(metrics.getSocketFlushes(), 1);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testPendingBytesLimit() {
+        EmbeddedChannel channel = createChannel(256, 16);
+        channel.write(buffer(8));
+        channel.pipeline().flush();
+        Assert.assertTrue(channel.outboundMessages().isEmpty());
+        channel.runPendingTasks();
+        assertOutboundMessages(channel, 1);
+
+        channel.write(buffer(16));
+        channel.pipeline().flush();
+        assertOutboundMessages(channel, 2);
+        Assert.assertEquals(metrics.getSocketFlushes(), 2);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushesPerResponse() {
+        EmbeddedChannel channel = createChannel(256, 65536);
+        for (int i = 0; i < 4; i++) {
+            channel.write(buffer(8));
+        }
+        for (int i = 0; i < 4; i++) {
+            channel.pipeline().flush();
+            metrics.incrementResponses();
+        }
+        channel.runPendingTasks();
+        Assert.assertEquals(metrics.getResponses(), 4);
+        Assert.assertEquals(metrics.getFlushesPerResponse(), 0.25);
+        channel.finishAndReleaseAll();
+    }
+
+    private EmbeddedChannel createChannel(int maxPendingFlushes, long maxPendingBytes) {
+        FlushConsolidationConfig config = new FlushConsolidationConfig();
+        config.setMaxPendingFlushes(maxPendingFlushes);
+        config.setMaxPendingBytes(maxPendingBytes);
+        return new EmbeddedChannel(new FlushConsolidationHandler(config, metrics));
+    }
+
+    private static ByteBuf buffer(int size) {
+        return Unpooled.wrappedBuffer(new byte[size]);
+    }
+
+    private static void assertOutboundMessages(EmbeddedChannel channel, int count) {
+        Assert.assertEquals(channel.outboundMessages().size(), count);
+    }
+}
@@ -18,14 +18,25 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contract.config.TraceLogConfig;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.logging.LogLevel;
+import io.netty.util.CharsetUtil;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
 import java.net.SocketAddress;
@@ -212,4 +223,98 @@ public class HttpTraceLoggingHandlerTest {
         Assert.assertEquals(returnVal, expected);
     }
 
+    @Test
+    public void testRequestSampling() {
+        TraceLogConfig config = new TraceLogConfig();
+        config.setSampleRate(0);
+        config.setSamplingHeader("x-trace");
+        HttpTraceLoggingHandler.setTraceLogConfig(config);
+        HttpTraceLoggingHandler httpTraceLoggingHandler = new HttpTraceLoggingHandler(LogLevel.INFO);
+
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        Assert.assertFalse(httpTraceLoggingHandler.isSampled(request));
+        request.headers().set("x-trace", "true");
+        Assert.assertTrue(httpTraceLoggingHandler.isSampled(request));
+
+        config.setSampleRate(1);
+        Assert.assertTrue(httpTraceLoggingHandler.isSampled(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/")));
+    }
+
+    @Test
+    public void testPipelinedResponsesFollowTheirRequests() {
+        TraceLogConfig config = new TraceLogConfig();
+        config.setSampleRate(0);
+        config.setSamplingHeader("x-trace");
+        HttpTraceLoggingHandler.setTraceLogConfig(config);
+        HttpTraceLoggingHandler httpTraceLoggingHandler = new HttpTraceLoggingHandler(LogLevel.INFO);
+
+        HttpRequest tracedRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/traced");
+        tracedRequest.headers().set("x-trace", "true");
+        Assert.assertTrue(httpTraceLoggingHandler.sample(tracedRequest, false));
+        Assert.assertFalse(httpTraceLoggingHandler.sample(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/other"), true));
+
+        Assert.assertTrue(httpTraceLoggingHandler.sample(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE), false));
+        Assert.assertTrue(httpTraceLoggingHandler.sample(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), false));
+        Assert.assertTrue(httpTraceLoggingHandler.sample(new DefaultHttpContent(Unpooled.EMPTY_BUFFER), true));
+        Assert.assertFalse(httpTraceLoggingHandler.sample(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK), true));
+    }
+
+    @Test
+    public void testOnlyLimitedTraceLogsAreWrittenAsynchronously() {
+        TraceLogConfig config = new TraceLogConfig();
+        Assert.assertFalse(config.isLimited());
+        config.setSamplingHeader("x-trace");
+        Assert.assertFalse(config.isLimited());
+        config.setMaxPayloadSize(1024);
+        Assert.assertTrue(config.isLimited());
+    }
+
+    @Test
+    public void testPayloadIsTruncated() {
+        TraceLogConfig config = new TraceLogConfig();
+        config.setMaxPayloadSize(5);
+        HttpTraceLoggingHandler.setTraceLogConfig(config);
+        HttpTraceLoggingHandler httpTraceLoggingHandler = new HttpTraceLoggingHandler(LogLevel.INFO);
+
+        ByteBuf content = Unpooled.copiedBuffer("Hello World", CharsetUtil.UTF_8);
+        String returnVal = httpTraceLoggingHandler.format(mockContext(), "INBOUND", content);
+        Assert.assertTrue(returnVal.endsWith("INBOUND: 11B\nHello\n<< 6B truncated >>"
+                                                     .replace("\n", System.lineSeparator())), returnVal);
+        content.release();
+    }
+
+    @Test
+    public void testHeadersOnly() {
+        TraceLogConfig config = new TraceLogConfig();
+        config.setHeadersOnly(true);
+        HttpTraceLoggingHandler.setTraceLogConfig(config);
+        HttpTraceLoggingHandler httpTraceLoggingHandler = new HttpTraceLoggingHandler(LogLevel.INFO);
+
+        DefaultHttpContent content = new DefaultHttpContent(Unpooled.copiedBuffer("Hello", CharsetUtil.UTF_8));
+        String returnVal = httpTraceLoggingHandler.format(mockContext(), "OUTBOUND", content);
+        Assert.assertTrue(returnVal.endsWith(", 5B"), returnVal);
+        Assert.assertFalse(returnVal.contains("Hello"), returnVal);
+        content.release();
+    }
+
+    @AfterMethod
+    public void resetTraceLogConfig() {
+        HttpTraceLoggingHandler.setTraceLogConfig(new TraceLogConfig());
+    }
+
+    private static ChannelHandlerContext mockContext() {
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        ChannelId channelId = mock(ChannelId.class);
+        when(ctx.channel()).thenReturn(channel);
+        when(channel.id()).thenReturn(channelId);
+        when(channelId.asShortText()).thenReturn("55");
+        return ctx;
+    }
+
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contentaware.listeners.EchoMessageListener;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.TransportType;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.netty.channel.epoll.Epoll;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Tests binding a listener with several SO_REUSEPORT acceptor sockets.
+ */
+public class MultiAcceptorListenerTest {
+
+    private static final int ACCEPTORS = 4;
+    private static final int CONNECTIONS = 40;
+
+    private DefaultHttpWsConnectorFactory connectorFactory;
+
+    @BeforeClass
+    public void setUp() {
+        connectorFactory = new DefaultHttpWsConnectorFactory(ACCEPTORS, 2, 1);
+    }
+
+    @Test
+    public void testConnectionsAreAcceptedByAllAcceptors() throws Exception {
+        if (!Epoll.isAvailable()) {
+            throw new SkipException("Epoll transport is not available");
+        }
+        ServerConnector serverConnector = startServerConnector(TransportType.EPOLL);
+        try {
+            List<AcceptorMetrics> acceptorMetrics = serverConnector.getAcceptorMetrics();
+            Assert.assertEquals(acceptorMetrics.size(), ACCEPTORS);
+
+            openConnections();
+            long accepted = waitForAcceptedConnections(acceptorMetrics);
+            Assert.assertEquals(accepted, CONNECTIONS);
+            long busyAcceptors = acceptorMetrics.stream().filter(metrics -> metrics.getAcceptedConnections() > 0)
+                    .count();
+            Assert.assertTrue(busyAcceptors > 1, "Connections should be spread among the acceptors");
+        } finally {
+            Assert.assertTrue(serverConnector.stop());
+        }
+    }
+
+    @Test
+    public void testSingleAcceptorWithoutReusePort() throws Exception {
+        ServerConnector serverConnector = startServerConnector(TransportType.NIO);
+        try {
+            List<AcceptorMetrics> acceptorMetrics = serverConnector.getAcceptorMetrics();
+            Assert.assertEquals(acceptorMetrics.size(), 1);
+
+            openConnections();
+            Assert.assertEquals(waitForAcceptedConnections(acceptorMetrics), CONNECTIONS);
+        } finally {
+            Assert.assertTrue(serverConnector.stop());
+        }
+    }
+
+    @AfterClass
+    public void cleanUp() throws InterruptedException {
+        connectorFactory.shutdown();
+    }
+
+    private ServerConnector startServerConnector(TransportType transportType) throws InterruptedException {
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setPort(TestUtil.SERVER_CONNECTOR_PORT);
+        listenerConfiguration.setTransportType(transportType);
+        listenerConfiguration.setAcceptorCount(ACCEPTORS);
+        ServerConnector serverConnector = connectorFactory.createServerConnector(
+                new ServerBootstrapConfiguration(new HashMap<>()), listenerConfiguration);
+        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+        serverConnectorFuture.setHttpConnectorListener(new EchoMessageListener());
+        serverConnectorFuture.sync();
+        return serverConnector;
+    }
+
+    private void openConnections() throws IOException {
+        List<Socket> sockets = new ArrayList<>(CONNECTIONS);
+        try {
+            for (int i = 0; i < CONNECTIONS; i++) {
+                sockets.add(new Socket(TestUtil.TEST_HOST, TestUtil.SERVER_CONNECTOR_PORT));
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private long waitForAcceptedConnections(List<AcceptorMetrics> acceptorMetrics) throws InterruptedException {
+        long accepted = 0;
+        for (int i = 0; i < 50 && accepted < CONNECTIONS; i++) {
+            Thread.sleep(100);
+            accepted = acceptorMetrics.stream().mapToLong(AcceptorMetrics::getAcceptedConnections).sum();
+        }
+        return accepted;
+    }
+}
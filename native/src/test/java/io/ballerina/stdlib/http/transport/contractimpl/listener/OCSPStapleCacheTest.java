@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.certificatevalidation.StubOCSPResponder;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationFetcher;
+import org.bouncycastle.asn1.ocsp.OCSPResponseStatus;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A unit test class for the OCSP responses stapled by the listeners through the OCSPStapleCache.
+ */
+public class OCSPStapleCacheTest {
+
+    private static final long VALIDITY_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private StubOCSPResponder responder;
+    private X509Certificate caCert;
+    private X509Certificate serverCert;
+    private OCSPStapleCache stapleCache;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        responder = new StubOCSPResponder();
+        caCert = responder.getCACertificate();
+        serverCert = responder.generateCertificate(BigInteger.valueOf(222));
+    }
+
+    @AfterMethod
+    public void resetResponder() {
+        stapleCache.close();
+        responder.reset();
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        responder.close();
+    }
+
+    @Test
+    public void testStapleIsServedFromCache() throws Exception {
+        stapleCache = new OCSPStapleCache(10, VALIDITY_MILLIS, 0, 60000, 0, RevocationFetcher.getInstance());
+
+        byte[] fetched = stapleCache.fetchStaple(serverCert, caCert).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(new OCSPResp(fetched).getStatus(), OCSPResponseStatus.SUCCESSFUL);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(stapleCache.getStaple(serverCert, caCert), fetched);
+        }
+        Assert.assertEquals(responder.getRequestCount(), 1);
+        Assert.assertEquals(stapleCache.getStapledHandshakes(), 3);
+        Assert.assertEquals(stapleCache.getUnstapledHandshakes(), 0);
+        Assert.assertTrue(stapleCache.getMaxStapleAgeMillis() >= 0);
+    }
+
+    @Test
+    public void testStapleIsRefreshedBeforeExpiry() throws Exception {
+        responder.setNextUpdatePeriod(4000);
+        stapleCache = new OCSPStapleCache(10, VALIDITY_MILLIS, 60000, 100, 0, RevocationFetcher.getInstance());
+
+        stapleCache.fetchStaple(serverCert, caCert).get(10, TimeUnit.SECONDS);
+        // Refreshed halfway through the lifetime of the response without a handshake asking for it
+        waitFor(() -> stapleCache.getRefreshes() >= 1 && responder.getRequestCount() >= 2);
+        Assert.assertNotNull(stapleCache.getStaple(serverCert, caCert));
+        Assert.assertEquals(stapleCache.size(), 1);
+        Assert.assertEquals(stapleCache.getRefreshFailures(), 0);
+    }
+
+    @Test
+    public void testHandshakeIsNotStapledWhenResponderFails() throws Exception {
+        responder.setFailing(true);
+        stapleCache = new OCSPStapleCache(10, VALIDITY_MILLIS, 0, 60000, 0, RevocationFetcher.getInstance());
+
+        Assert.assertNull(stapleCache.getStaple(serverCert, caCert));
+        waitFor(() -> stapleCache.getRefreshFailures() >= 1);
+        Assert.assertEquals(stapleCache.getUnstapledHandshakes(), 1);
+        Assert.assertEquals(stapleCache.size(), 0);
+        Assert.assertEquals(stapleCache.getMaxStapleAgeMillis(), 0);
+
+        responder.setFailing(false);
+        stapleCache.fetchStaple(serverCert, caCert).get(10, TimeUnit.SECONDS);
+        Assert.assertNotNull(stapleCache.getStaple(serverCert, caCert));
+    }
+
+    @Test
+    public void testFailedFetchIsNotRepeatedDuringBackoff() throws Exception {
+        responder.setFailing(true);
+        stapleCache = new OCSPStapleCache(10, VALIDITY_MILLIS, 0, 60000, 60000, RevocationFetcher.getInstance());
+
+        Assert.assertNull(stapleCache.getStaple(serverCert, caCert));
+        waitFor(() -> stapleCache.getRefreshFailures() >= 1);
+        responder.setFailing(false);
+        // The responder is not asked again until the backoff period passes
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNull(stapleCache.getStaple(serverCert, caCert));
+        }
+        Assert.assertEquals(responder.getRequestCount(), 1);
+        Assert.assertEquals(stapleCache.getUnstapledHandshakes(), 4);
+    }
+
+    @Test
+    public void testSharedCacheIsKeyedByConfiguration() {
+        stapleCache = OCSPStapleCache.getInstance(60, 20);
+
+        Assert.assertSame(OCSPStapleCache.getInstance(60, 20), stapleCache);
+        Assert.assertNotSame(OCSPStapleCache.getInstance(70, 20), stapleCache);
+        Assert.assertNotSame(OCSPStapleCache.getInstance(60, 25), stapleCache);
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the staple cache");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the PipelinedResponseBuffer.
+ */
+public class PipelinedResponseBufferTest {
+
+    @Test
+    public void testResponsesAreTakenInSequence() {
+        PipeliningMetrics metrics = new PipeliningMetrics();
+        PipelinedResponseBuffer<String> buffer = new PipelinedResponseBuffer<>(10, metrics);
+
+        Assert.assertTrue(buffer.offer(2, "second"));
+        Assert.assertNull(buffer.pollNext());
+        Assert.assertTrue(buffer.offer(1, "first"));
+        Assert.assertEquals(buffer.size(), 2);
+
+        Assert.assertEquals(buffer.pollNext(), "first");
+        Assert.assertNull(buffer.pollNext(), "Next response must wait until the current one is written");
+        Assert.assertEquals(buffer.advance(), 2);
+        Assert.assertEquals(buffer.pollNext(), "second");
+        Assert.assertTrue(buffer.isEmpty());
+
+        Assert.assertEquals(metrics.getQueuedResponses(), 2);
+        Assert.assertEquals(metrics.getDeferredResponses(), 1);
+        Assert.assertEquals(metrics.getMaxQueueDepth(), 2);
+    }
+
+    @Test
+    public void testSlotsAreReusedAfterWrapAround() {
+        PipelinedResponseBuffer<Long> buffer = new PipelinedResponseBuffer<>(1, new PipeliningMetrics());
+        for (long sequenceId = 1; sequenceId <= 20; sequenceId++) {
+            Assert.assertTrue(buffer.offer(sequenceId, sequenceId));
+            Assert.assertEquals(buffer.pollNext(), Long.valueOf(sequenceId));
+            buffer.advance();
+        }
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testOverflowIsReported() {
+        PipeliningMetrics metrics = new PipeliningMetrics();
+        PipelinedResponseBuffer<String> buffer = new PipelinedResponseBuffer<>(1, metrics);
+
+        Assert.assertTrue(buffer.offer(2, "second"));
+        Assert.assertTrue(buffer.offer(3, "third"));
+        Assert.assertFalse(buffer.offer(4, "fourth"));
+        Assert.assertEquals(metrics.getOverflowClosures(), 1);
+    }
+
+    @Test
+    public void testResponsesBeyondTheRingAreKeptWhenUnbounded() {
+        PipeliningMetrics metrics = new PipeliningMetrics();
+        PipelinedResponseBuffer<Long> buffer = new PipelinedResponseBuffer<>(Constants.UNBOUNDED_RESPONSE_QUEUE,
+                                                                             metrics);
+        int responseCount = 5000;
+        for (long sequenceId = responseCount; sequenceId >= 1; sequenceId--) {
+            Assert.assertTrue(buffer.offer(sequenceId, sequenceId));
+        }
+        Assert.assertEquals(buffer.size(), responseCount);
+
+        for (long sequenceId = 1; sequenceId <= responseCount; sequenceId++) {
+            Assert.assertEquals(buffer.pollNext(), Long.valueOf(sequenceId));
+            buffer.advance();
+        }
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertEquals(metrics.getOverflowClosures(), 0);
+    }
+
+    @Test
+    public void testConcurrentHandOverIsWrittenInOrder() throws InterruptedException {
+        int responseCount = 1000;
+        PipelinedResponseBuffer<Long> buffer = new PipelinedResponseBuffer<>(responseCount,
+                                                                             new PipeliningMetrics());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Long> written = new ArrayList<>();
+        CountDownLatch allWritten = new CountDownLatch(responseCount);
+        for (long sequenceId = responseCount; sequenceId >= 1; sequenceId--) {
+            long id = sequenceId;
+            executor.execute(() -> {
+                buffer.offer(id, id);
+                drain(buffer, written, allWritten);
+            });
+        }
+        // Stands in for the event loop, which moves on once the response in line has been written
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (allWritten.getCount() > 0 && System.nanoTime() < deadline) {
+            synchronized (written) {
+                if (written.size() == buffer.getNextSequenceNumber()) {
+                    buffer.advance();
+                }
+            }
+            drain(buffer, written, allWritten);
+        }
+        executor.shutdown();
+
+        Assert.assertEquals(allWritten.getCount(), 0);
+        for (int i = 0; i < responseCount; i++) {
+            Assert.assertEquals(written.get(i).longValue(), i + 1);
+        }
+    }
+
+    private void drain(PipelinedResponseBuffer<Long> buffer, List<Long> written, CountDownLatch allWritten) {
+        Long response;
+        while ((response = buffer.pollNext()) != null) {
+            synchronized (written) {
+                written.add(response);
+            }
+            allWritten.countDown();
+        }
+    }
+}
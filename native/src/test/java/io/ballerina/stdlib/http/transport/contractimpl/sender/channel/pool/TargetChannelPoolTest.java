@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A unit test class for the lock-free TargetChannelPool.
+ */
+public class TargetChannelPoolTest {
+
+    private EventLoopGroup eventLoopGroup;
+    private ConnectionPoolMetrics metrics;
+
+    @BeforeClass
+    public void setUp() {
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @Test
+    public void testIdleChannelIsReused() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mockChannelFactory();
+        TargetChannelPool pool = createPool(channelFactory, 2, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 1000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        pool.release(targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        Assert.assertSame(acquire(pool).get(), targetChannel);
+        Assert.assertEquals(pool.getNumActive(), 1);
+        verify(channelFactory, times(1)).createTargetChannel(any(), any());
+    }
+
+    @Test
+    public void testPendingAcquisitionsAreServedInOrder() throws Exception {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK,
+                                            5000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        CompletableFuture<TargetChannel> firstWaiter = acquire(pool);
+        CompletableFuture<TargetChannel> secondWaiter = acquire(pool);
+        Assert.assertFalse(firstWaiter.isDone());
+        Assert.assertEquals(pool.getNumWaiters(), 2);
+
+        pool.release(targetChannel);
+        Assert.assertSame(firstWaiter.get(1, TimeUnit.SECONDS), targetChannel);
+        Assert.assertFalse(secondWaiter.isDone());
+
+        pool.release(targetChannel);
+        Assert.assertSame(secondWaiter.get(1, TimeUnit.SECONDS), targetChannel);
+        Assert.assertEquals(pool.getNumWaiters(), 0);
+    }
+
+    @Test
+    public void testInvalidationServesPendingAcquisition() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mockChannelFactory();
+        TargetChannelPool pool = createPool(channelFactory, 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 5000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        CompletableFuture<TargetChannel> waiter = acquire(pool);
+        pool.invalidate(targetChannel);
+
+        TargetChannel newChannel = waiter.get(1, TimeUnit.SECONDS);
+        Assert.assertNotSame(newChannel, targetChannel);
+        verify(channelFactory, times(1)).destroyTargetChannel(targetChannel);
+        verify(channelFactory, times(2)).createTargetChannel(any(), any());
+    }
+
+    @Test
+    public void testPendingAcquisitionTimeout() {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 100);
+
+        acquire(pool);
+        assertFailure(acquire(pool), TargetChannelPool.TIMEOUT_WAITING_FOR_IDLE_OBJECT);
+        Assert.assertEquals(pool.getNumWaiters(), 0);
+        Assert.assertEquals(metrics.getPendingAcquisitions(), 1);
+        Assert.assertEquals(metrics.getTimedOutAcquisitions(), 1);
+    }
+
+    @Test
+    public void testPendingAcquisitionQueueIsBounded() throws Exception {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK,
+                                            5000, 1);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        CompletableFuture<TargetChannel> waiter = acquire(pool);
+        CompletableFuture<TargetChannel> rejected = acquire(pool);
+        Assert.assertTrue(rejected.isDone());
+        assertFailure(rejected, TargetChannelPool.PENDING_ACQUIRE_QUEUE_FULL);
+        Assert.assertEquals(metrics.getRejectedAcquisitions(), 1);
+
+        pool.release(targetChannel);
+        Assert.assertSame(waiter.get(1, TimeUnit.SECONDS), targetChannel);
+        Assert.assertEquals(pool.getNumWaiters(), 0);
+        Assert.assertEquals(metrics.getAcquisitions(), 3);
+        Assert.assertEquals(metrics.getCreatedConnections(), 1);
+    }
+
+    @Test
+    public void testNewAcquisitionDoesNotJumpTheQueue() throws Exception {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK,
+                                            5000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        CompletableFuture<TargetChannel> waiter = acquire(pool);
+        pool.release(targetChannel);
+        CompletableFuture<TargetChannel> lateAcquire = acquire(pool);
+
+        Assert.assertSame(waiter.get(1, TimeUnit.SECONDS), targetChannel);
+        Assert.assertFalse(lateAcquire.isDone());
+        pool.release(targetChannel);
+        Assert.assertSame(lateAcquire.get(1, TimeUnit.SECONDS), targetChannel);
+    }
+
+    @Test
+    public void testFailWhenExhausted() {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 1, 10, PoolConfiguration.WHEN_EXHAUSTED_FAIL, 1000);
+
+        acquire(pool);
+        CompletableFuture<TargetChannel> failedAcquire = acquire(pool);
+        Assert.assertTrue(failedAcquire.isDone());
+        assertFailure(failedAcquire, TargetChannelPool.POOL_EXHAUSTED);
+    }
+
+    @Test
+    public void testMaxIdleIsHonoured() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mockChannelFactory();
+        TargetChannelPool pool = createPool(channelFactory, -1, 1, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 1000);
+
+        TargetChannel first = acquire(pool).get();
+        TargetChannel second = acquire(pool).get();
+        pool.release(first);
+        pool.release(second);
+
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        Assert.assertEquals(pool.getNumActive(), 0);
+        verify(channelFactory, times(1)).destroyTargetChannel(second);
+    }
+
+    @Test
+    public void testInvalidChannelIsNotBorrowed() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mockChannelFactory();
+        TargetChannelPool pool = createPool(channelFactory, 2, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 1000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        pool.release(targetChannel);
+        when(channelFactory.validateTargetChannel(targetChannel)).thenReturn(false);
+
+        Assert.assertNotSame(acquire(pool).get(), targetChannel);
+        verify(channelFactory, times(1)).destroyTargetChannel(targetChannel);
+        Assert.assertEquals(pool.getNumActive(), 1);
+    }
+
+    @Test
+    public void testDuplicateReleaseIsRejected() throws Exception {
+        TargetChannelPool pool = createPool(mockChannelFactory(), 2, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 1000);
+
+        TargetChannel targetChannel = acquire(pool).get();
+        pool.release(targetChannel);
+        pool.release(targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        Assert.assertSame(acquire(pool).get(), targetChannel);
+        Assert.assertNotSame(acquire(pool).get(), targetChannel);
+    }
+
+    @Test
+    public void testCloseFailsWaitersAndDestroysReleasedChannels() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mockChannelFactory();
+        TargetChannelPool pool = createPool(channelFactory, 1, 10, PoolConfiguration.WHEN_EXHAUSTED_BLOCK, 5000);
+        TargetChannel targetChannel = acquire(pool).get();
+        CompletableFuture<TargetChannel> waiter = acquire(pool);
+
+        pool.close();
+        assertFailure(waiter, TargetChannelPool.POOL_EXHAUSTED);
+        // A channel borrowed before the pool was closed is closed when it is released
+        pool.release(targetChannel);
+        verify(channelFactory, times(1)).destroyTargetChannel(targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 0);
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    private CompletableFuture<TargetChannel> acquire(TargetChannelPool pool) {
+        return pool.acquire(null, eventLoopGroup, NioSocketChannel.class);
+    }
+
+    private TargetChannelPool createPool(PoolableTargetChannelFactory channelFactory, int maxActive, int maxIdle,
+                                         byte exhaustedAction, long maxWaitTime) {
+        return createPool(channelFactory, maxActive, maxIdle, exhaustedAction, maxWaitTime, -1);
+    }
+
+    private TargetChannelPool createPool(PoolableTargetChannelFactory channelFactory, int maxActive, int maxIdle,
+                                         byte exhaustedAction, long maxWaitTime, int maxPendingAcquires) {
+        PoolConfiguration poolConfiguration = new PoolConfiguration();
+        poolConfiguration.setMaxActivePerPool(maxActive);
+        poolConfiguration.setMaxIdlePerPool(maxIdle);
+        poolConfiguration.setExhaustedAction(exhaustedAction);
+        poolConfiguration.setMaxWaitTime(maxWaitTime);
+        poolConfiguration.setTimeBetweenEvictionRuns(0);
+        poolConfiguration.setMaxPendingAcquiresPerPool(maxPendingAcquires);
+        metrics = new ConnectionPoolMetrics();
+        return new TargetChannelPool(channelFactory, poolConfiguration, eventLoopGroup, NioSocketChannel.class,
+                                     metrics);
+    }
+
+    private PoolableTargetChannelFactory mockChannelFactory() {
+        PoolableTargetChannelFactory channelFactory = mock(PoolableTargetChannelFactory.class);
+        when(channelFactory.createTargetChannel(any(), any())).thenAnswer(invocation -> {
+            TargetChannel targetChannel = mock(TargetChannel.class);
+            EmbeddedChannel channel = new EmbeddedChannel();
+            when(targetChannel.getChannelFuture()).thenReturn(channel.newSucceededFuture());
+            when(channelFactory.validateTargetChannel(targetChannel)).thenReturn(true);
+            return targetChannel;
+        });
+        return channelFactory;
+    }
+
+    private void assertFailure(CompletableFuture<TargetChannel> acquireFuture, String message) {
+        try {
+            acquireFuture.get(5, TimeUnit.SECONDS);
+            Assert.fail("Acquisition should have failed");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof NoSuchElementException);
+            Assert.assertEquals(e.getCause().getMessage(), message);
+        } catch (Exception e) {
+            Assert.fail("Unexpected failure", e);
+        }
+    }
+}
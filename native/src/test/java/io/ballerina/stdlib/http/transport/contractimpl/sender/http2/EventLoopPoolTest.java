@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for the least loaded HTTP/2 channel selection of EventLoopPool.
+ */
+public class EventLoopPoolTest {
+
+    private Http2ConnectionPoolMetrics metrics;
+
+    @BeforeMethod
+    public void setUp() {
+        metrics = new Http2ConnectionPoolMetrics();
+    }
+
+    @Test
+    public void testLeastLoadedChannelIsSelected() {
+        EventLoopPool.PerRouteConnectionPool pool = createPool(10, 1, -1);
+        Http2ClientChannel first = createChannel(pool);
+        Http2ClientChannel second = createChannel(pool);
+
+        Assert.assertSame(pool.fetchTargetChannel(), first);
+        Assert.assertSame(pool.fetchTargetChannel(), second);
+        Assert.assertSame(pool.fetchTargetChannel(), first);
+        Assert.assertEquals(first.getActiveStreamCount(), 3);
+        Assert.assertEquals(second.getActiveStreamCount(), 2);
+        Assert.assertEquals(pool.getActiveStreamCount(), 5);
+        Assert.assertEquals(metrics.getReservedStreams(), 3);
+    }
+
+    @Test
+    public void testServerMaxConcurrentStreamsIsHonoured() {
+        EventLoopPool.PerRouteConnectionPool pool = createPool(10, 1, -1);
+        Http2ClientChannel channel = createChannel(pool);
+        channel.getConnection().local().maxActiveStreams(2);
+
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+        Assert.assertNull(pool.fetchTargetChannel());
+        Assert.assertEquals(pool.getStreamCapacity(), 2);
+        Assert.assertEquals(metrics.getExhaustedBorrows(), 1);
+    }
+
+    @Test
+    public void testConnectionIsWarmedUpBeforeExhaustion() {
+        EventLoopPool.PerRouteConnectionPool pool = createPool(4, 0.5, -1);
+        Http2ClientChannel first = createChannel(pool);
+
+        Assert.assertSame(pool.fetchTargetChannel(), first);
+        // Only a single borrow opens a new connection while the warm-up is in progress
+        Assert.assertNull(pool.fetchTargetChannel());
+        Assert.assertSame(pool.fetchTargetChannel(), first);
+        Assert.assertEquals(metrics.getWarmUpConnections(), 1);
+
+        Http2ClientChannel second = createChannel(pool);
+        Assert.assertSame(pool.fetchTargetChannel(), second);
+        Assert.assertEquals(metrics.getExhaustedBorrows(), 0);
+    }
+
+    @Test
+    public void testWarmUpIsBoundedByMaxConnections() {
+        EventLoopPool.PerRouteConnectionPool pool = createPool(4, 0.5, 1);
+        Http2ClientChannel channel = createChannel(pool);
+
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+        Assert.assertNull(pool.fetchTargetChannel());
+        Assert.assertEquals(metrics.getWarmUpConnections(), 0);
+        Assert.assertEquals(metrics.getExhaustedBorrows(), 1);
+    }
+
+    @Test
+    public void testInactiveChannelIsDropped() {
+        EventLoopPool.PerRouteConnectionPool pool = createPool(10, 1, -1);
+        Http2ClientChannel inactive = createChannel(pool);
+        Http2ClientChannel active = createChannel(pool);
+        inactive.getChannel().close();
+
+        Assert.assertSame(pool.fetchTargetChannel(), active);
+        Assert.assertSame(pool.fetchTargetChannel(), active);
+        Assert.assertEquals(metrics.getRemovedConnections(), 1);
+    }
+
+    private EventLoopPool.PerRouteConnectionPool createPool(int maxActiveStreams, double targetUtilization,
+                                                            int maxConnections) {
+        return new EventLoopPool.PerRouteConnectionPool(maxActiveStreams, targetUtilization, maxConnections, 60000,
+                                                        metrics);
+    }
+
+    private Http2ClientChannel createChannel(EventLoopPool.PerRouteConnectionPool pool) {
+        Http2ClientChannel http2ClientChannel = new Http2ClientChannel(
+                new Http2ConnectionManager(new PoolConfiguration()), new DefaultHttp2Connection(false),
+                new HttpRoute("http", "localhost", 9000, 0), new EmbeddedChannel());
+        pool.addChannel(http2ClientChannel);
+        return http2ClientChannel;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.https;
+
+import io.ballerina.stdlib.http.transport.contentaware.listeners.EchoMessageListener;
+import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSslContextCache;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SslHandshakeMetrics;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.HTTPS_SCHEME;
+
+/**
+ * Tests that new outbound connections of a client resume the TLS session of the previous ones.
+ */
+public class SslSessionResumptionTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SslSessionResumptionTest.class);
+
+    private HttpClientConnector httpClientConnector;
+    private HttpWsConnectorFactory factory;
+    private ServerConnector connector;
+    private SenderConfiguration senderConfiguration;
+
+    @BeforeClass
+    public void setup() throws InterruptedException {
+        factory = new DefaultHttpWsConnectorFactory();
+        connector = factory.createServerConnector(TestUtil.getDefaultServerBootstrapConfig(),
+                                                  getListenerConfiguration());
+        ServerConnectorFuture future = connector.start();
+        future.setHttpConnectorListener(new EchoMessageListener());
+        future.sync();
+
+        senderConfiguration = getSenderConfigs();
+        httpClientConnector = factory.createHttpClientConnector(new HashMap<>(), senderConfiguration);
+    }
+
+    private ListenerConfiguration getListenerConfiguration() {
+        ListenerConfiguration listenerConfiguration = ListenerConfiguration.getDefault();
+        listenerConfiguration.setPort(TestUtil.SERVER_PORT3);
+        listenerConfiguration.setVerifyClient("require");
+        listenerConfiguration.setSslSessionTimeOut(TestUtil.SSL_SESSION_TIMEOUT);
+        listenerConfiguration.setTrustStoreFile(TestUtil.getAbsolutePath(TestUtil.TRUST_STORE_FILE_PATH));
+        listenerConfiguration.setSslHandshakeTimeOut(TestUtil.SSL_HANDSHAKE_TIMEOUT);
+        listenerConfiguration.setKeyStoreFile(TestUtil.getAbsolutePath(TestUtil.KEY_STORE_FILE_PATH));
+        listenerConfiguration.setTrustStorePass(TestUtil.KEY_STORE_PASSWORD);
+        listenerConfiguration.setKeyStorePass(TestUtil.KEY_STORE_PASSWORD);
+        listenerConfiguration.setScheme(HTTPS_SCHEME);
+        return listenerConfiguration;
+    }
+
+    private SenderConfiguration getSenderConfigs() {
+        SenderConfiguration senderConfiguration = new SenderConfiguration();
+        senderConfiguration.setKeyStoreFile(TestUtil.getAbsolutePath(TestUtil.KEY_STORE_FILE_PATH));
+        senderConfiguration.setTrustStoreFile(TestUtil.getAbsolutePath(TestUtil.TRUST_STORE_FILE_PATH));
+        senderConfiguration.setKeyStorePass(TestUtil.KEY_STORE_PASSWORD);
+        senderConfiguration.setSslSessionTimeOut(TestUtil.SSL_SESSION_TIMEOUT);
+        senderConfiguration.setSslHandshakeTimeOut(TestUtil.SSL_HANDSHAKE_TIMEOUT);
+        senderConfiguration.setTrustStorePass(TestUtil.KEY_STORE_PASSWORD);
+        senderConfiguration.setScheme(HTTPS_SCHEME);
+        // Every request opens a new connection and thereby a new handshake
+        senderConfiguration.setKeepAliveConfig(KeepAliveConfig.NEVER);
+        return senderConfiguration;
+    }
+
+    @Test
+    public void testSessionIsResumedByNewConnections() {
+        TestUtil.testHttpsPost(httpClientConnector, TestUtil.SERVER_PORT3);
+        TestUtil.testHttpsPost(httpClientConnector, TestUtil.SERVER_PORT3);
+        TestUtil.testHttpsPost(httpClientConnector, TestUtil.SERVER_PORT3);
+
+        SslHandshakeMetrics handshakeMetrics = senderConfiguration.getClientSSLConfig().getClientSslContextCache()
+                .getHandshakeMetrics();
+        Assert.assertEquals(handshakeMetrics.getHandshakes(), 3);
+        Assert.assertEquals(handshakeMetrics.getFailedHandshakes(), 0);
+        Assert.assertEquals(handshakeMetrics.getResumedHandshakes(), 2);
+        Assert.assertTrue(handshakeMetrics.getResumptionRatio() > 0.6);
+    }
+
+    @Test(dependsOnMethods = "testSessionIsResumedByNewConnections")
+    public void testReleasedContextIsRebuilt() {
+        ClientSslContextCache sslContextCache = senderConfiguration.getClientSSLConfig().getClientSslContextCache();
+        sslContextCache.release();
+        TestUtil.testHttpsPost(httpClientConnector, TestUtil.SERVER_PORT3);
+
+        SslHandshakeMetrics handshakeMetrics = sslContextCache.getHandshakeMetrics();
+        Assert.assertEquals(handshakeMetrics.getHandshakes(), 4);
+        Assert.assertEquals(handshakeMetrics.getFailedHandshakes(), 0);
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException {
+        connector.stop();
+        httpClientConnector.close();
+        try {
+            factory.shutdown();
+        } catch (Exception e) {
+            LOG.warn("Interrupted while waiting for response", e);
+        }
+    }
+}
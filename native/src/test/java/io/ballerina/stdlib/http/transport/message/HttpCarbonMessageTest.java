@@ -18,16 +18,29 @@
 
 package io.ballerina.stdlib.http.transport.message;
 
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.mock;
 
@@ -77,6 +90,32 @@ public class HttpCarbonMessageTest {
         Assert.assertNull(returnVal);
     }
 
+    @Test
+    public void testWellKnownAndUserDefinedProperties() {
+        HttpMessage httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello");
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(httpRequest, mock(Listener.class));
+        httpCarbonMessage.setProperty(Constants.TO, "/hello");
+        httpCarbonMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, 2);
+        httpCarbonMessage.setProperty("custom", "value");
+
+        Assert.assertEquals(httpCarbonMessage.getProperty(Constants.TO), "/hello");
+        Assert.assertEquals(httpCarbonMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX), 2);
+        Assert.assertEquals(httpCarbonMessage.getProperty("custom"), "value");
+        Map<String, Object> properties = httpCarbonMessage.getProperties();
+        Assert.assertEquals(properties.size(), 3);
+        Assert.assertEquals(properties.get(Constants.TO), "/hello");
+
+        HttpCarbonMessage clone = httpCarbonMessage.cloneCarbonMessageWithOutData();
+        Assert.assertEquals(clone.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX), 2);
+        Assert.assertEquals(clone.getProperty("custom"), "value");
+
+        httpCarbonMessage.removeProperty(Constants.TO);
+        httpCarbonMessage.removeProperty("custom");
+        Assert.assertNull(httpCarbonMessage.getProperty(Constants.TO));
+        Assert.assertNull(httpCarbonMessage.getProperty("custom"));
+        Assert.assertEquals(clone.getProperty(Constants.TO), "/hello");
+    }
+
     @Test
     public void testGetReasonPhraseWithUnknownStatus() {
         HttpMessage httpMessage = mock(HttpMessage.class);
@@ -124,4 +163,28 @@ public class HttpCarbonMessageTest {
         httpCarbonMessage.notifyContentFailure(new Exception());
     }
 
+    @Test
+    public void testPassthroughContentBypassesEntityCollector() {
+        HttpMessage httpRequest = mock(HttpRequest.class);
+        Listener contentListener = mock(Listener.class);
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(httpRequest, 100, contentListener);
+        httpCarbonMessage.setPassthrough(true);
+        HttpContent queuedContent = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{1}));
+        HttpContent forwardedContent = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{2}));
+        HttpContent lastContent = new DefaultLastHttpContent();
+
+        httpCarbonMessage.addHttpContent(queuedContent);
+        List<HttpContent> received = new ArrayList<>();
+        httpCarbonMessage.getHttpContentAsync().setMessageListener(received::add);
+        Assert.assertEquals(received, Collections.singletonList(queuedContent));
+
+        httpCarbonMessage.addHttpContent(forwardedContent);
+        httpCarbonMessage.addHttpContent(lastContent);
+        Assert.assertEquals(received, Arrays.asList(queuedContent, forwardedContent, lastContent));
+        Assert.assertTrue(httpCarbonMessage.isEmpty());
+        Assert.assertFalse(httpCarbonMessage.isPassthrough());
+        // Nothing is left to wait for since the content was handed to the listener.
+        httpCarbonMessage.waitAndReleaseAllEntities();
+        Assert.assertEquals(forwardedContent.refCnt(), 1);
+    }
 }
@@ -19,11 +19,28 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.ballerina.stdlib.http.transport.util.client.http2.MessageGenerator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.InflaterInputStream;
 
 /**
@@ -57,4 +74,128 @@ public class HttpMessageDataStreamerTest {
 
     }
 
+    @Test
+    public void testBulkReadAcrossContentChunks() throws IOException {
+        List<ByteBuf> buffers = new ArrayList<>();
+        HttpCarbonMessage httpCarbonMessage = createMessage(buffers, "abc", "", "defgh", "ij");
+        InputStream inputStream = new HttpMessageDataStreamer(httpCarbonMessage).getInputStream();
+
+        byte[] bytes = new byte[16];
+        Assert.assertEquals(4, inputStream.read(bytes, 1, 4));
+        Assert.assertEquals("abcd", new String(bytes, 1, 4, StandardCharsets.UTF_8));
+        Assert.assertEquals(4, inputStream.available());
+        Assert.assertEquals(5, inputStream.skip(5));
+        Assert.assertEquals('j', inputStream.read());
+        Assert.assertEquals(-1, inputStream.read(bytes, 0, bytes.length));
+        Assert.assertEquals(-1, inputStream.read());
+        inputStream.close();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void testTransferTo() throws IOException {
+        List<ByteBuf> buffers = new ArrayList<>();
+        HttpCarbonMessage httpCarbonMessage = createMessage(buffers, "first ", "second ", "last");
+        InputStream inputStream = new HttpMessageDataStreamer(httpCarbonMessage).getInputStream();
+
+        Assert.assertEquals('f', inputStream.read());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Assert.assertEquals(16, inputStream.transferTo(outputStream));
+        Assert.assertEquals("irst second last", outputStream.toString(StandardCharsets.UTF_8));
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void testCompositeContentOfPooledSlices() {
+        ByteBuf receivedBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(3000).writeZero(3000);
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        httpCarbonMessage.addHttpContent(new DefaultHttpContent(receivedBuffer.retainedSlice(0, 1000)));
+        httpCarbonMessage.addHttpContent(new DefaultLastHttpContent(receivedBuffer.retainedSlice(1000, 2000)));
+
+        CompositeByteBuf compositeContent = new HttpMessageDataStreamer(httpCarbonMessage).getCompositeContent();
+        Assert.assertEquals(3000, compositeContent.readableBytes());
+        compositeContent.release();
+        Assert.assertEquals(1, receivedBuffer.refCnt());
+        receivedBuffer.release();
+    }
+
+    @Test
+    public void testCompositeContentDoesNotCopyBuffers() {
+        List<ByteBuf> buffers = new ArrayList<>();
+        HttpCarbonMessage httpCarbonMessage = createMessage(buffers, "{\"key\":", "", "\"value\"}");
+        HttpMessageDataStreamer httpMessageDataStreamer = new HttpMessageDataStreamer(httpCarbonMessage);
+
+        CompositeByteBuf compositeContent = httpMessageDataStreamer.getCompositeContent();
+        Assert.assertFalse(httpMessageDataStreamer.isContentDecoded());
+        Assert.assertEquals(2, compositeContent.numComponents());
+        Assert.assertSame(buffers.get(0), compositeContent.component(0).unwrap());
+        Assert.assertEquals("{\"key\":\"value\"}", compositeContent.toString(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, buffers.get(0).refCnt());
+
+        compositeContent.release();
+        assertReleased(buffers);
+    }
+
+    @Test
+    public void testBulkWriteBatchesGrowingBuffers() throws IOException {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        byte[] payload = new byte[200000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage).getOutputStream();
+        outputStream.write(payload[0]);
+        outputStream.write(payload, 1, payload.length - 1);
+        outputStream.close();
+
+        ByteArrayOutputStream receivedContent = new ByteArrayOutputStream();
+        int contentCount = 0;
+        HttpContent httpContent;
+        do {
+            httpContent = httpCarbonMessage.getHttpContent();
+            contentCount++;
+            httpContent.content().readBytes(receivedContent, httpContent.content().readableBytes());
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+
+        Assert.assertArrayEquals(payload, receivedContent.toByteArray());
+        // 8K, 16K and 32K buffers are batched with the first 64K buffer, followed by a 64K buffer and the rest
+        Assert.assertEquals(3, contentCount);
+    }
+
+    @Test
+    public void testContentLengthSizedWrite() throws IOException {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        httpCarbonMessage.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(), "20000");
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage).getOutputStream();
+        outputStream.write(new byte[20000]);
+        outputStream.close();
+
+        HttpContent httpContent = httpCarbonMessage.getHttpContent();
+        Assert.assertTrue(httpContent instanceof LastHttpContent);
+        Assert.assertEquals(20000, httpContent.content().readableBytes());
+        Assert.assertEquals(20000, httpContent.content().capacity());
+        httpContent.release();
+    }
+
+    private static HttpCarbonMessage createMessage(List<ByteBuf> buffers, String... chunks) {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        for (int i = 0; i < chunks.length; i++) {
+            ByteBuf buffer = Unpooled.copiedBuffer(chunks[i], StandardCharsets.UTF_8);
+            buffers.add(buffer);
+            httpCarbonMessage.addHttpContent(i == chunks.length - 1 ? new DefaultLastHttpContent(buffer)
+                                                     : new DefaultHttpContent(buffer));
+        }
+        return httpCarbonMessage;
+    }
+
+    private static void assertReleased(List<ByteBuf> buffers) {
+        for (ByteBuf buffer : buffers) {
+            Assert.assertEquals(0, buffer.refCnt());
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.passthrough;
+
+import com.mashape.unirest.http.HttpResponse;
+import com.mashape.unirest.http.Unirest;
+import com.mashape.unirest.http.exceptions.UnirestException;
+import com.mashape.unirest.http.options.Options;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.ballerina.stdlib.http.transport.util.server.initializers.EchoServerInitializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+/**
+ * A test class for passthrough requests whose body is forwarded to the target channel without being built.
+ */
+public class PassThroughForwardingTestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PassThroughForwardingTestCase.class);
+
+    private HttpServer httpServer;
+    private HttpWsConnectorFactory httpWsConnectorFactory;
+    private ServerConnector serverConnector;
+
+    private URI baseURI = URI.create(String.format("http://%s:%d", "localhost", TestUtil.SERVER_CONNECTOR_PORT));
+
+    @BeforeClass
+    public void setUp() {
+        httpWsConnectorFactory = new DefaultHttpWsConnectorFactory();
+
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setPort(TestUtil.SERVER_CONNECTOR_PORT);
+        serverConnector = httpWsConnectorFactory
+                .createServerConnector(new ServerBootstrapConfiguration(new HashMap<>()), listenerConfiguration);
+        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+        PassthroughMessageProcessorListener passthroughListener =
+                new PassthroughMessageProcessorListener(new SenderConfiguration());
+        passthroughListener.setForwardUnbuiltBody(true);
+        serverConnectorFuture.setHttpConnectorListener(passthroughListener);
+        try {
+            serverConnectorFuture.sync();
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for server connector to start");
+        }
+
+        httpServer = TestUtil.startHTTPServer(TestUtil.HTTP_SERVER_PORT, new EchoServerInitializer());
+    }
+
+    @Test
+    public void passthroughLargePayloadTest() {
+        try {
+            for (int i = 0; i < 3; i++) {
+                HttpResponse<String> response = Unirest.post(baseURI.resolve("/").toString())
+                        .body(TestUtil.largeEntity).asString();
+                assertEquals(TestUtil.largeEntity, response.getBody());
+            }
+        } catch (UnirestException e) {
+            TestUtil.handleException("IOException occurred while running passthroughLargePayloadTest", e);
+        }
+    }
+
+    @Test
+    public void passthroughSmallPayloadTest() {
+        try {
+            HttpResponse<String> response = Unirest.post(baseURI.resolve("/").toString())
+                    .body(TestUtil.smallEntity).asString();
+            assertEquals(TestUtil.smallEntity, response.getBody());
+        } catch (UnirestException e) {
+            TestUtil.handleException("IOException occurred while running passthroughSmallPayloadTest", e);
+        }
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException {
+        try {
+            Unirest.shutdown();
+            Options.refresh();
+            serverConnector.stop();
+            httpServer.shutdown();
+            httpWsConnectorFactory.shutdown();
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for clean up");
+        } catch (IOException e) {
+            LOG.warn("IOException occurred while waiting for Unirest connection to shutdown", e);
+        }
+    }
+}
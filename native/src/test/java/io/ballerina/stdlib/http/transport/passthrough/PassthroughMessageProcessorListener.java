@@ -56,6 +56,7 @@ public class PassthroughMessageProcessorListener implements HttpConnectorListene
     private SenderConfiguration senderConfiguration;
     private ConnectionManager connectionManager;
     private boolean shareConnectionPool;
+    private boolean forwardUnbuiltBody;
 
     public PassthroughMessageProcessorListener(SenderConfiguration senderConfiguration) {
         this.httpWsConnectorFactory = new DefaultHttpWsConnectorFactory();
@@ -71,9 +72,19 @@ public class PassthroughMessageProcessorListener implements HttpConnectorListene
         }
     }
 
+    /**
+     * Marks the forwarded requests as passthrough, so that their content is handed straight to the target channel.
+     *
+     * @param forwardUnbuiltBody whether the request body is forwarded without being built
+     */
+    public void setForwardUnbuiltBody(boolean forwardUnbuiltBody) {
+        this.forwardUnbuiltBody = forwardUnbuiltBody;
+    }
+
     @Override
     public void onMessage(HttpCarbonMessage httpRequestMessage) {
         executor.execute(() -> {
+            httpRequestMessage.setPassthrough(forwardUnbuiltBody);
             httpRequestMessage.setProperty(Constants.HTTP_HOST, TestUtil.TEST_HOST);
             httpRequestMessage.setProperty(Constants.HTTP_PORT, TestUtil.HTTP_SERVER_PORT);
             httpRequestMessage
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A unit test class for {@link BasePathTrie}.
+ */
+public class BasePathTrieTest {
+
+    private final BasePathTrie basePathTrie = new BasePathTrie(
+            Arrays.asList("/foo/bar/baz", "/hello/world", "/foo/bar", "/hello", "/foo", "/"));
+
+    @Test
+    public void testMostSpecificBasePath() {
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/foo/bar/baz/qux"), "/foo/bar/baz");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/foo/bar/qux"), "/foo/bar");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/foo/baz"), "/foo");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world/again"), "/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/worlds"), "/hello");
+    }
+
+    @Test
+    public void testExactBasePathIgnoringCase() {
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/foo/bar"), "/foo/bar");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/HELLO/World"), "/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/"), "/");
+    }
+
+    @Test
+    public void testUnmatchedBasePath() {
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/foobar"));
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/HELLO/world/again"));
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath("/other/foo"));
+        Assert.assertNull(basePathTrie.findTheMostSpecificBasePath(""));
+        Assert.assertNull(new BasePathTrie(Collections.emptyList()).findTheMostSpecificBasePath("/foo"));
+    }
+}
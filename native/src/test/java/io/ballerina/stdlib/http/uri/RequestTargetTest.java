@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A unit test class for {@link RequestTarget}.
+ */
+public class RequestTargetTest {
+
+    @Test
+    public void testPlainTarget() {
+        String rawTarget = "/hello/world?name=ballerina&lang=en";
+        RequestTarget requestTarget = RequestTarget.parse(rawTarget);
+        Assert.assertSame(requestTarget.getTarget(), rawTarget);
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/world");
+        Assert.assertEquals(requestTarget.getRawQuery(), "name=ballerina&lang=en");
+        Assert.assertEquals(requestTarget.getQuery(), "name=ballerina&lang=en");
+        Assert.assertEquals(requestTarget.getMatrixParams("/hello"), Collections.emptyMap());
+    }
+
+    @Test
+    public void testMatrixParams() {
+        RequestTarget requestTarget = RequestTarget.parse("/books;author=john;year=2022/chapters;id=3?page=1");
+        Assert.assertEquals(requestTarget.getTarget(), "/books/chapters?page=1");
+        Assert.assertEquals(requestTarget.getRawPath(), "/books/chapters");
+        Assert.assertEquals(requestTarget.getRawQuery(), "page=1");
+
+        Map<String, String> bookParams = new HashMap<>();
+        bookParams.put("author", "john");
+        bookParams.put("year", "2022");
+        Assert.assertEquals(requestTarget.getMatrixParams("/books"), bookParams);
+        Assert.assertEquals(requestTarget.getMatrixParams("/books/chapters"), Collections.singletonMap("id", "3"));
+        Assert.assertEquals(requestTarget.getMatrixParams("/books/chapters/x"), Collections.emptyMap());
+    }
+
+    @Test
+    public void testTrailingDelimitersAreDropped() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello/world;a=b;/?");
+        Assert.assertEquals(requestTarget.getTarget(), "/hello/world");
+        Assert.assertNull(requestTarget.getRawQuery());
+        Assert.assertEquals(requestTarget.getMatrixParams("/hello/world"), Collections.singletonMap("a", "b"));
+        Assert.assertEquals(RequestTarget.parse("").getTarget(), "/");
+    }
+
+    @Test
+    public void testQueryIsDecodedOnDemand() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello?name=%E0%B6%B6+x%20y");
+        Assert.assertEquals(requestTarget.getRawQuery(), "name=%E0%B6%B6+x%20y");
+        Assert.assertEquals(requestTarget.getQuery(), "name=\u0db6+x y");
+    }
+
+    @Test
+    public void testTargetWithNonPlainCharacters() {
+        RequestTarget requestTarget = RequestTarget.parse("/hello/w\u00f6rld?q=\u00e9");
+        Assert.assertEquals(requestTarget.getRawPath(), "/hello/w\u00f6rld");
+        Assert.assertEquals(requestTarget.getQuery(), "q=\u00e9");
+    }
+
+    @Test(expectedExceptions = BallerinaConnectorException.class,
+            expectedExceptionsMessageRegExp = "Illegal character in path at index 6: /hello world")
+    public void testInvalidTarget() {
+        RequestTarget.parse("/hello world");
+    }
+
+    @Test(expectedExceptions = BallerinaConnectorException.class,
+            expectedExceptionsMessageRegExp = "Found non-matrix parameter 'b' in path 'hello;a=1;b'")
+    public void testMalformedMatrixParam() {
+        RequestTarget.parse("/hello;a=1;b");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.parser.DataElement;
+import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
+import io.ballerina.stdlib.http.uri.parser.Literal;
+import io.ballerina.stdlib.http.uri.parser.Node;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * A unit test class for {@link URITemplate} dispatching through the compiled segment trie.
+ */
+public class URITemplateTest {
+
+    private static final String[] TEMPLATES = {
+            "/", "/*", "/foo", "/foo/bar", "/foo/{id}", "/foo/{id}/bar", "/foo/{name}/baz", "/foo/bar/*",
+            "/{a}/{b}", "/{a}/{b}/*", "/echo/{x}/*", "/abc{x}", "/hello/world/again", "/hello/{w}/again"
+    };
+
+    private static final String[] PATHS = {
+            "/", "/foo", "/foo/", "/foo/bar", "/foo/baz", "/foo/1/bar", "/foo/1/baz", "/foo/1/qux", "/foo/bar/1/2",
+            "/x/y", "/x/y/z", "/x/y/z/w", "/echo/1/2/3", "/abc/1", "/abcd", "/hello/world/again",
+            "/hello/earth/again", "/hello/world/other", "//", "//foo", "/foo//bar", "/a%20b/c", "/foo/bar/"
+    };
+
+    private Node<String, Object> syntaxTree;
+    private URITemplate<String, Object> uriTemplate;
+
+    @BeforeClass
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        syntaxTree = new Literal<>(new TestDataElement(), "/");
+        uriTemplate = new URITemplate<>(syntaxTree);
+        for (String template : TEMPLATES) {
+            uriTemplate.parse(template, template, TestDataElement::new);
+        }
+    }
+
+    @Test
+    public void testMatchPrecedence() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/bar", arguments, null), "/foo/bar");
+        Assert.assertEquals(uriTemplate.matches("/foo/baz", arguments, null), "/foo/{id}");
+        Assert.assertEquals(arguments.getMap().get("id").get(0), "baz");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/1/baz", arguments, null), "/foo/{name}/baz");
+        Assert.assertEquals(arguments.getMap().get("name").get(0), "1");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/bar/1/2", arguments, null), "/foo/bar/*");
+        Assert.assertEquals(arguments.getMap().get(HttpConstants.EXTRA_PATH_INFO).get(HttpConstants.EXTRA_PATH_INDEX),
+                            "/1/2");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/hello/earth/again", arguments, null), "/hello/{w}/again");
+        Assert.assertEquals(uriTemplate.matches("/nothing", arguments, null), "/*");
+    }
+
+    @Test
+    public void testCompiledTrieMatchesSyntaxTree() {
+        for (String path : PATHS) {
+            HttpResourceArguments expectedArguments = new HttpResourceArguments();
+            DataReturnAgent<String> agent = new DataReturnAgent<>();
+            String expected = syntaxTree.matchAll(path, expectedArguments, 0, null, agent) ? agent.getData() : null;
+
+            HttpResourceArguments arguments = new HttpResourceArguments();
+            String actual = uriTemplate.matches(path, arguments, null);
+
+            Assert.assertEquals(actual, expected, "Mismatched resource for path: " + path);
+            Assert.assertEquals(arguments.getMap().get(HttpConstants.EXTRA_PATH_INFO),
+                                expectedArguments.getMap().get(HttpConstants.EXTRA_PATH_INFO),
+                                "Mismatched extra path info for path: " + path);
+        }
+    }
+
+    @Test
+    public void testUnmatchedPath() throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Object> template = new URITemplate<>(new Literal<>(new TestDataElement(), "/"));
+        template.parse("/foo/{id}", "/foo/{id}", TestDataElement::new);
+        Assert.assertNull(template.matches("/foo", new HttpResourceArguments(), null));
+        Assert.assertNull(template.matches("/foo/1/2", new HttpResourceArguments(), null));
+        Assert.assertNull(template.matches("/bar/1", new HttpResourceArguments(), null));
+    }
+
+    private static class TestDataElement implements DataElement<String, Object> {
+
+        private String data;
+
+        @Override
+        public void setData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return data != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (data == null) {
+                return false;
+            }
+            dataReturnAgent.setData(data);
+            return true;
+        }
+    }
+}